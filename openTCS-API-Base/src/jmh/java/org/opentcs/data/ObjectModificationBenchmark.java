@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Measures typical sequences of modifications of vehicles and transport orders, as performed by
+ * the kernel while vehicles are moving and transport orders are being processed.
+ * <p>
+ * The interesting figure is the amount of memory allocated per operation, which can be measured
+ * via JMH's GC profiler, e.g. with <code>-prof gc</code> (see <code>gc.alloc.rate.norm</code>).
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectModificationBenchmark {
+
+  /**
+   * The number of properties of each object.
+   */
+  @Param({"0", "10"})
+  public int propertyCount;
+
+  private Vehicle vehicle;
+  private TransportOrder transportOrder;
+  private List<Set<TCSResourceReference<?>>> resources;
+  private Point point1;
+  private Point point2;
+
+  @Setup
+  public void setUp() {
+    point1 = new Point("Point-1");
+    point2 = new Point("Point-2");
+    resources = List.of(Set.of(point1.getReference()), Set.of(point2.getReference()));
+
+    vehicle = new Vehicle("Vehicle-1");
+    List<DriveOrder> driveOrders = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      driveOrders.add(new DriveOrder(new DriveOrder.Destination(point1.getReference())));
+    }
+    transportOrder = new TransportOrder("TransportOrder-1", driveOrders);
+    for (int i = 0; i < propertyCount; i++) {
+      vehicle = vehicle.withProperty("key" + i, "value" + i);
+      transportOrder = transportOrder.withProperty("key" + i, "value" + i);
+    }
+    transportOrder = transportOrder.withCurrentDriveOrderIndex(0);
+  }
+
+  /**
+   * A vehicle moving from one point to the next one.
+   *
+   * @return The modified vehicle.
+   */
+  @Benchmark
+  public Vehicle vehicleMovement() {
+    return vehicle
+        .withClaimedResources(resources)
+        .withAllocatedResources(resources)
+        .withRouteProgressIndex(1)
+        .withCurrentPosition(point1.getReference())
+        .withNextPosition(point2.getReference())
+        .withPrecisePosition(new Triple(1000, 2000, 0))
+        .withOrientationAngle(90.0)
+        .withEnergyLevel(80);
+  }
+
+  /**
+   * A transport order being assigned to a vehicle and its first drive order being processed.
+   *
+   * @return The modified transport order.
+   */
+  @Benchmark
+  public TransportOrder transportOrderProcessing() {
+    return transportOrder
+        .withState(TransportOrder.State.BEING_PROCESSED)
+        .withProcessingVehicle(vehicle.getReference())
+        .withCurrentDriveOrderState(DriveOrder.State.TRAVELLING)
+        .withCurrentDriveOrderState(DriveOrder.State.OPERATING)
+        .withCurrentDriveOrderState(DriveOrder.State.FINISHED)
+        .withCurrentDriveOrderIndex(1);
+  }
+}
@@ -9,9 +9,13 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.PeripheralJobService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
@@ -35,5 +39,10 @@ public interface RemotePeripheralJobService
   // CHECKSTYLE:OFF
   PeripheralJob createPeripheralJob(ClientID clientId, PeripheralJobCreationTO to)
       throws RemoteException;
+
+  Set<PeripheralJob> fetchPeripheralJobs(ClientID clientId,
+                                         TCSObjectReference<TransportOrder> relatedTransportOrder,
+                                         Predicate<? super PeripheralJob> predicate)
+      throws RemoteException;
   // CHECKSTYLE:ON
 }
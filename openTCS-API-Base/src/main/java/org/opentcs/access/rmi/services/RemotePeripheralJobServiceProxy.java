@@ -8,11 +8,15 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.PeripheralJobService;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
@@ -41,4 +45,21 @@ class RemotePeripheralJobServiceProxy
       throw findSuitableExceptionFor(ex);
     }
   }
+
+  @Override
+  public Set<PeripheralJob> fetchPeripheralJobs(
+      TCSObjectReference<TransportOrder> relatedTransportOrder,
+      Predicate<? super PeripheralJob> predicate)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchPeripheralJobs(getClientId(),
+                                                    relatedTransportOrder,
+                                                    predicate);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
 }
@@ -9,11 +9,16 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 
@@ -42,6 +47,17 @@ public interface RemoteTransportOrderService
   TransportOrder createTransportOrder(ClientID clientId, TransportOrderCreationTO to)
       throws RemoteException;
 
+  List<TransportOrderCreationResult> createTransportOrders(ClientID clientId,
+                                                           List<TransportOrderCreationTO> tos)
+      throws RemoteException;
+
+  Set<TransportOrder> fetchTransportOrders(ClientID clientId,
+                                           Set<TransportOrder.State> states,
+                                           TCSObjectReference<Vehicle> intendedVehicle,
+                                           TCSObjectReference<Vehicle> processingVehicle,
+                                           Predicate<? super TransportOrder> predicate)
+      throws RemoteException;
+
   void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref)
       throws RemoteException;
   // CHECKSTYLE:ON
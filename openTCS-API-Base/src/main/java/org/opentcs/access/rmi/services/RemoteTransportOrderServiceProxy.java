@@ -8,13 +8,18 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 
@@ -58,6 +63,41 @@ class RemoteTransportOrderServiceProxy
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().createTransportOrders(getClientId(), tos);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrders(
+      Set<TransportOrder.State> states,
+      TCSObjectReference<Vehicle> intendedVehicle,
+      TCSObjectReference<Vehicle> processingVehicle,
+      Predicate<? super TransportOrder> predicate)
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchTransportOrders(getClientId(),
+                                                     states,
+                                                     intendedVehicle,
+                                                     processingVehicle,
+                                                     predicate);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException, KernelRuntimeException {
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access.to.order;
+
+import java.io.Serializable;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * The result of an attempt to create a transport order from a {@link TransportOrderCreationTO}.
+ * Either carries the created transport order or the reason why it could not be created.
+ */
+public class TransportOrderCreationResult
+    implements Serializable {
+
+  /**
+   * The created transport order, or {@code null}, if it could not be created.
+   */
+  @Nullable
+  private final TransportOrder transportOrder;
+  /**
+   * The reason why the transport order could not be created, or {@code null}, if it was created.
+   */
+  @Nullable
+  private final RuntimeException failure;
+
+  private TransportOrderCreationResult(@Nullable TransportOrder transportOrder,
+                                       @Nullable RuntimeException failure) {
+    this.transportOrder = transportOrder;
+    this.failure = failure;
+  }
+
+  /**
+   * Creates a result for a transport order that was created.
+   *
+   * @param transportOrder The created transport order.
+   * @return The result.
+   */
+  public static TransportOrderCreationResult success(@Nonnull TransportOrder transportOrder) {
+    return new TransportOrderCreationResult(requireNonNull(transportOrder, "transportOrder"),
+                                            null);
+  }
+
+  /**
+   * Creates a result for a transport order that could not be created.
+   *
+   * @param failure The reason why the transport order could not be created.
+   * @return The result.
+   */
+  public static TransportOrderCreationResult failure(@Nonnull RuntimeException failure) {
+    return new TransportOrderCreationResult(null, requireNonNull(failure, "failure"));
+  }
+
+  /**
+   * Indicates whether the transport order was created.
+   *
+   * @return {@code true} if, and only if, the transport order was created.
+   */
+  public boolean isSuccessful() {
+    return transportOrder != null;
+  }
+
+  /**
+   * Returns the created transport order.
+   *
+   * @return The created transport order, or {@code null}, if it could not be created.
+   */
+  @Nullable
+  public TransportOrder getTransportOrder() {
+    return transportOrder;
+  }
+
+  /**
+   * Returns the reason why the transport order could not be created.
+   *
+   * @return The reason why the transport order could not be created, or {@code null}, if it was
+   * created.
+   */
+  @Nullable
+  public RuntimeException getFailure() {
+    return failure;
+  }
+
+  @Override
+  public String toString() {
+    return "TransportOrderCreationResult{"
+        + "transportOrder=" + transportOrder
+        + ", failure=" + failure
+        + '}';
+  }
+}
@@ -15,11 +15,13 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * This interface declares the methods a router module for the openTCS
@@ -61,6 +63,23 @@ public interface Router
    */
   void topologyChanged();
 
+  /**
+   * Notifies the router of changes to the given paths in the topology, e.g. after they have been
+   * locked or unlocked.
+   * <p>
+   * This allows implementations to update only the parts of their routing topology that are
+   * affected by the given paths.
+   * The default implementation ignores the given paths and behaves like
+   * {@link #topologyChanged()}.
+   * </p>
+   *
+   * @param paths References to the paths that have changed.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  default void topologyChanged(@Nonnull Set<TCSObjectReference<Path>> paths) {
+    topologyChanged();
+  }
+
   /**
    * Checks the general routability of a given transport order.
    *
@@ -18,6 +18,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Declares the methods the vehicle service must provide which are not accessible to remote peers.
@@ -100,6 +101,27 @@ public interface InternalVehicleService
   void updateVehiclePrecisePosition(TCSObjectReference<Vehicle> ref, Triple position)
       throws ObjectUnknownException;
 
+  /**
+   * Updates a vehicle's precise position, orientation angle and energy level at once, resulting in
+   * (at most) a single modification of the vehicle.
+   *
+   * @param ref A reference to the vehicle to be modified.
+   * @param precisePosition The vehicle's precise position in mm.
+   * @param orientationAngle The vehicle's orientation angle.
+   * @param energyLevel The vehicle's energy level.
+   * @throws ObjectUnknownException If the referenced vehicle does not exist.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  default void updateVehicleTelemetry(TCSObjectReference<Vehicle> ref,
+                                      Triple precisePosition,
+                                      double orientationAngle,
+                                      int energyLevel)
+      throws ObjectUnknownException {
+    updateVehiclePrecisePosition(ref, precisePosition);
+    updateVehicleOrientationAngle(ref, orientationAngle);
+    updateVehicleEnergyLevel(ref, energyLevel);
+  }
+
   /**
    * Updates a vehicle's processing state.
    *
@@ -7,11 +7,18 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link PeripheralJob}s.
@@ -33,4 +40,32 @@ public interface PeripheralJobService
    */
   PeripheralJob createPeripheralJob(PeripheralJobCreationTO to)
       throws ObjectUnknownException, ObjectExistsException, KernelRuntimeException;
+
+  /**
+   * Returns all peripheral jobs related to the given transport order for which the given predicate
+   * is true.
+   * Implementations may look up the peripheral jobs via an index for their related transport
+   * orders, which is usually considerably faster than testing every existing peripheral job with a
+   * predicate.
+   *
+   * @param relatedTransportOrder The transport order the peripheral jobs must be related to. If
+   * {@code null}, peripheral jobs are returned regardless of their related transport orders.
+   * @param predicate The predicate that must be true for returned peripheral jobs.
+   * @return All peripheral jobs matching the given criteria. If there are none, the returned set
+   * is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  @Nonnull
+  default Set<PeripheralJob> fetchPeripheralJobs(
+      @Nullable TCSObjectReference<TransportOrder> relatedTransportOrder,
+      @Nonnull Predicate<? super PeripheralJob> predicate)
+      throws KernelRuntimeException {
+    return fetchObjects(
+        PeripheralJob.class,
+        job -> (relatedTransportOrder == null
+                || relatedTransportOrder.equals(job.getRelatedTransportOrder()))
+            && predicate.test(job)
+    );
+  }
 }
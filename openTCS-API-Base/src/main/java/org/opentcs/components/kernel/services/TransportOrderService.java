@@ -7,14 +7,23 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link TransportOrder}s and {@link OrderSequence}s.
@@ -53,6 +62,67 @@ public interface TransportOrderService
   TransportOrder createTransportOrder(TransportOrderCreationTO to)
       throws ObjectUnknownException, ObjectExistsException, KernelRuntimeException;
 
+  /**
+   * Creates new transport orders.
+   * For each of the given transfer objects, in the given order, a transport order is created as
+   * with {@link #createTransportOrder(TransportOrderCreationTO)}, so a transport order may depend
+   * on one created for a preceding transfer object.
+   * A transport order that cannot be created does not prevent the creation of the others.
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return The results, one for each of the given transfer objects, in the same order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  default List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos)
+      throws KernelRuntimeException {
+    List<TransportOrderCreationResult> results = new ArrayList<>(tos.size());
+    for (TransportOrderCreationTO to : tos) {
+      try {
+        results.add(TransportOrderCreationResult.success(createTransportOrder(to)));
+      }
+      catch (ObjectUnknownException | ObjectExistsException | IllegalArgumentException exc) {
+        results.add(TransportOrderCreationResult.failure(exc));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Returns all transport orders that are in one of the given states, are intended for and
+   * processed by the given vehicles and for which the given predicate is true.
+   * Implementations may look up the transport orders via indexes for the given criteria, which is
+   * usually considerably faster than testing every existing transport order with a predicate.
+   *
+   * @param states The states of which the transport orders must be in one. If empty, transport
+   * orders in any state are returned.
+   * @param intendedVehicle The vehicle the transport orders must be intended for. If
+   * {@code null}, transport orders are returned regardless of their intended vehicles.
+   * @param processingVehicle The vehicle that must be processing the transport orders. If
+   * {@code null}, transport orders are returned regardless of their processing vehicles.
+   * @param predicate The predicate that must be true for returned transport orders.
+   * @return All transport orders matching the given criteria. If there are none, the returned set
+   * is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "6.0", details = "Default implementation will be removed.")
+  @Nonnull
+  default Set<TransportOrder> fetchTransportOrders(
+      @Nonnull Set<TransportOrder.State> states,
+      @Nullable TCSObjectReference<Vehicle> intendedVehicle,
+      @Nullable TCSObjectReference<Vehicle> processingVehicle,
+      @Nonnull Predicate<? super TransportOrder> predicate)
+      throws KernelRuntimeException {
+    return fetchObjects(
+        TransportOrder.class,
+        order -> (states.isEmpty() || states.contains(order.getState()))
+            && (intendedVehicle == null || intendedVehicle.equals(order.getIntendedVehicle()))
+            && (processingVehicle == null || processingVehicle.equals(order.getProcessingVehicle()))
+            && predicate.test(order)
+    );
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
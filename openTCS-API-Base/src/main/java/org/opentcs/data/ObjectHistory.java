@@ -7,40 +7,68 @@
  */
 package org.opentcs.data;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import static org.opentcs.util.Assertions.checkArgument;
 
 /**
  * A history of events related to an object.
+ * <p>
+ * Instances of this class are immutable. Copies with appended entries share their entries with the
+ * original instance where possible, so appending an entry takes amortized constant time instead of
+ * copying all existing entries.
+ * </p>
  */
 public class ObjectHistory
     implements Serializable {
 
   /**
-   * The actual history entries.
+   * The minimum capacity of a newly allocated buffer.
    */
-  private final List<Entry> entries;
+  private static final int MIN_CAPACITY = 8;
+  /**
+   * The buffer containing this history's entries (and possibly entries of other instances).
+   */
+  private final transient EntryBuffer buffer;
+  /**
+   * The index of this history's first entry in the buffer.
+   */
+  private final transient int start;
+  /**
+   * The index after this history's last entry in the buffer.
+   */
+  private final transient int end;
 
   /**
    * Creates a new instance.
    */
   public ObjectHistory() {
-    this(List.of());
+    this(new EntryBuffer(new Entry[0], 0), 0, 0);
   }
 
   /**
-   * Creates a new instance with the given list of entries.
+   * Creates a new instance with the given range of entries in the given buffer.
    *
-   * @param entries
+   * @param buffer The buffer containing the entries.
+   * @param start The index of the first entry.
+   * @param end The index after the last entry.
    */
-  private ObjectHistory(List<Entry> entries) {
-    this.entries = Collections.unmodifiableList(requireNonNull(entries, "entries"));
+  private ObjectHistory(EntryBuffer buffer, int start, int end) {
+    this.buffer = requireNonNull(buffer, "buffer");
+    this.start = start;
+    this.end = end;
   }
 
   /**
@@ -49,7 +77,30 @@ public class ObjectHistory
    * @return This history's entries.
    */
   public List<Entry> getEntries() {
-    return entries;
+    return new EntryList(buffer.entries, start, end);
+  }
+
+  /**
+   * Returns the most recent entry matching the given predicate.
+   * <p>
+   * Entries are checked starting with the most recent one, so looking up an entry that was
+   * appended recently does not require checking all entries.
+   * </p>
+   *
+   * @param predicate The predicate.
+   * @return The most recent entry matching the given predicate, or an empty optional, if there is
+   * no such entry.
+   */
+  @Nonnull
+  public Optional<Entry> findLastEntry(@Nonnull Predicate<Entry> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    for (int i = end - 1; i >= start; i--) {
+      if (predicate.test(buffer.entries[i])) {
+        return Optional.of(buffer.entries[i]);
+      }
+    }
+    return Optional.empty();
   }
 
   /**
@@ -59,7 +110,15 @@ public class ObjectHistory
    * @return A copy of this object, with the given entries.
    */
   public ObjectHistory withEntries(List<Entry> entries) {
-    return new ObjectHistory(entries);
+    requireNonNull(entries, "entries");
+
+    Entry[] newEntries = entries.toArray(new Entry[0]);
+    for (Entry entry : newEntries) {
+      requireNonNull(entry, "entry");
+    }
+    return new ObjectHistory(new EntryBuffer(newEntries, newEntries.length),
+                             0,
+                             newEntries.length);
   }
 
   /**
@@ -71,15 +130,152 @@ public class ObjectHistory
   public ObjectHistory withEntryAppended(Entry entry) {
     requireNonNull(entry, "entry");
 
-    List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
-    newEntries.addAll(entries);
-    newEntries.add(entry);
-    return new ObjectHistory(newEntries);
+    // If no entry has been appended to this instance, yet, append the new entry to the buffer in
+    // place - none of the instances sharing the buffer will ever see it.
+    if (end < buffer.entries.length && buffer.size.compareAndSet(end, end + 1)) {
+      buffer.entries[end] = entry;
+      return new ObjectHistory(buffer, start, end + 1);
+    }
+
+    int size = end - start;
+    Entry[] newEntries = new Entry[Math.max(MIN_CAPACITY, size * 2)];
+    System.arraycopy(buffer.entries, start, newEntries, 0, size);
+    newEntries[size] = entry;
+    return new ObjectHistory(new EntryBuffer(newEntries, size + 1), 0, size + 1);
+  }
+
+  /**
+   * Returns a copy of this object, with only the given number of most recent entries retained.
+   *
+   * @param maxEntries The maximum number of entries to retain.
+   * @return A copy of this object, with only the given number of most recent entries retained, or
+   * this object, if it does not contain more entries.
+   */
+  public ObjectHistory withLatestEntries(int maxEntries) {
+    checkArgument(maxEntries >= 0, "maxEntries < 0: %s", maxEntries);
+
+    if (end - start <= maxEntries) {
+      return this;
+    }
+    return new ObjectHistory(buffer, end - maxEntries, end);
   }
 
   @Override
   public String toString() {
-    return "ObjectHistory{" + "entries=" + entries + '}';
+    return "ObjectHistory{" + "entries=" + getEntries() + '}';
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(new ArrayList<>(getEntries()));
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Expected serialized form");
+  }
+
+  /**
+   * A buffer of entries shared by instances created from one another.
+   */
+  private static class EntryBuffer {
+
+    /**
+     * The entries. Elements at indexes below {@code size} are never modified.
+     */
+    private final Entry[] entries;
+    /**
+     * The number of elements of the array that have been used.
+     */
+    private final AtomicInteger size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entries The entries.
+     * @param size The number of elements of the array that have been used.
+     */
+    EntryBuffer(Entry[] entries, int size) {
+      this.entries = entries;
+      this.size = new AtomicInteger(size);
+    }
+  }
+
+  /**
+   * An unmodifiable view on a range of entries in a buffer.
+   */
+  private static class EntryList
+      extends AbstractList<Entry>
+      implements RandomAccess {
+
+    /**
+     * The entries.
+     */
+    private final Entry[] entries;
+    /**
+     * The index of the first entry in the view.
+     */
+    private final int start;
+    /**
+     * The index after the last entry in the view.
+     */
+    private final int end;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entries The entries.
+     * @param start The index of the first entry in the view.
+     * @param end The index after the last entry in the view.
+     */
+    EntryList(Entry[] entries, int start, int end) {
+      this.entries = entries;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Entry get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+            + size());
+      }
+      return entries[start + index];
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+
+    @Override
+    public Object[] toArray() {
+      return Arrays.copyOfRange(entries, start, end, Object[].class);
+    }
+  }
+
+  /**
+   * The serialized form of a history, containing only the entries of the history itself.
+   */
+  private static class SerializedForm
+      implements Serializable {
+
+    /**
+     * The history's entries.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entries The history's entries.
+     */
+    SerializedForm(List<Entry> entries) {
+      this.entries = entries;
+    }
+
+    private Object readResolve() {
+      return new ObjectHistory().withEntries(entries);
+    }
   }
 
   /**
@@ -77,6 +77,37 @@ public abstract class TCSObject<E extends TCSObject<E>>
     this.history = requireNonNull(history, "history");
   }
 
+  /**
+   * Creates a new TCSObject as a copy of the given one, with the given properties and history.
+   * <p>
+   * The copy shares the given object's name and reference. If the given properties are the given
+   * object's own properties (as returned by {@link #getProperties()}), they are shared, too,
+   * instead of being copied.
+   * </p>
+   *
+   * @param original The object to create a copy of.
+   * @param properties A set of properties (key-value pairs) associated with the copy.
+   * @param history A history of events related to the copy.
+   */
+  protected TCSObject(@Nonnull TCSObject<E> original,
+                      @Nonnull Map<String, String> properties,
+                      @Nonnull ObjectHistory history) {
+    requireNonNull(original, "original");
+    requireNonNull(properties, "properties");
+
+    this.name = original.name;
+    if (properties == original.propertiesReadOnly) {
+      this.properties = original.properties;
+      this.propertiesReadOnly = original.propertiesReadOnly;
+    }
+    else {
+      this.properties = mapWithoutNullValues(properties);
+      this.propertiesReadOnly = Collections.unmodifiableMap(this.properties);
+    }
+    this.reference = original.reference;
+    this.history = requireNonNull(history, "history");
+  }
+
   /**
    * Returns this object's name.
    *
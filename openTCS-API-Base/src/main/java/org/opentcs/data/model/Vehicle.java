@@ -181,203 +181,66 @@ public class Vehicle
     this.layout = new Layout();
   }
 
-  private Vehicle(String name,
-                  Map<String, String> properties,
-                  ObjectHistory history,
-                  int length,
-                  int energyLevelGood,
-                  int energyLevelCritical,
-                  int energyLevelFullyRecharged,
-                  int energyLevelSufficientlyRecharged,
-                  int maxVelocity,
-                  int maxReverseVelocity,
-                  String rechargeOperation,
-                  ProcState procState,
-                  TCSObjectReference<TransportOrder> transportOrder,
-                  TCSObjectReference<OrderSequence> orderSequence,
-                  Set<String> allowedOrderTypes,
-                  int routeProgressIndex,
-                  List<Set<TCSResourceReference<?>>> claimedResources,
-                  List<Set<TCSResourceReference<?>>> allocatedResources,
-                  State state,
-                  IntegrationLevel integrationLevel,
-                  boolean paused,
-                  TCSObjectReference<Point> currentPosition,
-                  TCSObjectReference<Point> nextPosition,
-                  Triple precisePosition,
-                  double orientationAngle,
-                  int energyLevel,
-                  List<LoadHandlingDevice> loadHandlingDevices,
-                  Layout layout) {
-    super(name, properties, history);
-    this.length = checkInRange(length, 1, Integer.MAX_VALUE, "length");
-    this.energyLevelGood = checkInRange(energyLevelGood, 0, 100, "energyLevelGood");
-    this.energyLevelCritical = checkInRange(energyLevelCritical, 0, 100, "energyLevelCritical");
-    this.energyLevelFullyRecharged = checkInRange(energyLevelFullyRecharged,
-                                                  0,
-                                                  100,
-                                                  "energyLevelFullyRecharged");
-    this.energyLevelSufficientlyRecharged = checkInRange(energyLevelSufficientlyRecharged,
-                                                         0,
-                                                         100,
-                                                         "energyLevelSufficientlyRecharged");
-    this.maxVelocity = checkInRange(maxVelocity, 0, Integer.MAX_VALUE, "maxVelocity");
-    this.maxReverseVelocity = checkInRange(maxReverseVelocity,
-                                           0,
-                                           Integer.MAX_VALUE,
-                                           "maxReverseVelocity");
-    this.rechargeOperation = requireNonNull(rechargeOperation, "rechargeOperation");
-    this.procState = requireNonNull(procState, "procState");
-    this.transportOrder = transportOrder;
-    this.orderSequence = orderSequence;
-    this.allowedOrderTypes = requireNonNull(allowedOrderTypes, "allowedOrderTypes");
-    this.routeProgressIndex = routeProgressIndex;
-    this.claimedResources = requireNonNull(claimedResources, "claimedResources");
-    this.allocatedResources = requireNonNull(allocatedResources, "allocatedResources");
-    this.state = requireNonNull(state, "state");
-    this.integrationLevel = requireNonNull(integrationLevel, "integrationLevel");
-    this.paused = paused;
-    this.currentPosition = currentPosition;
-    this.nextPosition = nextPosition;
-    this.precisePosition = precisePosition;
-    checkArgument(
-        Double.isNaN(orientationAngle) || (orientationAngle >= -360.0 && orientationAngle <= 360.0),
-        "Illegal orientation angle: %s",
-        orientationAngle
-    );
-    this.orientationAngle = orientationAngle;
-    this.energyLevel = checkInRange(energyLevel, 0, 100, "energyLevel");
-    this.loadHandlingDevices = listWithoutNullValues(requireNonNull(loadHandlingDevices,
-                                                                    "loadHandlingDevices"));
-    this.layout = requireNonNull(layout, "layout");
+  /**
+   * Creates a new instance with the values from the given builder.
+   *
+   * @param builder The builder.
+   */
+  private Vehicle(Builder builder) {
+    super(builder.original, builder.properties, builder.history);
+    this.length = builder.length;
+    this.energyLevelGood = builder.energyLevelGood;
+    this.energyLevelCritical = builder.energyLevelCritical;
+    this.energyLevelFullyRecharged = builder.energyLevelFullyRecharged;
+    this.energyLevelSufficientlyRecharged = builder.energyLevelSufficientlyRecharged;
+    this.maxVelocity = builder.maxVelocity;
+    this.maxReverseVelocity = builder.maxReverseVelocity;
+    this.rechargeOperation = builder.rechargeOperation;
+    this.procState = builder.procState;
+    this.transportOrder = builder.transportOrder;
+    this.orderSequence = builder.orderSequence;
+    this.allowedOrderTypes = builder.allowedOrderTypes;
+    this.routeProgressIndex = builder.routeProgressIndex;
+    this.claimedResources = builder.claimedResources;
+    this.allocatedResources = builder.allocatedResources;
+    this.state = builder.state;
+    this.integrationLevel = builder.integrationLevel;
+    this.paused = builder.paused;
+    this.currentPosition = builder.currentPosition;
+    this.nextPosition = builder.nextPosition;
+    this.precisePosition = builder.precisePosition;
+    this.orientationAngle = builder.orientationAngle;
+    this.energyLevel = builder.energyLevel;
+    this.loadHandlingDevices = builder.loadHandlingDevices;
+    this.layout = builder.layout;
   }
 
   @Override
   public Vehicle withProperty(String key, String value) {
-    return new Vehicle(getName(),
-                       propertiesWith(key, value),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.properties = propertiesWith(key, value);
+    return builder.build();
   }
 
   @Override
   public Vehicle withProperties(Map<String, String> properties) {
-    return new Vehicle(getName(),
-                       properties,
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.properties = properties;
+    return builder.build();
   }
 
   @Override
   public TCSObject<Vehicle> withHistoryEntry(ObjectHistory.Entry entry) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory().withEntryAppended(entry),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.history = getHistory().withEntryAppended(entry);
+    return builder.build();
   }
 
   @Override
   public TCSObject<Vehicle> withHistory(ObjectHistory history) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       history,
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.history = history;
+    return builder.build();
   }
 
   /**
@@ -396,34 +259,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withEnergyLevel(int energyLevel) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.energyLevel = checkInRange(energyLevel, 0, 100, "energyLevel");
+    return builder.build();
   }
 
   /**
@@ -495,34 +333,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withEnergyLevelCritical(int energyLevelCritical) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.energyLevelCritical = checkInRange(energyLevelCritical, 0, 100, "energyLevelCritical");
+    return builder.build();
   }
 
   /**
@@ -543,34 +356,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withEnergyLevelGood(int energyLevelGood) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.energyLevelGood = checkInRange(energyLevelGood, 0, 100, "energyLevelGood");
+    return builder.build();
   }
 
   /**
@@ -589,34 +377,12 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withEnergyLevelFullyRecharged(int energyLevelFullyRecharged) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.energyLevelFullyRecharged = checkInRange(energyLevelFullyRecharged,
+                                                     0,
+                                                     100,
+                                                     "energyLevelFullyRecharged");
+    return builder.build();
   }
 
   /**
@@ -636,34 +402,12 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withEnergyLevelSufficientlyRecharged(int energyLevelSufficientlyRecharged) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.energyLevelSufficientlyRecharged = checkInRange(energyLevelSufficientlyRecharged,
+                                                            0,
+                                                            100,
+                                                            "energyLevelSufficientlyRecharged");
+    return builder.build();
   }
 
   /**
@@ -684,34 +428,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withRechargeOperation(String rechargeOperation) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.rechargeOperation = requireNonNull(rechargeOperation, "rechargeOperation");
+    return builder.build();
   }
 
   /**
@@ -730,34 +449,10 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withLoadHandlingDevices(List<LoadHandlingDevice> loadHandlingDevices) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.loadHandlingDevices
+        = listWithoutNullValues(requireNonNull(loadHandlingDevices, "loadHandlingDevices"));
+    return builder.build();
   }
 
   /**
@@ -776,34 +471,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withMaxVelocity(int maxVelocity) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.maxVelocity = checkInRange(maxVelocity, 0, Integer.MAX_VALUE, "maxVelocity");
+    return builder.build();
   }
 
   /**
@@ -822,34 +492,12 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withMaxReverseVelocity(int maxReverseVelocity) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.maxReverseVelocity = checkInRange(maxReverseVelocity,
+                                              0,
+                                              Integer.MAX_VALUE,
+                                              "maxReverseVelocity");
+    return builder.build();
   }
 
   /**
@@ -879,34 +527,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withState(State state) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.state = requireNonNull(state, "state");
+    return builder.build();
   }
 
   /**
@@ -934,34 +557,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withIntegrationLevel(IntegrationLevel integrationLevel) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.integrationLevel = requireNonNull(integrationLevel, "integrationLevel");
+    return builder.build();
   }
 
   /**
@@ -980,34 +578,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withPaused(boolean paused) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.paused = paused;
+    return builder.build();
   }
 
   /**
@@ -1029,34 +602,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withProcState(ProcState procState) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.procState = requireNonNull(procState, "procState");
+    return builder.build();
   }
 
   /**
@@ -1075,35 +623,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withLength(int length) {
-    checkInRange(length, 1, Integer.MAX_VALUE, "length");
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.length = checkInRange(length, 1, Integer.MAX_VALUE, "length");
+    return builder.build();
   }
 
   /**
@@ -1125,34 +647,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withTransportOrder(TCSObjectReference<TransportOrder> transportOrder) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.transportOrder = transportOrder;
+    return builder.build();
   }
 
   /**
@@ -1174,34 +671,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withOrderSequence(TCSObjectReference<OrderSequence> orderSequence) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.orderSequence = orderSequence;
+    return builder.build();
   }
 
   /**
@@ -1220,34 +692,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withAllowedOrderTypes(Set<String> allowedOrderTypes) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.allowedOrderTypes = requireNonNull(allowedOrderTypes, "allowedOrderTypes");
+    return builder.build();
   }
 
   /**
@@ -1268,34 +715,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withRouteProgressIndex(int routeProgressIndex) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.routeProgressIndex = routeProgressIndex;
+    return builder.build();
   }
 
   /**
@@ -1314,34 +736,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withClaimedResources(List<Set<TCSResourceReference<?>>> claimedResources) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.claimedResources = requireNonNull(claimedResources, "claimedResources");
+    return builder.build();
   }
 
   /**
@@ -1360,34 +757,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withAllocatedResources(List<Set<TCSResourceReference<?>>> allocatedResources) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.allocatedResources = requireNonNull(allocatedResources, "allocatedResources");
+    return builder.build();
   }
 
   /**
@@ -1408,34 +780,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withCurrentPosition(TCSObjectReference<Point> currentPosition) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.currentPosition = currentPosition;
+    return builder.build();
   }
 
   /**
@@ -1456,34 +803,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withNextPosition(TCSObjectReference<Point> nextPosition) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.nextPosition = nextPosition;
+    return builder.build();
   }
 
   /**
@@ -1504,34 +826,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withPrecisePosition(Triple precisePosition) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.precisePosition = precisePosition;
+    return builder.build();
   }
 
   /**
@@ -1552,34 +849,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withOrientationAngle(double orientationAngle) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.orientationAngle = checkOrientationAngle(orientationAngle);
+    return builder.build();
   }
 
   /**
@@ -1598,34 +870,9 @@ public class Vehicle
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withLayout(Layout layout) {
-    return new Vehicle(getName(),
-                       getProperties(),
-                       getHistory(),
-                       length,
-                       energyLevelGood,
-                       energyLevelCritical,
-                       energyLevelFullyRecharged,
-                       energyLevelSufficientlyRecharged,
-                       maxVelocity,
-                       maxReverseVelocity,
-                       rechargeOperation,
-                       procState,
-                       transportOrder,
-                       orderSequence,
-                       allowedOrderTypes,
-                       routeProgressIndex,
-                       claimedResources,
-                       allocatedResources,
-                       state,
-                       integrationLevel,
-                       paused,
-                       currentPosition,
-                       nextPosition,
-                       precisePosition,
-                       orientationAngle,
-                       energyLevel,
-                       loadHandlingDevices,
-                       layout);
+    Builder builder = new Builder(this);
+    builder.layout = requireNonNull(layout, "layout");
+    return builder.build();
   }
 
   /**
@@ -1669,6 +916,15 @@ public class Vehicle
         + '}';
   }
 
+  private static double checkOrientationAngle(double orientationAngle) {
+    checkArgument(
+        Double.isNaN(orientationAngle) || (orientationAngle >= -360.0 && orientationAngle <= 360.0),
+        "Illegal orientation angle: %s",
+        orientationAngle
+    );
+    return orientationAngle;
+  }
+
   /**
    * The elements of this enumeration describe the various possible states of a
    * vehicle.
@@ -1815,4 +1071,95 @@ public class Vehicle
       return new Layout(routeColor);
     }
   }
+
+  /**
+   * Collects the values for a modified copy of a vehicle.
+   * <p>
+   * Values that are not modified are taken over from the original vehicle as they are, so the copy
+   * shares them (including collections and the properties) instead of copying and validating them
+   * again.
+   * </p>
+   */
+  private static class Builder {
+
+    /**
+     * The original vehicle.
+     */
+    private final Vehicle original;
+    /**
+     * The values for the copy, corresponding to the vehicle's fields.
+     */
+    private Map<String, String> properties;
+    private ObjectHistory history;
+    private int length;
+    private int energyLevelGood;
+    private int energyLevelCritical;
+    private int energyLevelFullyRecharged;
+    private int energyLevelSufficientlyRecharged;
+    private int maxVelocity;
+    private int maxReverseVelocity;
+    private String rechargeOperation;
+    private ProcState procState;
+    private TCSObjectReference<TransportOrder> transportOrder;
+    private TCSObjectReference<OrderSequence> orderSequence;
+    private Set<String> allowedOrderTypes;
+    private int routeProgressIndex;
+    private List<Set<TCSResourceReference<?>>> claimedResources;
+    private List<Set<TCSResourceReference<?>>> allocatedResources;
+    private State state;
+    private IntegrationLevel integrationLevel;
+    private boolean paused;
+    private TCSObjectReference<Point> currentPosition;
+    private TCSObjectReference<Point> nextPosition;
+    private Triple precisePosition;
+    private double orientationAngle;
+    private int energyLevel;
+    private List<LoadHandlingDevice> loadHandlingDevices;
+    private Layout layout;
+
+    /**
+     * Creates a new instance with the values of the given vehicle.
+     *
+     * @param original The original vehicle.
+     */
+    Builder(Vehicle original) {
+      this.original = original;
+      this.properties = original.getProperties();
+      this.history = original.getHistory();
+      this.length = original.length;
+      this.energyLevelGood = original.energyLevelGood;
+      this.energyLevelCritical = original.energyLevelCritical;
+      this.energyLevelFullyRecharged = original.energyLevelFullyRecharged;
+      this.energyLevelSufficientlyRecharged = original.energyLevelSufficientlyRecharged;
+      this.maxVelocity = original.maxVelocity;
+      this.maxReverseVelocity = original.maxReverseVelocity;
+      this.rechargeOperation = original.rechargeOperation;
+      this.procState = original.procState;
+      this.transportOrder = original.transportOrder;
+      this.orderSequence = original.orderSequence;
+      this.allowedOrderTypes = original.allowedOrderTypes;
+      this.routeProgressIndex = original.routeProgressIndex;
+      this.claimedResources = original.claimedResources;
+      this.allocatedResources = original.allocatedResources;
+      this.state = original.state;
+      this.integrationLevel = original.integrationLevel;
+      this.paused = original.paused;
+      this.currentPosition = original.currentPosition;
+      this.nextPosition = original.nextPosition;
+      this.precisePosition = original.precisePosition;
+      this.orientationAngle = original.orientationAngle;
+      this.energyLevel = original.energyLevel;
+      this.loadHandlingDevices = original.loadHandlingDevices;
+      this.layout = original.layout;
+    }
+
+    /**
+     * Creates a new vehicle with the values collected.
+     *
+     * @return A new vehicle with the values collected.
+     */
+    Vehicle build() {
+      return new Vehicle(this);
+    }
+  }
 }
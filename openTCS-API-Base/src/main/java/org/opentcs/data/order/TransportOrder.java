@@ -135,131 +135,62 @@ public class TransportOrder
   }
 
   /**
-   * Creates a new TransportOrder.
+   * Creates a new instance with the values from the given builder.
    *
-   * @param objectID This transport order's ID.
-   * @param name This transport order's name.
-   * @param destinations A list of destinations that are to be travelled to
-   * when processing this transport order.
-   * @param creationTime The creation time stamp to be set.
-   */
-  private TransportOrder(String name,
-                         Map<String, String> properties,
-                         ObjectHistory history,
-                         String type,
-                         List<DriveOrder> driveOrders,
-                         String peripheralReservationToken,
-                         int currentDriveOrderIndex,
-                         Instant creationTime,
-                         TCSObjectReference<Vehicle> intendedVehicle,
-                         Instant deadline,
-                         boolean dispensable,
-                         TCSObjectReference<OrderSequence> wrappingSequence,
-                         Set<TCSObjectReference<TransportOrder>> dependencies,
-                         TCSObjectReference<Vehicle> processingVehicle,
-                         State state,
-                         Instant finishedTime) {
-    super(name, properties, history);
-
-    this.type = requireNonNull(type, "type");
-
-    requireNonNull(driveOrders, "driveOrders");
-    this.driveOrders = new ArrayList<>(driveOrders.size());
-    for (DriveOrder driveOrder : driveOrders) {
-      this.driveOrders.add(driveOrder.withTransportOrder(this.getReference()));
+   * @param builder The builder.
+   */
+  private TransportOrder(Builder builder) {
+    super(builder.original, builder.properties, builder.history);
+    this.type = builder.type;
+    if (builder.driveOrders == builder.original.driveOrders
+        && allReferenceThisOrder(builder.driveOrders)) {
+      this.driveOrders = builder.driveOrders;
     }
-
-    this.peripheralReservationToken = peripheralReservationToken;
-    this.currentDriveOrderIndex = currentDriveOrderIndex;
-    this.creationTime = requireNonNull(creationTime, "creationTime");
-    this.intendedVehicle = intendedVehicle;
-    this.deadline = requireNonNull(deadline, "deadline");
-    this.dispensable = dispensable;
-    this.wrappingSequence = wrappingSequence;
-    this.dependencies = requireNonNull(dependencies, "dependencies");
-    this.processingVehicle = processingVehicle;
-    this.state = requireNonNull(state, "state");
-    this.finishedTime = requireNonNull(finishedTime, "finishedTime");
+    else {
+      this.driveOrders = new ArrayList<>(builder.driveOrders.size());
+      for (DriveOrder driveOrder : builder.driveOrders) {
+        this.driveOrders.add(driveOrder.withTransportOrder(this.getReference()));
+      }
+    }
+    this.peripheralReservationToken = builder.peripheralReservationToken;
+    this.currentDriveOrderIndex = builder.currentDriveOrderIndex;
+    this.creationTime = builder.creationTime;
+    this.intendedVehicle = builder.intendedVehicle;
+    this.deadline = builder.deadline;
+    this.dispensable = builder.dispensable;
+    this.wrappingSequence = builder.wrappingSequence;
+    this.dependencies = builder.dependencies;
+    this.processingVehicle = builder.processingVehicle;
+    this.state = builder.state;
+    this.finishedTime = builder.finishedTime;
   }
 
   @Override
   public TransportOrder withProperty(String key, String value) {
-    return new TransportOrder(getName(),
-                              propertiesWith(key, value),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.properties = propertiesWith(key, value);
+    return builder.build();
   }
 
   @Override
   public TransportOrder withProperties(Map<String, String> properties) {
-    return new TransportOrder(getName(),
-                              properties,
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.properties = properties;
+    return builder.build();
   }
 
   @Override
   public TransportOrder withHistoryEntry(ObjectHistory.Entry entry) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory().withEntryAppended(entry),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.history = getHistory().withEntryAppended(entry);
+    return builder.build();
   }
 
   @Override
   public TransportOrder withHistory(ObjectHistory history) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              history,
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.history = history;
+    return builder.build();
   }
 
   /**
@@ -278,22 +209,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withType(String type) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.type = requireNonNull(type, "type");
+    return builder.build();
   }
 
   /**
@@ -325,22 +243,11 @@ public class TransportOrder
    */
   public TransportOrder withState(@Nonnull State state) {
     // XXX Finished time should probably not be set implicitly.
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              historyForNewState(state),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              state == State.FINISHED ? Instant.now() : finishedTime);
+    Builder builder = new Builder(this);
+    builder.state = requireNonNull(state, "state");
+    builder.history = historyForNewState(state);
+    builder.finishedTime = state == State.FINISHED ? Instant.now() : finishedTime;
+    return builder.build();
   }
 
   /**
@@ -359,22 +266,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withCreationTime(Instant creationTime) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.creationTime = requireNonNull(creationTime, "creationTime");
+    return builder.build();
   }
 
   /**
@@ -395,22 +289,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withDeadline(Instant deadline) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.deadline = requireNonNull(deadline, "deadline");
+    return builder.build();
   }
 
   /**
@@ -431,22 +312,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withFinishedTime(Instant finishedTime) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.finishedTime = requireNonNull(finishedTime, "finishedTime");
+    return builder.build();
   }
 
   /**
@@ -469,22 +337,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withIntendedVehicle(@Nullable TCSObjectReference<Vehicle> intendedVehicle) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.intendedVehicle = intendedVehicle;
+    return builder.build();
   }
 
   /**
@@ -508,22 +363,10 @@ public class TransportOrder
    */
   public TransportOrder withProcessingVehicle(
       @Nullable TCSObjectReference<Vehicle> processingVehicle) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              historyForNewProcessingVehicle(processingVehicle),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.history = historyForNewProcessingVehicle(processingVehicle);
+    builder.processingVehicle = processingVehicle;
+    return builder.build();
   }
 
   /**
@@ -543,22 +386,9 @@ public class TransportOrder
    */
   public TransportOrder withDependencies(
       @Nonnull Set<TCSObjectReference<TransportOrder>> dependencies) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.dependencies = requireNonNull(dependencies, "dependencies");
+    return builder.build();
   }
 
   /**
@@ -596,23 +426,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withDriveOrders(@Nonnull List<DriveOrder> driveOrders) {
-    requireNonNull(driveOrders, "driveOrders");
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.driveOrders = requireNonNull(driveOrders, "driveOrders");
+    return builder.build();
   }
 
   /**
@@ -661,22 +477,9 @@ public class TransportOrder
    */
   public TransportOrder withPeripheralReservationToken(
       @Nullable String peripheralReservationToken) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.peripheralReservationToken = peripheralReservationToken;
+    return builder.build();
   }
 
   /**
@@ -695,22 +498,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withCurrentDriveOrderIndex(int currentDriveOrderIndex) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.currentDriveOrderIndex = currentDriveOrderIndex;
+    return builder.build();
   }
 
   /**
@@ -726,22 +516,10 @@ public class TransportOrder
     newDriveOrders.set(currentDriveOrderIndex,
                        newDriveOrders.get(currentDriveOrderIndex).withState(driveOrderState));
 
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              historyForNewDriveOrderState(driveOrderState),
-                              type,
-                              newDriveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.history = historyForNewDriveOrderState(driveOrderState);
+    builder.driveOrders = newDriveOrders;
+    return builder.build();
   }
 
   /**
@@ -764,22 +542,9 @@ public class TransportOrder
    */
   public TransportOrder withWrappingSequence(
       @Nullable TCSObjectReference<OrderSequence> wrappingSequence) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.wrappingSequence = wrappingSequence;
+    return builder.build();
   }
 
   /**
@@ -798,22 +563,9 @@ public class TransportOrder
    * @return A copy of this object, differing in the given value.
    */
   public TransportOrder withDispensable(boolean dispensable) {
-    return new TransportOrder(getName(),
-                              getProperties(),
-                              getHistory(),
-                              type,
-                              driveOrders,
-                              peripheralReservationToken,
-                              currentDriveOrderIndex,
-                              creationTime,
-                              intendedVehicle,
-                              deadline,
-                              dispensable,
-                              wrappingSequence,
-                              dependencies,
-                              processingVehicle,
-                              state,
-                              finishedTime);
+    Builder builder = new Builder(this);
+    builder.dispensable = dispensable;
+    return builder.build();
   }
 
   @Override
@@ -855,6 +607,15 @@ public class TransportOrder
     );
   }
 
+  private boolean allReferenceThisOrder(List<DriveOrder> driveOrders) {
+    for (DriveOrder driveOrder : driveOrders) {
+      if (driveOrder.getTransportOrder() != getReference()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * This enumeration defines the various states a transport order may be in.
    */
@@ -913,4 +674,70 @@ public class TransportOrder
           || this.equals(UNROUTABLE);
     }
   }
+
+  /**
+   * Collects the values for a modified copy of a transport order.
+   * <p>
+   * Values that are not modified are taken over from the original transport order as they are, so
+   * the copy shares them (including the drive orders and the properties) instead of copying them.
+   * </p>
+   */
+  private static class Builder {
+
+    /**
+     * The original transport order.
+     */
+    private final TransportOrder original;
+    /**
+     * The values for the copy, corresponding to the transport order's fields.
+     */
+    private Map<String, String> properties;
+    private ObjectHistory history;
+    private String type;
+    private List<DriveOrder> driveOrders;
+    private String peripheralReservationToken;
+    private int currentDriveOrderIndex;
+    private Instant creationTime;
+    private TCSObjectReference<Vehicle> intendedVehicle;
+    private Instant deadline;
+    private boolean dispensable;
+    private TCSObjectReference<OrderSequence> wrappingSequence;
+    private Set<TCSObjectReference<TransportOrder>> dependencies;
+    private TCSObjectReference<Vehicle> processingVehicle;
+    private State state;
+    private Instant finishedTime;
+
+    /**
+     * Creates a new instance with the values of the given transport order.
+     *
+     * @param original The original transport order.
+     */
+    Builder(TransportOrder original) {
+      this.original = original;
+      this.properties = original.getProperties();
+      this.history = original.getHistory();
+      this.type = original.type;
+      this.driveOrders = original.driveOrders;
+      this.peripheralReservationToken = original.peripheralReservationToken;
+      this.currentDriveOrderIndex = original.currentDriveOrderIndex;
+      this.creationTime = original.creationTime;
+      this.intendedVehicle = original.intendedVehicle;
+      this.deadline = original.deadline;
+      this.dispensable = original.dispensable;
+      this.wrappingSequence = original.wrappingSequence;
+      this.dependencies = original.dependencies;
+      this.processingVehicle = original.processingVehicle;
+      this.state = original.state;
+      this.finishedTime = original.finishedTime;
+    }
+
+    /**
+     * Creates a new transport order with the values collected.
+     *
+     * @return A new transport order with the values collected.
+     */
+    TransportOrder build() {
+      return new TransportOrder(this);
+    }
+  }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Optional;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ObjectHistory}.
+ */
+public class ObjectHistoryTest {
+
+  private final ObjectHistory.Entry entryA = new ObjectHistory.Entry("A");
+  private final ObjectHistory.Entry entryB = new ObjectHistory.Entry("B");
+  private final ObjectHistory.Entry entryC = new ObjectHistory.Entry("C");
+
+  @Test
+  public void appendEntries() {
+    ObjectHistory history = new ObjectHistory();
+    for (int i = 0; i < 100; i++) {
+      history = history.withEntryAppended(new ObjectHistory.Entry("code-" + i));
+    }
+
+    assertThat(history.getEntries().size(), is(100));
+    assertThat(history.getEntries().get(0).getEventCode(), is("code-0"));
+    assertThat(history.getEntries().get(99).getEventCode(), is("code-99"));
+  }
+
+  @Test
+  public void keepOriginalUnchangedWhenAppending() {
+    ObjectHistory original = new ObjectHistory().withEntryAppended(entryA);
+
+    ObjectHistory copyB = original.withEntryAppended(entryB);
+    ObjectHistory copyC = original.withEntryAppended(entryC);
+
+    assertThat(original.getEntries(), contains(entryA));
+    assertThat(copyB.getEntries(), contains(entryA, entryB));
+    assertThat(copyC.getEntries(), contains(entryA, entryC));
+  }
+
+  @Test
+  public void findMostRecentMatchingEntry() {
+    ObjectHistory.Entry secondA = new ObjectHistory.Entry("A", "second");
+    ObjectHistory history = new ObjectHistory()
+        .withEntries(List.of(entryA, entryB, secondA, entryC));
+
+    Optional<ObjectHistory.Entry> result
+        = history.findLastEntry(entry -> entry.getEventCode().equals("A"));
+
+    assertThat(result, is(Optional.of(secondA)));
+    assertThat(history.findLastEntry(entry -> entry.getEventCode().equals("D")),
+               is(Optional.empty()));
+  }
+
+  @Test
+  public void retainOnlyLatestEntries() {
+    ObjectHistory history = new ObjectHistory().withEntries(List.of(entryA, entryB));
+
+    ObjectHistory limited = history.withEntryAppended(entryC).withLatestEntries(2);
+
+    assertThat(limited.getEntries(), contains(entryB, entryC));
+    assertThat(limited.withEntryAppended(entryA).getEntries(), contains(entryB, entryC, entryA));
+    assertThat(history.withLatestEntries(0).getEntries(), is(empty()));
+  }
+
+  @Test
+  public void serializeOnlyOwnEntries()
+      throws Exception {
+    ObjectHistory history = new ObjectHistory().withEntryAppended(entryA);
+    history.withEntryAppended(entryB);
+    history = history.withEntryAppended(entryC).withLatestEntries(1);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(history);
+    }
+    ObjectHistory deserialized;
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (ObjectHistory) in.readObject();
+    }
+
+    assertThat(deserialized.getEntries().size(), is(1));
+    assertThat(deserialized.getEntries().get(0).getEventCode(), is("C"));
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.data.order;
+
+import java.util.List;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link TransportOrder}.
+ */
+public class TransportOrderTest {
+
+  private TransportOrder transportOrder;
+
+  @BeforeEach
+  public void setUp() {
+    Point point = new Point("Point-1");
+    transportOrder = new TransportOrder(
+        "TransportOrder-1",
+        List.of(new DriveOrder(new DriveOrder.Destination(point.getReference())),
+                new DriveOrder(new DriveOrder.Destination(point.getReference())))
+    )
+        .withProperty("key", "value");
+  }
+
+  @Test
+  public void referenceTransportOrderFromDriveOrders() {
+    TransportOrder copy = transportOrder.withState(TransportOrder.State.ACTIVE);
+
+    for (DriveOrder driveOrder : copy.getAllDriveOrders()) {
+      assertThat(driveOrder.getTransportOrder(), is(copy.getReference()));
+    }
+  }
+
+  @Test
+  public void shareUnmodifiedValuesWithCopies() {
+    TransportOrder copy = transportOrder.withState(TransportOrder.State.ACTIVE);
+
+    assertThat(copy.getProperties(), is(sameInstance(transportOrder.getProperties())));
+    assertThat(copy.getReference(), is(sameInstance(transportOrder.getReference())));
+    assertThat(copy.getAllDriveOrders().get(0),
+               is(sameInstance(transportOrder.getAllDriveOrders().get(0))));
+  }
+
+  @Test
+  public void leaveOriginalUnmodified() {
+    TransportOrder original = transportOrder.withCurrentDriveOrderIndex(0);
+
+    TransportOrder copy = original
+        .withCurrentDriveOrderState(DriveOrder.State.FINISHED)
+        .withProperty("key", "otherValue");
+
+    assertThat(original.getCurrentDriveOrder().getState(), is(DriveOrder.State.PRISTINE));
+    assertThat(original.getProperty("key"), is("value"));
+    assertThat(copy.getCurrentDriveOrder().getState(), is(DriveOrder.State.FINISHED));
+    assertThat(copy.getProperty("key"), is("otherValue"));
+  }
+}
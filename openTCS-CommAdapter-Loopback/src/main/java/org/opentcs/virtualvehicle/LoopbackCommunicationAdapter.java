@@ -19,8 +19,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import org.opentcs.common.ExecutionLanes;
 import org.opentcs.common.LoopbackAdapterConstants;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.data.order.TransportOrder;
@@ -100,17 +100,17 @@ public class LoopbackCommunicationAdapter
    *
    * @param configuration This class's configuration.
    * @param vehicle The vehicle this adapter is associated with.
-   * @param kernelExecutor The kernel's executor.
+   * @param executionLanes Provides the lane executing the simulation of the vehicle.
    */
   @Inject
   public LoopbackCommunicationAdapter(VirtualVehicleConfiguration configuration,
                                       @Assisted Vehicle vehicle,
-                                      @KernelExecutor ScheduledExecutorService kernelExecutor) {
+                                      ExecutionLanes executionLanes) {
     super(new LoopbackVehicleModel(vehicle),
           configuration.commandQueueCapacity(),
           1,
           configuration.rechargeOperation(),
-          kernelExecutor);
+          executionLanes.getLane("vehicle:" + vehicle.getName()));
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.configuration = requireNonNull(configuration, "configuration");
   }
@@ -0,0 +1,381 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes tasks one at a time and in the order they were submitted, using the threads of a shared
+ * worker pool.
+ * <p>
+ * Tasks executed by the same lane never run concurrently, and all effects of a task are visible to
+ * the tasks executed after it.
+ * Tasks executed by different lanes may run concurrently.
+ * Delayed and periodic tasks are timed by the worker pool and enqueued with the lane when they are
+ * due.
+ * Unlike with a {@link java.util.concurrent.ScheduledThreadPoolExecutor}, an exception thrown by a
+ * periodic task does not suppress the task's subsequent executions.
+ * </p>
+ */
+public class ExecutionLane
+    extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ExecutionLane.class);
+  /**
+   * The maximum number of tasks executed before the lane yields its worker thread to other lanes.
+   */
+  private static final int MAX_TASKS_PER_TURN = 16;
+  /**
+   * The name of this lane.
+   */
+  private final String name;
+  /**
+   * The worker pool executing the tasks.
+   */
+  private final ScheduledExecutorService workerPool;
+  /**
+   * The tasks waiting to be executed.
+   */
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  /**
+   * Indicates whether the lane has a turn with the worker pool, i.e. whether tasks are currently
+   * being executed or about to be executed.
+   */
+  private boolean active;
+  /**
+   * Indicates whether this lane has been shut down.
+   */
+  private boolean shutdown;
+  /**
+   * The number of tasks executed.
+   */
+  private long executedTasks;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of this lane.
+   * @param workerPool The worker pool executing the tasks.
+   */
+  public ExecutionLane(@Nonnull String name, @Nonnull ScheduledExecutorService workerPool) {
+    this.name = requireNonNull(name, "name");
+    this.workerPool = requireNonNull(workerPool, "workerPool");
+  }
+
+  /**
+   * Returns the name of this lane.
+   *
+   * @return The name of this lane.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of tasks waiting to be executed.
+   *
+   * @return The number of tasks waiting to be executed.
+   */
+  public synchronized int getQueueLength() {
+    return tasks.size();
+  }
+
+  /**
+   * Returns the number of tasks executed.
+   *
+   * @return The number of tasks executed.
+   */
+  public synchronized long getExecutedTasks() {
+    return executedTasks;
+  }
+
+  @Override
+  public synchronized void execute(@Nonnull Runnable command) {
+    requireNonNull(command, "command");
+    if (shutdown) {
+      throw new RejectedExecutionException("Lane " + name + " has been shut down.");
+    }
+
+    tasks.add(command);
+    if (!active) {
+      active = true;
+      workerPool.execute(this::executeTurn);
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    requireNonNull(command, "command");
+    return schedule(Executors.callable(command, null), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable,
+                                         long delay,
+                                         @Nonnull TimeUnit unit) {
+    requireNonNull(callable, "callable");
+    requireNonNull(unit, "unit");
+    checkNotShutdown();
+
+    FutureTask<V> task = new FutureTask<>(callable);
+    ScheduledFuture<?> trigger = workerPool.schedule(() -> enqueueDueTask(task), delay, unit);
+    return new DelayedTaskFuture<>(task, trigger);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(@Nonnull Runnable command,
+                                                long initialDelay,
+                                                long period,
+                                                @Nonnull TimeUnit unit) {
+    requireNonNull(command, "command");
+    requireNonNull(unit, "unit");
+    checkNotShutdown();
+
+    return workerPool.scheduleAtFixedRate(new PeriodicTrigger(command),
+                                          initialDelay,
+                                          period,
+                                          unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(@Nonnull Runnable command,
+                                                   long initialDelay,
+                                                   long delay,
+                                                   @Nonnull TimeUnit unit) {
+    requireNonNull(command, "command");
+    requireNonNull(unit, "unit");
+    checkNotShutdown();
+
+    return workerPool.scheduleWithFixedDelay(new PeriodicTrigger(command),
+                                             initialDelay,
+                                             delay,
+                                             unit);
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    shutdown = true;
+    notifyAll();
+  }
+
+  @Override
+  public synchronized List<Runnable> shutdownNow() {
+    shutdown = true;
+    List<Runnable> result = new ArrayList<>(tasks);
+    tasks.clear();
+    notifyAll();
+    return result;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && !active && tasks.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(long timeout, @Nonnull TimeUnit unit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "ExecutionLane{"
+        + "name=" + name
+        + ", queueLength=" + tasks.size()
+        + ", executedTasks=" + executedTasks
+        + ", shutdown=" + shutdown
+        + '}';
+  }
+
+  private synchronized void checkNotShutdown() {
+    if (shutdown) {
+      throw new RejectedExecutionException("Lane " + name + " has been shut down.");
+    }
+  }
+
+  private void enqueueDueTask(FutureTask<?> task) {
+    try {
+      execute(task);
+    }
+    catch (RejectedExecutionException exc) {
+      task.cancel(false);
+    }
+  }
+
+  /**
+   * Executes waiting tasks, yielding the worker thread after a limited number of tasks so other
+   * lanes get their turns, too.
+   */
+  private void executeTurn() {
+    for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+      Runnable task;
+      synchronized (this) {
+        task = tasks.poll();
+        if (task == null) {
+          active = false;
+          notifyAll();
+          return;
+        }
+      }
+
+      try {
+        task.run();
+      }
+      catch (RuntimeException exc) {
+        LOG.warn("{}: Unhandled exception in executed task", name, exc);
+      }
+
+      synchronized (this) {
+        executedTasks++;
+      }
+    }
+
+    synchronized (this) {
+      if (tasks.isEmpty()) {
+        active = false;
+        notifyAll();
+        return;
+      }
+    }
+    // Keep the lane active and continue with the remaining tasks in a later turn.
+    workerPool.execute(this::executeTurn);
+  }
+
+  /**
+   * Enqueues executions of a periodic task, skipping an execution if the previous one has not been
+   * executed, yet.
+   */
+  private class PeriodicTrigger
+      implements Runnable {
+
+    /**
+     * The periodic task.
+     */
+    private final Runnable command;
+    /**
+     * Indicates whether an execution of the periodic task is waiting to be executed.
+     */
+    private final AtomicBoolean executionPending = new AtomicBoolean();
+
+    PeriodicTrigger(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      if (!executionPending.compareAndSet(false, true)) {
+        return;
+      }
+
+      // If the lane has been shut down, the exception thrown here stops the periodic executions.
+      execute(() -> {
+        executionPending.set(false);
+        command.run();
+      });
+    }
+  }
+
+  /**
+   * The future of a delayed task.
+   *
+   * @param <V> The task's result type.
+   */
+  private static class DelayedTaskFuture<V>
+      implements ScheduledFuture<V> {
+
+    /**
+     * The task.
+     */
+    private final FutureTask<V> task;
+    /**
+     * Enqueues the task when it is due.
+     */
+    private final ScheduledFuture<?> trigger;
+
+    DelayedTaskFuture(FutureTask<V> task, ScheduledFuture<?> trigger) {
+      this.task = task;
+      this.trigger = trigger;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return trigger.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      trigger.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get()
+        throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+/**
+ * Provides named {@link ExecutionLane}s sharing a common worker pool.
+ * <p>
+ * Components use lanes to execute work that needs to be serialized per entity (e.g. per vehicle or
+ * per peripheral device), while work for different entities may be executed concurrently.
+ * If lanes are disabled, all lanes are backed by a single fallback executor, which serializes all
+ * work, including work for different entities.
+ * </p>
+ */
+public class ExecutionLanes {
+
+  /**
+   * The executor used for all lanes if lanes are disabled.
+   */
+  private final ScheduledExecutorService fallbackExecutor;
+  /**
+   * The worker pool executing the lanes' tasks, or {@code null}, if lanes are disabled.
+   */
+  private final ScheduledExecutorService workerPool;
+  /**
+   * The lanes, mapped by their names.
+   */
+  private final ConcurrentMap<String, ExecutionLane> lanes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance with lanes disabled.
+   *
+   * @param fallbackExecutor The executor used for all lanes.
+   */
+  public ExecutionLanes(@Nonnull ScheduledExecutorService fallbackExecutor) {
+    this.fallbackExecutor = requireNonNull(fallbackExecutor, "fallbackExecutor");
+    this.workerPool = null;
+  }
+
+  /**
+   * Creates a new instance with lanes enabled.
+   *
+   * @param fallbackExecutor The executor used for all lanes if lanes are disabled.
+   * @param workerPool The worker pool executing the lanes' tasks.
+   */
+  public ExecutionLanes(@Nonnull ScheduledExecutorService fallbackExecutor,
+                        @Nonnull ScheduledExecutorService workerPool) {
+    this.fallbackExecutor = requireNonNull(fallbackExecutor, "fallbackExecutor");
+    this.workerPool = requireNonNull(workerPool, "workerPool");
+  }
+
+  /**
+   * Indicates whether lanes are enabled.
+   *
+   * @return {@code true} if, and only if, lanes are enabled.
+   */
+  public boolean isEnabled() {
+    return workerPool != null;
+  }
+
+  /**
+   * Returns the lane with the given name, creating it if it does not exist, yet.
+   * <p>
+   * If lanes are disabled, the fallback executor is returned.
+   * </p>
+   *
+   * @param name The lane's name.
+   * @return The lane with the given name.
+   */
+  @Nonnull
+  public ScheduledExecutorService getLane(@Nonnull String name) {
+    requireNonNull(name, "name");
+
+    if (workerPool == null) {
+      return fallbackExecutor;
+    }
+    return lanes.computeIfAbsent(name, laneName -> new ExecutionLane(laneName, workerPool));
+  }
+
+  /**
+   * Returns the number of tasks waiting to be executed, mapped by lane name.
+   *
+   * @return The number of tasks waiting to be executed, mapped by lane name.
+   */
+  @Nonnull
+  public Map<String, Integer> getQueueLengths() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (ExecutionLane lane : lanes.values()) {
+      result.put(lane.getName(), lane.getQueueLength());
+    }
+    return result;
+  }
+}
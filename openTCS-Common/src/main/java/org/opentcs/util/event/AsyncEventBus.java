@@ -0,0 +1,719 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectEvent;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link EventBus} that delivers events to its subscribers asynchronously.
+ * <p>
+ * Every subscriber has its own bounded queue of events that have been published but not yet
+ * delivered to it. Events are delivered to a subscriber one at a time and in the order they were
+ * published, using the threads of a delivery executor shared by all subscribers. As a consequence,
+ * a slow subscriber only delays the delivery of events to itself, and publishing an event does not
+ * wait for any subscriber to process it (unless the {@link OverflowPolicy#BLOCK} policy is used).
+ * </p>
+ * <p>
+ * When a subscriber's queue is full, only events of type
+ * {@link TCSObjectEvent.Type#OBJECT_MODIFIED} that are superseded by a subsequent modification
+ * event for the same object may be discarded, as the subsequent event still carries the object's
+ * current state. All other events (e.g. the creation or removal of objects, or the latest
+ * modification of an object) are never discarded. If there is no event that could be discarded,
+ * the queue's capacity is exceeded instead.
+ * </p>
+ */
+public class AsyncEventBus
+    implements EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEventBus.class);
+  /**
+   * The maximum number of events delivered to a subscriber before yielding the delivery thread to
+   * other subscribers.
+   */
+  private static final int MAX_EVENTS_PER_TURN = 64;
+  /**
+   * The minimum time (in nanoseconds) between two warnings about discarded events for the same
+   * subscriber.
+   */
+  private static final long DROP_WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+  /**
+   * Executes the delivery of events.
+   */
+  private final Executor deliveryExecutor;
+  /**
+   * The maximum number of events waiting to be delivered to a single subscriber.
+   */
+  private final int queueCapacity;
+  /**
+   * What to do when a subscriber's queue is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The subscribers' queues, mapped by subscriber.
+   */
+  private final Map<EventHandler, SubscriberQueue> queues = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param deliveryExecutor Executes the delivery of events.
+   * @param queueCapacity The maximum number of events waiting to be delivered to a single
+   * subscriber.
+   * @param overflowPolicy What to do when a subscriber's queue is full.
+   */
+  public AsyncEventBus(@Nonnull Executor deliveryExecutor,
+                       int queueCapacity,
+                       @Nonnull OverflowPolicy overflowPolicy) {
+    this.deliveryExecutor = requireNonNull(deliveryExecutor, "deliveryExecutor");
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+
+    checkArgument(queueCapacity > 0, "queueCapacity <= 0: %s", queueCapacity);
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    requireNonNull(event, "event");
+
+    for (SubscriberQueue queue : queues.values()) {
+      queue.enqueue(event);
+    }
+  }
+
+  @Override
+  public void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    queues.computeIfAbsent(listener, SubscriberQueue::new);
+  }
+
+  @Override
+  public void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    SubscriberQueue queue = queues.remove(listener);
+    if (queue != null) {
+      queue.close();
+    }
+  }
+
+  /**
+   * Returns statistics about the delivery of events, for every subscriber.
+   *
+   * @return Statistics about the delivery of events, for every subscriber.
+   */
+  @Nonnull
+  public List<SubscriberStatistics> getSubscriberStatistics() {
+    List<SubscriberStatistics> result = new ArrayList<>();
+    for (SubscriberQueue queue : queues.values()) {
+      result.add(queue.getStatistics());
+    }
+    return result;
+  }
+
+  /**
+   * Defines what to do when an event is published while a subscriber's queue is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The publishing thread waits until there is room in the subscriber's queue.
+     * <p>
+     * Note that this may result in deadlocks if the publishing thread holds a lock that the
+     * subscriber needs for processing events.
+     * </p>
+     */
+    BLOCK,
+    /**
+     * The oldest object modification event in the subscriber's queue that is superseded by a
+     * subsequent modification event for the same object (waiting or published) is discarded.
+     * The subsequent event then carries the previous object state of the discarded one.
+     * If there is no such event, the published event is added to the queue, exceeding its capacity.
+     */
+    DROP_OLDEST,
+    /**
+     * If an event of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED} for the same object is
+     * already waiting in the subscriber's queue, both events are merged into one, which contains
+     * the previous object state of the waiting event and the current object state of the published
+     * event. Otherwise, events are handled as with {@link #DROP_OLDEST}.
+     */
+    COALESCE_BY_OBJECT_NAME;
+  }
+
+  /**
+   * Statistics about the delivery of events to a single subscriber.
+   */
+  public static class SubscriberStatistics {
+
+    /**
+     * A description of the subscriber.
+     */
+    private final String subscriber;
+    /**
+     * The number of events waiting to be delivered.
+     */
+    private final int queueLength;
+    /**
+     * The maximum number of events that have been waiting to be delivered at the same time.
+     */
+    private final int maxQueueLength;
+    /**
+     * The number of events delivered.
+     */
+    private final long deliveredEvents;
+    /**
+     * The number of superseded object modification events discarded because the queue was
+     * full.
+     */
+    private final long droppedEvents;
+    /**
+     * The number of events merged with events already waiting in the queue.
+     */
+    private final long coalescedEvents;
+    /**
+     * The average time (in microseconds) spent by publishing threads on enqueuing an event.
+     */
+    private final long averagePublishLatency;
+    /**
+     * The maximum time (in microseconds) spent by a publishing thread on enqueuing an event.
+     */
+    private final long maxPublishLatency;
+    /**
+     * The average time (in microseconds) between the publishing and the delivery of an event.
+     */
+    private final long averageDeliveryDelay;
+    /**
+     * The maximum time (in microseconds) between the publishing and the delivery of an event.
+     */
+    private final long maxDeliveryDelay;
+
+    SubscriberStatistics(String subscriber,
+                         int queueLength,
+                         int maxQueueLength,
+                         long deliveredEvents,
+                         long droppedEvents,
+                         long coalescedEvents,
+                         long averagePublishLatency,
+                         long maxPublishLatency,
+                         long averageDeliveryDelay,
+                         long maxDeliveryDelay) {
+      this.subscriber = subscriber;
+      this.queueLength = queueLength;
+      this.maxQueueLength = maxQueueLength;
+      this.deliveredEvents = deliveredEvents;
+      this.droppedEvents = droppedEvents;
+      this.coalescedEvents = coalescedEvents;
+      this.averagePublishLatency = averagePublishLatency;
+      this.maxPublishLatency = maxPublishLatency;
+      this.averageDeliveryDelay = averageDeliveryDelay;
+      this.maxDeliveryDelay = maxDeliveryDelay;
+    }
+
+    /**
+     * Returns a description of the subscriber.
+     *
+     * @return A description of the subscriber.
+     */
+    @Nonnull
+    public String getSubscriber() {
+      return subscriber;
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return The number of events waiting to be delivered.
+     */
+    public int getQueueLength() {
+      return queueLength;
+    }
+
+    /**
+     * Returns the maximum number of events that have been waiting to be delivered at the same
+     * time.
+     *
+     * @return The maximum number of events that have been waiting to be delivered at the same time.
+     */
+    public int getMaxQueueLength() {
+      return maxQueueLength;
+    }
+
+    /**
+     * Returns the number of events delivered.
+     *
+     * @return The number of events delivered.
+     */
+    public long getDeliveredEvents() {
+      return deliveredEvents;
+    }
+
+    /**
+     * Returns the number of superseded object modification events discarded because the queue was
+     * full.
+     *
+     * @return The number of superseded object modification events discarded because the queue was
+     * full.
+     */
+    public long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    /**
+     * Returns the number of events merged with events already waiting in the queue.
+     *
+     * @return The number of events merged with events already waiting in the queue.
+     */
+    public long getCoalescedEvents() {
+      return coalescedEvents;
+    }
+
+    /**
+     * Returns the average time (in microseconds) spent by publishing threads on enqueuing an event.
+     *
+     * @return The average time (in microseconds) spent by publishing threads on enqueuing an event.
+     */
+    public long getAveragePublishLatency() {
+      return averagePublishLatency;
+    }
+
+    /**
+     * Returns the maximum time (in microseconds) spent by a publishing thread on enqueuing an
+     * event.
+     *
+     * @return The maximum time (in microseconds) spent by a publishing thread on enqueuing an
+     * event.
+     */
+    public long getMaxPublishLatency() {
+      return maxPublishLatency;
+    }
+
+    /**
+     * Returns the average time (in microseconds) between the publishing and the delivery of an
+     * event.
+     *
+     * @return The average time (in microseconds) between the publishing and the delivery of an
+     * event.
+     */
+    public long getAverageDeliveryDelay() {
+      return averageDeliveryDelay;
+    }
+
+    /**
+     * Returns the maximum time (in microseconds) between the publishing and the delivery of an
+     * event.
+     *
+     * @return The maximum time (in microseconds) between the publishing and the delivery of an
+     * event.
+     */
+    public long getMaxDeliveryDelay() {
+      return maxDeliveryDelay;
+    }
+
+    @Override
+    public String toString() {
+      return "SubscriberStatistics{"
+          + "subscriber=" + subscriber
+          + ", queueLength=" + queueLength
+          + ", maxQueueLength=" + maxQueueLength
+          + ", deliveredEvents=" + deliveredEvents
+          + ", droppedEvents=" + droppedEvents
+          + ", coalescedEvents=" + coalescedEvents
+          + ", averagePublishLatency=" + averagePublishLatency
+          + ", maxPublishLatency=" + maxPublishLatency
+          + ", averageDeliveryDelay=" + averageDeliveryDelay
+          + ", maxDeliveryDelay=" + maxDeliveryDelay
+          + '}';
+    }
+  }
+
+  /**
+   * An event waiting to be delivered.
+   */
+  private static class PendingEvent {
+
+    /**
+     * The event (which may be replaced when coalescing events).
+     */
+    private Object event;
+    /**
+     * The point of time (as returned by {@link System#nanoTime()}) at which the event was
+     * published.
+     */
+    private final long publishTime;
+
+    PendingEvent(Object event, long publishTime) {
+      this.event = event;
+      this.publishTime = publishTime;
+    }
+  }
+
+  /**
+   * Queues the events for a single subscriber and delivers them.
+   */
+  private class SubscriberQueue
+      implements Runnable {
+
+    /**
+     * The subscriber.
+     */
+    private final EventHandler subscriber;
+    /**
+     * The events waiting to be delivered.
+     */
+    private final Deque<PendingEvent> events = new ArrayDeque<>();
+    /**
+     * The waiting events that may be merged with subsequent events, mapped by object name.
+     */
+    private final Map<String, PendingEvent> coalescableEvents = new HashMap<>();
+    /**
+     * Indicates whether events are currently being delivered or about to be delivered.
+     */
+    private boolean delivering;
+    /**
+     * Indicates whether the subscriber has unsubscribed.
+     */
+    private boolean closed;
+    /**
+     * The maximum number of events that have been waiting at the same time.
+     */
+    private int maxQueueLength;
+    /**
+     * The number of events delivered.
+     */
+    private long deliveredEvents;
+    /**
+     * The number of superseded object modification events discarded because the queue was
+     * full.
+     */
+    private long droppedEvents;
+    /**
+     * The number of discarded events at the time of the last warning about discarded events.
+     */
+    private long droppedEventsWarned;
+    /**
+     * The point of time (as returned by {@link System#nanoTime()}) of the last warning about
+     * discarded events.
+     */
+    private long lastDropWarningTime;
+    /**
+     * The number of events merged with waiting events.
+     */
+    private long coalescedEvents;
+    /**
+     * The number of events published.
+     */
+    private long publishedEvents;
+    /**
+     * The sum of the times (in nanoseconds) spent on enqueuing events.
+     */
+    private long totalPublishLatency;
+    /**
+     * The maximum time (in nanoseconds) spent on enqueuing an event.
+     */
+    private long maxPublishLatency;
+    /**
+     * The sum of the times (in nanoseconds) between publishing and delivering events.
+     */
+    private long totalDeliveryDelay;
+    /**
+     * The maximum time (in nanoseconds) between publishing and delivering an event.
+     */
+    private long maxDeliveryDelay;
+
+    SubscriberQueue(EventHandler subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    synchronized void enqueue(Object event) {
+      long publishTime = System.nanoTime();
+      if (closed) {
+        return;
+      }
+
+      PendingEvent pendingEvent = new PendingEvent(event, publishTime);
+      if (events.size() >= queueCapacity && !handleOverflow(pendingEvent)) {
+        recordPublishLatency(publishTime);
+        return;
+      }
+
+      events.add(pendingEvent);
+      if (isCoalescable(pendingEvent.event)) {
+        coalescableEvents.put(objectName(event), pendingEvent);
+      }
+      else if (event instanceof TCSObjectEvent) {
+        // Never merge events across the creation or removal of an object.
+        coalescableEvents.remove(objectName(event));
+      }
+      maxQueueLength = Math.max(maxQueueLength, events.size());
+      recordPublishLatency(publishTime);
+
+      if (!delivering) {
+        delivering = true;
+        try {
+          deliveryExecutor.execute(this);
+        }
+        catch (RejectedExecutionException exc) {
+          LOG.warn("Could not schedule delivery of events to {}", subscriber, exc);
+          delivering = false;
+        }
+      }
+    }
+
+    synchronized void close() {
+      closed = true;
+      events.clear();
+      coalescableEvents.clear();
+      notifyAll();
+    }
+
+    synchronized SubscriberStatistics getStatistics() {
+      return new SubscriberStatistics(
+          subscriber.toString(),
+          events.size(),
+          maxQueueLength,
+          deliveredEvents,
+          droppedEvents,
+          coalescedEvents,
+          publishedEvents == 0 ? 0 : toMicros(totalPublishLatency / publishedEvents),
+          toMicros(maxPublishLatency),
+          deliveredEvents == 0 ? 0 : toMicros(totalDeliveryDelay / deliveredEvents),
+          toMicros(maxDeliveryDelay)
+      );
+    }
+
+    @Override
+    public void run() {
+      for (int i = 0; i < MAX_EVENTS_PER_TURN; i++) {
+        PendingEvent pendingEvent = nextEvent();
+        if (pendingEvent == null) {
+          return;
+        }
+
+        try {
+          subscriber.onEvent(pendingEvent.event);
+        }
+        catch (RuntimeException exc) {
+          LOG.warn("Exception thrown by event handler {}", subscriber, exc);
+        }
+      }
+
+      synchronized (this) {
+        if (events.isEmpty() || closed) {
+          delivering = false;
+          return;
+        }
+        try {
+          // Continue with the remaining events in a later turn.
+          deliveryExecutor.execute(this);
+        }
+        catch (RejectedExecutionException exc) {
+          LOG.warn("Could not schedule delivery of events to {}", subscriber, exc);
+          delivering = false;
+        }
+      }
+    }
+
+    /**
+     * Handles an event published while the queue is full.
+     *
+     * @param published The published event.
+     * @return {@code true} if the event is to be added to the queue, {@code false} if it has been
+     * dealt with otherwise.
+     */
+    private boolean handleOverflow(PendingEvent published) {
+      switch (overflowPolicy) {
+        case BLOCK:
+          return awaitRoom(published);
+        case COALESCE_BY_OBJECT_NAME:
+          if (coalesce(published.event)) {
+            return false;
+          }
+          dropSupersededModification(published);
+          return true;
+        case DROP_OLDEST:
+        default:
+          dropSupersededModification(published);
+          return true;
+      }
+    }
+
+    private boolean awaitRoom(PendingEvent published) {
+      try {
+        while (events.size() >= queueCapacity && !closed) {
+          wait();
+        }
+        return !closed;
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting for room in queue of {}.", subscriber);
+        if (closed) {
+          return false;
+        }
+        dropSupersededModification(published);
+        return true;
+      }
+    }
+
+    /**
+     * Discards the oldest waiting object modification event that is superseded by a subsequent
+     * modification event for the same object, considering the waiting events and the published
+     * one. The previous object state of the discarded event is carried over to the subsequent
+     * event. Modification events are not considered superseded by modification events following the
+     * creation or removal of the same object.
+     * <p>
+     * If there is no such event, nothing is discarded and the queue's capacity will be exceeded.
+     * </p>
+     *
+     * @param published The published event.
+     */
+    private void dropSupersededModification(PendingEvent published) {
+      // The closest subsequent modification event, mapped by object name.
+      Map<String, PendingEvent> subsequentModifications = new HashMap<>();
+      trackSubsequentModification(subsequentModifications, published);
+
+      PendingEvent superseded = null;
+      PendingEvent superseding = null;
+      for (Iterator<PendingEvent> iter = events.descendingIterator(); iter.hasNext();) {
+        PendingEvent pendingEvent = iter.next();
+        if (isModification(pendingEvent.event)) {
+          PendingEvent subsequent = subsequentModifications.get(objectName(pendingEvent.event));
+          if (subsequent != null) {
+            superseded = pendingEvent;
+            superseding = subsequent;
+          }
+        }
+        trackSubsequentModification(subsequentModifications, pendingEvent);
+      }
+
+      if (superseded == null) {
+        LOG.debug("Queue of {} is full and has no events that could be dropped, "
+            + "exceeding capacity.",
+                  subscriber);
+        return;
+      }
+
+      events.removeFirstOccurrence(superseded);
+      forgetCoalescable(superseded);
+      superseding.event
+          = new TCSObjectEvent(((TCSObjectEvent) superseding.event).getCurrentObjectState(),
+                               ((TCSObjectEvent) superseded.event).getPreviousObjectState(),
+                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+      recordDrop();
+    }
+
+    private void trackSubsequentModification(Map<String, PendingEvent> subsequentModifications,
+                                             PendingEvent pendingEvent) {
+      if (isModification(pendingEvent.event)) {
+        subsequentModifications.put(objectName(pendingEvent.event), pendingEvent);
+      }
+      else if (pendingEvent.event instanceof TCSObjectEvent) {
+        // Never merge events across the creation or removal of an object.
+        subsequentModifications.remove(objectName(pendingEvent.event));
+      }
+    }
+
+    private boolean coalesce(Object event) {
+      if (!isCoalescable(event)) {
+        return false;
+      }
+
+      PendingEvent pendingEvent = coalescableEvents.get(objectName(event));
+      if (pendingEvent == null) {
+        return false;
+      }
+
+      pendingEvent.event
+          = new TCSObjectEvent(((TCSObjectEvent) event).getCurrentObjectState(),
+                               ((TCSObjectEvent) pendingEvent.event).getPreviousObjectState(),
+                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+      coalescedEvents++;
+      return true;
+    }
+
+    private void recordDrop() {
+      droppedEvents++;
+
+      // Warn at most once per interval, as events are usually dropped in bulk under load.
+      long now = System.nanoTime();
+      if (droppedEventsWarned == 0 || now - lastDropWarningTime >= DROP_WARNING_INTERVAL) {
+        LOG.warn("Queue of {} is full, dropped {} superseded modification events since the last "
+            + "warning ({} in total).",
+                 subscriber,
+                 droppedEvents - droppedEventsWarned,
+                 droppedEvents);
+        droppedEventsWarned = droppedEvents;
+        lastDropWarningTime = now;
+      }
+    }
+
+    private synchronized PendingEvent nextEvent() {
+      PendingEvent pendingEvent = events.poll();
+      if (pendingEvent == null) {
+        delivering = false;
+        return null;
+      }
+      forgetCoalescable(pendingEvent);
+      notifyAll();
+
+      long delay = System.nanoTime() - pendingEvent.publishTime;
+      totalDeliveryDelay += delay;
+      maxDeliveryDelay = Math.max(maxDeliveryDelay, delay);
+      deliveredEvents++;
+      return pendingEvent;
+    }
+
+    private void forgetCoalescable(PendingEvent pendingEvent) {
+      if (isCoalescable(pendingEvent.event)) {
+        coalescableEvents.remove(objectName(pendingEvent.event), pendingEvent);
+      }
+    }
+
+    private boolean isCoalescable(Object event) {
+      return overflowPolicy == OverflowPolicy.COALESCE_BY_OBJECT_NAME && isModification(event);
+    }
+
+    private boolean isModification(Object event) {
+      return event instanceof TCSObjectEvent
+          && ((TCSObjectEvent) event).getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+    }
+
+    private String objectName(Object event) {
+      return ((TCSObjectEvent) event).getCurrentOrPreviousObjectState().getName();
+    }
+
+    private void recordPublishLatency(long publishTime) {
+      long latency = System.nanoTime() - publishTime;
+      publishedEvents++;
+      totalPublishLatency += latency;
+      maxPublishLatency = Math.max(maxPublishLatency, latency);
+    }
+
+    private long toMicros(long nanos) {
+      return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+  }
+}
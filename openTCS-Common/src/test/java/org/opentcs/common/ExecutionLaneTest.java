@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ExecutionLane} and {@link ExecutionLanes}.
+ */
+public class ExecutionLaneTest {
+
+  private ScheduledExecutorService workerPool;
+
+  @BeforeEach
+  public void setUp() {
+    workerPool = new ScheduledThreadPoolExecutor(4);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    workerPool.shutdownNow();
+  }
+
+  @Test
+  public void executeTasksInSubmissionOrder()
+      throws InterruptedException {
+    ExecutionLane lane = new ExecutionLane("lane", workerPool);
+    List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> expected = new ArrayList<>();
+
+    for (int i = 0; i < 100; i++) {
+      int taskNumber = i;
+      expected.add(taskNumber);
+      lane.execute(() -> executed.add(taskNumber));
+    }
+    lane.shutdown();
+
+    assertThat(lane.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    assertThat(executed, is(expected));
+    assertThat(lane.getExecutedTasks(), is(100L));
+  }
+
+  @Test
+  public void neverExecuteTasksOfOneLaneConcurrently()
+      throws InterruptedException {
+    ExecutionLane lane = new ExecutionLane("lane", workerPool);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    for (int i = 0; i < 200; i++) {
+      lane.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.yield();
+        running.decrementAndGet();
+      });
+    }
+    lane.shutdown();
+
+    assertThat(lane.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    assertThat(maxRunning.get(), is(1));
+  }
+
+  @Test
+  public void executeTasksOfDifferentLanesConcurrently()
+      throws InterruptedException {
+    ExecutionLane lane1 = new ExecutionLane("lane1", workerPool);
+    ExecutionLane lane2 = new ExecutionLane("lane2", workerPool);
+    CountDownLatch bothRunning = new CountDownLatch(2);
+    CountDownLatch done = new CountDownLatch(2);
+
+    Runnable task = () -> {
+      bothRunning.countDown();
+      try {
+        if (bothRunning.await(5, TimeUnit.SECONDS)) {
+          done.countDown();
+        }
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    lane1.execute(task);
+    lane2.execute(task);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void continueAfterFailedTask()
+      throws InterruptedException {
+    ExecutionLane lane = new ExecutionLane("lane", workerPool);
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    lane.execute(() -> {
+      throw new IllegalStateException("Expected exception");
+    });
+    lane.execute(() -> executed.add("second"));
+    lane.shutdown();
+
+    assertThat(lane.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    assertThat(executed, contains("second"));
+  }
+
+  @Test
+  public void executeDelayedTaskInLane()
+      throws Exception {
+    ExecutionLane lane = new ExecutionLane("lane", workerPool);
+
+    assertThat(lane.schedule(() -> "result", 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS),
+               is("result"));
+  }
+
+  @Test
+  public void useFallbackExecutorIfLanesDisabled() {
+    ExecutionLanes lanes = new ExecutionLanes(workerPool);
+
+    assertThat(lanes.isEnabled(), is(false));
+    assertThat(lanes.getLane("some lane"), is(sameInstance(workerPool)));
+  }
+
+  @Test
+  public void provideOneLanePerName() {
+    ExecutionLanes lanes = new ExecutionLanes(workerPool, workerPool);
+
+    assertThat(lanes.isEnabled(), is(true));
+    assertThat(lanes.getLane("lane1"), is(sameInstance(lanes.getLane("lane1"))));
+    assertThat(lanes.getLane("lane1") == lanes.getLane("lane2"), is(false));
+  }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link AsyncEventBus}.
+ */
+public class AsyncEventBusTest {
+
+  /**
+   * The delivery tasks submitted to the executor, executed only when the test says so.
+   */
+  private List<Runnable> deliveryTasks;
+  private List<Object> receivedEvents;
+
+  @BeforeEach
+  public void setUp() {
+    // Delivery tasks may be submitted by other (publishing) threads.
+    deliveryTasks = Collections.synchronizedList(new ArrayList<>());
+    receivedEvents = new ArrayList<>();
+  }
+
+  @Test
+  public void deliverEventsAsynchronouslyInPublishingOrder() {
+    AsyncEventBus eventBus = createEventBus(10, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+
+    eventBus.onEvent("event1");
+    eventBus.onEvent("event2");
+    assertThat(receivedEvents, is(empty()));
+
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, contains("event1", "event2"));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDeliveredEvents(), is(2L));
+  }
+
+  @Test
+  public void dropOldestSupersededModificationEventOnOverflow() {
+    AsyncEventBus eventBus = createEventBus(2, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    Point point1 = new Point("point1");
+    Point point2V1 = new Point("point2");
+    Point point2V2 = point2V1.withProperty("key", "value2");
+    Point point2V3 = point2V1.withProperty("key", "value3");
+    TCSObjectEvent event1 = modification(point1, point1);
+
+    eventBus.onEvent(event1);
+    eventBus.onEvent(modification(point2V2, point2V1));
+    eventBus.onEvent(modification(point2V3, point2V2));
+    runDeliveryTasks();
+
+    // The modification of point1 is older, but it is the latest one for that object.
+    assertThat(receivedEvents, hasSize(2));
+    assertThat(receivedEvents.get(0), is(event1));
+    TCSObjectEvent mergedEvent = (TCSObjectEvent) receivedEvents.get(1);
+    assertThat(mergedEvent.getPreviousObjectState(), is(point2V1));
+    assertThat(mergedEvent.getCurrentObjectState().getProperty("key"), is("value3"));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(1L));
+  }
+
+  @Test
+  public void neverDropLatestModificationOfObjectOnOverflow() {
+    AsyncEventBus eventBus = createEventBus(2, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    TCSObjectEvent event1 = modification(new Point("point1"), new Point("point1"));
+    TCSObjectEvent event3 = modification(new Point("point3"), new Point("point3"));
+
+    eventBus.onEvent(event1);
+    eventBus.onEvent("event2");
+    eventBus.onEvent(event3);
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, contains(event1, "event2", event3));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(0L));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getMaxQueueLength(), is(3));
+  }
+
+  @Test
+  public void neverDropModificationsAcrossRemovalOfObjectOnOverflow() {
+    AsyncEventBus eventBus = createEventBus(3, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    Point point = new Point("point1");
+    TCSObjectEvent modification1 = modification(point, point);
+    TCSObjectEvent removal = new TCSObjectEvent(null, point, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent creation = new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modification2 = modification(point, point);
+
+    eventBus.onEvent(modification1);
+    eventBus.onEvent(removal);
+    eventBus.onEvent(creation);
+    eventBus.onEvent(modification2);
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, contains(modification1, removal, creation, modification2));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(0L));
+  }
+
+  @Test
+  public void neverDropOtherEventsOnOverflow() {
+    AsyncEventBus eventBus
+        = createEventBus(2, AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT_NAME);
+    Point point = new Point("point1");
+    TCSObjectEvent creation
+        = new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent removal
+        = new TCSObjectEvent(null, point, TCSObjectEvent.Type.OBJECT_REMOVED);
+
+    eventBus.onEvent(creation);
+    eventBus.onEvent("event1");
+    eventBus.onEvent(removal);
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, contains(creation, "event1", removal));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(0L));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getMaxQueueLength(), is(3));
+  }
+
+  @Test
+  public void blockPublisherUntilQueueHasRoom()
+      throws InterruptedException {
+    AsyncEventBus eventBus = createEventBus(1, AsyncEventBus.OverflowPolicy.BLOCK);
+    eventBus.onEvent("event1");
+
+    Thread publisher = new Thread(() -> eventBus.onEvent("event2"));
+    publisher.start();
+    awaitState(publisher, Thread.State.WAITING);
+    assertThat(receivedEvents, is(empty()));
+
+    // Delivering the first event makes room for the second one.
+    runDeliveryTasks();
+    publisher.join(5000);
+    assertThat(publisher.isAlive(), is(false));
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, contains("event1", "event2"));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getDroppedEvents(), is(0L));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getMaxQueueLength(), is(1));
+  }
+
+  @Test
+  public void coalesceModificationsOfSameObjectOnOverflow() {
+    AsyncEventBus eventBus
+        = createEventBus(2, AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT_NAME);
+    Point pointV1 = new Point("point1");
+    Point pointV2 = pointV1.withProperty("key", "value2");
+    Point pointV3 = pointV1.withProperty("key", "value3");
+
+    eventBus.onEvent(modification(pointV2, pointV1));
+    eventBus.onEvent("event2");
+    eventBus.onEvent(modification(pointV3, pointV2));
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, hasSize(2));
+    TCSObjectEvent coalescedEvent = (TCSObjectEvent) receivedEvents.get(0);
+    assertThat(coalescedEvent.getPreviousObjectState(), is(pointV1));
+    assertThat(coalescedEvent.getCurrentObjectState().getProperty("key"), is("value3"));
+    assertThat(receivedEvents.get(1), is("event2"));
+    assertThat(eventBus.getSubscriberStatistics().get(0).getCoalescedEvents(), is(1L));
+  }
+
+  @Test
+  public void stopDeliveringEventsAfterUnsubscribing() {
+    AsyncEventBus eventBus = new AsyncEventBus(deliveryTasks::add,
+                                               10,
+                                               AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    EventHandler subscriber = receivedEvents::add;
+    eventBus.subscribe(subscriber);
+
+    eventBus.onEvent("event1");
+    eventBus.unsubscribe(subscriber);
+    runDeliveryTasks();
+
+    assertThat(receivedEvents, is(empty()));
+    assertThat(eventBus.getSubscriberStatistics(), is(empty()));
+  }
+
+  private AsyncEventBus createEventBus(int queueCapacity,
+                                       AsyncEventBus.OverflowPolicy overflowPolicy) {
+    AsyncEventBus eventBus = new AsyncEventBus(deliveryTasks::add, queueCapacity, overflowPolicy);
+    eventBus.subscribe(receivedEvents::add);
+    return eventBus;
+  }
+
+  private TCSObjectEvent modification(Point currentState, Point previousState) {
+    return new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private void awaitState(Thread thread, Thread.State state)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (thread.getState() != state) {
+      assertThat("Thread did not reach state " + state,
+                 System.currentTimeMillis() < deadline,
+                 is(true));
+      Thread.sleep(10);
+    }
+  }
+
+  private void runDeliveryTasks() {
+    while (!deliveryTasks.isEmpty()) {
+      deliveryTasks.remove(0).run();
+    }
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.kernel.extensions.servicewebapi;
 
 import javax.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.kernel.extensions.servicewebapi.v1.StatusEventDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,9 @@ public class ServiceWebApiModule
 
     bind(ServiceWebApiConfiguration.class)
         .toInstance(configuration);
+    // The request handler and the event streamer need to share the events collected.
+    bind(StatusEventDispatcher.class)
+        .in(Singleton.class);
 
     extensionsBinderAllModes().addBinding()
         .to(ServiceWebApi.class)
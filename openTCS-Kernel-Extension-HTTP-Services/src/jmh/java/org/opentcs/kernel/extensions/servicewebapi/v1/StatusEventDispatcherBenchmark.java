@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Measures the time it takes the {@link StatusEventDispatcher} to process an object event on the
+ * kernel's event thread, with and without clients concurrently reading the collected events.
+ * <p>
+ * To keep up with 10,000 events per second, processing an event must take considerably less than
+ * 100 microseconds on average.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusEventDispatcherBenchmark {
+
+  /**
+   * The maximum number of status events to be kept.
+   */
+  @Param({"1000", "10000"})
+  public int statusEventsCapacity;
+
+  private StatusEventDispatcher statusEventDispatcher;
+  private TCSObjectEvent[] objectEvents;
+  private int eventIndex;
+
+  @Setup
+  public void setUp() {
+    statusEventDispatcher = new StatusEventDispatcher(new Configuration(statusEventsCapacity),
+                                                      new SimpleEventBus());
+    statusEventDispatcher.initialize();
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    objectEvents = new TCSObjectEvent[100];
+    for (int i = 0; i < objectEvents.length; i++) {
+      Vehicle vehicle = new Vehicle("Vehicle-" + i);
+      objectEvents[i] = new TCSObjectEvent(vehicle.withEnergyLevel(50),
+                                           vehicle,
+                                           TCSObjectEvent.Type.OBJECT_MODIFIED);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    statusEventDispatcher.terminate();
+  }
+
+  @Benchmark
+  @Group("publish")
+  @GroupThreads(1)
+  public void publishWithoutReaders() {
+    publish();
+  }
+
+  @Benchmark
+  @Group("publishWhileReading")
+  @GroupThreads(1)
+  public void publishWithReaders() {
+    publish();
+  }
+
+  @Benchmark
+  @Group("publishWhileReading")
+  @GroupThreads(4)
+  public List<StatusMessage> read(ReaderState readerState) {
+    List<StatusMessage> messages
+        = statusEventDispatcher.fetchEvents(readerState.nextSequenceNo, Long.MAX_VALUE, 1)
+            .getStatusMessages();
+    if (!messages.isEmpty()) {
+      readerState.nextSequenceNo = messages.get(messages.size() - 1).getSequenceNumber() + 1;
+    }
+    return messages;
+  }
+
+  private void publish() {
+    statusEventDispatcher.onEvent(objectEvents[eventIndex]);
+    eventIndex = (eventIndex + 1) % objectEvents.length;
+  }
+
+  /**
+   * The state of a reader.
+   */
+  @State(Scope.Thread)
+  public static class ReaderState {
+
+    /**
+     * The sequence number of the next event to be read.
+     */
+    private long nextSequenceNo;
+  }
+
+  /**
+   * A configuration with a fixed capacity for status events.
+   */
+  private static class Configuration
+      implements ServiceWebApiConfiguration {
+
+    private final int statusEventsCapacity;
+
+    Configuration(int statusEventsCapacity) {
+      this.statusEventsCapacity = statusEventsCapacity;
+    }
+
+    @Override
+    public boolean enable() {
+      return true;
+    }
+
+    @Override
+    public String bindAddress() {
+      return "127.0.0.1";
+    }
+
+    @Override
+    public int bindPort() {
+      return 55200;
+    }
+
+    @Override
+    public String accessKey() {
+      return "";
+    }
+
+    @Override
+    public int statusEventsCapacity() {
+      return statusEventsCapacity;
+    }
+
+    @Override
+    public boolean useSsl() {
+      return false;
+    }
+  }
+}
@@ -11,7 +11,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v1.OrderHandler;
-import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchItemRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
 
 import javax.inject.Inject;
@@ -170,14 +170,15 @@ public class HeLiHandler {
     String orderPrefixName = "-fsy-"+UUID.randomUUID();
     Random random1 = new Random();
     Random random2 = new Random();
+    List<PostTransportOrderBatchItemRequestTO> orders = new ArrayList<>();
     for (Integer i = 0; i < orderNum; i++) {
       int startLocationNum = random1.nextInt(locations.size()) + 1;
       int endLocationNum = random2.nextInt(locations.size()) + 1;
       String startLocationName = locations.stream().skip(startLocationNum - 1).findFirst().get().getName();
       String endLocationName = locations.stream().skip(endLocationNum - 1).findFirst().get().getName();
-      PostTransportOrderRequestTO postTransportOrderRequestTO = createTestTransportOrderRequestTO(startLocationName,endLocationName);
-      orderHandler.createOrder(i+orderPrefixName,postTransportOrderRequestTO);
+      orders.add(createTestTransportOrderRequestTO(i+orderPrefixName,startLocationName,endLocationName));
     }
+    orderHandler.createOrders(orders, false);
   }
 
   /**
@@ -193,6 +194,7 @@ public class HeLiHandler {
     String orderPrefixName = "-fsy-"+UUID.randomUUID();
     Random random1 = new Random();
     Random random2 = new Random();
+    List<PostTransportOrderBatchItemRequestTO> orders = new ArrayList<>();
     for (Integer i = 0; i < orderNum; i++) {
       if(locations.size()==0)
         break;
@@ -200,14 +202,14 @@ public class HeLiHandler {
       int endLocationNum = endSIndex+random2.nextInt(endEIndex-endSIndex)+1;
       String startLocationName = locations.stream().filter(location -> startLocationNum == Integer.parseInt(location.getName().split("-")[1])).findFirst().get().getName();
       String endLocationName = locations.stream().filter(location -> endLocationNum == Integer.parseInt(location.getName().split("-")[1])).findFirst().get().getName();
-      PostTransportOrderRequestTO postTransportOrderRequestTO = createTestTransportOrderRequestTO(startLocationName,endLocationName);
-      orderHandler.createOrder(i+orderPrefixName,postTransportOrderRequestTO);
+      orders.add(createTestTransportOrderRequestTO(i+orderPrefixName,startLocationName,endLocationName));
     }
+    orderHandler.createOrders(orders, false);
   }
 
-  private PostTransportOrderRequestTO createTestTransportOrderRequestTO(String startLocationName, String endLocationName)
+  private PostTransportOrderBatchItemRequestTO createTestTransportOrderRequestTO(String name, String startLocationName, String endLocationName)
   {
-    PostTransportOrderRequestTO postTransportOrderRequestTO = new PostTransportOrderRequestTO();
+    PostTransportOrderBatchItemRequestTO postTransportOrderRequestTO = new PostTransportOrderBatchItemRequestTO().setName(name);
     Destination startDestination = new Destination();
     startDestination.setLocationName(startLocationName);
     startDestination.setOperation("load");
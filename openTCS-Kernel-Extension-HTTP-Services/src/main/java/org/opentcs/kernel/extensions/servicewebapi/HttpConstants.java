@@ -24,4 +24,12 @@ public interface HttpConstants {
    * Content type for JSON structures.
    */
   String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
+  /**
+   * Content type for newline-delimited JSON structures.
+   */
+  String CONTENT_TYPE_APPLICATION_NDJSON_UTF8 = "application/x-ndjson; charset=utf-8";
+  /**
+   * Content type for Server-Sent Events.
+   */
+  String CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8 = "text/event-stream; charset=utf-8";
 }
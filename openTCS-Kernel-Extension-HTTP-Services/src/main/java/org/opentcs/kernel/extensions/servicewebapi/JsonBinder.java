@@ -7,11 +7,17 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
 
 /**
  * Binds JSON strings to objects and vice versa.
@@ -24,7 +30,16 @@ public class JsonBinder {
   private final ObjectMapper objectMapper
       = new ObjectMapper()
           .registerModule(new JavaTimeModule())
-          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  /**
+   * Writes compact JSON representations of objects.
+   */
+  private final ObjectWriter compactWriter = objectMapper.writer();
+  /**
+   * Writes pretty-printed JSON representations of objects.
+   */
+  private final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
 
   /**
    * Creates a new instance.
@@ -54,7 +69,7 @@ public class JsonBinder {
   }
 
   /**
-   * Maps the given object to a JSON string.
+   * Maps the given object to a pretty-printed JSON string.
    *
    * @param object The object to be mapped.
    * @return The JSON string representation of the object.
@@ -63,10 +78,108 @@ public class JsonBinder {
    */
   public String toJson(Object object)
       throws IllegalStateException {
+    return toJson(object, true);
+  }
+
+  /**
+   * Maps the given object to a JSON string.
+   *
+   * @param object The object to be mapped.
+   * @param prettyPrint Whether the JSON string should be pretty-printed. If {@code false}, the
+   * JSON string is compact and does not span multiple lines.
+   * @return The JSON string representation of the object.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public String toJson(Object object, boolean prettyPrint)
+      throws IllegalStateException {
+    try {
+      return writer(prettyPrint).writeValueAsString(object);
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
+  /**
+   * Maps the given object to compact JSON, encoded in UTF-8.
+   *
+   * @param object The object to be mapped.
+   * @return The UTF-8 encoded JSON representation of the object.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public byte[] toJsonBytes(Object object)
+      throws IllegalStateException {
     try {
-      return objectMapper
-          .writerWithDefaultPrettyPrinter()
-          .writeValueAsString(object);
+      return compactWriter.writeValueAsBytes(object);
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
+  /**
+   * Writes the JSON representation of the given object to the given output stream, without
+   * building it in memory as a whole first.
+   * The output stream is not closed.
+   *
+   * @param object The object to be mapped.
+   * @param out The output stream to write to.
+   * @param prettyPrint Whether the JSON output should be pretty-printed.
+   * @throws IOException If writing to the output stream fails.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public void writeJson(Object object, OutputStream out, boolean prettyPrint)
+      throws IOException, IllegalStateException {
+    try {
+      writer(prettyPrint).writeValue(out, object);
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
+  /**
+   * Maps the given object to a JSON tree that contains only the given top-level fields.
+   * Requested fields the object does not have are ignored.
+   *
+   * @param object The object to be mapped.
+   * @param fields The names of the top-level fields to be retained.
+   * @return The JSON tree representation of the object, reduced to the given fields.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON or
+   * the object is not mapped to a JSON object.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public JsonNode toJsonObject(Object object, Set<String> fields)
+      throws IllegalStateException {
+    JsonNode node;
+    try {
+      node = objectMapper.valueToTree(object);
+    }
+    catch (IllegalArgumentException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+    if (!(node instanceof ObjectNode)) {
+      throw new IllegalStateException("Not mapped to a JSON object: " + object);
+    }
+    return ((ObjectNode) node).retain(fields);
+  }
+
+  /**
+   * Maps the given object to a JSON string that does not span multiple lines, e.g. for use with
+   * newline-delimited JSON.
+   *
+   * @param object The object to be mapped.
+   * @return The single-line JSON string representation of the object.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   * (An IllegalStateException is mapped to HTTP status code 500, indicating an internal error.)
+   */
+  public String toJsonLine(Object object)
+      throws IllegalStateException {
+    try {
+      return compactWriter.writeValueAsString(object);
     }
     catch (JsonProcessingException exc) {
       throw new IllegalStateException("Could not produce JSON output", exc);
@@ -85,8 +198,7 @@ public class JsonBinder {
   public String toJson(Throwable t)
       throws IllegalStateException {
     try {
-      return objectMapper
-          .writerWithDefaultPrettyPrinter()
+      return prettyWriter
           .writeValueAsString(objectMapper.createArrayNode().add(t.getMessage()));
     }
     catch (JsonProcessingException exc) {
@@ -94,4 +206,7 @@ public class JsonBinder {
     }
   }
 
+  private ObjectWriter writer(boolean prettyPrint) {
+    return prettyPrint ? prettyWriter : compactWriter;
+  }
 }
@@ -20,6 +20,7 @@ import org.opentcs.kernel.extensions.HeliWeb.heli.HeLiRequestHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.V1RequestHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import spark.Request;
 import spark.Service;
 
 /**
@@ -121,6 +122,15 @@ public class ServiceWebApi
       response.header("Access-Control-Allow-Origin", "*");
     });
 
+    // Compress response bodies if the client accepts it. (The actual compression is done by Spark
+    // when writing the body. Responses written directly to the output stream have already been
+    // committed at this point and are left alone.)
+    service.after((request, response) -> {
+      if (!response.raw().isCommitted() && acceptsGzip(request)) {
+        response.header("Content-Encoding", "gzip");
+      }
+    });
+
     // Reflect that we allow cross-origin requests for any headers and methods.
     service.options(
         "/*",
@@ -188,4 +198,9 @@ public class ServiceWebApi
     return initialized;
   }
 
+  private boolean acceptsGzip(Request request) {
+    String acceptEncoding = request.headers("Accept-Encoding");
+    return acceptEncoding != null && acceptEncoding.contains("gzip");
+  }
+
 }
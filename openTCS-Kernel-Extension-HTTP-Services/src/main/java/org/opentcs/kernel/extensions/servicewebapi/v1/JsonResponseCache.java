@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Caches the (compact) JSON representations of transport orders and vehicles as provided in
+ * responses, so that unchanged objects do not have to be mapped and serialized again for every
+ * request.
+ * <p>
+ * As objects are immutable, a cached representation is valid as long as it was created for the
+ * very object instance requested. Representations of modified or removed objects are dropped when
+ * the corresponding object events are received.
+ * Representations are only stored for instances that are still held by the kernel, as requests may
+ * be processed with instances fetched before they were modified or removed (and before the
+ * corresponding event was received).
+ * </p>
+ */
+public class JsonResponseCache
+    implements Lifecycle,
+               EventHandler {
+
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Provides the current instances of objects.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Binds JSON data to objects and vice versa.
+   */
+  private final JsonBinder jsonBinder;
+  /**
+   * The cached representations, mapped by the references to the objects they represent.
+   */
+  private final Map<TCSObjectReference<?>, CachedJson> entries = new ConcurrentHashMap<>();
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where we register for application events.
+   * @param objectService Provides the current instances of objects.
+   * @param jsonBinder Binds JSON data to objects and vice versa.
+   */
+  @Inject
+  public JsonResponseCache(@ApplicationEventBus EventSource eventSource,
+                           TCSObjectService objectService,
+                           JsonBinder jsonBinder) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    entries.clear();
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (event instanceof KernelStateTransitionEvent) {
+      // The objects of a (re)loaded model are different ones, anyway.
+      entries.clear();
+    }
+    else if (event instanceof TCSObjectEvent) {
+      TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+      if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_CREATED) {
+        entries.remove(objectEvent.getCurrentOrPreviousObjectState().getReference());
+      }
+    }
+  }
+
+  /**
+   * Returns the JSON representation of the given transport order.
+   *
+   * @param order The transport order.
+   * @return The UTF-8 encoded JSON representation of the transport order, as provided by a
+   * {@link GetTransportOrderResponseTO}.
+   */
+  @Nonnull
+  public byte[] getJson(@Nonnull TransportOrder order) {
+    return getJson(order, TransportOrder.class, GetTransportOrderResponseTO::fromTransportOrder);
+  }
+
+  /**
+   * Returns the JSON representation of the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @return The UTF-8 encoded JSON representation of the vehicle, as provided by a
+   * {@link GetVehicleResponseTO}.
+   */
+  @Nonnull
+  public byte[] getJson(@Nonnull Vehicle vehicle) {
+    return getJson(vehicle, Vehicle.class, GetVehicleResponseTO::fromVehicle);
+  }
+
+  private <T extends TCSObject<T>> byte[] getJson(T object,
+                                                  Class<T> clazz,
+                                                  Function<T, ?> transferObjectMapper) {
+    requireNonNull(object, "object");
+
+    CachedJson cached = entries.get(object.getReference());
+    if (cached != null && cached.object == object) {
+      return cached.json;
+    }
+
+    byte[] json = jsonBinder.toJsonBytes(transferObjectMapper.apply(object));
+    // Events for the object are emitted only after the kernel no longer holds this instance. If it
+    // still holds it here, an event dropping the entry will follow. Otherwise, the entry must not
+    // be stored, as it would never be dropped.
+    entries.compute(
+        object.getReference(),
+        (ref, existing) -> objectService.fetchObject(clazz, object.getReference()) == object
+        ? new CachedJson(object, json)
+        : existing
+    );
+    return json;
+  }
+
+  /**
+   * A cached JSON representation of an object.
+   */
+  private static class CachedJson {
+
+    /**
+     * The object instance the JSON representation was created for.
+     */
+    private final TCSObject<?> object;
+    /**
+     * The UTF-8 encoded JSON representation.
+     */
+    private final byte[] json;
+
+    CachedJson(TCSObject<?> object, byte[] json) {
+      this.object = object;
+      this.json = json;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
@@ -20,6 +21,7 @@ import javax.inject.Inject;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
@@ -40,6 +42,7 @@ import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchItemRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
@@ -107,23 +110,55 @@ public class OrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.isIncompleteName())
-            .withDispensable(order.isDispensable())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(dependencyNames(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withPeripheralReservationToken(order.getPeripheralReservationToken())
-            .withWrappingSequence(order.getWrappingSequence())
-            .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = transportOrderCreationTO(name, order);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createTransportOrder(to);
     });
   }
 
+  /**
+   * Creates the given transport orders with a single call via the kernel executor.
+   * <p>
+   * Transport orders that are malformed (e.g. lacking a name or destinations) are reported as
+   * failures in their results, without affecting the creation of the other transport orders.
+   * </p>
+   *
+   * @param orders The transport orders to be created.
+   * @param triggerDispatcher Whether to trigger the dispatcher after creating the transport orders.
+   * @return The creation results, one for each of the given transport orders, in the same order.
+   * @throws KernelRuntimeException In case there is an exception creating the transport orders.
+   */
+  public List<TransportOrderCreationResult> createOrders(
+      List<PostTransportOrderBatchItemRequestTO> orders,
+      boolean triggerDispatcher)
+      throws KernelRuntimeException {
+    requireNonNull(orders, "orders");
+
+    // The results, with null for every transport order still to be created.
+    List<TransportOrderCreationResult> results = new ArrayList<>(orders.size());
+    List<TransportOrderCreationTO> tos = new ArrayList<>(orders.size());
+    for (PostTransportOrderBatchItemRequestTO order : orders) {
+      try {
+        tos.add(transportOrderCreationTO(order.getName(), order));
+        results.add(null);
+      }
+      catch (IllegalArgumentException | NullPointerException exc) {
+        results.add(TransportOrderCreationResult.failure(exc));
+      }
+    }
+
+    return executorWrapper.callAndWait(() -> {
+      Iterator<TransportOrderCreationResult> creationResults
+          = orderService.createTransportOrders(tos).iterator();
+      results.replaceAll(result -> result == null ? creationResults.next() : result);
+      if (triggerDispatcher) {
+        dispatcherService.dispatch();
+      }
+      return results;
+    });
+  }
+
   public PeripheralJob createPeripheralJob(String name, PostPeripheralJobRequestTO job) {
     requireNonNull(name, "name");
     requireNonNull(job, "job");
@@ -293,6 +328,20 @@ public class OrderHandler {
     });
   }
 
+  private TransportOrderCreationTO transportOrderCreationTO(String name,
+                                                            PostTransportOrderRequestTO order) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.isIncompleteName())
+        .withDispensable(order.isDispensable())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(dependencyNames(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(order.getWrappingSequence())
+        .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
+        .withProperties(properties(order.getProperties()));
+  }
+
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * A page of objects taken from a listing of objects ordered by their {@link PageCursor}s.
+ *
+ * @param <T> The type of the objects.
+ */
+class Page<T> {
+
+  /**
+   * The objects on this page, in their listing order.
+   */
+  private final List<T> objects;
+  /**
+   * The cursor to request the next page with, or {@code null}, if this is the last page.
+   */
+  @Nullable
+  private final PageCursor nextCursor;
+
+  private Page(List<T> objects, @Nullable PageCursor nextCursor) {
+    this.objects = objects;
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Returns the page of the given objects that directly follows the given cursor.
+   * <p>
+   * Only the objects on the page are kept and sorted, so the costs for determining a small page
+   * from a large number of objects are roughly linear in the number of objects.
+   * </p>
+   *
+   * @param <T> The type of the objects.
+   * @param objects The (unordered) objects.
+   * @param cursorMapper Provides the cursor for an object, which determines its listing order.
+   * @param after The cursor the page is to follow, or {@code null} for the first page.
+   * @param limit The maximum number of objects on the page.
+   * @return The page.
+   */
+  @Nonnull
+  static <T> Page<T> of(@Nonnull Collection<T> objects,
+                        @Nonnull Function<? super T, PageCursor> cursorMapper,
+                        @Nullable PageCursor after,
+                        int limit) {
+    requireNonNull(objects, "objects");
+    requireNonNull(cursorMapper, "cursorMapper");
+    checkArgument(limit > 0, "limit must be greater than 0: %s", limit);
+
+    // Keep one object more than requested to tell whether there is a next page. The head of the
+    // queue is the last object in listing order, i.e. the one to be dropped first.
+    int capacity = (int) Math.min((long) limit + 1, (long) objects.size() + 1);
+    PriorityQueue<Entry<T>> entries = new PriorityQueue<>(capacity,
+                                                          Comparator.<Entry<T>>naturalOrder()
+                                                              .reversed());
+    for (T object : objects) {
+      PageCursor cursor = cursorMapper.apply(object);
+      if (after != null && cursor.compareTo(after) <= 0) {
+        continue;
+      }
+      if (entries.size() <= limit) {
+        entries.add(new Entry<>(object, cursor));
+      }
+      else if (cursor.compareTo(entries.peek().cursor) < 0) {
+        entries.poll();
+        entries.add(new Entry<>(object, cursor));
+      }
+    }
+
+    boolean hasNextPage = entries.size() > limit;
+    if (hasNextPage) {
+      entries.poll();
+    }
+
+    List<Entry<T>> sortedEntries = new ArrayList<>(entries);
+    sortedEntries.sort(Comparator.naturalOrder());
+    List<T> pageObjects = new ArrayList<>(sortedEntries.size());
+    for (Entry<T> entry : sortedEntries) {
+      pageObjects.add(entry.object);
+    }
+
+    return new Page<>(
+        pageObjects,
+        hasNextPage ? sortedEntries.get(sortedEntries.size() - 1).cursor : null
+    );
+  }
+
+  /**
+   * Returns the objects on this page, in their listing order.
+   *
+   * @return The objects on this page.
+   */
+  @Nonnull
+  public List<T> getObjects() {
+    return objects;
+  }
+
+  /**
+   * Returns the cursor to request the next page with.
+   *
+   * @return The cursor to request the next page with, or {@code null}, if this is the last page.
+   */
+  @Nullable
+  public PageCursor getNextCursor() {
+    return nextCursor;
+  }
+
+  /**
+   * An object along with its cursor.
+   *
+   * @param <T> The type of the object.
+   */
+  private static class Entry<T>
+      implements Comparable<Entry<T>> {
+
+    private final T object;
+
+    private final PageCursor cursor;
+
+    Entry(T object, PageCursor cursor) {
+      this.object = object;
+      this.cursor = cursor;
+    }
+
+    @Override
+    public int compareTo(Entry<T> other) {
+      return cursor.compareTo(other.cursor);
+    }
+  }
+}
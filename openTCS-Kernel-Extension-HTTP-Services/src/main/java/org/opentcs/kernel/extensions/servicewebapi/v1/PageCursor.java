@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Marks a position within a listing of objects that are ordered by their creation times and names.
+ * <p>
+ * A cursor refers to the last object of a page. The next page starts with the first object that
+ * is ordered after it.
+ * </p>
+ */
+class PageCursor
+    implements Comparable<PageCursor> {
+
+  /**
+   * Orders cursors by their creation times (with cursors without creation time first), then by
+   * their names.
+   */
+  private static final Comparator<PageCursor> ORDER
+      = Comparator.comparing((PageCursor cursor) -> cursor.creationTime,
+                             Comparator.nullsFirst(Comparator.naturalOrder()))
+          .thenComparing(cursor -> cursor.name);
+  /**
+   * Separates the creation time from the name in a cursor's encoded form.
+   */
+  private static final char SEPARATOR = '/';
+  /**
+   * The creation time of the object, or {@code null}, if objects are ordered by name only.
+   */
+  @Nullable
+  private final Instant creationTime;
+  /**
+   * The name of the object.
+   */
+  private final String name;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param creationTime The creation time of the object, or {@code null}, if objects are ordered
+   * by name only.
+   * @param name The name of the object.
+   */
+  PageCursor(@Nullable Instant creationTime, @Nonnull String name) {
+    this.creationTime = creationTime;
+    this.name = requireNonNull(name, "name");
+  }
+
+  /**
+   * Parses a cursor from its encoded form.
+   *
+   * @param encoded The encoded form, as created by {@link #encode()}.
+   * @return The cursor.
+   * @throws IllegalArgumentException If the given string is not a valid encoded cursor.
+   */
+  @Nonnull
+  static PageCursor parse(@Nonnull String encoded)
+      throws IllegalArgumentException {
+    requireNonNull(encoded, "encoded");
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Malformed cursor: " + encoded);
+      }
+      String time = decoded.substring(0, separatorIndex);
+      return new PageCursor(time.isEmpty() ? null : Instant.parse(time),
+                            decoded.substring(separatorIndex + 1));
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Malformed cursor: " + encoded, exc);
+    }
+  }
+
+  /**
+   * Returns the encoded form of this cursor, which is safe to be used in URLs.
+   *
+   * @return The encoded form of this cursor.
+   */
+  @Nonnull
+  String encode() {
+    String decoded = (creationTime == null ? "" : creationTime.toString()) + SEPARATOR + name;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public int compareTo(PageCursor other) {
+    return ORDER.compare(this, other);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof PageCursor)) {
+      return false;
+    }
+    PageCursor other = (PageCursor) obj;
+    return Objects.equals(creationTime, other.creationTime) && name.equals(other.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(creationTime, name);
+  }
+
+  @Override
+  public String toString() {
+    return "PageCursor{" + "creationTime=" + creationTime + ", name=" + name + '}';
+  }
+}
@@ -15,10 +15,12 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.services.PeripheralJobService;
 import org.opentcs.components.kernel.services.PeripheralService;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
@@ -52,6 +54,10 @@ public class RequestStatusHandler {
    * The service we use to fetch objects.
    */
   private final TransportOrderService orderService;
+  /**
+   * The service we use to fetch peripheral jobs.
+   */
+  private final PeripheralJobService jobService;
   /**
    * Used to update vehicle instances.
    */
@@ -66,16 +72,19 @@ public class RequestStatusHandler {
    *
    * @param peripheralService The service used to manage peripherals.
    * @param orderService The service we use to get the transport orders.
+   * @param jobService The service we use to get the peripheral jobs.
    * @param vehicleService Used to update vehicle instances.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
    */
   @Inject
   public RequestStatusHandler(PeripheralService peripheralService,
                               TransportOrderService orderService,
+                              PeripheralJobService jobService,
                               VehicleService vehicleService,
                               KernelExecutorWrapper executorWrapper) {
     this.peripheralService = requireNonNull(peripheralService, "peripheralService");
     this.orderService = requireNonNull(orderService, "orderService");
+    this.jobService = requireNonNull(jobService, "jobService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
   }
@@ -91,20 +100,44 @@ public class RequestStatusHandler {
   public List<GetTransportOrderResponseTO> getTransportOrdersState(
       @Nullable String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
-      if (intendedVehicle != null) {
-        Vehicle vehicle = orderService.fetchObject(Vehicle.class, intendedVehicle);
-        if (vehicle == null) {
-          throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-        }
-      }
+    return getTransportOrders(intendedVehicle).stream()
+        .map(order -> GetTransportOrderResponseTO.fromTransportOrder(order))
+        .collect(Collectors.toList());
+  }
 
-      return orderService.fetchObjects(TransportOrder.class,
-                                       new TransportOrderFilter(intendedVehicle))
-          .stream()
-          .map(order -> GetTransportOrderResponseTO.fromTransportOrder(order))
-          .collect(Collectors.toList());
-    });
+  /**
+   * Find all transport orders and filters depending on the given parameters.
+   *
+   * @param intendedVehicle The filter parameter for the name of the
+   * intended vehicle for the transport order. The filtering is disabled for this parameter if the
+   * value is null.
+   * @return A list of transport orders that match the filter.
+   */
+  public List<TransportOrder> getTransportOrders(@Nullable String intendedVehicle) {
+    return getTransportOrders(new TransportOrderFilter(intendedVehicle));
+  }
+
+  /**
+   * Finds all transport orders accepted by the given filter.
+   * <p>
+   * The transport orders are looked up via the kernel's indexes for the filter's vehicles and
+   * states, so only the remaining transport orders have to be tested by the filter.
+   * </p>
+   *
+   * @param filter The filter.
+   * @return A list of transport orders that match the filter.
+   * @throws ObjectUnknownException If a vehicle referenced by the filter does not exist.
+   */
+  public List<TransportOrder> getTransportOrders(@Nonnull TransportOrderFilter filter)
+      throws ObjectUnknownException {
+    requireNonNull(filter, "filter");
+
+    return List.copyOf(orderService.fetchTransportOrders(
+        filter.getStates(),
+        vehicleReference(filter.getIntendedVehicle()),
+        vehicleReference(filter.getProcessingVehicle()),
+        filter
+    ));
   }
 
   /**
@@ -201,25 +234,44 @@ public class RequestStatusHandler {
       @Nullable String relatedVehicle,
       @Nullable String relatedTransportOrder
   ) {
+    return getPeripheralJobs(new PeripheralJobFilter(relatedVehicle, relatedTransportOrder))
+        .stream()
+        .map(peripheralJob -> GetPeripheralJobResponseTO.fromPeripheralJob(peripheralJob))
+        .collect(Collectors.toList());
+  }
 
-    return executorWrapper.callAndWait(() -> {
-      // If a related vehicle or transport order is set, make sure they exist.
-      if (relatedVehicle != null
-          && orderService.fetchObject(Vehicle.class, relatedVehicle) == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
-      }
-      if (relatedTransportOrder != null
-          && orderService.fetchObject(TransportOrder.class, relatedTransportOrder) == null) {
-        throw new ObjectUnknownException("Unknown transport order: " + relatedTransportOrder);
+  /**
+   * Finds all peripheral jobs accepted by the given filter.
+   * <p>
+   * If the filter references a transport order, the peripheral jobs are looked up via the kernel's
+   * index for related transport orders, so only these peripheral jobs have to be tested by the
+   * filter.
+   * </p>
+   *
+   * @param filter The filter.
+   * @return A list of peripheral jobs that match the filter.
+   * @throws ObjectUnknownException If a vehicle or transport order referenced by the filter does
+   * not exist.
+   */
+  public List<PeripheralJob> getPeripheralJobs(@Nonnull PeripheralJobFilter filter)
+      throws ObjectUnknownException {
+    requireNonNull(filter, "filter");
+
+    // If a related vehicle or transport order is set, make sure they exist.
+    vehicleReference(filter.getRelatedVehicle());
+    TCSObjectReference<TransportOrder> relatedTransportOrder = null;
+    if (filter.getRelatedTransportOrder() != null) {
+      TransportOrder order = jobService.fetchObject(TransportOrder.class,
+                                                    filter.getRelatedTransportOrder());
+      if (order == null) {
+        throw new ObjectUnknownException(
+            "Unknown transport order: " + filter.getRelatedTransportOrder()
+        );
       }
+      relatedTransportOrder = order.getReference();
+    }
 
-      return orderService.fetchObjects(PeripheralJob.class,
-                                       new PeripheralJobFilter(relatedVehicle,
-                                                               relatedTransportOrder))
-          .stream()
-          .map(peripheralJob -> GetPeripheralJobResponseTO.fromPeripheralJob(peripheralJob))
-          .collect(Collectors.toList());
-    });
+    return List.copyOf(jobService.fetchPeripheralJobs(relatedTransportOrder, filter));
   }
 
   /**
@@ -249,12 +301,21 @@ public class RequestStatusHandler {
    * @return A list of vehicles, that match the filter.
    */
   public List<GetVehicleResponseTO> getVehiclesState(@Nullable String procState) {
+    return getVehicles(procState).stream()
+        .map(vehicle -> GetVehicleResponseTO.fromVehicle(vehicle))
+        .collect(Collectors.toList());
+  }
 
+  /**
+   * Find all vehicles and filters depending on the given parameters.
+   *
+   * @param procState The filter parameter for the processing state of the vehicle.
+   * The filtering is disabled for this parameter if the value is null.
+   * @return A list of vehicles, that match the filter.
+   */
+  public List<Vehicle> getVehicles(@Nullable String procState) {
     return executorWrapper.callAndWait(() -> {
-      return orderService.fetchObjects(Vehicle.class, new VehicleFilter(procState))
-          .stream()
-          .map(vehicle -> GetVehicleResponseTO.fromVehicle(vehicle))
-          .collect(Collectors.toList());
+      return List.copyOf(orderService.fetchObjects(Vehicle.class, new VehicleFilter(procState)));
     });
   }
 
@@ -430,4 +491,18 @@ public class RequestStatusHandler {
       orderService.markOrderSequenceComplete(orderSequence.getReference());
     });
   }
+
+  @Nullable
+  private TCSObjectReference<Vehicle> vehicleReference(@Nullable String name)
+      throws ObjectUnknownException {
+    if (name == null) {
+      return null;
+    }
+
+    Vehicle vehicle = orderService.fetchObject(Vehicle.class, name);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + name);
+    }
+    return vehicle.getReference();
+  }
 }
@@ -7,10 +7,7 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1;
 
-import java.util.Collection;
 import static java.util.Objects.requireNonNull;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import javax.inject.Inject;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
@@ -23,10 +20,6 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetEventsResponseTO;
-import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
-import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
-import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
-import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
 import static org.opentcs.util.Assertions.checkInRange;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
@@ -54,16 +47,14 @@ public class StatusEventDispatcher
   private final EventSource eventSource;
   /**
    * The events collected.
+   * Replaced whenever collecting of events is (re)started.
    */
-  private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
-  /**
-   * The number of events collected so far.
-   */
-  private long eventCount;
+  private volatile StatusEventRingBuffer events;
   /**
    * Whether this instance is initialized.
+   * Volatile as it is checked by threads streaming events.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
   /**
    * Whether we are collecting events.
    */
@@ -82,6 +73,7 @@ public class StatusEventDispatcher
       return;
     }
 
+    events = new StatusEventRingBuffer(eventsCapacity());
     eventSource.subscribe(this);
 
     initialized = true;
@@ -98,9 +90,12 @@ public class StatusEventDispatcher
       return;
     }
 
-    eventSource.unsubscribe(this);
-
+    // Mark this instance as terminated first, so threads streaming events stop as soon as closing
+    // the events wakes them up.
     initialized = false;
+
+    eventSource.unsubscribe(this);
+    events.close();
   }
 
   @Override
@@ -134,22 +129,28 @@ public class StatusEventDispatcher
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
 
     GetEventsResponseTO result = new GetEventsResponseTO();
-    synchronized (events) {
-      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      if (messages.isEmpty()) {
-        try {
-          events.wait(timeout);
-        }
-        catch (InterruptedException exc) {
-          LOG.warn("Unexpectedly interrupted", exc);
-        }
-      }
-      messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      result.getStatusMessages().addAll(messages);
+    try {
+      result.getStatusMessages().addAll(events.read(minSequenceNo, maxSequenceNo, timeout));
+    }
+    catch (InterruptedException exc) {
+      LOG.warn("Unexpectedly interrupted", exc);
+      Thread.currentThread().interrupt();
     }
     return result;
   }
 
+  /**
+   * Returns the sequence number the next event collected will be assigned.
+   * <p>
+   * Sequence numbers start at zero again whenever collecting of events is (re)started.
+   * </p>
+   *
+   * @return The sequence number the next event collected will be assigned.
+   */
+  public long getNextSequenceNumber() {
+    return events.getNextSequenceNumber();
+  }
+
   private void handleStateTransition(KernelStateTransitionEvent event) {
     boolean wasOn = eventCollectingOn;
     eventCollectingOn
@@ -157,58 +158,23 @@ public class StatusEventDispatcher
 
     // When switching collecting of events on, ensure we start clean.
     if (!wasOn && eventCollectingOn) {
-      synchronized (events) {
-        eventCount = 0;
-        events.clear();
-      }
+      StatusEventRingBuffer previousEvents = events;
+      events = new StatusEventRingBuffer(eventsCapacity());
+      previousEvents.close();
     }
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
-    }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
-    }
-    else if (object instanceof PeripheralJob) {
-      synchronized (events) {
-        addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
+    if (object instanceof TransportOrder
+        || object instanceof Vehicle
+        || object instanceof PeripheralJob) {
+      // Status messages are created lazily when read, keeping the event thread's work minimal.
+      events.publish(object);
     }
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(sequenceNumber, OrderStatusMessage.fromTransportOrder(order, sequenceNumber));
-  }
-
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(sequenceNumber, VehicleStatusMessage.fromVehicle(vehicle, sequenceNumber));
-  }
-
-  private void addPeripheralStatusMessage(PeripheralJob job, long sequenceNumber) {
-    events.put(sequenceNumber, PeripheralJobStatusMessage.fromPeripheralJob(job, sequenceNumber));
-  }
-
-  private void cleanUpEvents() {
-    // XXX Sanitize maxEventCount
-    int maxEventCount = configuration.statusEventsCapacity();
-    while (events.size() > maxEventCount) {
-      events.remove(events.firstKey());
-    }
+  private int eventsCapacity() {
+    return Math.max(1, configuration.statusEventsCapacity());
   }
 }
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Keeps the most recent status events in an array of fixed capacity, indexed by sequence number.
+ * <p>
+ * Events are published by a single thread without any locking; publishing an event overwrites the
+ * oldest one if the buffer is full. Any number of threads may read events concurrently.
+ * The status message for an event is only created when the event is read for the first time.
+ * </p>
+ */
+class StatusEventRingBuffer {
+
+  /**
+   * The events, with the event with sequence number {@code n} at index {@code n % capacity}.
+   */
+  private final AtomicReferenceArray<Event> events;
+  /**
+   * The maximum number of events kept.
+   */
+  private final int capacity;
+  /**
+   * The sequence number of the next event to be published.
+   */
+  private final AtomicLong nextSequenceNo = new AtomicLong();
+  /**
+   * Advances with every event published, allowing readers to wait for new events.
+   */
+  private final Phaser publications = new Phaser(1);
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of events kept.
+   */
+  StatusEventRingBuffer(int capacity) {
+    checkArgument(capacity > 0, "capacity must be greater than 0: %s", capacity);
+    this.capacity = capacity;
+    this.events = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Publishes an event for the given object.
+   * Must only be called by a single thread.
+   *
+   * @param object The object the event is about.
+   */
+  void publish(@Nonnull TCSObject<?> object) {
+    requireNonNull(object, "object");
+
+    long sequenceNo = nextSequenceNo.get();
+    events.set(index(sequenceNo), new Event(sequenceNo, object, Instant.now()));
+    nextSequenceNo.set(sequenceNo + 1);
+    publications.arrive();
+  }
+
+  /**
+   * Returns the sequence number the next event published will be assigned.
+   *
+   * @return The sequence number the next event published will be assigned.
+   */
+  long getNextSequenceNumber() {
+    return nextSequenceNo.get();
+  }
+
+  /**
+   * Returns the status messages for the events within the given range, waiting at most
+   * {@code timeout} milliseconds for new events if there currently aren't any.
+   *
+   * @param minSequenceNo The minimum sequence number (inclusive).
+   * @param maxSequenceNo The maximum sequence number (exclusive).
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @return The status messages for the events within the given range.
+   * @throws InterruptedException If the current thread was interrupted while waiting.
+   */
+  List<StatusMessage> read(long minSequenceNo, long maxSequenceNo, long timeout)
+      throws InterruptedException {
+    // Get the phase before reading, so events published in the meantime end the waiting.
+    int phase = publications.getPhase();
+    List<StatusMessage> result = read(minSequenceNo, maxSequenceNo);
+    if (!result.isEmpty() || timeout <= 0) {
+      return result;
+    }
+
+    try {
+      publications.awaitAdvanceInterruptibly(phase, timeout, TimeUnit.MILLISECONDS);
+    }
+    catch (TimeoutException exc) {
+      return result;
+    }
+    return read(minSequenceNo, maxSequenceNo);
+  }
+
+  /**
+   * Releases all threads waiting for new events.
+   */
+  void close() {
+    publications.forceTermination();
+  }
+
+  private List<StatusMessage> read(long minSequenceNo, long maxSequenceNo) {
+    long end = Math.min(maxSequenceNo, nextSequenceNo.get());
+    long start = Math.max(minSequenceNo, end - capacity);
+    List<StatusMessage> result = new ArrayList<>((int) Math.max(0, end - start));
+    for (long sequenceNo = start; sequenceNo < end; sequenceNo++) {
+      Event event = events.get(index(sequenceNo));
+      // Skip events that have been overwritten since determining the range.
+      if (event.sequenceNumber == sequenceNo) {
+        result.add(event.getStatusMessage());
+      }
+    }
+    return result;
+  }
+
+  private int index(long sequenceNo) {
+    return (int) (sequenceNo % capacity);
+  }
+
+  /**
+   * A published event.
+   */
+  private static class Event {
+
+    /**
+     * The event's sequence number.
+     */
+    private final long sequenceNumber;
+    /**
+     * The object the event is about.
+     */
+    private final TCSObject<?> object;
+    /**
+     * The point of time at which the event was published.
+     */
+    private final Instant creationTimeStamp;
+    /**
+     * The status message for the event, once it has been created.
+     */
+    private volatile StatusMessage statusMessage;
+
+    Event(long sequenceNumber, TCSObject<?> object, Instant creationTimeStamp) {
+      this.sequenceNumber = sequenceNumber;
+      this.object = object;
+      this.creationTimeStamp = creationTimeStamp;
+    }
+
+    StatusMessage getStatusMessage() {
+      // Concurrent readers may create the message more than once, but they create equal ones.
+      StatusMessage message = statusMessage;
+      if (message == null) {
+        message = createStatusMessage();
+        statusMessage = message;
+      }
+      return message;
+    }
+
+    private StatusMessage createStatusMessage() {
+      if (object instanceof TransportOrder) {
+        return OrderStatusMessage.fromTransportOrder((TransportOrder) object,
+                                                     sequenceNumber,
+                                                     creationTimeStamp);
+      }
+      else if (object instanceof Vehicle) {
+        return VehicleStatusMessage.fromVehicle((Vehicle) object,
+                                                sequenceNumber,
+                                                creationTimeStamp);
+      }
+      else if (object instanceof PeripheralJob) {
+        return PeripheralJobStatusMessage.fromPeripheralJob((PeripheralJob) object,
+                                                            sequenceNumber,
+                                                            creationTimeStamp);
+      }
+      throw new IllegalArgumentException("Unhandled object type: " + object.getClass());
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.function.Predicate;
+import javax.inject.Inject;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the status events collected by the {@link StatusEventDispatcher} to a client as
+ * Server-Sent Events.
+ * <p>
+ * Each status message is sent as an event with the message's sequence number as the event's ID, so
+ * a client reconnecting with the ID of the last event it received continues right after it.
+ * If a client falls behind so far that events it has not received yet are discarded due to the
+ * dispatcher's limited capacity, it is notified about the number of events it missed via an event
+ * named {@value #EVENT_NAME_EVENTS_DROPPED}, and streaming continues with the oldest event still
+ * available.
+ * A slow client thus only ever delays its own stream, never the collecting of events.
+ * </p>
+ */
+public class StatusEventStreamer {
+
+  /**
+   * The name of events notifying the client about status events it missed.
+   */
+  public static final String EVENT_NAME_EVENTS_DROPPED = "eventsDropped";
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(StatusEventStreamer.class);
+  /**
+   * Provides the status events.
+   */
+  private final StatusEventDispatcher statusEventDispatcher;
+  /**
+   * Binds JSON data to objects and vice versa.
+   */
+  private final JsonBinder jsonBinder;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param statusEventDispatcher Provides the status events.
+   * @param jsonBinder Binds JSON data to objects and vice versa.
+   */
+  @Inject
+  public StatusEventStreamer(StatusEventDispatcher statusEventDispatcher, JsonBinder jsonBinder) {
+    this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+    this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+  }
+
+  /**
+   * Writes status events to the given writer until writing fails (e.g. because the client closed
+   * the connection), the status event dispatcher is terminated or the current thread is
+   * interrupted.
+   *
+   * @param minSequenceNo The sequence number of the first event to be sent.
+   * @param filter Filters the events to be sent.
+   * @param keepAliveInterval The maximum time (in ms) to pass without anything being written.
+   * If there are no events to be sent within this time, a comment is sent to keep the connection
+   * alive.
+   * @param writer The writer to write the events to.
+   * @throws IOException If writing fails.
+   */
+  public void streamEvents(long minSequenceNo,
+                           Predicate<StatusMessage> filter,
+                           long keepAliveInterval,
+                           Writer writer)
+      throws IOException {
+    checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
+    checkInRange(keepAliveInterval, 1, Long.MAX_VALUE, "keepAliveInterval");
+    requireNonNull(filter, "filter");
+    requireNonNull(writer, "writer");
+
+    long nextSequenceNo = minSequenceNo;
+    while (!Thread.currentThread().isInterrupted()) {
+      if (!statusEventDispatcher.isInitialized()) {
+        // There will be no more events, and fetching them would not wait any more.
+        LOG.debug("Status event dispatcher terminated, ending event stream.");
+        return;
+      }
+      if (nextSequenceNo > statusEventDispatcher.getNextSequenceNumber()) {
+        // Collecting of events has been restarted, so start over with the new sequence numbers.
+        LOG.debug("Sequence number {} not reached, yet, restarting at 0.", nextSequenceNo);
+        nextSequenceNo = 0;
+      }
+
+      List<StatusMessage> messages
+          = statusEventDispatcher.fetchEvents(nextSequenceNo, Long.MAX_VALUE, keepAliveInterval)
+              .getStatusMessages();
+      if (messages.isEmpty()) {
+        writer.write(": keep-alive\n\n");
+      }
+      else {
+        long droppedEvents = messages.get(0).getSequenceNumber() - nextSequenceNo;
+        if (droppedEvents > 0) {
+          writer.write("event: " + EVENT_NAME_EVENTS_DROPPED + "\n");
+          writer.write("data: " + droppedEvents + "\n\n");
+        }
+        for (StatusMessage message : messages) {
+          if (filter.test(message)) {
+            writer.write("id: " + message.getSequenceNumber() + "\n");
+            writer.write("data: " + jsonBinder.toJsonLine(message) + "\n\n");
+          }
+        }
+        nextSequenceNo = messages.get(messages.size() - 1).getSequenceNumber() + 1;
+      }
+      writer.flush();
+    }
+  }
+}
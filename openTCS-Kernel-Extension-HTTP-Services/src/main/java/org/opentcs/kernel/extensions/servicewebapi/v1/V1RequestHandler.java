@@ -8,12 +8,35 @@
 package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
@@ -21,14 +44,24 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralAttac
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleAttachmentInfoResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchItemRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderBatchItemResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAllowedOrderTypesTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.filter.PeripheralJobFilter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.filter.StatusMessageFilter;
+import org.opentcs.kernel.extensions.servicewebapi.v1.filter.TransportOrderFilter;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import spark.QueryParamsMap;
 import spark.Request;
 import spark.Response;
 import spark.Service;
+import spark.utils.GzipUtils;
 
 /**
  * Handles requests and produces responses for version 1 of the web API.
@@ -36,6 +69,28 @@ import spark.Service;
 public class V1RequestHandler
     implements RequestHandler {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(V1RequestHandler.class);
+  /**
+   * The maximum number of transport orders from a newline-delimited JSON batch that are created
+   * with a single call via the kernel executor.
+   */
+  private static final int BATCH_CHUNK_SIZE = 1000;
+  /**
+   * The maximum time (in ms) to pass without anything being sent to a client receiving status
+   * events as Server-Sent Events.
+   */
+  private static final long EVENT_STREAM_KEEP_ALIVE_INTERVAL = 10000;
+  /**
+   * Name of the header containing the ID of the last Server-Sent Event a client received.
+   */
+  private static final String HEADER_NAME_LAST_EVENT_ID = "Last-Event-ID";
+  /**
+   * Name of the header containing the cursor to request the next page of a listing with.
+   */
+  private static final String HEADER_NAME_NEXT_PAGE_CURSOR = "X-Next-Page-Cursor";
   /**
    * Binds JSON data to objects and vice versa.
    */
@@ -44,6 +99,14 @@ public class V1RequestHandler
    * Collects interesting events and provides them for client requests.
    */
   private final StatusEventDispatcher statusEventDispatcher;
+  /**
+   * Pushes status events to clients.
+   */
+  private final StatusEventStreamer statusEventStreamer;
+  /**
+   * Caches the JSON representations of transport orders and vehicles.
+   */
+  private final JsonResponseCache jsonResponseCache;
   /**
    * Creates transport orders.
    */
@@ -58,10 +121,14 @@ public class V1RequestHandler
   @Inject
   public V1RequestHandler(JsonBinder jsonBinder,
                           StatusEventDispatcher statusEventDispatcher,
+                          StatusEventStreamer statusEventStreamer,
+                          JsonResponseCache jsonResponseCache,
                           OrderHandler orderHandler,
                           RequestStatusHandler requestHandler) {
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+    this.statusEventStreamer = requireNonNull(statusEventStreamer, "statusEventStreamer");
+    this.jsonResponseCache = requireNonNull(jsonResponseCache, "jsonResponseCache");
     this.orderHandler = requireNonNull(orderHandler, "orderHandler");
     this.statusInformationProvider = requireNonNull(requestHandler, "requestHandler");
   }
@@ -73,6 +140,7 @@ public class V1RequestHandler
     }
 
     statusEventDispatcher.initialize();
+    jsonResponseCache.initialize();
 
     initialized = true;
   }
@@ -88,6 +156,7 @@ public class V1RequestHandler
       return;
     }
 
+    jsonResponseCache.terminate();
     statusEventDispatcher.terminate();
 
     initialized = false;
@@ -99,6 +168,8 @@ public class V1RequestHandler
 
     service.get("/events",
                 this::handleGetEvents);
+    service.get("/events/stream",
+                this::handleGetEventsStream);
     service.post("/vehicles/dispatcher/trigger",
                  this::handlePostDispatcherTrigger);
     service.put("/vehicles/:NAME/commAdapter/attachment",
@@ -125,6 +196,8 @@ public class V1RequestHandler
                  this::handlePostDispatcherTrigger);
     service.post("/transportOrders/:NAME/withdrawal",
                  this::handlePostWithdrawalByOrder);
+    service.post("/transportOrders:batch",
+                 this::handlePostTransportOrdersBatch);
     service.post("/transportOrders/:NAME",
                  this::handlePostTransportOrder);
     service.get("/transportOrders/:NAME",
@@ -175,7 +248,34 @@ public class V1RequestHandler
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return jsonBinder.toJson(statusEventDispatcher.fetchEvents(minSequenceNo(request),
                                                                maxSequenceNo(request),
-                                                               timeout(request)));
+                                                               timeout(request)),
+                             prettyPrint(request));
+  }
+
+  private Object handleGetEventsStream(Request request, Response response)
+      throws IllegalArgumentException {
+    // When reconnecting, clients send the ID of the last event they received.
+    long minSequenceNo = request.headers(HEADER_NAME_LAST_EVENT_ID) == null
+        ? minSequenceNo(request)
+        : lastEventId(request) + 1;
+    checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
+    StatusMessageFilter filter
+        = new StatusMessageFilter(valuesIfKeyPresent(request.queryMap(), "objectTypes"),
+                                  valuesIfKeyPresent(request.queryMap(), "objectNames"));
+
+    response.type(HttpConstants.CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8);
+    response.header("Cache-Control", "no-cache");
+    try (Writer writer = new BufferedWriter(
+        new OutputStreamWriter(response.raw().getOutputStream(), StandardCharsets.UTF_8))) {
+      statusEventStreamer.streamEvents(minSequenceNo,
+                                       filter,
+                                       EVENT_STREAM_KEEP_ALIVE_INTERVAL,
+                                       writer);
+    }
+    catch (IOException exc) {
+      LOG.debug("Stopped streaming events", exc);
+    }
+    return "";
   }
 
   private Object handlePutVehicleCommAdapterEnabled(Request request, Response response)
@@ -191,11 +291,13 @@ public class V1RequestHandler
   private Object handleGetVehicleCommAdapterAttachmentInfo(Request request, Response response)
       throws ObjectUnknownException, IllegalArgumentException {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(GetVehicleAttachmentInfoResponseTO.fromAttachmentInformation(
-        statusInformationProvider.getVehicleCommAdapterAttachmentInformation(
-            request.params(":NAME")
-        )
-    )
+    return jsonBinder.toJson(
+        GetVehicleAttachmentInfoResponseTO.fromAttachmentInformation(
+            statusInformationProvider.getVehicleCommAdapterAttachmentInformation(
+                request.params(":NAME")
+            )
+        ),
+        prettyPrint(request)
     );
   }
 
@@ -209,6 +311,31 @@ public class V1RequestHandler
     return "";
   }
 
+  private Object handlePostTransportOrdersBatch(Request request, Response response)
+      throws IllegalArgumentException,
+             IllegalStateException,
+             IOException {
+    if (isNdjson(request)) {
+      // Read and answer the batch line by line, so it does not have to be kept in memory as a
+      // whole. (Note that the request body is only streamed with chunked transfer encoding.)
+      response.type(HttpConstants.CONTENT_TYPE_APPLICATION_NDJSON_UTF8);
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(request.raw().getInputStream(), StandardCharsets.UTF_8));
+           Writer writer = new BufferedWriter(
+               new OutputStreamWriter(response.raw().getOutputStream(), StandardCharsets.UTF_8))) {
+        createOrders(reader, writer);
+      }
+      return "";
+    }
+
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    List<PostTransportOrderBatchItemRequestTO> orders = Arrays.asList(
+        jsonBinder.fromJson(request.body(), PostTransportOrderBatchItemRequestTO[].class)
+    );
+    return jsonBinder.toJson(createOrders(orders, new ArrayList<>(), true),
+                             prettyPrint(request));
+  }
+
   private Object handlePostTransportOrder(Request request, Response response)
       throws ObjectUnknownException,
              ObjectExistsException,
@@ -221,7 +348,8 @@ public class V1RequestHandler
                 request.params(":NAME"),
                 jsonBinder.fromJson(request.body(), PostTransportOrderRequestTO.class)
             )
-        )
+        ),
+        prettyPrint(request)
     );
   }
 
@@ -235,7 +363,8 @@ public class V1RequestHandler
         GetOrderSequenceResponseTO.fromOrderSequence(
             orderHandler.createOrderSequence(
                 request.params(":NAME"),
-                jsonBinder.fromJson(request.body(), PostOrderSequenceRequestTO.class)))
+                jsonBinder.fromJson(request.body(), PostOrderSequenceRequestTO.class))),
+        prettyPrint(request)
     );
   }
 
@@ -244,14 +373,16 @@ public class V1RequestHandler
     return jsonBinder.toJson(
         statusInformationProvider.getOrderSequences(
             valueIfKeyPresent(request.queryMap(), "intendedVehicle")
-        )
+        ),
+        prettyPrint(request)
     );
   }
 
   private Object handleGetOrderSequenceByName(Request request, Response response) {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return jsonBinder.toJson(
-        statusInformationProvider.getOrderSequenceByName(request.params(":NAME"))
+        statusInformationProvider.getOrderSequenceByName(request.params(":NAME")),
+        prettyPrint(request)
     );
   }
 
@@ -297,36 +428,57 @@ public class V1RequestHandler
     return "";
   }
 
-  private Object handleGetTransportOrders(Request request, Response response) {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
-        statusInformationProvider.getTransportOrdersState(
-            valueIfKeyPresent(request.queryMap(), "intendedVehicle")
+  private Object handleGetTransportOrders(Request request, Response response)
+      throws IllegalArgumentException,
+             IOException {
+    List<TransportOrder> orders = statusInformationProvider.getTransportOrders(
+        new TransportOrderFilter(
+            valueIfKeyPresent(request.queryMap(), "intendedVehicle"),
+            valueIfKeyPresent(request.queryMap(), "processingVehicle"),
+            enumValuesIfKeyPresent(request.queryMap(), "states", TransportOrder.State.class),
+            valuesIfKeyPresent(request.queryMap(), "types"),
+            instantIfKeyPresent(request.queryMap(), "minCreationTime"),
+            instantIfKeyPresent(request.queryMap(), "maxCreationTime")
         )
     );
+    writeJsonArray(request,
+                   response,
+                   page(request,
+                        orders,
+                        order -> new PageCursor(order.getCreationTime(), order.getName())),
+                   jsonResponseCache::getJson,
+                   GetTransportOrderResponseTO::fromTransportOrder);
+    return "";
   }
 
   private Object handleGetTransportOrderByName(Request request, Response response) {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return jsonBinder.toJson(
-        statusInformationProvider.getTransportOrderByName(request.params(":NAME"))
+        statusInformationProvider.getTransportOrderByName(request.params(":NAME")),
+        prettyPrint(request)
     );
   }
 
   private Object handleGetVehicles(Request request, Response response)
-      throws IllegalArgumentException {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
-        statusInformationProvider.getVehiclesState(valueIfKeyPresent(request.queryMap(),
-                                                                     "procState"))
+      throws IllegalArgumentException,
+             IOException {
+    List<Vehicle> vehicles = statusInformationProvider.getVehicles(
+        valueIfKeyPresent(request.queryMap(), "procState")
     );
+    writeJsonArray(request,
+                   response,
+                   page(request, vehicles, vehicle -> new PageCursor(null, vehicle.getName())),
+                   jsonResponseCache::getJson,
+                   GetVehicleResponseTO::fromVehicle);
+    return "";
   }
 
   private Object handleGetVehicleByName(Request request, Response response)
       throws ObjectUnknownException {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return jsonBinder.toJson(
-        statusInformationProvider.getVehicleStateByName(request.params(":NAME"))
+        statusInformationProvider.getVehicleStateByName(request.params(":NAME")),
+        prettyPrint(request)
     );
   }
 
@@ -379,20 +531,34 @@ public class V1RequestHandler
   private Object handleGetPeripheralCommAdapterAttachmentInfo(Request request, Response response)
       throws ObjectUnknownException, IllegalArgumentException {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(GetPeripheralAttachmentInfoResponseTO.fromAttachmentInformation(
-        statusInformationProvider.getPeripheralCommAdapterAttachmentInformation(
-            request.params(":NAME")))
+    return jsonBinder.toJson(
+        GetPeripheralAttachmentInfoResponseTO.fromAttachmentInformation(
+            statusInformationProvider.getPeripheralCommAdapterAttachmentInformation(
+                request.params(":NAME")
+            )
+        ),
+        prettyPrint(request)
     );
   }
 
-  private Object handleGetPeripheralJobs(Request request, Response response) {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
-        statusInformationProvider.getPeripheralJobs(
+  private Object handleGetPeripheralJobs(Request request, Response response)
+      throws IllegalArgumentException,
+             IOException {
+    List<PeripheralJob> jobs = statusInformationProvider.getPeripheralJobs(
+        new PeripheralJobFilter(
             valueIfKeyPresent(request.queryMap(), "relatedVehicle"),
-            valueIfKeyPresent(request.queryMap(), "relatedTransportOrder")
+            valueIfKeyPresent(request.queryMap(), "relatedTransportOrder"),
+            enumValuesIfKeyPresent(request.queryMap(), "states", PeripheralJob.State.class),
+            instantIfKeyPresent(request.queryMap(), "minCreationTime"),
+            instantIfKeyPresent(request.queryMap(), "maxCreationTime")
         )
     );
+    writeJsonArray(request,
+                   response,
+                   page(request, jobs, job -> new PageCursor(job.getCreationTime(), job.getName())),
+                   job -> jsonBinder.toJsonBytes(GetPeripheralJobResponseTO.fromPeripheralJob(job)),
+                   GetPeripheralJobResponseTO::fromPeripheralJob);
+    return "";
   }
 
   private Object handlePutPeripheralCommAdapterAttachment(Request request, Response response)
@@ -408,7 +574,8 @@ public class V1RequestHandler
   private Object handleGetPeripheralJobsByName(Request request, Response response) {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
     return jsonBinder.toJson(
-        statusInformationProvider.getPeripheralJobByName(request.params(":NAME"))
+        statusInformationProvider.getPeripheralJobByName(request.params(":NAME")),
+        prettyPrint(request)
     );
   }
 
@@ -420,7 +587,8 @@ public class V1RequestHandler
                 request.params(":NAME"),
                 jsonBinder.fromJson(request.body(), PostPeripheralJobRequestTO.class)
             )
-        )
+        ),
+        prettyPrint(request)
     );
   }
 
@@ -430,6 +598,220 @@ public class V1RequestHandler
     return "";
   }
 
+  private void createOrders(BufferedReader reader, Writer writer)
+      throws IOException {
+    List<PostTransportOrderBatchItemRequestTO> orders = new ArrayList<>(BATCH_CHUNK_SIZE);
+    // The responses for the lines of the current chunk, with null for each parsed order.
+    List<PostTransportOrderBatchItemResponseTO> responses = new ArrayList<>(BATCH_CHUNK_SIZE);
+    String line = reader.readLine();
+    while (line != null) {
+      if (!line.isBlank()) {
+        try {
+          orders.add(jsonBinder.fromJson(line, PostTransportOrderBatchItemRequestTO.class));
+          responses.add(null);
+        }
+        catch (IllegalArgumentException exc) {
+          responses.add(PostTransportOrderBatchItemResponseTO.fromError(null, exc.getMessage()));
+        }
+      }
+
+      line = reader.readLine();
+      if (responses.size() == BATCH_CHUNK_SIZE || line == null) {
+        // Trigger the dispatcher only once, with the last chunk.
+        for (PostTransportOrderBatchItemResponseTO response
+                 : createOrdersOfChunk(orders, responses, line == null)) {
+          writer.write(jsonBinder.toJsonLine(response));
+          writer.write('\n');
+        }
+        writer.flush();
+        orders.clear();
+        responses.clear();
+      }
+    }
+  }
+
+  /**
+   * Creates the given transport orders of a chunk of a newline-delimited JSON batch and fills in
+   * the responses for them.
+   * <p>
+   * As the responses for previous chunks have already been sent, failing to create the chunk's
+   * transport orders as a whole does not fail the request. Instead, the failure is reported in the
+   * responses for the chunk's transport orders, and the remaining chunks are processed as usual.
+   * </p>
+   *
+   * @param orders The transport orders to be created.
+   * @param responses The responses for the lines of the chunk, with {@code null} for each of the
+   * given transport orders, in the same order.
+   * @param triggerDispatcher Whether to trigger the dispatcher after creating the transport orders.
+   * @return The responses for the lines of the chunk.
+   */
+  private List<PostTransportOrderBatchItemResponseTO> createOrdersOfChunk(
+      List<PostTransportOrderBatchItemRequestTO> orders,
+      List<PostTransportOrderBatchItemResponseTO> responses,
+      boolean triggerDispatcher) {
+    try {
+      return createOrders(orders, responses, triggerDispatcher);
+    }
+    catch (KernelRuntimeException | IllegalArgumentException | IllegalStateException exc) {
+      LOG.warn("Could not create chunk of {} transport orders from batch", orders.size(), exc);
+      String error = exc.getMessage() == null ? exc.toString() : exc.getMessage();
+      Iterator<PostTransportOrderBatchItemRequestTO> orderIter = orders.iterator();
+      for (int i = 0; i < responses.size(); i++) {
+        if (responses.get(i) == null) {
+          responses.set(i,
+                        PostTransportOrderBatchItemResponseTO.fromError(orderIter.next().getName(),
+                                                                        error));
+        }
+      }
+      if (triggerDispatcher) {
+        // Transport orders of previous chunks may have been created and still need dispatching.
+        triggerDispatcherQuietly();
+      }
+      return responses;
+    }
+  }
+
+  private void triggerDispatcherQuietly() {
+    try {
+      orderHandler.triggerDispatcher();
+    }
+    catch (KernelRuntimeException | IllegalStateException exc) {
+      LOG.warn("Could not trigger dispatcher after creating transport orders from batch", exc);
+    }
+  }
+
+  /**
+   * Creates the given transport orders and fills in the responses for them.
+   *
+   * @param orders The transport orders to be created.
+   * @param responses The responses for the items of the batch, with {@code null} for each of the
+   * given transport orders, in the same order. If empty, it is filled with one response per
+   * transport order.
+   * @param triggerDispatcher Whether to trigger the dispatcher after creating the transport orders.
+   * @return The responses for the items of the batch.
+   */
+  private List<PostTransportOrderBatchItemResponseTO> createOrders(
+      List<PostTransportOrderBatchItemRequestTO> orders,
+      List<PostTransportOrderBatchItemResponseTO> responses,
+      boolean triggerDispatcher) {
+    if (responses.isEmpty()) {
+      responses.addAll(Collections.nCopies(orders.size(), null));
+    }
+
+    Iterator<PostTransportOrderBatchItemRequestTO> orderIter = orders.iterator();
+    Iterator<TransportOrderCreationResult> resultIter
+        = orderHandler.createOrders(orders, triggerDispatcher).iterator();
+    for (int i = 0; i < responses.size(); i++) {
+      if (responses.get(i) == null) {
+        responses.set(i,
+                      PostTransportOrderBatchItemResponseTO.fromCreationResult(
+                          orderIter.next().getName(),
+                          resultIter.next()
+                      ));
+      }
+    }
+    return responses;
+  }
+
+  /**
+   * Returns the page of the given objects requested via the {@code limit} and {@code cursor}
+   * query parameters.
+   *
+   * @param <T> The type of objects.
+   * @param request The request.
+   * @param objects The objects to take the page from.
+   * @param cursorMapper Provides the cursor for an object, which determines its listing order.
+   * @return The requested page.
+   * @throws IllegalArgumentException If the query parameters are malformed.
+   */
+  private <T> Page<T> page(Request request,
+                           List<T> objects,
+                           Function<? super T, PageCursor> cursorMapper)
+      throws IllegalArgumentException {
+    String limitParam = request.queryParamOrDefault("limit", String.valueOf(Integer.MAX_VALUE));
+    int limit;
+    try {
+      limit = Integer.parseInt(limitParam);
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed limit: " + limitParam);
+    }
+    checkInRange(limit, 1, Integer.MAX_VALUE, "limit");
+
+    String cursorParam = valueIfKeyPresent(request.queryMap(), "cursor");
+    return Page.of(objects,
+                   cursorMapper,
+                   cursorParam == null ? null : PageCursor.parse(cursorParam),
+                   limit);
+  }
+
+  /**
+   * Writes the given page of objects as a JSON array directly to the response's output stream,
+   * compressed with gzip if the client accepts it.
+   * Unless pretty-printing or specific fields were requested, the (cached) compact representations
+   * of the objects are used.
+   * If there is a next page, the cursor for it is provided in a response header.
+   *
+   * @param <T> The type of objects to be written.
+   * @param request The request.
+   * @param response The response.
+   * @param page The page of objects to be written.
+   * @param cachedJson Provides the cached compact JSON representation of an object.
+   * @param transferObjectMapper Maps an object to its transfer object.
+   * @throws IOException If writing to the response's output stream fails.
+   */
+  private <T> void writeJsonArray(Request request,
+                                  Response response,
+                                  Page<T> page,
+                                  Function<T, byte[]> cachedJson,
+                                  Function<T, ?> transferObjectMapper)
+      throws IOException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    if (page.getNextCursor() != null) {
+      response.header(HEADER_NAME_NEXT_PAGE_CURSOR, page.getNextCursor().encode());
+      response.header("Access-Control-Expose-Headers", HEADER_NAME_NEXT_PAGE_CURSOR);
+    }
+
+    List<T> objects = page.getObjects();
+    Set<String> fields = valuesIfKeyPresent(request.queryMap(), "fields");
+    try (OutputStream out = new BufferedOutputStream(
+        GzipUtils.checkAndWrap(request.raw(), response.raw(), false))) {
+      if (!fields.isEmpty()) {
+        jsonBinder.writeJson(
+            objects.stream()
+                .map(transferObjectMapper)
+                .map(transferObject -> jsonBinder.toJsonObject(transferObject, fields))
+                .collect(Collectors.toList()),
+            out,
+            prettyPrint(request)
+        );
+        return;
+      }
+      if (prettyPrint(request)) {
+        jsonBinder.writeJson(
+            objects.stream().map(transferObjectMapper).collect(Collectors.toList()),
+            out,
+            true
+        );
+        return;
+      }
+
+      out.write('[');
+      for (int i = 0; i < objects.size(); i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        out.write(cachedJson.apply(objects.get(i)));
+      }
+      out.write(']');
+    }
+  }
+
+  private boolean isNdjson(Request request) {
+    return request.contentType() != null
+        && request.contentType().startsWith("application/x-ndjson");
+  }
+
   private String valueIfKeyPresent(QueryParamsMap queryParams, String key) {
     if (queryParams.hasKey(key)) {
       return queryParams.value(key);
@@ -439,6 +821,51 @@ public class V1RequestHandler
     }
   }
 
+  private Set<String> valuesIfKeyPresent(QueryParamsMap queryParams, String key) {
+    String value = valueIfKeyPresent(queryParams, key);
+    if (value == null) {
+      return Set.of();
+    }
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(element -> !element.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
+  private <E extends Enum<E>> Set<E> enumValuesIfKeyPresent(QueryParamsMap queryParams,
+                                                           String key,
+                                                           Class<E> enumClass)
+      throws IllegalArgumentException {
+    return valuesIfKeyPresent(queryParams, key).stream()
+        .map(value -> Enum.valueOf(enumClass, value))
+        .collect(Collectors.toSet());
+  }
+
+  private Instant instantIfKeyPresent(QueryParamsMap queryParams, String key)
+      throws IllegalArgumentException {
+    String value = valueIfKeyPresent(queryParams, key);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Instant.parse(value);
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Malformed " + key + ": " + value);
+    }
+  }
+
+  private long lastEventId(Request request)
+      throws IllegalArgumentException {
+    String header = request.headers(HEADER_NAME_LAST_EVENT_ID);
+    try {
+      return Long.parseLong(header.trim());
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed Last-Event-ID: " + header);
+    }
+  }
+
   private long minSequenceNo(Request request)
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("minSequenceNo", "0");
@@ -485,4 +912,8 @@ public class V1RequestHandler
     return Boolean.parseBoolean(request.queryParamOrDefault("forced", "false"));
   }
 
+  private boolean prettyPrint(Request request) {
+    return Boolean.parseBoolean(request.queryParamOrDefault("prettyPrint", "false"));
+  }
+
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
+
+/**
+ * A transport order to be processed by the kernel as part of a batch, along with its name.
+ */
+public class PostTransportOrderBatchItemRequestTO
+    extends PostTransportOrderRequestTO {
+
+  private String name;
+
+  // CHECKSTYLE:OFF (because of very long parameter declarations)
+  @JsonCreator
+  public PostTransportOrderBatchItemRequestTO(
+      @Nonnull @JsonProperty(required = true, value = "name") String name,
+      @JsonProperty(required = false, value = "incompleteName") boolean incompleteName,
+      @JsonProperty(required = false, value = "dispensable") boolean dispensable,
+      @Nullable @JsonProperty(required = false, value = "deadline") Instant deadline,
+      @Nullable @JsonProperty(required = false, value = "intendedVehicle") String intendedVehicle,
+      @Nullable @JsonProperty(required = false, value = "peripheralReservationToken") String peripheralReservationToken,
+      @Nullable @JsonProperty(required = false, value = "wrappingSequence") String wrappingSequence,
+      @Nullable @JsonProperty(required = false, value = "type") String type,
+      @Nonnull @JsonProperty(required = true, value = "destinations") List<Destination> destinations,
+      @Nullable @JsonProperty(required = false, value = "properties") List<Property> properties,
+      @Nullable @JsonProperty(required = false, value = "dependencies") List<String> dependencies) {
+    super(incompleteName,
+          dispensable,
+          deadline,
+          intendedVehicle,
+          peripheralReservationToken,
+          wrappingSequence,
+          type,
+          destinations,
+          properties,
+          dependencies);
+    this.name = requireNonNull(name, "name");
+  }
+  // CHECKSTYLE:ON
+
+  public PostTransportOrderBatchItemRequestTO() {
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public PostTransportOrderBatchItemRequestTO setName(String name) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nullable;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
+
+/**
+ * The outcome of creating a single transport order of a batch.
+ */
+public class PostTransportOrderBatchItemResponseTO {
+
+  private String name;
+
+  private boolean created;
+
+  private List<String> errors = new ArrayList<>();
+
+  public PostTransportOrderBatchItemResponseTO() {
+  }
+
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  public PostTransportOrderBatchItemResponseTO setName(@Nullable String name) {
+    this.name = name;
+    return this;
+  }
+
+  public boolean isCreated() {
+    return created;
+  }
+
+  public PostTransportOrderBatchItemResponseTO setCreated(boolean created) {
+    this.created = created;
+    return this;
+  }
+
+  public List<String> getErrors() {
+    return errors;
+  }
+
+  public PostTransportOrderBatchItemResponseTO setErrors(List<String> errors) {
+    this.errors = requireNonNull(errors, "errors");
+    return this;
+  }
+
+  /**
+   * Creates a new instance from the given creation result.
+   *
+   * @param requestedName The name requested for the transport order.
+   * @param result The creation result.
+   * @return The new instance.
+   */
+  public static PostTransportOrderBatchItemResponseTO fromCreationResult(
+      String requestedName,
+      TransportOrderCreationResult result) {
+    if (result.isSuccessful()) {
+      return new PostTransportOrderBatchItemResponseTO()
+          .setName(result.getTransportOrder().getName())
+          .setCreated(true);
+    }
+    RuntimeException failure = result.getFailure();
+    return fromError(requestedName,
+                     failure.getMessage() == null ? failure.toString() : failure.getMessage());
+  }
+
+  /**
+   * Creates a new instance for a transport order that could not be created.
+   *
+   * @param requestedName The name requested for the transport order, or {@code null}, if unknown.
+   * @param error Details on the error.
+   * @return The new instance.
+   */
+  public static PostTransportOrderBatchItemResponseTO fromError(@Nullable String requestedName,
+                                                               String error) {
+    return new PostTransportOrderBatchItemResponseTO()
+        .setName(requestedName)
+        .setCreated(false)
+        .setErrors(List.of(error));
+  }
+}
@@ -7,12 +7,17 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.filter;
 
+import java.time.Instant;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Predicate;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
- * Filters a set of peripheral jobs for job related to a vehicle and/or a transport order.
+ * Filters a set of peripheral jobs for job related to a vehicle and/or a transport order, and by
+ * their states and creation times.
  */
 public class PeripheralJobFilter
     implements Predicate<PeripheralJob> {
@@ -28,10 +33,55 @@ public class PeripheralJobFilter
    */
   @Nullable
   private final String relatedTransportOrder;
+  /**
+   * The states of which the peripheral job must be in one. If empty, all states are accepted.
+   */
+  private final Set<PeripheralJob.State> states;
+  /**
+   * The minimum creation time of the peripheral job (inclusive).
+   */
+  @Nullable
+  private final Instant minCreationTime;
+  /**
+   * The maximum creation time of the peripheral job (exclusive).
+   */
+  @Nullable
+  private final Instant maxCreationTime;
 
   public PeripheralJobFilter(String relatedVehicle, String relatedTransportOrder) {
+    this(relatedVehicle, relatedTransportOrder, Set.of(), null, null);
+  }
+
+  /**
+   * Creates a new instance.
+   * Filtering for a criterion is disabled if its value is {@code null} or empty.
+   *
+   * @param relatedVehicle The vehicle a peripheral job must be related to.
+   * @param relatedTransportOrder The transport order a peripheral job must be related to.
+   * @param states The states of which the peripheral job must be in one.
+   * @param minCreationTime The minimum creation time of the peripheral job (inclusive).
+   * @param maxCreationTime The maximum creation time of the peripheral job (exclusive).
+   */
+  public PeripheralJobFilter(@Nullable String relatedVehicle,
+                             @Nullable String relatedTransportOrder,
+                             @Nonnull Set<PeripheralJob.State> states,
+                             @Nullable Instant minCreationTime,
+                             @Nullable Instant maxCreationTime) {
     this.relatedVehicle = relatedVehicle;
     this.relatedTransportOrder = relatedTransportOrder;
+    this.states = requireNonNull(states, "states");
+    this.minCreationTime = minCreationTime;
+    this.maxCreationTime = maxCreationTime;
+  }
+
+  @Nullable
+  public String getRelatedVehicle() {
+    return relatedVehicle;
+  }
+
+  @Nullable
+  public String getRelatedTransportOrder() {
+    return relatedTransportOrder;
   }
 
   @Override
@@ -43,15 +93,25 @@ public class PeripheralJobFilter
         && !isTransportOrderRelatedToJob(relatedTransportOrder, job)) {
       return false;
     }
+    if (!states.isEmpty() && !states.contains(job.getState())) {
+      return false;
+    }
+    if (minCreationTime != null && job.getCreationTime().isBefore(minCreationTime)) {
+      return false;
+    }
+    if (maxCreationTime != null && !job.getCreationTime().isBefore(maxCreationTime)) {
+      return false;
+    }
     return true;
   }
 
   private boolean isVehicleRelatedToJob(String vehicle, PeripheralJob job) {
-    return job.getRelatedVehicle().getName().equals(vehicle);
+    return job.getRelatedVehicle() != null && job.getRelatedVehicle().getName().equals(vehicle);
   }
 
   private boolean isTransportOrderRelatedToJob(String transportOrder, PeripheralJob job) {
-    return job.getRelatedTransportOrder().getName().equals(transportOrder);
+    return job.getRelatedTransportOrder() != null
+        && job.getRelatedTransportOrder().getName().equals(transportOrder);
   }
 
 }
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.filter;
+
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
+
+/**
+ * Filters status messages by the type and name of the object they describe.
+ */
+public class StatusMessageFilter
+    implements Predicate<StatusMessage> {
+
+  /**
+   * The types of objects (as used in the status messages' {@code type} attribute) whose status
+   * messages are accepted. If empty, status messages for objects of all types are accepted.
+   */
+  private final Set<String> objectTypes;
+  /**
+   * The names of objects whose status messages are accepted. If empty, status messages for objects
+   * with any name are accepted.
+   */
+  private final Set<String> objectNames;
+
+  public StatusMessageFilter(@Nonnull Set<String> objectTypes, @Nonnull Set<String> objectNames) {
+    this.objectTypes = requireNonNull(objectTypes, "objectTypes");
+    this.objectNames = requireNonNull(objectNames, "objectNames");
+  }
+
+  @Override
+  public boolean test(StatusMessage message) {
+    boolean accept = true;
+    if (!objectTypes.isEmpty() && !objectTypes.contains(objectType(message))) {
+      accept = false;
+    }
+    if (!objectNames.isEmpty() && !objectNames.contains(objectName(message))) {
+      accept = false;
+    }
+    return accept;
+  }
+
+  private String objectType(StatusMessage message) {
+    if (message instanceof OrderStatusMessage) {
+      return "TransportOrder";
+    }
+    else if (message instanceof VehicleStatusMessage) {
+      return "Vehicle";
+    }
+    else if (message instanceof PeripheralJobStatusMessage) {
+      return "PeripheralJob";
+    }
+    return null;
+  }
+
+  private String objectName(StatusMessage message) {
+    if (message instanceof OrderStatusMessage) {
+      return ((OrderStatusMessage) message).getOrderName();
+    }
+    else if (message instanceof VehicleStatusMessage) {
+      return ((VehicleStatusMessage) message).getVehicleName();
+    }
+    else if (message instanceof PeripheralJobStatusMessage) {
+      return ((PeripheralJobStatusMessage) message).getName();
+    }
+    return null;
+  }
+}
@@ -7,13 +7,18 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.filter;
 
+import java.time.Instant;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Predicate;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 
 /**
+ * Filters transport orders by their vehicles, states, types and creation times.
  */
 public class TransportOrderFilter
     implements Predicate<TransportOrder> {
@@ -23,9 +28,72 @@ public class TransportOrderFilter
    */
   @Nullable
   private final String intendedVehicle;
+  /**
+   * The name of the processing vehicle of the transport order.
+   */
+  @Nullable
+  private final String processingVehicle;
+  /**
+   * The states of which the transport order must be in one. If empty, all states are accepted.
+   */
+  private final Set<TransportOrder.State> states;
+  /**
+   * The types of which the transport order must have one. If empty, all types are accepted.
+   */
+  private final Set<String> types;
+  /**
+   * The minimum creation time of the transport order (inclusive).
+   */
+  @Nullable
+  private final Instant minCreationTime;
+  /**
+   * The maximum creation time of the transport order (exclusive).
+   */
+  @Nullable
+  private final Instant maxCreationTime;
 
   public TransportOrderFilter(String intendedVehicle) {
+    this(intendedVehicle, null, Set.of(), Set.of(), null, null);
+  }
+
+  /**
+   * Creates a new instance.
+   * Filtering for a criterion is disabled if its value is {@code null} or empty.
+   *
+   * @param intendedVehicle The name of the intended vehicle of the transport order.
+   * @param processingVehicle The name of the processing vehicle of the transport order.
+   * @param states The states of which the transport order must be in one.
+   * @param types The types of which the transport order must have one.
+   * @param minCreationTime The minimum creation time of the transport order (inclusive).
+   * @param maxCreationTime The maximum creation time of the transport order (exclusive).
+   */
+  public TransportOrderFilter(@Nullable String intendedVehicle,
+                              @Nullable String processingVehicle,
+                              @Nonnull Set<TransportOrder.State> states,
+                              @Nonnull Set<String> types,
+                              @Nullable Instant minCreationTime,
+                              @Nullable Instant maxCreationTime) {
     this.intendedVehicle = intendedVehicle;
+    this.processingVehicle = processingVehicle;
+    this.states = requireNonNull(states, "states");
+    this.types = requireNonNull(types, "types");
+    this.minCreationTime = minCreationTime;
+    this.maxCreationTime = maxCreationTime;
+  }
+
+  @Nullable
+  public String getIntendedVehicle() {
+    return intendedVehicle;
+  }
+
+  @Nullable
+  public String getProcessingVehicle() {
+    return processingVehicle;
+  }
+
+  @Nonnull
+  public Set<TransportOrder.State> getStates() {
+    return states;
   }
 
   @Override
@@ -33,13 +101,30 @@ public class TransportOrderFilter
     boolean accept = true;
 
     if (intendedVehicle != null
-        && intendedVehicleDiffers(transportOrder.getIntendedVehicle())) {
+        && vehicleDiffers(intendedVehicle, transportOrder.getIntendedVehicle())) {
+      accept = false;
+    }
+    if (processingVehicle != null
+        && vehicleDiffers(processingVehicle, transportOrder.getProcessingVehicle())) {
+      accept = false;
+    }
+    if (!states.isEmpty() && !states.contains(transportOrder.getState())) {
+      accept = false;
+    }
+    if (!types.isEmpty() && !types.contains(transportOrder.getType())) {
+      accept = false;
+    }
+    if (minCreationTime != null && transportOrder.getCreationTime().isBefore(minCreationTime)) {
+      accept = false;
+    }
+    if (maxCreationTime != null && !transportOrder.getCreationTime().isBefore(maxCreationTime)) {
       accept = false;
     }
     return accept;
   }
 
-  private boolean intendedVehicleDiffers(@Nullable TCSObjectReference<Vehicle> vehicleReference) {
-    return vehicleReference == null || !intendedVehicle.equals(vehicleReference.getName());
+  private boolean vehicleDiffers(String vehicleName,
+                                 @Nullable TCSObjectReference<Vehicle> vehicleReference) {
+    return vehicleReference == null || !vehicleName.equals(vehicleReference.getName());
   }
 }
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link JsonResponseCache}.
+ */
+public class JsonResponseCacheTest {
+
+  private SimpleEventBus eventBus;
+
+  private TCSObjectService objectService;
+
+  private JsonResponseCache jsonResponseCache;
+
+  @BeforeEach
+  public void setUp() {
+    eventBus = new SimpleEventBus();
+    objectService = mock(TCSObjectService.class);
+    jsonResponseCache = new JsonResponseCache(eventBus, objectService, new JsonBinder());
+    jsonResponseCache.initialize();
+  }
+
+  @Test
+  public void provideCompactJson() {
+    String json = new String(jsonResponseCache.getJson(new Vehicle("some-vehicle")),
+                             StandardCharsets.UTF_8);
+
+    assertThat(json, containsString("\"name\":\"some-vehicle\""));
+    assertThat(json, not(containsString("\n")));
+  }
+
+  @Test
+  public void reuseJsonForSameObjectInstance() {
+    TransportOrder order = new TransportOrder("some-order", new ArrayList<>());
+    when(objectService.fetchObject(TransportOrder.class, order.getReference())).thenReturn(order);
+    byte[] json = jsonResponseCache.getJson(order);
+
+    assertThat(jsonResponseCache.getJson(order), is(sameInstance(json)));
+  }
+
+  @Test
+  public void provideNewJsonForModifiedObject() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    byte[] json = jsonResponseCache.getJson(vehicle);
+
+    Vehicle modifiedVehicle = vehicle.withEnergyLevel(42);
+    byte[] modifiedJson = jsonResponseCache.getJson(modifiedVehicle);
+
+    assertThat(modifiedJson, is(not(sameInstance(json))));
+    assertThat(new String(modifiedJson, StandardCharsets.UTF_8),
+               containsString("\"energyLevel\":42"));
+  }
+
+  @Test
+  public void dropJsonOnObjectEvent() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    when(objectService.fetchObject(Vehicle.class, vehicle.getReference())).thenReturn(vehicle);
+    byte[] json = jsonResponseCache.getJson(vehicle);
+
+    eventBus.onEvent(new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    assertThat(jsonResponseCache.getJson(vehicle), is(not(sameInstance(json))));
+  }
+
+  @Test
+  public void doNotCacheJsonForObjectNoLongerHeldByKernel() {
+    TransportOrder order = new TransportOrder("some-order", new ArrayList<>());
+    // The order has been removed from the kernel since it was fetched for the request.
+    when(objectService.fetchObject(TransportOrder.class, order.getReference())).thenReturn(null);
+
+    byte[] json = jsonResponseCache.getJson(order);
+
+    assertThat(jsonResponseCache.getJson(order), is(not(sameInstance(json))));
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.time.Instant;
+import java.util.List;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Page} and {@link PageCursor}.
+ */
+public class PageTest {
+
+  private static final Instant TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+  private final List<PageCursor> cursors = List.of(
+      new PageCursor(TIME.plusSeconds(2), "a"),
+      new PageCursor(TIME, "c"),
+      new PageCursor(TIME.plusSeconds(1), "b"),
+      new PageCursor(TIME, "b"),
+      new PageCursor(TIME.plusSeconds(3), "a")
+  );
+
+  @Test
+  public void provideAllObjectsInOrderWithoutLimit() {
+    Page<PageCursor> page = Page.of(cursors, cursor -> cursor, null, Integer.MAX_VALUE);
+
+    assertThat(page.getObjects(), contains(cursors.get(3),
+                                           cursors.get(1),
+                                           cursors.get(2),
+                                           cursors.get(0),
+                                           cursors.get(4)));
+    assertThat(page.getNextCursor(), is(nullValue()));
+  }
+
+  @Test
+  public void walkThroughPages() {
+    Page<PageCursor> page = Page.of(cursors, cursor -> cursor, null, 2);
+    assertThat(page.getObjects(), contains(cursors.get(3), cursors.get(1)));
+    assertThat(page.getNextCursor(), is(cursors.get(1)));
+
+    page = Page.of(cursors, cursor -> cursor, page.getNextCursor(), 2);
+    assertThat(page.getObjects(), contains(cursors.get(2), cursors.get(0)));
+    assertThat(page.getNextCursor(), is(cursors.get(0)));
+
+    page = Page.of(cursors, cursor -> cursor, page.getNextCursor(), 2);
+    assertThat(page.getObjects(), contains(cursors.get(4)));
+    assertThat(page.getNextCursor(), is(nullValue()));
+  }
+
+  @Test
+  public void provideNoNextCursorForExactlyFullLastPage() {
+    Page<PageCursor> page = Page.of(cursors, cursor -> cursor, cursors.get(1), 3);
+
+    assertThat(page.getObjects(), contains(cursors.get(2), cursors.get(0), cursors.get(4)));
+    assertThat(page.getNextCursor(), is(nullValue()));
+  }
+
+  @Test
+  public void provideEmptyPageAfterLastObject() {
+    Page<PageCursor> page = Page.of(cursors, cursor -> cursor, cursors.get(4), 2);
+
+    assertThat(page.getObjects(), is(empty()));
+    assertThat(page.getNextCursor(), is(nullValue()));
+  }
+
+  @Test
+  public void orderCursorsWithoutCreationTimeFirst() {
+    PageCursor withoutTime = new PageCursor(null, "z");
+
+    assertThat(withoutTime.compareTo(new PageCursor(TIME, "a")) < 0, is(true));
+  }
+
+  @Test
+  public void parseEncodedCursor() {
+    PageCursor withTime = new PageCursor(TIME, "some/name");
+    PageCursor withoutTime = new PageCursor(null, "some-name");
+
+    assertThat(PageCursor.parse(withTime.encode()), is(withTime));
+    assertThat(PageCursor.parse(withoutTime.encode()), is(withoutTime));
+  }
+
+  @Test
+  public void rejectMalformedCursor() {
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("not a cursor!"));
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("bm8tc2VwYXJhdG9y"));
+  }
+}
@@ -8,6 +8,8 @@
 package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
@@ -94,4 +96,55 @@ public class StatusEventDispatcherTest {
     assertThat(list.getStatusMessages().get(eventCount - 1).getSequenceNumber(),
                is((long) eventCount - 1));
   }
+
+  @Test
+  public void restartSequenceNumbersWhenCollectingIsRestarted() {
+    when(configuration.statusEventsCapacity()).thenReturn(10);
+    statusEventDispatcher.initialize();
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    assertThat(statusEventDispatcher.getNextSequenceNumber(), is(2L));
+
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.OPERATING, Kernel.State.MODELLING, true)
+    );
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    assertThat(statusEventDispatcher.getNextSequenceNumber(), is(0L));
+    assertThat(statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1).getStatusMessages(),
+               is(empty()));
+  }
+
+  @Test
+  public void returnEventsPublishedWhileWaiting()
+      throws Exception {
+    when(configuration.statusEventsCapacity()).thenReturn(10);
+    statusEventDispatcher.initialize();
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    CompletableFuture<GetEventsResponseTO> pendingFetch
+        = CompletableFuture.supplyAsync(
+            () -> statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 10000)
+        );
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    GetEventsResponseTO list = pendingFetch.get(5, TimeUnit.SECONDS);
+    assertThat(list.getStatusMessages().size(), is(1));
+    assertThat(list.getStatusMessages().get(0).getSequenceNumber(), is(0L));
+  }
 }
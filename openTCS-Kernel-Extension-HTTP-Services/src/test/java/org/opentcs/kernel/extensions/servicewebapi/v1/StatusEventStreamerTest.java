@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.filter.StatusMessageFilter;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link StatusEventStreamer}.
+ */
+public class StatusEventStreamerTest {
+
+  private ServiceWebApiConfiguration configuration;
+  private StatusEventDispatcher statusEventDispatcher;
+  private StatusEventStreamer statusEventStreamer;
+  /**
+   * A writer that fails when flushed for the first time, i.e. after the first events were written.
+   */
+  private StringWriter writer;
+
+  @BeforeEach
+  public void setUp() {
+    configuration = mock(ServiceWebApiConfiguration.class);
+    when(configuration.statusEventsCapacity()).thenReturn(10);
+    statusEventDispatcher = new StatusEventDispatcher(configuration, new SimpleEventBus());
+    statusEventDispatcher.initialize();
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    statusEventStreamer = new StatusEventStreamer(statusEventDispatcher, new JsonBinder());
+    writer = new StringWriter() {
+      @Override
+      public void flush() {
+        throw new IllegalStateException("Connection closed");
+      }
+    };
+  }
+
+  @Test
+  public void streamEventsStartingWithGivenSequenceNumber() {
+    TransportOrder order = new TransportOrder("some-order", new ArrayList<>());
+    publishModification(order);
+    publishModification(order);
+    publishModification(order);
+
+    streamEvents(1, new StatusMessageFilter(Set.of(), Set.of()));
+
+    assertThat(writer.toString(), not(containsString("id: 0\n")));
+    assertThat(writer.toString(), containsString("id: 1\ndata: {"));
+    assertThat(writer.toString(), containsString("id: 2\ndata: {"));
+    assertThat(writer.toString(), not(containsString("event: ")));
+  }
+
+  @Test
+  public void sendOnlyEventsAcceptedByFilter() {
+    publishModification(new TransportOrder("some-order", new ArrayList<>()));
+    publishModification(new Vehicle("some-vehicle"));
+
+    streamEvents(0, new StatusMessageFilter(Set.of("Vehicle"), Set.of()));
+
+    assertThat(writer.toString(), not(containsString("id: 0\n")));
+    assertThat(writer.toString(), containsString("id: 1\n"));
+  }
+
+  @Test
+  public void notifyAboutDroppedEvents() {
+    when(configuration.statusEventsCapacity()).thenReturn(2);
+    // Restart collecting of events for the new capacity to be applied.
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.OPERATING, Kernel.State.MODELLING, true)
+    );
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", new ArrayList<>());
+    for (int i = 0; i < 5; i++) {
+      publishModification(order);
+    }
+
+    streamEvents(0, new StatusMessageFilter(Set.of(), Set.of()));
+
+    assertThat(writer.toString().startsWith("event: eventsDropped\ndata: 3\n\n"), is(true));
+    assertThat(writer.toString(), containsString("id: 3\n"));
+    assertThat(writer.toString(), containsString("id: 4\n"));
+  }
+
+  @Test
+  public void sendKeepAliveCommentIfThereAreNoEvents() {
+    streamEvents(0, new StatusMessageFilter(Set.of(), Set.of()));
+
+    assertThat(writer.toString(), is(": keep-alive\n\n"));
+  }
+
+  @Test
+  public void stopStreamingIfDispatcherIsTerminated() {
+    statusEventDispatcher.terminate();
+
+    StringWriter plainWriter = new StringWriter();
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () -> statusEventStreamer.streamEvents(0,
+                                               new StatusMessageFilter(Set.of(), Set.of()),
+                                               1,
+                                               plainWriter)
+    );
+
+    assertThat(plainWriter.toString(), is(""));
+  }
+
+  @Test
+  public void stopStreamingWhenDispatcherIsTerminatedWhileWaiting()
+      throws Exception {
+    StringWriter plainWriter = new StringWriter();
+    Thread streamingThread = new Thread(() -> {
+      try {
+        statusEventStreamer.streamEvents(0,
+                                         new StatusMessageFilter(Set.of(), Set.of()),
+                                         60000,
+                                         plainWriter);
+      }
+      catch (IOException exc) {
+        throw new IllegalStateException(exc);
+      }
+    });
+    streamingThread.start();
+
+    statusEventDispatcher.terminate();
+    streamingThread.join(5000);
+
+    assertThat(streamingThread.isAlive(), is(false));
+    assertThat(plainWriter.toString(), not(containsString(": keep-alive")));
+  }
+
+  private void publishModification(TCSObject<?> object) {
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+  }
+
+  private void streamEvents(long minSequenceNo, StatusMessageFilter filter) {
+    assertThrows(IllegalStateException.class,
+                 () -> statusEventStreamer.streamEvents(minSequenceNo, filter, 1, writer));
+  }
+}
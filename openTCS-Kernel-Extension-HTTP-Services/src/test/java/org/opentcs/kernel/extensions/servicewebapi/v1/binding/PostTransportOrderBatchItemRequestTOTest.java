@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.time.Instant;
+import java.util.List;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
+
+/**
+ * Unit tests for {@link PostTransportOrderBatchItemRequestTO}.
+ */
+public class PostTransportOrderBatchItemRequestTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  public void setUp() {
+    jsonBinder = new JsonBinder();
+  }
+
+  @Test
+  public void jsonSample() {
+    PostTransportOrderRequestTO to
+        = new PostTransportOrderBatchItemRequestTO()
+            .setName("some-order")
+            .setIncompleteName(true)
+            .setDispensable(true)
+            .setDeadline(Instant.EPOCH)
+            .setIntendedVehicle("some-vehicle")
+            .setPeripheralReservationToken("some-token")
+            .setWrappingSequence("some-sequence")
+            .setType("some-type")
+            .setDestinations(
+                List.of(
+                    new Destination()
+                        .setLocationName("some-location")
+                        .setOperation("some-operation")
+                )
+            )
+            .setProperties(
+                List.of(
+                    new Property("some-key", "some-value")
+                )
+            )
+            .setDependencies(
+                List.of(
+                    "some-other-order"
+                )
+            );
+
+    Approvals.verify(jsonBinder.toJson(to));
+  }
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.util.List;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+
+/**
+ * Unit tests for {@link PostTransportOrderBatchItemResponseTO}.
+ */
+public class PostTransportOrderBatchItemResponseTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  public void setUp() {
+    jsonBinder = new JsonBinder();
+  }
+
+  @Test
+  public void jsonSample() {
+    List<PostTransportOrderBatchItemResponseTO> to
+        = List.of(
+            new PostTransportOrderBatchItemResponseTO()
+                .setName("some-order")
+                .setCreated(true),
+            PostTransportOrderBatchItemResponseTO.fromError(
+                "some-other-order",
+                "Could not find location 'some-location'."
+            )
+        );
+
+    Approvals.verify(jsonBinder.toJson(to));
+  }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.filter;
+
+import java.util.ArrayList;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
+
+/**
+ * Unit tests for {@link StatusMessageFilter}.
+ */
+public class StatusMessageFilterTest {
+
+  private StatusMessage orderMessage;
+  private StatusMessage vehicleMessage1;
+  private StatusMessage vehicleMessage2;
+
+  @BeforeEach
+  public void setUp() {
+    orderMessage = OrderStatusMessage.fromTransportOrder(
+        new TransportOrder("Order-001", new ArrayList<>()), 0
+    );
+    vehicleMessage1 = VehicleStatusMessage.fromVehicle(new Vehicle("Vehicle-001"), 1);
+    vehicleMessage2 = VehicleStatusMessage.fromVehicle(new Vehicle("Vehicle-002"), 2);
+  }
+
+  @Test
+  public void acceptAllForNoParams() {
+    StatusMessageFilter emptyFilter = new StatusMessageFilter(Set.of(), Set.of());
+    assertTrue(emptyFilter.test(orderMessage));
+    assertTrue(emptyFilter.test(vehicleMessage1));
+    assertTrue(emptyFilter.test(vehicleMessage2));
+  }
+
+  @Test
+  public void acceptMessagesForObjectTypes() {
+    StatusMessageFilter vehicleFilter = new StatusMessageFilter(Set.of("Vehicle"), Set.of());
+    assertFalse(vehicleFilter.test(orderMessage));
+    assertTrue(vehicleFilter.test(vehicleMessage1));
+    assertTrue(vehicleFilter.test(vehicleMessage2));
+  }
+
+  @Test
+  public void acceptMessagesForObjectNames() {
+    StatusMessageFilter nameFilter
+        = new StatusMessageFilter(Set.of(), Set.of("Order-001", "Vehicle-002"));
+    assertTrue(nameFilter.test(orderMessage));
+    assertFalse(nameFilter.test(vehicleMessage1));
+    assertTrue(nameFilter.test(vehicleMessage2));
+  }
+}
@@ -7,7 +7,9 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.filter;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,4 +71,51 @@ public class TransportOrderFilterTest {
     assertFalse(intendedVehicleFilter.test(transportOrder5));
   }
 
+  @Test
+  public void detectsProcessingVehicle() {
+    TransportOrderFilter processingVehicleFilter = new TransportOrderFilter(
+        null, vehicle1Reference.getName(), Set.of(), Set.of(), null, null
+    );
+
+    assertTrue(processingVehicleFilter.test(
+        transportOrder3.withProcessingVehicle(vehicle1Reference)
+    ));
+    assertFalse(processingVehicleFilter.test(transportOrder1));
+  }
+
+  @Test
+  public void detectsStatesAndTypes() {
+    TransportOrderFilter filter = new TransportOrderFilter(
+        null,
+        null,
+        Set.of(TransportOrder.State.ACTIVE, TransportOrder.State.BEING_PROCESSED),
+        Set.of("Park"),
+        null,
+        null
+    );
+
+    assertTrue(filter.test(
+        transportOrder1.withState(TransportOrder.State.ACTIVE).withType("Park")
+    ));
+    assertFalse(filter.test(
+        transportOrder1.withState(TransportOrder.State.FINISHED).withType("Park")
+    ));
+    assertFalse(filter.test(
+        transportOrder1.withState(TransportOrder.State.ACTIVE).withType("Charge")
+    ));
+  }
+
+  @Test
+  public void detectsCreationTimeWindow() {
+    Instant minCreationTime = Instant.parse("2024-01-01T00:00:00Z");
+    Instant maxCreationTime = Instant.parse("2024-01-02T00:00:00Z");
+    TransportOrderFilter filter = new TransportOrderFilter(
+        null, null, Set.of(), Set.of(), minCreationTime, maxCreationTime
+    );
+
+    assertTrue(filter.test(transportOrder1.withCreationTime(minCreationTime)));
+    assertTrue(filter.test(transportOrder1.withCreationTime(minCreationTime.plusSeconds(60))));
+    assertFalse(filter.test(transportOrder1.withCreationTime(minCreationTime.minusMillis(1))));
+    assertFalse(filter.test(transportOrder1.withCreationTime(maxCreationTime)));
+  }
 }
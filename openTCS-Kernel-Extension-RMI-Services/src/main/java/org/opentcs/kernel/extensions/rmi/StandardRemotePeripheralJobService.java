@@ -12,8 +12,10 @@ import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
@@ -22,6 +24,8 @@ import org.opentcs.access.rmi.services.RemotePeripheralJobService;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.PeripheralJobService;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -163,4 +167,14 @@ public class StandardRemotePeripheralJobService
       throw findSuitableExceptionFor(exc);
     }
   }
+
+  @Override
+  public Set<PeripheralJob> fetchPeripheralJobs(
+      ClientID clientId,
+      TCSObjectReference<TransportOrder> relatedTransportOrder,
+      Predicate<? super PeripheralJob> predicate) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return peripheralJobService.fetchPeripheralJobs(relatedTransportOrder, predicate);
+  }
 }
@@ -11,19 +11,24 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteTransportOrderService;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.slf4j.Logger;
@@ -178,6 +183,35 @@ public class StandardRemoteTransportOrderService
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos) {
+    userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
+
+    try {
+      return kernelExecutor.submit(() -> transportOrderService.createTransportOrders(tos)).get();
+    }
+    catch (InterruptedException | ExecutionException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrders(
+      ClientID clientId,
+      Set<TransportOrder.State> states,
+      TCSObjectReference<Vehicle> intendedVehicle,
+      TCSObjectReference<Vehicle> processingVehicle,
+      Predicate<? super TransportOrder> predicate) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return transportOrderService.fetchTransportOrders(states,
+                                                      intendedVehicle,
+                                                      processingVehicle,
+                                                      predicate);
+  }
+
   @Override
   public void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref) {
     userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
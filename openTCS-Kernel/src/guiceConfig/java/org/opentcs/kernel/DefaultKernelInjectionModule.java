@@ -12,11 +12,14 @@ import com.google.inject.multibindings.MapBinder;
 import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Singleton;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
+import org.opentcs.common.ExecutionLanes;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
@@ -76,6 +79,7 @@ import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.AsyncEventBus;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
@@ -235,7 +239,35 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+    EventBus newEventBus;
+    if (configuration.eventDeliveryThreads() <= 0) {
+      newEventBus = new SimpleEventBus();
+    }
+    else {
+      AtomicInteger deliveryThreadCount = new AtomicInteger();
+      ExecutorService deliveryExecutor = Executors.newFixedThreadPool(
+          configuration.eventDeliveryThreads(),
+          runnable -> {
+            Thread thread = new Thread(runnable,
+                                       "eventDelivery-" + deliveryThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+            return thread;
+          }
+      );
+      AsyncEventBus asyncEventBus = new AsyncEventBus(deliveryExecutor,
+                                                      configuration.eventQueueCapacity(),
+                                                      configuration.eventQueueOverflowPolicy());
+      bind(AsyncEventBus.class)
+          .toInstance(asyncEventBus);
+      extensionsBinderAllModes().addBinding()
+          .to(EventDeliveryStatisticsLogger.class)
+          .in(Singleton.class);
+      newEventBus = asyncEventBus;
+    }
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -301,5 +333,29 @@ public class DefaultKernelInjectionModule
     bind(Executor.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
+
+    int laneThreads = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                                     KernelApplicationConfiguration.class)
+        .executionLaneThreads();
+    if (laneThreads <= 0) {
+      bind(ExecutionLanes.class)
+          .toInstance(new ExecutionLanes(executor));
+      return;
+    }
+
+    AtomicInteger laneThreadCount = new AtomicInteger();
+    ScheduledExecutorService laneWorkerPool
+        = new LoggingScheduledThreadPoolExecutor(
+            laneThreads,
+            runnable -> {
+              Thread thread = new Thread(runnable,
+                                         "executionLane-" + laneThreadCount.incrementAndGet());
+              thread.setDaemon(true);
+              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+              return thread;
+            }
+        );
+    bind(ExecutionLanes.class)
+        .toInstance(new ExecutionLanes(executor, laneWorkerPool));
   }
 }
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.services;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.TCSObjectManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+
+/**
+ * Measures the throughput of reader threads fetching objects via {@link StandardTCSObjectService}
+ * while a writer thread keeps modifying objects.
+ * <p>
+ * The <em>locked</em> group reads while holding the global synchronization object, as all reads
+ * used to do; the <em>unlocked</em> group reads without it.
+ * By default, each group consists of seven reader threads and one writer thread. Other
+ * distributions can be measured via JMH's <code>-tg</code> option, e.g. <code>-tg 31,1</code>.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectServiceContentionBenchmark {
+
+  /**
+   * The number of points in the repository.
+   */
+  @Param({"100", "1000"})
+  public int pointCount;
+
+  private Object globalSyncObject;
+  private StandardTCSObjectService objectService;
+  private Vehicle vehicle;
+  private int writeCount;
+
+  @Setup
+  public void setUp() {
+    globalSyncObject = new Object();
+    TCSObjectRepository objectRepo = new TCSObjectRepository();
+    for (int i = 0; i < pointCount; i++) {
+      objectRepo.addObject(new Point("Point-" + i));
+    }
+    vehicle = new Vehicle("Vehicle-1");
+    objectRepo.addObject(vehicle);
+    objectService = new StandardTCSObjectService(globalSyncObject,
+                                                 new TCSObjectManager(objectRepo, event -> {
+                                                 }));
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(7)
+  public Set<Point> lockedRead() {
+    synchronized (globalSyncObject) {
+      return objectService.fetchObjects(Point.class);
+    }
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public void lockedWrite() {
+    write();
+  }
+
+  @Benchmark
+  @Group("unlocked")
+  @GroupThreads(7)
+  public Set<Point> unlockedRead() {
+    return objectService.fetchObjects(Point.class);
+  }
+
+  @Benchmark
+  @Group("unlocked")
+  @GroupThreads(1)
+  public void unlockedWrite() {
+    write();
+  }
+
+  private void write() {
+    writeCount++;
+    objectService.updateObjectProperty(vehicle.getReference(),
+                                       "writeCount",
+                                       String.valueOf(writeCount));
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel;
+
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.event.AsyncEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically logs statistics about the delivery of events by the asynchronous application event
+ * bus.
+ */
+public class EventDeliveryStatisticsLogger
+    implements KernelExtension {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(EventDeliveryStatisticsLogger.class);
+  /**
+   * The application event bus.
+   */
+  private final AsyncEventBus eventBus;
+  /**
+   * Executes the logging task.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The kernel application's configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
+  /**
+   * The future for the periodic logging task.
+   */
+  private ScheduledFuture<?> loggingTaskFuture;
+  /**
+   * Whether this extension is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventBus The application event bus.
+   * @param kernelExecutor Executes the logging task.
+   * @param configuration The kernel application's configuration.
+   */
+  @Inject
+  public EventDeliveryStatisticsLogger(AsyncEventBus eventBus,
+                                       @KernelExecutor ScheduledExecutorService kernelExecutor,
+                                       KernelApplicationConfiguration configuration) {
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    long interval = configuration.eventStatisticsLogInterval();
+    if (interval > 0) {
+      loggingTaskFuture = kernelExecutor.scheduleWithFixedDelay(this::logStatistics,
+                                                                interval,
+                                                                interval,
+                                                                TimeUnit.MILLISECONDS);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (loggingTaskFuture != null) {
+      loggingTaskFuture.cancel(false);
+      loggingTaskFuture = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Logs a summary of the delivery statistics of all subscribers, and the statistics of subscribers
+   * for which events had to be dropped.
+   */
+  void logStatistics() {
+    List<AsyncEventBus.SubscriberStatistics> statistics = eventBus.getSubscriberStatistics();
+
+    long droppedEvents = 0;
+    long coalescedEvents = 0;
+    int maxQueueLength = 0;
+    for (AsyncEventBus.SubscriberStatistics subscriberStatistics : statistics) {
+      droppedEvents += subscriberStatistics.getDroppedEvents();
+      coalescedEvents += subscriberStatistics.getCoalescedEvents();
+      maxQueueLength = Math.max(maxQueueLength, subscriberStatistics.getMaxQueueLength());
+    }
+
+    LOG.info("Event delivery: {} subscribers, {} dropped events, {} coalesced events, "
+        + "max queue length {}",
+             statistics.size(),
+             droppedEvents,
+             coalescedEvents,
+             maxQueueLength);
+    for (AsyncEventBus.SubscriberStatistics subscriberStatistics : statistics) {
+      if (subscriberStatistics.getDroppedEvents() > 0) {
+        LOG.info("{}", subscriberStatistics);
+      }
+      else {
+        LOG.debug("{}", subscriberStatistics);
+      }
+    }
+  }
+}
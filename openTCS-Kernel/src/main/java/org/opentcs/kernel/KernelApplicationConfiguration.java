@@ -7,8 +7,10 @@
  */
 package org.opentcs.kernel;
 
+import java.util.List;
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.AsyncEventBus;
 
 /**
  * Provides common kernel configuration entries.
@@ -50,4 +52,75 @@ public interface KernelApplicationConfiguration {
       description = "Whether to implicitly update the router's topology when a path is (un)locked.",
       orderKey = "3_topologyUpdate")
   boolean updateRoutingTopologyOnPathLockChange();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The number of worker threads executing the execution lanes of loopback vehicles (one "
+        + "lane per vehicle) and of the default dispatcher.",
+        "If 0, execution lanes are disabled and all such work is done by the kernel executor."},
+      orderKey = "4_executor")
+  int executionLaneThreads();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The number of threads delivering application events to subscribers asynchronously.",
+        "If 0, events are delivered synchronously by the publishing thread."},
+      orderKey = "5_events_0")
+  int eventDeliveryThreads();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of events waiting to be delivered to a single subscriber "
+      + "(if events are delivered asynchronously).",
+      orderKey = "5_events_1")
+  int eventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "What to do when an event is published while a subscriber's queue is full (if events are "
+        + "delivered asynchronously).",
+        "Possible values:",
+        "BLOCK: Wait until there is room in the subscriber's queue. Note that this may result in "
+        + "deadlocks.",
+        "DROP_OLDEST: Discard the oldest object modification event in the subscriber's queue that "
+        + "is superseded by a subsequent modification event for the same object.",
+        "COALESCE_BY_OBJECT_NAME: Merge the event with an object modification event for the same "
+        + "object already waiting in the queue, or proceed as with DROP_OLDEST if there is none.",
+        "Only superseded object modification events are discarded, so subscribers always receive "
+        + "the latest state of every object. If there is no event to be discarded, the queue's "
+        + "capacity is exceeded instead."},
+      orderKey = "5_events_2")
+  AsyncEventBus.OverflowPolicy eventQueueOverflowPolicy();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+        "The interval (in ms) in which statistics about the delivery of events are logged (if "
+        + "events are delivered asynchronously).",
+        "If 0, no statistics are logged."},
+      orderKey = "5_events_3")
+  long eventStatisticsLogInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The time window (in ms) within which changes of a vehicle's precise position, orientation "
+        + "angle and energy level are merged into a single update of the vehicle.",
+        "If 0, every change results in a separate update."},
+      orderKey = "6_vehicles")
+  int vehicleStateUpdateCoalescingWindow();
+
+  @ConfigurationEntry(
+      type = "Comma-separated list of <class name>=<number>",
+      description = {
+        "The maximum number of history entries kept for objects of the respective classes, e.g. "
+        + "'TransportOrder=100,Vehicle=50'.",
+        "When an entry is appended to a history that already contains the maximum number of "
+        + "entries, the oldest entry is discarded.",
+        "Objects of classes not listed here keep all of their history entries."},
+      orderKey = "7_history")
+  List<String> maxObjectHistoryEntries();
 }
@@ -10,7 +10,6 @@ package org.opentcs.kernel;
 import com.google.common.collect.Iterables;
 import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -24,6 +23,8 @@ import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_STATE;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -120,11 +121,17 @@ public class OrderCleanerTask
 
       // Remove all transport orders in a final state that do NOT belong to a sequence and that are
       // older than the threshold, including their related peripheral jobs.
-      for (TransportOrder transportOrder
-               : orderPoolManager.getObjectRepo().getObjects(
-              TransportOrder.class,
-              new OrderApproval(creationTimeThreshold))) {
-        removeTransportOrderAndRelatedPeripheralJobs(transportOrder.getReference());
+      OrderApproval orderApproval = new OrderApproval(creationTimeThreshold);
+      for (TransportOrder.State state : TransportOrder.State.values()) {
+        if (!state.isFinalState()) {
+          continue;
+        }
+        for (TransportOrder transportOrder
+                 : orderPoolManager.getObjectRepo().getObjects(TRANSPORT_ORDERS_BY_STATE,
+                                                               state,
+                                                               orderApproval)) {
+          removeTransportOrderAndRelatedPeripheralJobs(transportOrder.getReference());
+        }
       }
 
       // Remove all order sequences that have been finished, including their transport orders and
@@ -145,8 +152,8 @@ public class OrderCleanerTask
       TCSObjectReference<TransportOrder> transportOrderRef) {
     for (PeripheralJob peripheralJob
              : peripheralJobPoolManager.getObjectRepo().getObjects(
-            PeripheralJob.class,
-            job -> Objects.equals(job.getRelatedTransportOrder(), transportOrderRef))) {
+            PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+            transportOrderRef)) {
       peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
     }
     orderPoolManager.removeTransportOrder(transportOrderRef);
@@ -191,9 +198,9 @@ public class OrderCleanerTask
 
     private boolean isRelatedToJobWithNonFinalState(TransportOrder order) {
       return !peripheralJobPoolManager.getObjectRepo().getObjects(
-          PeripheralJob.class,
-          job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-          && !job.getState().isFinalState()
+          PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+          order.getReference(),
+          job -> !job.getState().isFinalState()
       ).isEmpty();
     }
   }
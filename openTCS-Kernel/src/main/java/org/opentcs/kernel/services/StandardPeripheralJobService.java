@@ -8,6 +8,10 @@
 package org.opentcs.kernel.services;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
@@ -18,8 +22,11 @@ import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
 
 /**
  * This class is the standard implementation of the {@link PeripheralJobService} interface.
@@ -32,6 +39,10 @@ public class StandardPeripheralJobService
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * The container of all course model and transport order objects.
+   */
+  private final TCSObjectRepository globalObjectPool;
   /**
    * The job pool manager.
    */
@@ -42,14 +53,17 @@ public class StandardPeripheralJobService
    *
    * @param objectService The tcs obejct service.
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param globalObjectPool The object pool to be used.
    * @param jobPoolManager The job pool manager to be used.
    */
   @Inject
   public StandardPeripheralJobService(TCSObjectService objectService,
                                       @GlobalSyncObject Object globalSyncObject,
+                                      TCSObjectRepository globalObjectPool,
                                       PeripheralJobPoolManager jobPoolManager) {
     super(objectService);
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.globalObjectPool = requireNonNull(globalObjectPool, "globalObjectPool");
     this.jobPoolManager = requireNonNull(jobPoolManager, "jobPoolManager");
   }
 
@@ -69,4 +83,19 @@ public class StandardPeripheralJobService
       return jobPoolManager.createPeripheralJob(to);
     }
   }
+
+  @Override
+  public Set<PeripheralJob> fetchPeripheralJobs(
+      @Nullable TCSObjectReference<TransportOrder> relatedTransportOrder,
+      @Nonnull Predicate<? super PeripheralJob> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    // Reading from the repository does not require the global lock.
+    if (relatedTransportOrder != null) {
+      return globalObjectPool.getObjects(PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER,
+                                         relatedTransportOrder,
+                                         predicate);
+    }
+    return globalObjectPool.getObjects(PeripheralJob.class, predicate);
+  }
 }
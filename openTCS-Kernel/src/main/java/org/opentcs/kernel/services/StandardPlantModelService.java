@@ -104,9 +104,8 @@ public class StandardPlantModelService
   @Override
   public Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException {
-    synchronized (globalSyncObject) {
-      return plantModelManager.expandResources(resources);
-    }
+    // Only reads objects from the repository, which doesn't require the global lock.
+    return plantModelManager.expandResources(resources);
   }
 
   @Override
@@ -8,6 +8,7 @@
 package org.opentcs.kernel.services;
 
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import javax.inject.Inject;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
@@ -84,7 +85,9 @@ public class StandardRouterService
       plantModelManager.setPathLocked(ref, locked);
       if (kernel.getState() == Kernel.State.OPERATING
           && configuration.updateRoutingTopologyOnPathLockChange()) {
-        updateRoutingTopology();
+        // Only the locked/unlocked path changed, so let the router update just that part.
+        router.topologyChanged(Set.of(ref));
+        dispatcher.topologyChanged();
       }
     }
   }
@@ -53,36 +53,29 @@ public class StandardTCSObjectService
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, ref);
-    }
+    // Reading objects from the repository doesn't require the global lock - see its class comment.
+    return getObjectRepo().getObjectOrNull(clazz, ref);
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, name);
-    }
+    return getObjectRepo().getObjectOrNull(clazz, name);
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getObjectRepo().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(object);
-      }
-      return copies;
+    Set<T> objects = getObjectRepo().getObjects(clazz);
+    Set<T> copies = new HashSet<>();
+    for (T object : objects) {
+      copies.add(object);
     }
+    return copies;
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
                                                       @Nonnull Predicate<? super T> predicate) {
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjects(clazz, predicate);
-    }
+    return getObjectRepo().getObjects(clazz, predicate);
   }
 
   @Override
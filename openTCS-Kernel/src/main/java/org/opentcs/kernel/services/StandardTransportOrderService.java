@@ -7,10 +7,17 @@
  */
 package org.opentcs.kernel.services;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -24,6 +31,9 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.workingset.PlantModelManager;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_INTENDED_VEHICLE;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_PROCESSING_VEHICLE;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_STATE;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
 
@@ -163,6 +173,68 @@ public class StandardTransportOrderService
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos) {
+    requireNonNull(tos, "tos");
+
+    List<TransportOrderCreationResult> results = new ArrayList<>(tos.size());
+    synchronized (globalSyncObject) {
+      for (TransportOrderCreationTO to : tos) {
+        try {
+          results.add(
+              TransportOrderCreationResult.success(orderPoolManager.createTransportOrder(to))
+          );
+        }
+        catch (ObjectUnknownException | ObjectExistsException | IllegalArgumentException exc) {
+          results.add(TransportOrderCreationResult.failure(exc));
+        }
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrders(
+      @Nonnull Set<TransportOrder.State> states,
+      @Nullable TCSObjectReference<Vehicle> intendedVehicle,
+      @Nullable TCSObjectReference<Vehicle> processingVehicle,
+      @Nonnull Predicate<? super TransportOrder> predicate) {
+    requireNonNull(states, "states");
+    requireNonNull(predicate, "predicate");
+
+    Predicate<TransportOrder> matchingOrders
+        = order -> (states.isEmpty() || states.contains(order.getState()))
+        && (intendedVehicle == null || intendedVehicle.equals(order.getIntendedVehicle()))
+        && (processingVehicle == null || processingVehicle.equals(order.getProcessingVehicle()))
+        && predicate.test(order);
+
+    // Reading from the repository does not require the global lock. Look up the candidates via
+    // the index that is likely to be the most selective one and test only these.
+    if (processingVehicle != null) {
+      return globalObjectPool.getObjects(TRANSPORT_ORDERS_BY_PROCESSING_VEHICLE,
+                                         processingVehicle,
+                                         matchingOrders);
+    }
+    if (intendedVehicle != null) {
+      return globalObjectPool.getObjects(TRANSPORT_ORDERS_BY_INTENDED_VEHICLE,
+                                         intendedVehicle,
+                                         matchingOrders);
+    }
+    if (!states.isEmpty()) {
+      // An order changing between two of the given states while they are being looked up may be
+      // missed, as with any lookup not holding the global lock.
+      Set<TransportOrder> result = new HashSet<>();
+      for (TransportOrder.State state : states) {
+        result.addAll(globalObjectPool.getObjects(TRANSPORT_ORDERS_BY_STATE,
+                                                  state,
+                                                  matchingOrders));
+      }
+      return result;
+    }
+    return globalObjectPool.getObjects(TransportOrder.class, matchingOrders);
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
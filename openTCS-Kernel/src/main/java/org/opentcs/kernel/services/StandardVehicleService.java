@@ -163,6 +163,17 @@ public class StandardVehicleService
     }
   }
 
+  @Override
+  public void updateVehicleTelemetry(TCSObjectReference<Vehicle> ref,
+                                     Triple precisePosition,
+                                     double orientationAngle,
+                                     int energyLevel)
+      throws ObjectUnknownException {
+    synchronized (globalSyncObject) {
+      plantModelManager.setVehicleTelemetry(ref, precisePosition, orientationAngle, energyLevel);
+    }
+  }
+
   @Override
   public void updateVehicleProcState(TCSObjectReference<Vehicle> ref, Vehicle.ProcState state)
       throws ObjectUnknownException {
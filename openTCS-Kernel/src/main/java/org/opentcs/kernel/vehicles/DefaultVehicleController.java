@@ -149,6 +149,10 @@ public class DefaultVehicleController
    * execution of movement commands.
    */
   private final PeripheralInteractor peripheralInteractor;
+  /**
+   * Merges high-frequency changes of the vehicle's process model into single updates.
+   */
+  private final VehicleStateUpdateCoalescer stateUpdateCoalescer;
   /**
    * The transport order that the vehicle is currently processing.
    */
@@ -195,6 +199,7 @@ public class DefaultVehicleController
     requireNonNull(componentsFactory, "componentsFactory");
     this.peripheralInteractor
         = componentsFactory.createPeripheralInteractor(vehicle.getReference());
+    this.stateUpdateCoalescer = componentsFactory.createStateUpdateCoalescer(vehicle, adapter);
   }
 
   @Override
@@ -250,6 +255,7 @@ public class DefaultVehicleController
     peripheralInteractor.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    stateUpdateCoalescer.flush();
     // Reset the vehicle's position.
     updatePosition(null, null);
     vehicleService.updateVehiclePrecisePosition(vehicle.getReference(), null);
@@ -306,55 +312,64 @@ public class DefaultVehicleController
     requireNonNull(newOrder, "newOrder");
     requireNonNull(newOrder.getCurrentDriveOrder(), "newOrder.getCurrentDriveOrder()");
 
-    if (transportOrder == null
-        || !Objects.equals(newOrder.getName(), transportOrder.getName())
-        || newOrder.getCurrentDriveOrderIndex() != transportOrder.getCurrentDriveOrderIndex()) {
-      // We received either a new transport order or the same transport order for its next drive
-      // order.
-      transportOrder = newOrder;
-      setDriveOrder(transportOrder.getCurrentDriveOrder(), transportOrder.getProperties());
-    }
-    else {
-      // We received an update for a drive order we're already processing.
-      transportOrder = newOrder;
+    // The order is read by tasks executed on behalf of the comm adapter (e.g. in the vehicle's
+    // execution lane), while this method may be called from another thread (e.g. the dispatcher's
+    // execution lane).
+    synchronized (commAdapter) {
+      if (transportOrder == null
+          || !Objects.equals(newOrder.getName(), transportOrder.getName())
+          || newOrder.getCurrentDriveOrderIndex() != transportOrder.getCurrentDriveOrderIndex()) {
+        // We received either a new transport order or the same transport order for its next drive
+        // order.
+        transportOrder = newOrder;
+        setDriveOrder(transportOrder.getCurrentDriveOrder(), transportOrder.getProperties());
+      }
+      else {
+        // We received an update for a drive order we're already processing.
+        transportOrder = newOrder;
 
-      checkArgument(driveOrdersContinual(currentDriveOrder, transportOrder.getCurrentDriveOrder()),
-                    "The new and old drive orders are not considered continual.");
+        checkArgument(
+            driveOrdersContinual(currentDriveOrder, transportOrder.getCurrentDriveOrder()),
+            "The new and old drive orders are not considered continual."
+        );
 
-      if (isForcedRerouting(transportOrder.getCurrentDriveOrder())) {
-        Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
-        if (currVehicle.getCurrentPosition() == null) {
-          throw new IllegalArgumentException("The vehicle's current position is unknown.");
-        }
-        Point currPosition = vehicleService.fetchObject(Point.class,
-                                                        currVehicle.getCurrentPosition());
-        // Before interacting with the scheduler in any way, ensure that the we will be able to
-        // allocate the required resources.
-        if (!mayAllocateNow(Set.of(currPosition))) {
-          throw new IllegalArgumentException(
-              "Resources for the vehicle's current position may not be allocated now."
-          );
+        if (isForcedRerouting(transportOrder.getCurrentDriveOrder())) {
+          Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
+          if (currVehicle.getCurrentPosition() == null) {
+            throw new IllegalArgumentException("The vehicle's current position is unknown.");
+          }
+          Point currPosition = vehicleService.fetchObject(Point.class,
+                                                          currVehicle.getCurrentPosition());
+          // Before interacting with the scheduler in any way, ensure that the we will be able to
+          // allocate the required resources.
+          if (!mayAllocateNow(Set.of(currPosition))) {
+            throw new IllegalArgumentException(
+                "Resources for the vehicle's current position may not be allocated now."
+            );
+          }
+
+          freeAllResources();
+          try {
+            // Allocate the resources for the vehicle's current position.
+            scheduler.allocateNow(this, Set.of(currPosition));
+            allocatedResources.add(Set.of(currPosition));
+            vehicleService.updateVehicleAllocatedResources(
+                vehicle.getReference(),
+                toListOfResourceSets(allocatedResources)
+            );
+          }
+          catch (ResourceAllocationException ex) {
+            // May never happen. The caller is expected to call mayAllocateNow() first before
+            // applying forced rerouting.
+            throw new IllegalArgumentException(
+                "Unable to allocate resources for the vehicle's current position.",
+                ex
+            );
+          }
         }
 
-        freeAllResources();
-        try {
-          // Allocate the resources for the vehicle's current position.
-          scheduler.allocateNow(this, Set.of(currPosition));
-          allocatedResources.add(Set.of(currPosition));
-          vehicleService.updateVehicleAllocatedResources(vehicle.getReference(),
-                                                         toListOfResourceSets(allocatedResources));
-        }
-        catch (ResourceAllocationException ex) {
-          // May never happen. The caller is expected to call mayAllocateNow() first before applying
-          // forced rerouting.
-          throw new IllegalArgumentException(
-              "Unable to allocate resources for the vehicle's current position.",
-              ex
-          );
-        }
+        updateDriveOrder(transportOrder.getCurrentDriveOrder(), transportOrder.getProperties());
       }
-
-      updateDriveOrder(transportOrder.getCurrentDriveOrder(), transportOrder.getProperties());
     }
   }
 
@@ -799,6 +814,12 @@ public class DefaultVehicleController
 
   @SuppressWarnings("unchecked")
   private void handleProcessModelEvent(PropertyChangeEvent evt) {
+    if (stateUpdateCoalescer.handle(evt)) {
+      return;
+    }
+    // Apply pending changes first to preserve the order in which changes were reported.
+    stateUpdateCoalescer.flush();
+
     eventBus.onEvent(new ProcessModelEvent(evt.getPropertyName(),
                                            commAdapter.createTransferableProcessModel()));
 
@@ -9,6 +9,7 @@ package org.opentcs.kernel.vehicles;
 
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 
 /**
  * A factory for various components related to a vehicle controller.
@@ -22,4 +23,14 @@ public interface VehicleControllerComponentsFactory {
    * @return A new peripheral interactor.
    */
   PeripheralInteractor createPeripheralInteractor(TCSObjectReference<Vehicle> vehicleRef);
+
+  /**
+   * Creates a new {@link VehicleStateUpdateCoalescer} instance for the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @param commAdapter The communication adapter of the vehicle.
+   * @return A new vehicle state update coalescer.
+   */
+  VehicleStateUpdateCoalescer createStateUpdateCoalescer(Vehicle vehicle,
+                                                         VehicleCommAdapter commAdapter);
 }
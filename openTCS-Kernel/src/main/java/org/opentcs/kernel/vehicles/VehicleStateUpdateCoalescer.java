@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import com.google.inject.assistedinject.Assisted;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Merges high-frequency changes of a vehicle's process model (precise position, orientation angle
+ * and energy level) that arrive within a configurable time window into a single modification of
+ * the vehicle.
+ * <p>
+ * Changes of other attributes are not affected. The vehicle controller is expected to
+ * {@link #flush() flush} pending changes before processing any other change, so changes of a
+ * process model are always applied in the order in which they were reported.
+ * </p>
+ */
+public class VehicleStateUpdateCoalescer {
+
+  /**
+   * The process model attributes whose changes are coalesced.
+   */
+  private static final Set<String> COALESCED_ATTRIBUTES
+      = Set.of(VehicleProcessModel.Attribute.PRECISE_POSITION.name(),
+               VehicleProcessModel.Attribute.ORIENTATION_ANGLE.name(),
+               VehicleProcessModel.Attribute.ENERGY_LEVEL.name());
+  /**
+   * The vehicle.
+   */
+  private final Vehicle vehicle;
+  /**
+   * The communication adapter of the vehicle.
+   */
+  private final VehicleCommAdapter commAdapter;
+  /**
+   * The kernel's vehicle service.
+   */
+  private final InternalVehicleService vehicleService;
+  /**
+   * Where process model events are sent to.
+   */
+  private final EventHandler eventHandler;
+  /**
+   * Executes delayed updates.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The time window (in ms) within which changes are merged.
+   */
+  private final long coalescingWindow;
+  /**
+   * The names of the attributes that have changed since the last update, in the order of their
+   * first change.
+   */
+  private final Set<String> pendingAttributes = new LinkedHashSet<>();
+  /**
+   * The scheduled update, if any.
+   */
+  private ScheduledFuture<?> scheduledUpdate;
+  /**
+   * The number of changes reported.
+   */
+  private long reportedChanges;
+  /**
+   * The number of vehicle updates performed.
+   */
+  private long performedUpdates;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicle The vehicle.
+   * @param commAdapter The communication adapter of the vehicle.
+   * @param vehicleService The kernel's vehicle service.
+   * @param eventHandler Where process model events are sent to.
+   * @param kernelExecutor Executes delayed updates.
+   * @param configuration The kernel's application configuration.
+   */
+  @Inject
+  public VehicleStateUpdateCoalescer(@Assisted @Nonnull Vehicle vehicle,
+                                     @Assisted @Nonnull VehicleCommAdapter commAdapter,
+                                     @Nonnull InternalVehicleService vehicleService,
+                                     @Nonnull @ApplicationEventBus EventHandler eventHandler,
+                                     @KernelExecutor ScheduledExecutorService kernelExecutor,
+                                     @Nonnull KernelApplicationConfiguration configuration) {
+    this.vehicle = requireNonNull(vehicle, "vehicle");
+    this.commAdapter = requireNonNull(commAdapter, "commAdapter");
+    this.vehicleService = requireNonNull(vehicleService, "vehicleService");
+    this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.coalescingWindow = requireNonNull(configuration, "configuration")
+        .vehicleStateUpdateCoalescingWindow();
+  }
+
+  /**
+   * Takes care of the given process model change if it is one of the changes to be coalesced.
+   *
+   * @param evt The change event.
+   * @return {@code true} if, and only if, the change was taken care of, i.e. it will be applied to
+   * the vehicle with the next update.
+   */
+  public boolean handle(@Nonnull PropertyChangeEvent evt) {
+    requireNonNull(evt, "evt");
+
+    if (coalescingWindow <= 0 || !COALESCED_ATTRIBUTES.contains(evt.getPropertyName())) {
+      return false;
+    }
+
+    synchronized (this) {
+      reportedChanges++;
+      pendingAttributes.add(evt.getPropertyName());
+      if (scheduledUpdate == null) {
+        scheduledUpdate = kernelExecutor.schedule(this::flush,
+                                                  coalescingWindow,
+                                                  TimeUnit.MILLISECONDS);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Applies all pending changes to the vehicle immediately.
+   * <p>
+   * Only taking over the pending changes happens while holding this instance's monitor. Events are
+   * published and the vehicle is updated afterwards, as updating the vehicle requires the kernel's
+   * global lock, which callers of this method may already hold.
+   * </p>
+   */
+  public void flush() {
+    List<String> changedAttributes;
+    synchronized (this) {
+      if (scheduledUpdate != null) {
+        scheduledUpdate.cancel(false);
+        scheduledUpdate = null;
+      }
+      if (pendingAttributes.isEmpty()) {
+        return;
+      }
+
+      changedAttributes = new ArrayList<>(pendingAttributes);
+      pendingAttributes.clear();
+      performedUpdates++;
+    }
+
+    VehicleProcessModelTO processModelTO = commAdapter.createTransferableProcessModel();
+    for (String attribute : changedAttributes) {
+      eventHandler.onEvent(new ProcessModelEvent(attribute, processModelTO));
+    }
+
+    VehicleProcessModel processModel = commAdapter.getProcessModel();
+    Vehicle currVehicle = vehicleService.fetchObject(Vehicle.class, vehicle.getReference());
+    // As with separate updates, ignore precise positions for vehicles that are to be ignored.
+    Triple precisePosition
+        = currVehicle.getIntegrationLevel() == Vehicle.IntegrationLevel.TO_BE_IGNORED
+        ? currVehicle.getPrecisePosition()
+        : processModel.getVehiclePrecisePosition();
+    vehicleService.updateVehicleTelemetry(vehicle.getReference(),
+                                          precisePosition,
+                                          processModel.getVehicleOrientationAngle(),
+                                          processModel.getVehicleEnergyLevel());
+  }
+
+  /**
+   * Returns the number of changes reported.
+   *
+   * @return The number of changes reported.
+   */
+  public synchronized long getReportedChanges() {
+    return reportedChanges;
+  }
+
+  /**
+   * Returns the number of vehicle updates performed for the reported changes.
+   *
+   * @return The number of vehicle updates performed for the reported changes.
+   */
+  public synchronized long getPerformedUpdates() {
+    return performedUpdates;
+  }
+}
@@ -636,6 +636,39 @@ public class PlantModelManager
     return vehicle;
   }
 
+  /**
+   * Sets a vehicle's precise position, orientation angle and energy level at once.
+   * If none of them differs from the vehicle's current values, the vehicle is not modified.
+   *
+   * @param ref A reference to the vehicle to be modified.
+   * @param precisePosition The vehicle's precise position.
+   * @param orientationAngle The vehicle's orientation angle.
+   * @param energyLevel The vehicle's energy level.
+   * @return The (possibly) modified vehicle.
+   * @throws ObjectUnknownException If the referenced vehicle does not exist.
+   */
+  public Vehicle setVehicleTelemetry(TCSObjectReference<Vehicle> ref,
+                                     Triple precisePosition,
+                                     double orientationAngle,
+                                     int energyLevel)
+      throws ObjectUnknownException {
+    Vehicle previousState = getObjectRepo().getObject(Vehicle.class, ref);
+    if (Objects.equals(previousState.getPrecisePosition(), precisePosition)
+        && Double.compare(previousState.getOrientationAngle(), orientationAngle) == 0
+        && previousState.getEnergyLevel() == energyLevel) {
+      return previousState;
+    }
+
+    Vehicle vehicle = previousState.withPrecisePosition(precisePosition)
+        .withOrientationAngle(orientationAngle)
+        .withEnergyLevel(energyLevel);
+    getObjectRepo().replaceObject(vehicle);
+    emitObjectEvent(vehicle,
+        previousState,
+        TCSObjectEvent.Type.OBJECT_MODIFIED);
+    return vehicle;
+  }
+
   /**
    * Sets a vehicle's current orientation angle.
    *
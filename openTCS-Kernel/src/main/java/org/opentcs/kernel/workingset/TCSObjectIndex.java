@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Describes a secondary index of a {@link TCSObjectRepository}, i.e. a mapping of keys to the
+ * objects of a specific class with the respective key.
+ * <p>
+ * An index only describes how the key of an object is computed.
+ * The index data itself is maintained by the repositories the index is registered with.
+ * Objects for which the key function returns <code>null</code> are not indexed.
+ * </p>
+ *
+ * @param <T> The type of the indexed objects.
+ * @param <K> The type of the keys.
+ */
+public final class TCSObjectIndex<T extends TCSObject<T>, K> {
+
+  /**
+   * Indexes transport orders by their states.
+   */
+  public static final TCSObjectIndex<TransportOrder, TransportOrder.State>
+      TRANSPORT_ORDERS_BY_STATE
+      = new TCSObjectIndex<>("transportOrdersByState",
+                             TransportOrder.class,
+                             TransportOrder::getState);
+  /**
+   * Indexes transport orders by their intended vehicles.
+   */
+  public static final TCSObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDERS_BY_INTENDED_VEHICLE
+      = new TCSObjectIndex<>("transportOrdersByIntendedVehicle",
+                             TransportOrder.class,
+                             TransportOrder::getIntendedVehicle);
+  /**
+   * Indexes transport orders by their processing vehicles.
+   */
+  public static final TCSObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDERS_BY_PROCESSING_VEHICLE
+      = new TCSObjectIndex<>("transportOrdersByProcessingVehicle",
+                             TransportOrder.class,
+                             TransportOrder::getProcessingVehicle);
+  /**
+   * Indexes transport orders by their wrapping sequences.
+   */
+  public static final TCSObjectIndex<TransportOrder, TCSObjectReference<OrderSequence>>
+      TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE
+      = new TCSObjectIndex<>("transportOrdersByWrappingSequence",
+                             TransportOrder.class,
+                             TransportOrder::getWrappingSequence);
+  /**
+   * Indexes peripheral jobs by their related transport orders.
+   */
+  public static final TCSObjectIndex<PeripheralJob, TCSObjectReference<TransportOrder>>
+      PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER
+      = new TCSObjectIndex<>("peripheralJobsByRelatedTransportOrder",
+                             PeripheralJob.class,
+                             PeripheralJob::getRelatedTransportOrder);
+  /**
+   * Indexes locations by their types.
+   */
+  public static final TCSObjectIndex<Location, TCSObjectReference<LocationType>>
+      LOCATIONS_BY_TYPE
+      = new TCSObjectIndex<>("locationsByType",
+                             Location.class,
+                             Location::getType);
+  /**
+   * The name of this index.
+   */
+  private final String name;
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> objectClass;
+  /**
+   * Computes the key of an object.
+   */
+  private final Function<? super T, ? extends K> keyFunction;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of this index.
+   * @param objectClass The class of the indexed objects.
+   * @param keyFunction Computes the key of an object, or <code>null</code>, if the object is not to
+   * be indexed.
+   */
+  public TCSObjectIndex(@Nonnull String name,
+                        @Nonnull Class<T> objectClass,
+                        @Nonnull Function<? super T, ? extends K> keyFunction) {
+    this.name = requireNonNull(name, "name");
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.keyFunction = requireNonNull(keyFunction, "keyFunction");
+  }
+
+  /**
+   * Returns the name of this index.
+   *
+   * @return The name of this index.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the class of the indexed objects.
+   *
+   * @return The class of the indexed objects.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the key of the given object.
+   *
+   * @param object The object.
+   * @return The key of the given object, or <code>null</code>, if the object is not to be indexed.
+   */
+  @Nullable
+  public K getKey(@Nonnull TCSObject<?> object) {
+    return keyFunction.apply(objectClass.cast(object));
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectIndex{"
+        + "name=" + name
+        + ", objectClass=" + objectClass.getName()
+        + '}';
+  }
+}
@@ -7,6 +7,9 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -17,6 +20,8 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,18 +47,40 @@ public class TCSObjectManager {
    * A handler we should emit object events to.
    */
   private final EventHandler eventHandler;
+  /**
+   * The maximum number of history entries kept for objects, by simple class name.
+   */
+  private final Map<String, Integer> maxHistoryEntries;
+
+  /**
+   * Creates a new instance that keeps all history entries of objects.
+   *
+   * @param objectRepo The object repo.
+   * @param eventHandler The event handler to publish events to.
+   */
+  public TCSObjectManager(@Nonnull TCSObjectRepository objectRepo,
+                          @Nonnull EventHandler eventHandler) {
+    this.objectRepo = requireNonNull(objectRepo, "objectRepo");
+    this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.maxHistoryEntries = Map.of();
+  }
 
   /**
    * Creates a new instance.
    *
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
+   * @param configuration The kernel's application configuration.
    */
   @Inject
   public TCSObjectManager(@Nonnull TCSObjectRepository objectRepo,
-                          @Nonnull @ApplicationEventBus EventHandler eventHandler) {
+                          @Nonnull @ApplicationEventBus EventHandler eventHandler,
+                          @Nonnull KernelApplicationConfiguration configuration) {
     this.objectRepo = requireNonNull(objectRepo, "objectRepo");
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.maxHistoryEntries
+        = parseMaxHistoryEntries(requireNonNull(configuration, "configuration")
+            .maxObjectHistoryEntries());
   }
 
   /**
@@ -110,6 +137,10 @@ public class TCSObjectManager {
     TCSObject<?> previousState = object;
     LOG.debug("Appending history entry to object named '{}': {}", ref.getName(), entry);
     object = object.withHistoryEntry(entry);
+    Integer maxEntries = maxHistoryEntries.get(object.getClass().getSimpleName());
+    if (maxEntries != null && object.getHistory().getEntries().size() > maxEntries) {
+      object = object.withHistory(object.getHistory().withLatestEntries(maxEntries));
+    }
     objectRepo.replaceObject(object);
     emitObjectEvent(object, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -129,4 +160,22 @@ public class TCSObjectManager {
     eventHandler.onEvent(new TCSObjectEvent(currentObjectState, previousObjectState, evtType));
   }
 
+  private static Map<String, Integer> parseMaxHistoryEntries(List<String> configEntries) {
+    Map<String, Integer> result = new HashMap<>();
+    for (String configEntry : configEntries) {
+      if (configEntry.isBlank()) {
+        continue;
+      }
+      String[] parts = configEntry.split("=");
+      checkArgument(parts.length == 2,
+                    "Invalid maximum number of history entries: '%s'",
+                    configEntry);
+      int maxEntries = Integer.parseInt(parts[1].trim());
+      checkArgument(maxEntries >= 0,
+                    "Invalid maximum number of history entries: '%s'",
+                    configEntry);
+      result.put(parts[0].trim(), maxEntries);
+    }
+    return result;
+  }
 }
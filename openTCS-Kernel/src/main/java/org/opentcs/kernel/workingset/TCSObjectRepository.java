@@ -7,10 +7,15 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -25,6 +30,17 @@ import static org.opentcs.util.Assertions.checkArgument;
  * A container for <code>TCSObject</code>s belonging together.
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
+ * In addition to looking up objects by their names, objects can be looked up via secondary
+ * indexes (see {@link TCSObjectIndex}), which are kept up to date as objects are added, replaced
+ * and removed.
+ * </p>
+ * <p>
+ * Modifications of the repository are expected to be serialized by the caller (usually by
+ * synchronizing on the kernel's global synchronization object).
+ * Reading objects does not require any synchronization, though: Since objects are immutable and
+ * the repository's contents are kept in concurrent maps, readers may access the repository while it
+ * is being modified. A reader will then see each object either in its state before or after the
+ * modification, and sets of objects returned may contain both.
  * </p>
  */
 public class TCSObjectRepository {
@@ -32,12 +48,51 @@ public class TCSObjectRepository {
   /**
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
-  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new ConcurrentHashMap<>();
+  /**
+   * The objects contained in this pool, mapped by their names.
+   */
+  private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+  /**
+   * The names of the indexed objects, mapped by their keys, for every registered index.
+   */
+  private final Map<TCSObjectIndex<?, ?>, Map<Object, Set<String>>> indexes
+      = new ConcurrentHashMap<>();
+  /**
+   * The registered indexes, grouped by the classes of the indexed objects.
+   */
+  private final Map<Class<?>, List<TCSObjectIndex<?, ?>>> indexesByClass = new HashMap<>();
 
   /**
    * Creates a new instance.
    */
   public TCSObjectRepository() {
+    addIndex(TCSObjectIndex.TRANSPORT_ORDERS_BY_STATE);
+    addIndex(TCSObjectIndex.TRANSPORT_ORDERS_BY_INTENDED_VEHICLE);
+    addIndex(TCSObjectIndex.TRANSPORT_ORDERS_BY_PROCESSING_VEHICLE);
+    addIndex(TCSObjectIndex.TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE);
+    addIndex(TCSObjectIndex.PERIPHERAL_JOBS_BY_RELATED_TRANSPORT_ORDER);
+    addIndex(TCSObjectIndex.LOCATIONS_BY_TYPE);
+  }
+
+  /**
+   * Registers the given index with this pool and indexes the objects already contained in it.
+   * Registering an index that is already registered has no effect.
+   *
+   * @param index The index to be registered.
+   */
+  public void addIndex(@Nonnull TCSObjectIndex<?, ?> index) {
+    requireNonNull(index, "index");
+
+    if (indexes.containsKey(index)) {
+      return;
+    }
+
+    indexes.put(index, new ConcurrentHashMap<>());
+    indexesByClass.computeIfAbsent(index.getObjectClass(), clazz -> new ArrayList<>()).add(index);
+    for (TCSObject<?> object : objects.getOrDefault(index.getObjectClass(), Map.of()).values()) {
+      addToIndex(index, object);
+    }
   }
 
   /**
@@ -55,12 +110,12 @@ public class TCSObjectRepository {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
-    }
+    objects.computeIfAbsent(newObject.getClass(), clazz -> new ConcurrentHashMap<>())
+        .put(newObject.getName(), newObject);
     objectsByName.put(newObject.getName(), newObject);
+    for (TCSObjectIndex<?, ?> index : indexesFor(newObject)) {
+      addToIndex(index, newObject);
+    }
   }
 
   /**
@@ -85,7 +140,20 @@ public class TCSObjectRepository {
                   object.getClass().getName(),
                   oldObject.getClass().getName());
 
+    // Add the new index keys before replacing the object and remove the old ones only afterwards,
+    // so readers looking up the object via an index never miss it in both states.
+    List<TCSObjectIndex<?, ?>> changedIndexes = new ArrayList<>();
+    for (TCSObjectIndex<?, ?> index : indexesFor(object)) {
+      if (!Objects.equals(index.getKey(oldObject), index.getKey(object))) {
+        changedIndexes.add(index);
+        addToIndex(index, object);
+      }
+    }
     objects.get(object.getClass()).put(object.getName(), object);
+    objectsByName.put(object.getName(), object);
+    for (TCSObjectIndex<?, ?> index : changedIndexes) {
+      removeFromIndex(index, index.getKey(oldObject), object.getName());
+    }
   }
 
   /**
@@ -175,11 +243,7 @@ public class TCSObjectRepository {
   public TCSObject<?> getObjectOrNull(@Nonnull String name) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return objectsByName.get(name);
   }
 
   /**
@@ -252,6 +316,8 @@ public class TCSObjectRepository {
    */
   @Nonnull
   public <T extends TCSObject<T>> Set<T> getObjects(@Nonnull Class<T> clazz) {
+    requireNonNull(clazz, "clazz");
+
     return objects.getOrDefault(clazz, Map.of()).values().stream()
         .map(object -> clazz.cast(object))
         .collect(Collectors.toSet());
@@ -278,6 +344,78 @@ public class TCSObjectRepository {
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns the objects with the given key in the given index.
+   * <p>
+   * The result is only weakly consistent with concurrent modifications: An object being replaced
+   * concurrently may be returned in its state before or after the modification, and in that state
+   * its key may differ from the given one. Callers requiring the key to match should use
+   * {@link #getObjects(TCSObjectIndex, Object, Predicate)} with a predicate that checks the key.
+   * An object is never missed by a single lookup via its key before or after the modification, but
+   * combining several lookups (e.g. for the old and the new key) may miss an object being replaced
+   * in between.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param <K> The key's type.
+   * @param index The index.
+   * @param key The key.
+   * @return The objects with the given key in the given index. If no such objects exist, the
+   * returned set is empty.
+   * @throws IllegalArgumentException If the given index is not registered with this pool.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(@Nonnull TCSObjectIndex<T, K> index,
+                                                       @Nonnull K key)
+      throws IllegalArgumentException {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+    checkArgument(indexes.containsKey(index), "Index not registered: %s", index);
+
+    Set<String> names = indexes.get(index).getOrDefault(key, Set.of());
+    Map<String, TCSObject<?>> objectsOfClass = objects.getOrDefault(index.getObjectClass(),
+                                                                    Map.of());
+    Set<T> result = new HashSet<>();
+    for (String name : names) {
+      TCSObject<?> object = objectsOfClass.get(name);
+      // The object may have been removed concurrently.
+      if (object != null) {
+        result.add(index.getObjectClass().cast(object));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the objects with the given key in the given index for which the given predicate is
+   * true.
+   * <p>
+   * As with {@link #getObjects(TCSObjectIndex, Object)}, objects being replaced concurrently may
+   * be tested and returned in their state before or after the modification. The predicate is
+   * applied to the state returned, though.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param <K> The key's type.
+   * @param index The index.
+   * @param key The key.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return The objects with the given key in the given index for which the given predicate is
+   * true. If no such objects exist, the returned set is empty.
+   * @throws IllegalArgumentException If the given index is not registered with this pool.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(@Nonnull TCSObjectIndex<T, K> index,
+                                                       @Nonnull K key,
+                                                       @Nonnull Predicate<? super T> predicate)
+      throws IllegalArgumentException {
+    requireNonNull(predicate, "predicate");
+
+    Set<T> result = getObjects(index, key);
+    result.removeIf(predicate.negate());
+    return result;
+  }
+
   /**
    * Removes a referenced object from this pool.
    *
@@ -294,10 +432,42 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    objectsByName.remove(obj.getName());
+    for (TCSObjectIndex<?, ?> index : indexesFor(obj)) {
+      removeFromIndex(index, index.getKey(obj), obj.getName());
+    }
     return obj;
   }
 
   private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+    return objectsByName.containsKey(name);
+  }
+
+  private List<TCSObjectIndex<?, ?>> indexesFor(TCSObject<?> object) {
+    return indexesByClass.getOrDefault(object.getClass(), List.of());
+  }
+
+  private void addToIndex(TCSObjectIndex<?, ?> index, TCSObject<?> object) {
+    Object key = index.getKey(object);
+    if (key == null) {
+      return;
+    }
+    indexes.get(index)
+        .computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet())
+        .add(object.getName());
+  }
+
+  private void removeFromIndex(TCSObjectIndex<?, ?> index, Object key, String name) {
+    if (key == null) {
+      return;
+    }
+    Map<Object, Set<String>> namesByKey = indexes.get(index);
+    Set<String> names = namesByKey.get(key);
+    if (names != null) {
+      names.remove(name);
+      if (names.isEmpty()) {
+        namesByKey.remove(key);
+      }
+    }
   }
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.services;
+
+import java.util.List;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.data.peripherals.PeripheralOperation.ExecutionTrigger;
+import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+
+/**
+ * Unit tests for {@link StandardPeripheralJobService}.
+ */
+public class StandardPeripheralJobServiceTest {
+
+  private final TransportOrder order1 = createOrder("Order-01");
+  private final TransportOrder order2 = createOrder("Order-02");
+
+  private TCSObjectRepository objectRepo;
+  private StandardPeripheralJobService jobService;
+
+  private PeripheralJob job1;
+  private PeripheralJob job2;
+  private PeripheralJob job3;
+  private PeripheralJob job4;
+
+  @BeforeEach
+  public void setUp() {
+    objectRepo = new TCSObjectRepository();
+    jobService = new StandardPeripheralJobService(mock(TCSObjectService.class),
+                                                  new Object(),
+                                                  objectRepo,
+                                                  mock(PeripheralJobPoolManager.class));
+
+    job1 = createJob("Job-01").withRelatedTransportOrder(order1.getReference());
+    job2 = createJob("Job-02").withRelatedTransportOrder(order1.getReference());
+    job3 = createJob("Job-03").withRelatedTransportOrder(order2.getReference());
+    job4 = createJob("Job-04");
+
+    objectRepo.addObject(job1);
+    objectRepo.addObject(job2);
+    objectRepo.addObject(job3);
+    objectRepo.addObject(job4);
+  }
+
+  @Test
+  public void fetchJobsByRelatedTransportOrder() {
+    assertThat(jobService.fetchPeripheralJobs(order1.getReference(), job -> true),
+               is(objectRepo.getObjects(
+                   PeripheralJob.class,
+                   job -> order1.getReference().equals(job.getRelatedTransportOrder())
+               )));
+    assertThat(jobService.fetchPeripheralJobs(order2.getReference(), job -> true),
+               is(objectRepo.getObjects(
+                   PeripheralJob.class,
+                   job -> order2.getReference().equals(job.getRelatedTransportOrder())
+               )));
+
+    assertThat(jobService.fetchPeripheralJobs(order1.getReference(), job -> true),
+               containsInAnyOrder(job1, job2));
+    assertThat(jobService.fetchPeripheralJobs(order2.getReference(), job -> true),
+               containsInAnyOrder(job3));
+  }
+
+  @Test
+  public void applyPredicateToJobsOfRelatedTransportOrder() {
+    assertThat(
+        jobService.fetchPeripheralJobs(order1.getReference(),
+                                       job -> !job.getName().equals("Job-01")),
+        containsInAnyOrder(job2)
+    );
+  }
+
+  @Test
+  public void fetchAllJobsWithoutRelatedTransportOrder() {
+    assertThat(jobService.fetchPeripheralJobs(null, job -> true),
+               is(objectRepo.getObjects(PeripheralJob.class, job -> true)));
+    assertThat(jobService.fetchPeripheralJobs(null, job -> true),
+               containsInAnyOrder(job1, job2, job3, job4));
+    assertThat(jobService.fetchPeripheralJobs(null, job -> job.getRelatedTransportOrder() == null),
+               containsInAnyOrder(job4));
+  }
+
+  @Test
+  public void returnNothingForTransportOrderWithoutJobs() {
+    TransportOrder order3 = createOrder("Order-03");
+
+    assertThat(jobService.fetchPeripheralJobs(order3.getReference(), job -> true),
+               is(empty()));
+  }
+
+  private TransportOrder createOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("Point-01").getReference())))
+    );
+  }
+
+  private PeripheralJob createJob(String name) {
+    LocationType locationType = new LocationType("LocationType-01");
+    Location location = new Location("Location-01", locationType.getReference());
+    return new PeripheralJob(name,
+                             "some-token",
+                             new PeripheralOperation(location.getReference(),
+                                                     "some-operation",
+                                                     ExecutionTrigger.BEFORE_MOVEMENT,
+                                                     false));
+  }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.services;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+
+/**
+ * Unit tests for {@link StandardTransportOrderService}.
+ */
+public class StandardTransportOrderServiceTest {
+
+  private final Vehicle vehicle1 = new Vehicle("Vehicle-01");
+  private final Vehicle vehicle2 = new Vehicle("Vehicle-02");
+
+  private TCSObjectRepository objectRepo;
+  private StandardTransportOrderService orderService;
+
+  private TransportOrder order1;
+  private TransportOrder order2;
+  private TransportOrder order3;
+  private TransportOrder order4;
+  private TransportOrder order5;
+
+  @BeforeEach
+  public void setUp() {
+    objectRepo = new TCSObjectRepository();
+    orderService = new StandardTransportOrderService(mock(TCSObjectService.class),
+                                                     new Object(),
+                                                     objectRepo,
+                                                     mock(TransportOrderPoolManager.class),
+                                                     mock(PlantModelManager.class));
+
+    order1 = createOrder("Order-01")
+        .withState(TransportOrder.State.DISPATCHABLE);
+    order2 = createOrder("Order-02")
+        .withState(TransportOrder.State.DISPATCHABLE)
+        .withIntendedVehicle(vehicle1.getReference());
+    order3 = createOrder("Order-03")
+        .withState(TransportOrder.State.BEING_PROCESSED)
+        .withIntendedVehicle(vehicle1.getReference())
+        .withProcessingVehicle(vehicle1.getReference());
+    order4 = createOrder("Order-04")
+        .withState(TransportOrder.State.BEING_PROCESSED)
+        .withProcessingVehicle(vehicle2.getReference());
+    order5 = createOrder("Order-05")
+        .withState(TransportOrder.State.FINISHED)
+        .withProcessingVehicle(vehicle1.getReference());
+
+    objectRepo.addObject(order1);
+    objectRepo.addObject(order2);
+    objectRepo.addObject(order3);
+    objectRepo.addObject(order4);
+    objectRepo.addObject(order5);
+  }
+
+  @Test
+  public void fetchOrdersByProcessingVehicle() {
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class),
+                         null,
+                         vehicle1,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.BEING_PROCESSED),
+                         vehicle1,
+                         vehicle1,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.FINISHED),
+                         vehicle2,
+                         vehicle1,
+                         order -> true);
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          null,
+                                          vehicle1.getReference(),
+                                          order -> true),
+        containsInAnyOrder(order3, order5)
+    );
+  }
+
+  @Test
+  public void fetchOrdersByIntendedVehicle() {
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class),
+                         vehicle1,
+                         null,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.DISPATCHABLE),
+                         vehicle1,
+                         null,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class),
+                         vehicle2,
+                         null,
+                         order -> true);
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          vehicle1.getReference(),
+                                          null,
+                                          order -> true),
+        containsInAnyOrder(order2, order3)
+    );
+  }
+
+  @Test
+  public void fetchOrdersByStates() {
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.DISPATCHABLE),
+                         null,
+                         null,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.DISPATCHABLE,
+                                    TransportOrder.State.BEING_PROCESSED),
+                         null,
+                         null,
+                         order -> true);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.FAILED),
+                         null,
+                         null,
+                         order -> true);
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.of(TransportOrder.State.DISPATCHABLE,
+                                                     TransportOrder.State.FINISHED),
+                                          null,
+                                          null,
+                                          order -> true),
+        containsInAnyOrder(order1, order2, order5)
+    );
+  }
+
+  @Test
+  public void fetchAllOrdersWithoutFilters() {
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class),
+                         null,
+                         null,
+                         order -> true);
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          null,
+                                          null,
+                                          order -> true),
+        containsInAnyOrder(order1, order2, order3, order4, order5)
+    );
+  }
+
+  @Test
+  public void applyPredicateOnEveryLookupPath() {
+    Predicate<TransportOrder> notOrder3 = order -> !order.getName().equals("Order-03");
+
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class), null, vehicle1, notOrder3);
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class), vehicle1, null, notOrder3);
+    assertSameAsFullScan(EnumSet.of(TransportOrder.State.BEING_PROCESSED), null, null, notOrder3);
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class), null, null, notOrder3);
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          null,
+                                          vehicle1.getReference(),
+                                          notOrder3),
+        containsInAnyOrder(order5)
+    );
+  }
+
+  @Test
+  public void reflectStateChangesBetweenQueries() {
+    Set<TransportOrder.State> dispatchable = EnumSet.of(TransportOrder.State.DISPATCHABLE);
+    Set<TransportOrder.State> beingProcessed = EnumSet.of(TransportOrder.State.BEING_PROCESSED);
+
+    assertThat(orderService.fetchTransportOrders(dispatchable, null, null, order -> true),
+               containsInAnyOrder(order1, order2));
+    assertThat(orderService.fetchTransportOrders(beingProcessed, null, null, order -> true),
+               containsInAnyOrder(order3, order4));
+
+    TransportOrder order1Updated = order1
+        .withState(TransportOrder.State.BEING_PROCESSED)
+        .withProcessingVehicle(vehicle2.getReference());
+    objectRepo.replaceObject(order1Updated);
+
+    assertSameAsFullScan(dispatchable, null, null, order -> true);
+    assertSameAsFullScan(beingProcessed, null, null, order -> true);
+    assertSameAsFullScan(EnumSet.noneOf(TransportOrder.State.class),
+                         null,
+                         vehicle2,
+                         order -> true);
+
+    assertThat(orderService.fetchTransportOrders(dispatchable, null, null, order -> true),
+               containsInAnyOrder(order2));
+    assertThat(orderService.fetchTransportOrders(beingProcessed, null, null, order -> true),
+               containsInAnyOrder(order1Updated, order3, order4));
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          null,
+                                          vehicle2.getReference(),
+                                          order -> true),
+        containsInAnyOrder(order1Updated, order4)
+    );
+  }
+
+  @Test
+  public void returnNothingForUnknownVehicle() {
+    Vehicle vehicle3 = new Vehicle("Vehicle-03");
+
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          vehicle3.getReference(),
+                                          null,
+                                          order -> true),
+        is(empty())
+    );
+    assertThat(
+        orderService.fetchTransportOrders(EnumSet.noneOf(TransportOrder.State.class),
+                                          null,
+                                          vehicle3.getReference(),
+                                          order -> true),
+        is(empty())
+    );
+  }
+
+  /**
+   * Checks that fetching transport orders with the given filters returns the same orders as
+   * testing all orders in the repository.
+   */
+  private void assertSameAsFullScan(Set<TransportOrder.State> states,
+                                    Vehicle intendedVehicle,
+                                    Vehicle processingVehicle,
+                                    Predicate<TransportOrder> predicate) {
+    Set<TransportOrder> expected = objectRepo.getObjects(
+        TransportOrder.class,
+        order -> (states.isEmpty() || states.contains(order.getState()))
+        && (intendedVehicle == null
+            || intendedVehicle.getReference().equals(order.getIntendedVehicle()))
+        && (processingVehicle == null
+            || processingVehicle.getReference().equals(order.getProcessingVehicle()))
+        && predicate.test(order)
+    );
+
+    assertThat(
+        orderService.fetchTransportOrders(
+            states,
+            intendedVehicle == null ? null : intendedVehicle.getReference(),
+            processingVehicle == null ? null : processingVehicle.getReference(),
+            predicate
+        ),
+        is(expected)
+    );
+  }
+
+  private TransportOrder createOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("Point-01").getReference())))
+    );
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.kernel.vehicles;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -39,6 +40,7 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.strategies.basic.scheduling.DummyScheduler;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
@@ -113,6 +115,13 @@ public class DefaultVehicleControllerTest {
 
     doReturn(peripheralInteractor).when(componentsFactory)
         .createPeripheralInteractor(vehicle.getReference());
+    doReturn(new VehicleStateUpdateCoalescer(vehicle,
+                                             commAdapter,
+                                             vehicleService,
+                                             eventBus,
+                                             mock(ScheduledExecutorService.class),
+                                             mock(KernelApplicationConfiguration.class)))
+        .when(componentsFactory).createStateUpdateCoalescer(vehicle, commAdapter);
 
     scheduler = spy(new DummyScheduler());
     scheduler.initialize();
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.vehicles;
+
+import java.beans.PropertyChangeEvent;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Unit tests for {@link VehicleStateUpdateCoalescer}.
+ */
+public class VehicleStateUpdateCoalescerTest {
+
+  private Vehicle vehicle;
+  private VehicleProcessModel processModel;
+  private VehicleCommAdapter commAdapter;
+  private InternalVehicleService vehicleService;
+  private EventHandler eventHandler;
+  private ScheduledExecutorService kernelExecutor;
+  private KernelApplicationConfiguration configuration;
+
+  @BeforeEach
+  public void setUp() {
+    vehicle = new Vehicle("Vehicle-1");
+    processModel = new VehicleProcessModel(vehicle);
+    commAdapter = mock(VehicleCommAdapter.class);
+    vehicleService = mock(InternalVehicleService.class);
+    eventHandler = mock(EventHandler.class);
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    configuration = mock(KernelApplicationConfiguration.class);
+
+    doReturn(processModel).when(commAdapter).getProcessModel();
+    doReturn(new VehicleProcessModelTO()).when(commAdapter).createTransferableProcessModel();
+    doReturn(vehicle).when(vehicleService).fetchObject(Vehicle.class, vehicle.getReference());
+    doReturn(mock(ScheduledFuture.class))
+        .when(kernelExecutor).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  public void ignoreChangesIfCoalescingDisabled() {
+    when(configuration.vehicleStateUpdateCoalescingWindow()).thenReturn(0);
+    VehicleStateUpdateCoalescer coalescer = createCoalescer();
+
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.ENERGY_LEVEL)), is(false));
+    verify(kernelExecutor, never()).schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  public void ignoreChangesOfOtherAttributes() {
+    when(configuration.vehicleStateUpdateCoalescingWindow()).thenReturn(100);
+    VehicleStateUpdateCoalescer coalescer = createCoalescer();
+
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.STATE)), is(false));
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.POSITION)), is(false));
+  }
+
+  @Test
+  public void mergeChangesIntoSingleUpdate() {
+    when(configuration.vehicleStateUpdateCoalescingWindow()).thenReturn(100);
+    VehicleStateUpdateCoalescer coalescer = createCoalescer();
+    processModel.setVehiclePrecisePosition(new Triple(1, 2, 3));
+    processModel.setVehicleOrientationAngle(90.0);
+    processModel.setVehicleEnergyLevel(42);
+
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.PRECISE_POSITION)), is(true));
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.PRECISE_POSITION)), is(true));
+    assertThat(coalescer.handle(change(VehicleProcessModel.Attribute.ENERGY_LEVEL)), is(true));
+    verify(vehicleService, never()).updateVehicleTelemetry(any(), any(), anyDouble(), anyInt());
+
+    coalescer.flush();
+
+    verify(kernelExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    verify(vehicleService).updateVehicleTelemetry(vehicle.getReference(),
+                                                  new Triple(1, 2, 3),
+                                                  90.0,
+                                                  42);
+    verify(eventHandler, times(2)).onEvent(any(ProcessModelEvent.class));
+    verify(commAdapter, times(1)).createTransferableProcessModel();
+    assertThat(coalescer.getReportedChanges(), is(3L));
+    assertThat(coalescer.getPerformedUpdates(), is(1L));
+  }
+
+  @Test
+  public void updateVehicleWithoutHoldingMonitor() {
+    when(configuration.vehicleStateUpdateCoalescingWindow()).thenReturn(100);
+    VehicleStateUpdateCoalescer coalescer = createCoalescer();
+    doAnswer(invocation -> {
+      assertThat(Thread.holdsLock(coalescer), is(false));
+      return null;
+    }).when(eventHandler).onEvent(any());
+    doAnswer(invocation -> {
+      assertThat(Thread.holdsLock(coalescer), is(false));
+      return null;
+    }).when(vehicleService).updateVehicleTelemetry(any(), any(), anyDouble(), anyInt());
+
+    coalescer.handle(change(VehicleProcessModel.Attribute.ENERGY_LEVEL));
+    coalescer.flush();
+
+    verify(eventHandler).onEvent(any(ProcessModelEvent.class));
+    verify(vehicleService).updateVehicleTelemetry(any(), any(), anyDouble(), anyInt());
+  }
+
+  @Test
+  public void doNothingOnFlushWithoutPendingChanges() {
+    when(configuration.vehicleStateUpdateCoalescingWindow()).thenReturn(100);
+    VehicleStateUpdateCoalescer coalescer = createCoalescer();
+
+    coalescer.flush();
+
+    verify(vehicleService, never()).updateVehicleTelemetry(any(), any(), anyDouble(), anyInt());
+    assertThat(coalescer.getPerformedUpdates(), is(0L));
+  }
+
+  private VehicleStateUpdateCoalescer createCoalescer() {
+    return new VehicleStateUpdateCoalescer(vehicle,
+                                           commAdapter,
+                                           vehicleService,
+                                           eventHandler,
+                                           kernelExecutor,
+                                           configuration);
+  }
+
+  private PropertyChangeEvent change(VehicleProcessModel.Attribute attribute) {
+    return new PropertyChangeEvent(processModel, attribute.name(), null, null);
+  }
+}
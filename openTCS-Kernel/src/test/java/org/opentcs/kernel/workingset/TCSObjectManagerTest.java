@@ -11,10 +11,15 @@ import java.util.ArrayList;
 import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Point;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -49,4 +54,22 @@ public class TCSObjectManagerTest {
     assertThat(receivedEvents, hasSize(1));
   }
 
+  @Test
+  public void discardOldestHistoryEntriesExceedingConfiguredMaximum() {
+    KernelApplicationConfiguration configuration = mock(KernelApplicationConfiguration.class);
+    when(configuration.maxObjectHistoryEntries()).thenReturn(List.of("Point=2", "Vehicle=5"));
+    objectManager = new TCSObjectManager(objectRepo, eventBus, configuration);
+    Point point = new Point("Point-00001");
+    objectRepo.addObject(point);
+
+    objectManager.appendObjectHistoryEntry(point.getReference(), new ObjectHistory.Entry("A"));
+    objectManager.appendObjectHistoryEntry(point.getReference(), new ObjectHistory.Entry("B"));
+    objectManager.appendObjectHistoryEntry(point.getReference(), new ObjectHistory.Entry("C"));
+
+    List<ObjectHistory.Entry> entries
+        = objectRepo.getObject(Point.class, point.getReference()).getHistory().getEntries();
+    assertThat(entries, hasSize(2));
+    assertThat(entries.get(0).getEventCode(), is("B"));
+    assertThat(entries.get(1).getEventCode(), is("C"));
+  }
 }
@@ -7,11 +7,18 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +27,11 @@ import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_INTENDED_VEHICLE;
+import static org.opentcs.kernel.workingset.TCSObjectIndex.TRANSPORT_ORDERS_BY_STATE;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -147,4 +159,139 @@ public class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  public void throwOnDuplicateNameOfObjectWithDifferentType() {
+    pool.addObject(new Point("my-object"));
+    assertThrows(ObjectExistsException.class,
+                 () -> pool.addObject(new LocationType("my-object")));
+  }
+
+  @Test
+  public void forgetNameOfRemovedObject() {
+    Point point = new Point("some-point");
+
+    pool.addObject(point);
+    pool.removeObject(point.getReference());
+
+    assertThat(pool.getObjectOrNull("some-point"), is(nullValue()));
+    pool.addObject(new LocationType("some-point"));
+    assertThat(pool.getObjectOrNull("some-point"), is(instanceOf(LocationType.class)));
+  }
+
+  @Test
+  public void returnObjectsByIndexKey() {
+    TransportOrder order1 = createOrder("order-1").withState(TransportOrder.State.DISPATCHABLE);
+    TransportOrder order2 = createOrder("order-2").withState(TransportOrder.State.DISPATCHABLE);
+    TransportOrder order3 = createOrder("order-3").withState(TransportOrder.State.FINISHED);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.DISPATCHABLE),
+               containsInAnyOrder(order1, order2));
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.FINISHED),
+               contains(order3));
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.FAILED),
+               is(empty()));
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE,
+                               TransportOrder.State.DISPATCHABLE,
+                               order -> order.getName().equals("order-2")),
+               contains(order2));
+  }
+
+  @Test
+  public void updateIndexOnReplaceAndRemove() {
+    TransportOrder orderV1 = createOrder("some-order").withState(TransportOrder.State.DISPATCHABLE);
+    TransportOrder orderV2 = orderV1.withState(TransportOrder.State.BEING_PROCESSED);
+
+    pool.addObject(orderV1);
+    pool.replaceObject(orderV2);
+
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.DISPATCHABLE),
+               is(empty()));
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.BEING_PROCESSED),
+               contains(orderV2));
+
+    pool.removeObject(orderV2.getReference());
+
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.BEING_PROCESSED),
+               is(empty()));
+  }
+
+  @Test
+  public void doNotIndexObjectsWithoutKey() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    TransportOrder order1 = createOrder("order-1");
+    TransportOrder order2 = createOrder("order-2").withIntendedVehicle(vehicle.getReference());
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(pool.getObjects(TRANSPORT_ORDERS_BY_INTENDED_VEHICLE, vehicle.getReference()),
+               contains(order2));
+  }
+
+  @Test
+  public void indexExistingObjectsOfNewIndex() {
+    TCSObjectIndex<Point, Point.Type> pointsByType
+        = new TCSObjectIndex<>("pointsByType", Point.class, Point::getType);
+    Point point1 = new Point("Point-00001").withType(Point.Type.PARK_POSITION);
+    Point point2 = new Point("Point-00002").withType(Point.Type.HALT_POSITION);
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.addIndex(pointsByType);
+
+    assertThat(pool.getObjects(pointsByType, Point.Type.PARK_POSITION), contains(point1));
+  }
+
+  @Test
+  public void throwOnQueryOfUnregisteredIndex() {
+    TCSObjectIndex<Point, Point.Type> pointsByType
+        = new TCSObjectIndex<>("pointsByType", Point.class, Point::getType);
+
+    assertThrows(IllegalArgumentException.class,
+                 () -> pool.getObjects(pointsByType, Point.Type.PARK_POSITION));
+  }
+
+  @Test
+  public void allowReadingWhileBeingModified()
+      throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      pool.addObject(new Point("Point-" + i));
+    }
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      try {
+        while (!done.get()) {
+          assertThat(pool.getObjects(Point.class).size(), is(greaterThanOrEqualTo(100)));
+          assertThat(pool.getObjectOrNull(Point.class, "Point-42"), is(notNullValue()));
+        }
+      }
+      catch (Throwable exc) {
+        readerFailure.set(exc);
+      }
+    });
+    reader.start();
+
+    for (int i = 0; i < 10000; i++) {
+      Point point = pool.getObject(Point.class, "Point-" + (i % 100));
+      pool.replaceObject(point.withProperty("counter", String.valueOf(i)));
+      pool.addObject(new Point("Additional-Point-" + i));
+    }
+    done.set(true);
+    reader.join();
+
+    assertThat(readerFailure.get(), is(nullValue()));
+  }
+
+  private TransportOrder createOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("some-point").getReference())))
+    );
+  }
 }
@@ -21,6 +21,7 @@ import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.ModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.PrecomputedPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +76,10 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case DIJKSTRA_PRECOMPUTED:
+        bind(PointRouterFactory.class)
+            .to(PrecomputedPointRouterFactory.class);
+        break;
       default:
         LOG.warn("Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
                  spConfiguration.algorithm());
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the computation time of the greedy assignment of transport orders to vehicles with that
+ * of the assignment computed by {@link MinCostAssignment}.
+ * <p>
+ * Vehicles and transport orders are placed randomly on a grid, with the Manhattan distance
+ * between a vehicle and the first destination of a transport order as the routing costs.
+ * Both benchmark methods return the total costs of the assignment they computed.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssignmentStrategyBenchmark {
+
+  /**
+   * The size of the (square) grid vehicles and transport orders are placed on.
+   */
+  private static final int GRID_SIZE = 100;
+  /**
+   * The number of vehicles available for assignments.
+   */
+  @Param({"50", "200"})
+  public int vehicleCount;
+  /**
+   * The number of transport orders available for assignments.
+   */
+  @Param({"50", "500", "2000"})
+  public int orderCount;
+
+  private long[][] costs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(4711);
+    int[][] vehiclePositions = randomPositions(random, vehicleCount);
+    int[][] orderPositions = randomPositions(random, orderCount);
+
+    costs = new long[vehicleCount][orderCount];
+    for (int vehicle = 0; vehicle < vehicleCount; vehicle++) {
+      for (int order = 0; order < orderCount; order++) {
+        costs[vehicle][order]
+            = Math.abs(vehiclePositions[vehicle][0] - orderPositions[order][0])
+            + Math.abs(vehiclePositions[vehicle][1] - orderPositions[order][1]);
+      }
+    }
+  }
+
+  /**
+   * Lets every vehicle, one after the other, pick the cheapest transport order not yet assigned.
+   *
+   * @return The total costs of the assignment.
+   */
+  @Benchmark
+  public long greedy() {
+    boolean[] assigned = new boolean[orderCount];
+    long totalCosts = 0;
+    for (int vehicle = 0; vehicle < vehicleCount; vehicle++) {
+      int bestOrder = -1;
+      for (int order = 0; order < orderCount; order++) {
+        if (!assigned[order]
+            && (bestOrder < 0 || costs[vehicle][order] < costs[vehicle][bestOrder])) {
+          bestOrder = order;
+        }
+      }
+      if (bestOrder >= 0) {
+        assigned[bestOrder] = true;
+        totalCosts += costs[vehicle][bestOrder];
+      }
+    }
+    return totalCosts;
+  }
+
+  /**
+   * Computes an assignment with minimal total costs.
+   *
+   * @return The total costs of the assignment.
+   */
+  @Benchmark
+  public long minCostMatching() {
+    int[] orders = MinCostAssignment.solve(costs);
+    long totalCosts = 0;
+    for (int vehicle = 0; vehicle < vehicleCount; vehicle++) {
+      if (orders[vehicle] != MinCostAssignment.UNASSIGNED) {
+        totalCosts += costs[vehicle][orders[vehicle]];
+      }
+    }
+    return totalCosts;
+  }
+
+  private static int[][] randomPositions(Random random, int count) {
+    int[][] result = new int[count][2];
+    for (int i = 0; i < count; i++) {
+      result[i][0] = random.nextInt(GRID_SIZE);
+      result[i][1] = random.nextInt(GRID_SIZE);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+
+/**
+ * Compares the layered computation of the cheapest route for a transport order in
+ * {@link OrderRouteComputer} with the exhaustive recursion previously used by
+ * {@link DefaultRouter}.
+ * <p>
+ * The transport orders used consist of drive orders to synthetic locations that are each linked
+ * to multiple points on a grid.
+ * Routing costs are the Manhattan distances between points, and route steps are created for
+ * every grid cell passed, similar to what a real point router would return.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderRouteComputerBenchmark {
+
+  /**
+   * The number of drive orders in the transport order.
+   */
+  @Param({"2", "4", "6"})
+  public int driveOrderCount;
+  /**
+   * The number of points linked to each destination location.
+   */
+  @Param({"2", "4", "8"})
+  public int linksPerLocation;
+
+  private Point sourcePoint;
+  private List<DriveOrder> driveOrders;
+  private List<Set<Point>> destinationPoints;
+  private PointRouter pointRouter;
+
+  @Setup
+  public void setUp() {
+    sourcePoint = GridPointRouter.point(0, 0);
+    pointRouter = new GridPointRouter();
+    driveOrders = new ArrayList<>();
+    destinationPoints = new ArrayList<>();
+
+    LocationType locType = new LocationType("LocationType");
+    for (int i = 0; i < driveOrderCount; i++) {
+      Location location = new Location("Location-" + i, locType.getReference());
+      driveOrders.add(new DriveOrder(new DriveOrder.Destination(location.getReference())));
+
+      // Place the locations' points on alternating sides of the grid, so the cheapest route is
+      // not simply found by always choosing the nearest point.
+      Set<Point> points = new HashSet<>();
+      for (int link = 0; link < linksPerLocation; link++) {
+        points.add(GridPointRouter.point((i % 2 == 0) ? 20 + link : link,
+                                         (i % 2 == 0) ? link * 3 : 20 + link * 2));
+      }
+      destinationPoints.add(points);
+    }
+  }
+
+  @Benchmark
+  public Optional<List<DriveOrder>> layered() {
+    return new OrderRouteComputer(false)
+        .computeCheapestOrderRoute(sourcePoint, driveOrders, destinationPoints, pointRouter);
+  }
+
+  @Benchmark
+  public Optional<List<DriveOrder>> exhaustive() {
+    return new ExhaustiveOrderRouteComputer(false)
+        .computeCheapestOrderRoute(sourcePoint, driveOrders, destinationPoints, pointRouter);
+  }
+
+  /**
+   * The exhaustive recursion formerly implemented in {@link DefaultRouter}, retained as a
+   * baseline.
+   * (The only difference is that destination points are passed in instead of being looked up
+   * again for every hop.)
+   */
+  private static class ExhaustiveOrderRouteComputer {
+
+    private final boolean routeToCurrentPosition;
+
+    ExhaustiveOrderRouteComputer(boolean routeToCurrentPosition) {
+      this.routeToCurrentPosition = routeToCurrentPosition;
+    }
+
+    Optional<List<DriveOrder>> computeCheapestOrderRoute(Point sourcePoint,
+                                                         List<DriveOrder> driveOrders,
+                                                         List<Set<Point>> destinationPoints,
+                                                         PointRouter pointRouter) {
+      DriveOrder[] orders = driveOrders.toArray(new DriveOrder[driveOrders.size()]);
+      DriveOrder[] currentRoute = new DriveOrder[orders.length];
+      DriveOrder[] bestRoute = new DriveOrder[orders.length];
+      long[] bestCosts = {Long.MAX_VALUE};
+      compute(sourcePoint,
+              orders,
+              destinationPoints,
+              pointRouter,
+              0,
+              0,
+              currentRoute,
+              bestRoute,
+              bestCosts);
+      return bestCosts[0] == Long.MAX_VALUE
+          ? Optional.empty()
+          : Optional.of(Arrays.asList(bestRoute));
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void compute(Point startPoint,
+                         DriveOrder[] driveOrders,
+                         List<Set<Point>> destinationPoints,
+                         PointRouter pointRouter,
+                         int hopIndex,
+                         long currentCosts,
+                         DriveOrder[] currentRoute,
+                         DriveOrder[] bestRoute,
+                         long[] bestCosts) {
+      if (hopIndex < driveOrders.length) {
+        Set<Point> destPoints = new HashSet<>(destinationPoints.get(hopIndex));
+        if (!routeToCurrentPosition && destPoints.contains(startPoint)) {
+          destPoints.clear();
+          destPoints.add(startPoint);
+        }
+        for (Point curDestPoint : destPoints) {
+          long hopCosts = pointRouter.getCosts(startPoint, curDestPoint);
+          if (hopCosts == INFINITE_COSTS) {
+            continue;
+          }
+          List<Route.Step> steps = pointRouter.getRouteSteps(startPoint, curDestPoint);
+          if (steps.isEmpty()) {
+            steps = new ArrayList<>(1);
+            steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0));
+          }
+          Route hopRoute = new Route(steps, hopCosts);
+          currentRoute[hopIndex] = driveOrders[hopIndex].withRoute(hopRoute);
+          compute(curDestPoint,
+                  driveOrders,
+                  destinationPoints,
+                  pointRouter,
+                  hopIndex + 1,
+                  currentCosts + hopCosts,
+                  currentRoute,
+                  bestRoute,
+                  bestCosts);
+        }
+      }
+      else if (currentCosts < bestCosts[0]) {
+        System.arraycopy(currentRoute, 0, bestRoute, 0, currentRoute.length);
+        bestCosts[0] = currentCosts;
+      }
+    }
+  }
+
+  /**
+   * A point router for points on a grid, with points named after their coordinates.
+   */
+  private static class GridPointRouter
+      implements PointRouter {
+
+    /**
+     * The costs for moving from one grid cell to an adjacent one.
+     */
+    private static final long CELL_COSTS = 1000;
+
+    GridPointRouter() {
+    }
+
+    static Point point(int x, int y) {
+      return new Point(x + "," + y);
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+      int[] src = coordinates(srcPoint.getName());
+      int[] dest = coordinates(destPoint.getName());
+      List<Route.Step> result = new ArrayList<>();
+      Point prev = srcPoint;
+      int x = src[0];
+      int y = src[1];
+      while (x != dest[0] || y != dest[1]) {
+        if (x != dest[0]) {
+          x += Integer.signum(dest[0] - x);
+        }
+        else {
+          y += Integer.signum(dest[1] - y);
+        }
+        Point next = point(x, y);
+        Path path = new Path(prev.getName() + "--" + next.getName(),
+                             prev.getReference(),
+                             next.getReference());
+        result.add(new Route.Step(path, prev, next, Vehicle.Orientation.FORWARD, result.size()));
+        prev = next;
+      }
+      return result;
+    }
+
+    @Override
+    public long getCosts(TCSObjectReference<Point> srcPointRef,
+                         TCSObjectReference<Point> destPointRef) {
+      int[] src = coordinates(srcPointRef.getName());
+      int[] dest = coordinates(destPointRef.getName());
+      return (Math.abs(src[0] - dest[0]) + Math.abs(src[1] - dest[1])) * CELL_COSTS;
+    }
+
+    private static int[] coordinates(String pointName) {
+      int separator = pointName.indexOf(',');
+      return new int[]{Integer.parseInt(pointName.substring(0, separator)),
+                       Integer.parseInt(pointName.substring(separator + 1))};
+    }
+  }
+}
@@ -14,10 +14,10 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Provider;
+import org.opentcs.common.ExecutionLanes;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
@@ -52,11 +52,15 @@ public class DefaultDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The kernel's executor.
+   * Executes dispatching tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService dispatcherExecutor;
 
   private final FullDispatchTask fullDispatchTask;
+  /**
+   * Collapses requests for full dispatch runs.
+   */
+  private final DispatchRequestCoalescer dispatchRequestCoalescer;
 
   private final Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider;
 
@@ -81,7 +85,7 @@ public class DefaultDispatcher
    * @param transportOrderUtil Provides services for working with transport orders.
    * @param vehicleService The vehicle service.
    * @param eventSource Where this instance registers for application events.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param executionLanes Provides the lane executing dispatching tasks.
    * @param fullDispatchTask The full dispatch task.
    * @param periodicDispatchTaskProvider Provides the periodic vehicle redospatching task.
    * @param configuration The dispatcher configuration.
@@ -92,7 +96,7 @@ public class DefaultDispatcher
                            TransportOrderUtil transportOrderUtil,
                            InternalVehicleService vehicleService,
                            @ApplicationEventBus EventSource eventSource,
-                           @KernelExecutor ScheduledExecutorService kernelExecutor,
+                           ExecutionLanes executionLanes,
                            FullDispatchTask fullDispatchTask,
                            Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
                            DefaultDispatcherConfiguration configuration,
@@ -101,12 +105,17 @@ public class DefaultDispatcher
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.eventSource = requireNonNull(eventSource, "eventSource");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcherExecutor = requireNonNull(executionLanes, "executionLanes")
+        .getLane("dispatcher");
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(periodicDispatchTaskProvider,
                                                        "periodicDispatchTaskProvider");
     this.configuration = requireNonNull(configuration, "configuration");
     this.rerouteUtil = requireNonNull(rerouteUtil, "rerouteUtil");
+    this.dispatchRequestCoalescer
+        = new DispatchRequestCoalescer(dispatcherExecutor,
+                                       fullDispatchTask,
+                                       configuration.minDispatchInterval());
   }
 
   @Override
@@ -127,7 +136,7 @@ public class DefaultDispatcher
 
     LOG.debug("Scheduling periodic dispatch task with interval of {} ms...",
               configuration.idleVehicleRedispatchingInterval());
-    periodicDispatchTaskFuture = kernelExecutor.scheduleAtFixedRate(
+    periodicDispatchTaskFuture = dispatcherExecutor.scheduleAtFixedRate(
         periodicDispatchTaskProvider.get(),
         configuration.idleVehicleRedispatchingInterval(),
         configuration.idleVehicleRedispatchingInterval(),
@@ -151,6 +160,8 @@ public class DefaultDispatcher
     eventSource.unsubscribe(implicitDispatchTrigger);
     implicitDispatchTrigger = null;
 
+    dispatchRequestCoalescer.cancel();
+    LOG.debug("Dispatch request statistics: {}", dispatchRequestCoalescer);
     fullDispatchTask.terminate();
 
     initialized = false;
@@ -163,9 +174,9 @@ public class DefaultDispatcher
 
   @Override
   public void dispatch() {
-    LOG.debug("Scheduling dispatch task...");
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(fullDispatchTask);
+    LOG.debug("Requesting dispatch run...");
+    // Have this executed by the dispatcher's executor, unless a run is already pending.
+    dispatchRequestCoalescer.request();
   }
 
   @Override
@@ -173,8 +184,8 @@ public class DefaultDispatcher
     requireNonNull(order, "order");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher's executor.
+    dispatcherExecutor.submit(() -> {
       LOG.debug("Scheduling withdrawal for transport order '{}' (immediate={})...",
                 order.getName(),
                 immediateAbort);
@@ -187,8 +198,8 @@ public class DefaultDispatcher
     requireNonNull(vehicle, "vehicle");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher's executor.
+    dispatcherExecutor.submit(() -> {
       LOG.debug("Scheduling withdrawal for vehicle '{}' (immediate={})...",
                 vehicle.getName(),
                 immediateAbort);
@@ -200,7 +211,7 @@ public class DefaultDispatcher
   public void topologyChanged() {
     if (configuration.rerouteOnTopologyChanges()) {
       LOG.debug("Scheduling reroute task...");
-      kernelExecutor.submit(() -> {
+      dispatcherExecutor.submit(() -> {
         LOG.info("Rerouting all vehicles due to topology change...");
         rerouteUtil.reroute(vehicleService.fetchObjects(Vehicle.class), ReroutingType.REGULAR);
       });
@@ -210,7 +221,7 @@ public class DefaultDispatcher
   @Override
   public void reroute(Vehicle vehicle, ReroutingType reroutingType) {
     LOG.debug("Scheduling reroute task...");
-    kernelExecutor.submit(() -> {
+    dispatcherExecutor.submit(() -> {
       LOG.info(
           "Rerouting vehicle due to explicit request: {} ({}, current position {})...",
           vehicle.getName(),
@@ -74,6 +74,40 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "0_assign_special_0")
   long deadlineAtRiskPeriod();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The number of threads used to compute assignment candidates (routes) in parallel.",
+        "If this value is 1 or less, candidates are computed sequentially by the kernel executor.",
+        "Candidates are selected and assigned by the kernel executor in any case."},
+      orderKey = "0_assign_special_1")
+  int candidateComputationThreads();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "The strategy to use for assigning transport orders to vehicles.",
+        "Possible values:",
+        "GREEDY: Process vehicles or transport orders one after the other according to the "
+        + "configured priorities, assigning the respective best candidate to each of them.",
+        "MIN_COST_MATCHING: Assign transport orders to vehicles such that as many of them as "
+        + "possible are assigned and the sum of the routing costs to their first destinations is "
+        + "minimal. The configured priorities of vehicles, transport orders and candidates are "
+        + "not taken into account."},
+      orderKey = "0_assign_special_2")
+  AssignmentStrategy assignmentStrategy();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to keep track of the vehicles and transport orders to be considered for "
+        + "assignments based on object change events.",
+        "If true, only the dispatchable transport orders, i.e. newly dispatchable ones and the "
+        + "ones that could not be assigned before, are checked in every dispatch run.",
+        "If false, all vehicles and transport orders are checked in every dispatch run."},
+      orderKey = "0_assign_special_3")
+  boolean incrementalDispatching();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -150,6 +184,29 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "9_misc")
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The minimum time (in ms) between the starts of two consecutive full dispatch runs.",
+        "Dispatch requests arriving while a run is pending or in progress are collapsed into at "
+        + "most one follow-up run, regardless of this value."},
+      orderKey = "9_misc_1")
+  long minDispatchInterval();
+
+  /**
+   * The available strategies for assigning transport orders to vehicles.
+   */
+  enum AssignmentStrategy {
+    /**
+     * Assign the best candidate to each vehicle or transport order in turn.
+     */
+    GREEDY,
+    /**
+     * Compute an assignment with minimal total routing costs for all vehicles and transport orders.
+     */
+    MIN_COST_MATCHING;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
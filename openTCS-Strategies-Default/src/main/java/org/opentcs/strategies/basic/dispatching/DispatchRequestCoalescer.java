@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collapses requests for dispatch runs, so that bursts of requests result in as few runs as
+ * possible.
+ * <p>
+ * A request results in a new run only if no run is pending, yet.
+ * If a run is currently in progress, the request marks the dispatcher's state as dirty, which
+ * results in (at most) one follow-up run after the current one has finished.
+ * Consecutive runs are started at least the configured minimum interval apart.
+ * </p>
+ */
+public class DispatchRequestCoalescer {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DispatchRequestCoalescer.class);
+  /**
+   * Executes the dispatch runs.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The dispatch run to be executed.
+   */
+  private final Runnable dispatchTask;
+  /**
+   * The minimum time (in ms) between the starts of two consecutive runs.
+   */
+  private final long minInterval;
+  /**
+   * Indicates whether a run is scheduled, but not started, yet.
+   */
+  private boolean runPending;
+  /**
+   * The future of the pending run, if any.
+   */
+  private ScheduledFuture<?> pendingRunFuture;
+  /**
+   * Indicates whether a run is currently in progress.
+   */
+  private boolean running;
+  /**
+   * Indicates whether a run was requested while another one was in progress.
+   */
+  private boolean dirty;
+  /**
+   * The time (in ns) at which the last run was started.
+   */
+  private long lastRunStart;
+  /**
+   * Indicates whether a run has been started before.
+   */
+  private boolean runStartedBefore;
+  /**
+   * The number of runs requested.
+   */
+  private long requestedRuns;
+  /**
+   * The number of runs executed.
+   */
+  private long executedRuns;
+  /**
+   * The number of requested runs that were skipped because they were covered by another run.
+   */
+  private long skippedRuns;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the dispatch runs.
+   * @param dispatchTask The dispatch run to be executed.
+   * @param minInterval The minimum time (in ms) between the starts of two consecutive runs.
+   */
+  public DispatchRequestCoalescer(@Nonnull ScheduledExecutorService executor,
+                                  @Nonnull Runnable dispatchTask,
+                                  long minInterval) {
+    this.executor = requireNonNull(executor, "executor");
+    this.dispatchTask = requireNonNull(dispatchTask, "dispatchTask");
+    checkArgument(minInterval >= 0, "minInterval is negative: %s", minInterval);
+    this.minInterval = minInterval;
+  }
+
+  /**
+   * Requests a dispatch run.
+   */
+  public synchronized void request() {
+    requestedRuns++;
+
+    if (runPending) {
+      // The pending run will take this request into account.
+      skippedRuns++;
+      return;
+    }
+    if (running) {
+      if (dirty) {
+        skippedRuns++;
+      }
+      dirty = true;
+      return;
+    }
+
+    scheduleRun();
+  }
+
+  /**
+   * Cancels a pending run and forgets about runs requested while a run is in progress.
+   */
+  public synchronized void cancel() {
+    if (pendingRunFuture != null) {
+      pendingRunFuture.cancel(false);
+      pendingRunFuture = null;
+    }
+    runPending = false;
+    dirty = false;
+  }
+
+  /**
+   * Returns the number of runs pending, i.e. scheduled or requested, but not started, yet.
+   *
+   * @return The number of runs pending.
+   */
+  public synchronized int getPendingRuns() {
+    return (runPending || dirty) ? 1 : 0;
+  }
+
+  /**
+   * Returns the number of runs requested.
+   *
+   * @return The number of runs requested.
+   */
+  public synchronized long getRequestedRuns() {
+    return requestedRuns;
+  }
+
+  /**
+   * Returns the number of runs executed.
+   *
+   * @return The number of runs executed.
+   */
+  public synchronized long getExecutedRuns() {
+    return executedRuns;
+  }
+
+  /**
+   * Returns the number of requested runs that were skipped because they were covered by another
+   * run.
+   *
+   * @return The number of requested runs that were skipped.
+   */
+  public synchronized long getSkippedRuns() {
+    return skippedRuns;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "DispatchRequestCoalescer{"
+        + "minInterval=" + minInterval
+        + ", pendingRuns=" + getPendingRuns()
+        + ", requestedRuns=" + requestedRuns
+        + ", executedRuns=" + executedRuns
+        + ", skippedRuns=" + skippedRuns
+        + '}';
+  }
+
+  private void scheduleRun() {
+    long delay = 0;
+    if (runStartedBefore) {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastRunStart);
+      delay = Math.max(0, minInterval - elapsed);
+    }
+    LOG.debug("Scheduling dispatch run with a delay of {} ms...", delay);
+    runPending = true;
+    pendingRunFuture = executor.schedule(this::executeRun, delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void executeRun() {
+    synchronized (this) {
+      runPending = false;
+      pendingRunFuture = null;
+      running = true;
+      runStartedBefore = true;
+      lastRunStart = System.nanoTime();
+    }
+
+    try {
+      dispatchTask.run();
+    }
+    finally {
+      synchronized (this) {
+        running = false;
+        executedRuns++;
+        LOG.debug("Finished dispatch run: {}", this);
+        if (dirty) {
+          dirty = false;
+          scheduleRun();
+        }
+      }
+    }
+  }
+}
@@ -12,15 +12,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -30,6 +37,8 @@ import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_DISPATCHIN
 import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_DISPATCHING_RESUMED;
 import static org.opentcs.data.order.TransportOrderHistoryCodes.ORDER_RESERVED_FOR_VEHICLE;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.AssignmentStrategy.MIN_COST_MATCHING;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -46,6 +55,8 @@ import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransp
 import org.opentcs.strategies.basic.dispatching.selection.orders.IsFreelyDispatchableToAnyVehicle;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeVehicleSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.IsAvailableForAnyOrder;
+import org.opentcs.util.event.EventSource;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -106,7 +117,24 @@ public class AssignFreeOrdersPhase
   private final CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter;
 
   private final TransportOrderUtil transportOrderUtil;
-
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Where this instance registers for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Keeps track of the vehicles and transport orders to be considered for assignments, or
+   * <code>null</code>, if they are looked up among all objects for every run.
+   */
+  private DispatchCandidateTracker candidateTracker;
+  /**
+   * Computes assignment candidates in parallel, or <code>null</code>, if candidates are computed
+   * sequentially.
+   */
+  private ExecutorService candidateExecutor;
   /**
    * Indicates whether this component is initialized.
    */
@@ -126,7 +154,9 @@ public class AssignFreeOrdersPhase
       IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle,
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
-      TransportOrderUtil transportOrderUtil) {
+      TransportOrderUtil transportOrderUtil,
+      DefaultDispatcherConfiguration configuration,
+      @ApplicationEventBus EventSource eventSource) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -145,6 +175,8 @@ public class AssignFreeOrdersPhase
     this.assignmentCandidateSelectionFilter = requireNonNull(assignmentCandidateSelectionFilter,
                                                              "assignmentCandidateSelectionFilter");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
   }
 
   @Override
@@ -152,6 +184,28 @@ public class AssignFreeOrdersPhase
     if (isInitialized()) {
       return;
     }
+
+    if (configuration.candidateComputationThreads() > 1) {
+      AtomicInteger threadCount = new AtomicInteger();
+      candidateExecutor = Executors.newFixedThreadPool(
+          configuration.candidateComputationThreads(),
+          runnable -> {
+            Thread thread = new Thread(runnable,
+                                       "candidateComputation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+            return thread;
+          }
+      );
+    }
+
+    if (configuration.incrementalDispatching()) {
+      candidateTracker = new DispatchCandidateTracker(objectService);
+      // Subscribe before the initial scan, so no changes get lost in between.
+      eventSource.subscribe(candidateTracker);
+      candidateTracker.rescan();
+    }
+
     initialized = true;
   }
 
@@ -165,13 +219,24 @@ public class AssignFreeOrdersPhase
     if (!isInitialized()) {
       return;
     }
+
+    if (candidateExecutor != null) {
+      candidateExecutor.shutdownNow();
+      candidateExecutor = null;
+    }
+
+    if (candidateTracker != null) {
+      eventSource.unsubscribe(candidateTracker);
+      candidateTracker = null;
+    }
+
     initialized = false;
   }
 
   @Override
   public void run() {
     Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
-        = objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder)
+        = fetchAvailableVehicles()
             .stream()
             .map(order -> new VehicleFilterResult(order, vehicleSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
@@ -188,7 +253,7 @@ public class AssignFreeOrdersPhase
     // Select only dispatchable orders first, then apply the composite filter, handle
     // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
     Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+        = fetchDispatchableOrders()
             .stream()
             .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
@@ -201,22 +266,44 @@ public class AssignFreeOrdersPhase
                        .collect(Collectors.toList()));
   }
 
+  private Collection<Vehicle> fetchAvailableVehicles() {
+    if (candidateTracker == null) {
+      return objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder);
+    }
+    return candidateTracker.fetchVehicles(isAvailableForAnyOrder);
+  }
+
+  private Collection<TransportOrder> fetchDispatchableOrders() {
+    if (candidateTracker == null) {
+      return objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle);
+    }
+    LOG.debug("Checking {} tracked transport orders...", candidateTracker.getOrderCount());
+    return candidateTracker.fetchOrders(isFreelyDispatchableToAnyVehicle);
+  }
+
   private void tryAssignments(Collection<Vehicle> availableVehicles,
                               Collection<TransportOrder> availableOrders) {
     LOG.debug("Available for dispatching: {} transport orders and {} vehicles.",
               availableOrders.size(),
               availableVehicles.size());
 
+    CandidateEvaluator evaluator = candidateExecutor == null
+        ? this::evaluateCandidate
+        : precomputeCandidates(availableVehicles, availableOrders);
+
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
+    if (configuration.assignmentStrategy() == MIN_COST_MATCHING) {
+      tryMatchingAssignments(availableVehicles, availableOrders, assignmentState, evaluator);
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
       availableVehicles.stream()
           .sorted(vehicleComparator)
-          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
+          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState, evaluator));
     }
     else {
       availableOrders.stream()
           .sorted(orderComparator)
-          .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState));
+          .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState, evaluator));
     }
 
     assignmentState.getFilteredOrders().values().stream()
@@ -243,11 +330,10 @@ public class AssignFreeOrdersPhase
   }
 
   private Optional<ObjectHistory.Entry> lastRelevantDeferredHistoryEntry(TransportOrder order) {
-    return order.getHistory().getEntries().stream()
-        .filter(entry -> equalsAny(entry.getEventCode(),
-                                   ORDER_DISPATCHING_DEFERRED,
-                                   ORDER_DISPATCHING_RESUMED))
-        .reduce((firstEntry, secondEntry) -> secondEntry)
+    return order.getHistory()
+        .findLastEntry(entry -> equalsAny(entry.getEventCode(),
+                                          ORDER_DISPATCHING_DEFERRED,
+                                          ORDER_DISPATCHING_RESUMED))
         .filter(entry -> entry.getEventCode().equals(ORDER_DISPATCHING_DEFERRED));
   }
 
@@ -287,9 +373,139 @@ public class AssignFreeOrdersPhase
         .anyMatch(other -> string.equals(other));
   }
 
+  /**
+   * Computes and evaluates the assignment candidates for all pairs of the given vehicles and
+   * transport orders in parallel.
+   * <p>
+   * Candidates are computed for the state of the given vehicles and transport orders, i.e.
+   * regardless of any assignments made after this method returns.
+   * </p>
+   *
+   * @param availableVehicles The vehicles.
+   * @param availableOrders The transport orders.
+   * @return An evaluator returning the precomputed results.
+   */
+  private CandidateEvaluator precomputeCandidates(Collection<Vehicle> availableVehicles,
+                                                  Collection<TransportOrder> availableOrders) {
+    long timeBefore = System.currentTimeMillis();
+
+    Map<String, Map<String, CompletableFuture<Optional<CandidateFilterResult>>>> futures
+        = new HashMap<>();
+    for (Vehicle vehicle : availableVehicles) {
+      Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+      Map<String, CompletableFuture<Optional<CandidateFilterResult>>> vehicleFutures
+          = new HashMap<>();
+      for (TransportOrder order : availableOrders) {
+        if (orderAssignableToVehicle(order, vehicle)) {
+          vehicleFutures.put(
+              order.getName(),
+              CompletableFuture.supplyAsync(
+                  () -> evaluateCandidate(vehicle, vehiclePosition, order),
+                  candidateExecutor
+              )
+          );
+        }
+      }
+      futures.put(vehicle.getName(), vehicleFutures);
+    }
+
+    Map<String, Map<String, Optional<CandidateFilterResult>>> results = new HashMap<>();
+    try {
+      futures.forEach((vehicleName, vehicleFutures) -> {
+        Map<String, Optional<CandidateFilterResult>> vehicleResults = new HashMap<>();
+        vehicleFutures.forEach((orderName, future) -> vehicleResults.put(orderName, future.join()));
+        results.put(vehicleName, vehicleResults);
+      });
+    }
+    catch (CompletionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw exc;
+    }
+
+    LOG.debug("Computed assignment candidates for {} vehicles and {} transport orders in {} ms.",
+              availableVehicles.size(),
+              availableOrders.size(),
+              System.currentTimeMillis() - timeBefore);
+
+    return (vehicle, vehiclePosition, order) -> results
+        .getOrDefault(vehicle.getName(), Map.of())
+        .getOrDefault(order.getName(), Optional.empty());
+  }
+
+  /**
+   * Assigns transport orders to vehicles such that as many transport orders as possible are
+   * assigned and the sum of the routing costs to their first destinations is minimal.
+   * <p>
+   * The configured priorities are not taken into account. Vehicles and transport orders are
+   * sorted according to their priorities only to make the outcome independent of the order in
+   * which they were fetched.
+   * </p>
+   *
+   * @param availableVehicles The vehicles available for assignments.
+   * @param availableOrders The transport orders available for assignments.
+   * @param assignmentState The assignment state to update.
+   * @param evaluator Provides the assignment candidates.
+   */
+  private void tryMatchingAssignments(Collection<Vehicle> availableVehicles,
+                                      Collection<TransportOrder> availableOrders,
+                                      AssignmentState assignmentState,
+                                      CandidateEvaluator evaluator) {
+    List<Vehicle> vehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .collect(Collectors.toList());
+    List<TransportOrder> orders = availableOrders.stream()
+        .sorted(orderComparator)
+        .collect(Collectors.toList());
+
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    long[][] costs = new long[vehicles.size()][orders.size()];
+    for (int vehicleIndex = 0; vehicleIndex < vehicles.size(); vehicleIndex++) {
+      Vehicle vehicle = vehicles.get(vehicleIndex);
+      Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+      Arrays.fill(costs[vehicleIndex], MinCostAssignment.FORBIDDEN);
+
+      for (int orderIndex = 0; orderIndex < orders.size(); orderIndex++) {
+        TransportOrder order = orders.get(orderIndex);
+        if (!orderAssignableToVehicle(order, vehicle)) {
+          continue;
+        }
+
+        Optional<CandidateFilterResult> filterResult
+            = evaluator.evaluate(vehicle, vehiclePosition, order);
+        if (filterResult.isEmpty()) {
+          continue;
+        }
+        if (filterResult.get().isFiltered()) {
+          assignmentState.addFilteredOrder(filterResult.get().toFilterResult());
+          continue;
+        }
+
+        AssignmentCandidate candidate = filterResult.get().getCandidate();
+        candidates[vehicleIndex][orderIndex] = candidate;
+        costs[vehicleIndex][orderIndex] = candidate.getInitialRoutingCosts();
+      }
+    }
+
+    long timeBefore = System.currentTimeMillis();
+    int[] orderIndices = MinCostAssignment.solve(costs);
+    LOG.debug("Computed assignment for {} vehicles and {} transport orders in {} ms.",
+              vehicles.size(),
+              orders.size(),
+              System.currentTimeMillis() - timeBefore);
+
+    for (int vehicleIndex = 0; vehicleIndex < vehicles.size(); vehicleIndex++) {
+      if (orderIndices[vehicleIndex] != MinCostAssignment.UNASSIGNED) {
+        assignOrder(candidates[vehicleIndex][orderIndices[vehicleIndex]], assignmentState);
+      }
+    }
+  }
+
   private void tryAssignOrder(Vehicle vehicle,
                               Collection<TransportOrder> availableOrders,
-                              AssignmentState assignmentState) {
+                              AssignmentState assignmentState,
+                              CandidateEvaluator evaluator) {
     LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
 
     Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
@@ -298,15 +514,9 @@ public class AssignFreeOrdersPhase
         = availableOrders.stream()
             .filter(order -> (!assignmentState.wasAssignedToVehicle(order)
                               && orderAssignableToVehicle(order, vehicle)))
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
-            )
+            .map(order -> evaluator.evaluate(vehicle, vehiclePosition, order))
+            .filter(optFilterResult -> optFilterResult.isPresent())
+            .map(optFilterResult -> optFilterResult.get())
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -322,7 +532,8 @@ public class AssignFreeOrdersPhase
 
   private void tryAssignVehicle(TransportOrder order,
                                 Collection<Vehicle> availableVehicles,
-                                AssignmentState assignmentState) {
+                                AssignmentState assignmentState,
+                                CandidateEvaluator evaluator) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
@@ -330,20 +541,14 @@ public class AssignFreeOrdersPhase
             .filter(vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
                                 && orderAssignableToVehicle(order, vehicle)))
             .map(
-                vehicle -> computeCandidate(
+                vehicle -> evaluator.evaluate(
                     vehicle,
                     objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
                     order
                 )
             )
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
-            .map(
-                candidate -> new CandidateFilterResult(
-                    candidate,
-                    assignmentCandidateSelectionFilter.apply(candidate)
-                )
-            )
+            .filter(optFilterResult -> optFilterResult.isPresent())
+            .map(optFilterResult -> optFilterResult.get())
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     ordersSplitByFilter.get(Boolean.FALSE).stream()
@@ -398,6 +603,18 @@ public class AssignFreeOrdersPhase
     );
   }
 
+  private Optional<CandidateFilterResult> evaluateCandidate(Vehicle vehicle,
+                                                            Point vehiclePosition,
+                                                            TransportOrder order) {
+    return computeCandidate(vehicle, vehiclePosition, order)
+        .map(
+            candidate -> new CandidateFilterResult(
+                candidate,
+                assignmentCandidateSelectionFilter.apply(candidate)
+            )
+        );
+  }
+
   private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle,
                                                          Point vehiclePosition,
                                                          TransportOrder order) {
@@ -409,4 +626,24 @@ public class AssignFreeOrdersPhase
     return order.getIntendedVehicle() == null
         || Objects.equals(order.getIntendedVehicle(), vehicle.getReference());
   }
+
+  /**
+   * Provides the (filtered) assignment candidate for a vehicle and a transport order.
+   */
+  private interface CandidateEvaluator {
+
+    /**
+     * Returns the assignment candidate for the given vehicle and transport order, along with the
+     * result of filtering it.
+     *
+     * @param vehicle The vehicle.
+     * @param vehiclePosition The vehicle's current position.
+     * @param order The transport order.
+     * @return The filter result for the assignment candidate, or an empty optional, if there is no
+     * route for the vehicle to process the transport order.
+     */
+    Optional<CandidateFilterResult> evaluate(Vehicle vehicle,
+                                             Point vehiclePosition,
+                                             TransportOrder order);
+  }
 }
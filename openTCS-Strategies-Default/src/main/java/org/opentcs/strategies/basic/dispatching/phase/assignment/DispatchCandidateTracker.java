@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Keeps track of the vehicles and transport orders that may be considered for assignments, based
+ * on {@link TCSObjectEvent}s, so they do not have to be looked up among all objects for every
+ * dispatch run.
+ * <p>
+ * The tracked vehicles are the ones to be utilized, and the tracked transport orders are the
+ * dispatchable ones, i.e. the ones that became dispatchable since the last dispatch run as well as
+ * the ones that could not be assigned in previous runs.
+ * Both are supersets of the vehicles and transport orders actually available for assignments, so
+ * callers still need to filter them.
+ * </p>
+ */
+class DispatchCandidateTracker
+    implements EventHandler {
+
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The names of the tracked vehicles.
+   */
+  private final Set<String> vehicleNames = ConcurrentHashMap.newKeySet();
+  /**
+   * The names of the tracked transport orders.
+   */
+  private final Set<String> orderNames = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   */
+  DispatchCandidateTracker(@Nonnull TCSObjectService objectService) {
+    this.objectService = requireNonNull(objectService, "objectService");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+
+    // Look up the object's current state instead of relying on the event, as events may be
+    // delivered out of order.
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    if (object instanceof Vehicle) {
+      updateVehicle(object.getName(), objectService.fetchObject(Vehicle.class, object.getName()));
+    }
+    else if (object instanceof TransportOrder) {
+      updateOrder(object.getName(),
+                  objectService.fetchObject(TransportOrder.class, object.getName()));
+    }
+  }
+
+  /**
+   * Looks up all vehicles and transport orders and tracks the relevant ones.
+   */
+  void rescan() {
+    vehicleNames.clear();
+    orderNames.clear();
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class, this::isRelevant)) {
+      vehicleNames.add(vehicle.getName());
+    }
+    for (TransportOrder order : objectService.fetchObjects(TransportOrder.class,
+                                                           this::isRelevant)) {
+      orderNames.add(order.getName());
+    }
+  }
+
+  /**
+   * Returns the current states of the tracked vehicles that satisfy the given predicate.
+   *
+   * @param predicate The predicate.
+   * @return The current states of the tracked vehicles that satisfy the given predicate.
+   */
+  @Nonnull
+  Collection<Vehicle> fetchVehicles(@Nonnull Predicate<Vehicle> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    List<Vehicle> result = new ArrayList<>();
+    for (String name : vehicleNames) {
+      Vehicle vehicle = objectService.fetchObject(Vehicle.class, name);
+      if (vehicle != null && isRelevant(vehicle) && predicate.test(vehicle)) {
+        result.add(vehicle);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the current states of the tracked transport orders that satisfy the given predicate.
+   *
+   * @param predicate The predicate.
+   * @return The current states of the tracked transport orders that satisfy the given predicate.
+   */
+  @Nonnull
+  Collection<TransportOrder> fetchOrders(@Nonnull Predicate<TransportOrder> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    List<TransportOrder> result = new ArrayList<>();
+    for (String name : orderNames) {
+      TransportOrder order = objectService.fetchObject(TransportOrder.class, name);
+      if (order != null && isRelevant(order) && predicate.test(order)) {
+        result.add(order);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of tracked vehicles.
+   *
+   * @return The number of tracked vehicles.
+   */
+  int getVehicleCount() {
+    return vehicleNames.size();
+  }
+
+  /**
+   * Returns the number of tracked transport orders.
+   *
+   * @return The number of tracked transport orders.
+   */
+  int getOrderCount() {
+    return orderNames.size();
+  }
+
+  private void updateVehicle(String name, Vehicle vehicle) {
+    if (vehicle != null && isRelevant(vehicle)) {
+      vehicleNames.add(name);
+    }
+    else {
+      vehicleNames.remove(name);
+    }
+  }
+
+  private void updateOrder(String name, TransportOrder order) {
+    if (order != null && isRelevant(order)) {
+      orderNames.add(name);
+    }
+    else {
+      orderNames.remove(name);
+    }
+  }
+
+  private boolean isRelevant(Vehicle vehicle) {
+    return vehicle.getIntegrationLevel() == Vehicle.IntegrationLevel.TO_BE_UTILIZED;
+  }
+
+  private boolean isRelevant(TransportOrder order) {
+    return order.hasState(TransportOrder.State.DISPATCHABLE);
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Solves the (rectangular) assignment problem, i.e. finds a matching between rows and columns of a
+ * cost matrix with minimal total costs, using the Hungarian algorithm.
+ * <p>
+ * Pairs of rows and columns may be marked as forbidden.
+ * The matching found contains as many pairs as possible; among all such matchings, it is one with
+ * minimal total costs.
+ * With <em>n</em> rows and <em>m</em> columns (<em>n</em> &lt;= <em>m</em>, the matrix is
+ * transposed otherwise), the effort is <em>O(n&sup2;m)</em>.
+ * </p>
+ */
+final class MinCostAssignment {
+
+  /**
+   * Marks a pair of row and column that must not be matched.
+   */
+  static final long FORBIDDEN = Long.MAX_VALUE;
+  /**
+   * Marks a row that has not been matched with any column.
+   */
+  static final int UNASSIGNED = -1;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostAssignment() {
+  }
+
+  /**
+   * Computes a matching with minimal total costs for the given cost matrix.
+   *
+   * @param costs The cost matrix, with <code>costs[row][column]</code> being the (non-negative)
+   * costs for matching the row with the column, or {@link #FORBIDDEN}. All rows must have the same
+   * length.
+   * @return For every row, the index of the column it is matched with, or {@link #UNASSIGNED}.
+   */
+  @Nonnull
+  static int[] solve(@Nonnull long[][] costs) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    for (long[] row : costs) {
+      checkArgument(row.length == columnCount, "Rows have different lengths.");
+    }
+
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNASSIGNED);
+    if (rowCount == 0 || columnCount == 0) {
+      return result;
+    }
+
+    if (rowCount <= columnCount) {
+      int[] columnsByRow = solveWide(costs, rowCount, columnCount, false);
+      System.arraycopy(columnsByRow, 0, result, 0, rowCount);
+    }
+    else {
+      int[] rowsByColumn = solveWide(costs, columnCount, rowCount, true);
+      for (int column = 0; column < columnCount; column++) {
+        if (rowsByColumn[column] != UNASSIGNED) {
+          result[rowsByColumn[column]] = column;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Solves the assignment problem for a matrix with at most as many rows as columns.
+   *
+   * @param costs The cost matrix.
+   * @param n The number of rows (of the possibly transposed matrix).
+   * @param m The number of columns (of the possibly transposed matrix).
+   * @param transposed Whether to access the cost matrix transposed.
+   * @return For every row, the index of the column it is matched with, or {@link #UNASSIGNED}.
+   */
+  private static int[] solveWide(long[][] costs, int n, int m, boolean transposed) {
+    // Leaving a row unmatched (or matching it with a forbidden column) costs more than any
+    // matching consisting only of allowed pairs, so the number of matched pairs is maximized first.
+    long unassignedCosts = unassignedCosts(costs, n);
+
+    // Add a dummy column for every row, so each of them can be left unmatched.
+    int totalColumns = m + n;
+    // Potentials of rows and columns, 1-based with index 0 used as a sentinel.
+    long[] rowPotentials = new long[n + 1];
+    long[] columnPotentials = new long[totalColumns + 1];
+    // The row matched with each column (0 for none).
+    int[] rowOfColumn = new int[totalColumns + 1];
+    // The previous column on the augmenting path.
+    int[] way = new int[totalColumns + 1];
+    long[] minSlack = new long[totalColumns + 1];
+    boolean[] used = new boolean[totalColumns + 1];
+
+    for (int row = 1; row <= n; row++) {
+      rowOfColumn[0] = row;
+      int column0 = 0;
+      Arrays.fill(minSlack, Long.MAX_VALUE);
+      Arrays.fill(used, false);
+
+      do {
+        used[column0] = true;
+        int row0 = rowOfColumn[column0];
+        long delta = Long.MAX_VALUE;
+        int column1 = 0;
+        for (int column = 1; column <= totalColumns; column++) {
+          if (used[column]) {
+            continue;
+          }
+          long cur = cost(costs, row0 - 1, column - 1, m, unassignedCosts, transposed)
+              - rowPotentials[row0] - columnPotentials[column];
+          if (cur < minSlack[column]) {
+            minSlack[column] = cur;
+            way[column] = column0;
+          }
+          if (minSlack[column] < delta) {
+            delta = minSlack[column];
+            column1 = column;
+          }
+        }
+        for (int column = 0; column <= totalColumns; column++) {
+          if (used[column]) {
+            rowPotentials[rowOfColumn[column]] += delta;
+            columnPotentials[column] -= delta;
+          }
+          else {
+            minSlack[column] -= delta;
+          }
+        }
+        column0 = column1;
+      }
+      while (rowOfColumn[column0] != 0);
+
+      // Flip the augmenting path.
+      do {
+        int column1 = way[column0];
+        rowOfColumn[column0] = rowOfColumn[column1];
+        column0 = column1;
+      }
+      while (column0 != 0);
+    }
+
+    int[] result = new int[n];
+    Arrays.fill(result, UNASSIGNED);
+    for (int column = 1; column <= m; column++) {
+      int row = rowOfColumn[column];
+      if (row != 0
+          && rawCost(costs, row - 1, column - 1, transposed) != FORBIDDEN) {
+        result[row - 1] = column - 1;
+      }
+    }
+    return result;
+  }
+
+  private static long cost(long[][] costs,
+                           int row,
+                           int column,
+                           int m,
+                           long unassignedCosts,
+                           boolean transposed) {
+    if (column >= m) {
+      return unassignedCosts;
+    }
+    return Math.min(rawCost(costs, row, column, transposed), unassignedCosts);
+  }
+
+  private static long rawCost(long[][] costs, int row, int column, boolean transposed) {
+    return transposed ? costs[column][row] : costs[row][column];
+  }
+
+  private static long unassignedCosts(long[][] costs, int n) {
+    long maxCosts = 0;
+    for (long[] row : costs) {
+      for (long cost : row) {
+        checkArgument(cost >= 0, "Costs must not be negative: %s", cost);
+        if (cost != FORBIDDEN) {
+          maxCosts = Math.max(maxCosts, cost);
+        }
+      }
+    }
+    // Keep the sum of n + 1 unassigned costs well within the range of long.
+    long limit = FORBIDDEN / (4L * (n + 2));
+    if (maxCosts >= limit / (n + 1)) {
+      return limit;
+    }
+    return maxCosts * (n + 1) + 1;
+  }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.RoutingCache.UNKNOWN_COSTS;
+
+/**
+ * A {@link PointRouter} that answers requests from a {@link RoutingCache} if possible and
+ * delegates to another point router otherwise.
+ */
+public class CachingPointRouter
+    implements PointRouter {
+
+  /**
+   * The point router actually computing routes.
+   */
+  private final PointRouter delegate;
+  /**
+   * The cache.
+   */
+  private final RoutingCache cache;
+  /**
+   * The routing group this point router is used for.
+   */
+  private final String routingGroup;
+  /**
+   * The topology version of the delegate.
+   */
+  private final long version;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The point router actually computing routes.
+   * @param cache The cache.
+   * @param routingGroup The routing group this point router is used for.
+   * @param version The topology version of the delegate.
+   */
+  public CachingPointRouter(@Nonnull PointRouter delegate,
+                            @Nonnull RoutingCache cache,
+                            @Nonnull String routingGroup,
+                            long version) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.cache = requireNonNull(cache, "cache");
+    this.routingGroup = requireNonNull(routingGroup, "routingGroup");
+    this.version = version;
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    RoutingCache.Key key = new RoutingCache.Key(routingGroup,
+                                                srcPoint.getName(),
+                                                destPoint.getName());
+    RoutingCache.Entry entry = cache.get(key, version);
+    if (entry != null && entry.isUnroutable()) {
+      cache.recordHit();
+      return null;
+    }
+    if (entry != null && entry.getSteps() != null) {
+      cache.recordHit();
+      // Callers may modify the returned list, so do not hand out the cached one.
+      return new ArrayList<>(entry.getSteps());
+    }
+    cache.recordMiss();
+
+    List<Route.Step> steps = delegate.getRouteSteps(srcPoint, destPoint);
+    if (steps == null) {
+      cache.put(key, new RoutingCache.Entry(version, INFINITE_COSTS, null));
+    }
+    else {
+      cache.put(key,
+                entry == null
+                    ? new RoutingCache.Entry(version, UNKNOWN_COSTS, steps)
+                    : entry.withSteps(steps));
+    }
+    return steps;
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    RoutingCache.Key key = new RoutingCache.Key(routingGroup,
+                                                srcPointRef.getName(),
+                                                destPointRef.getName());
+    RoutingCache.Entry entry = cache.get(key, version);
+    if (entry != null && entry.getCosts() != UNKNOWN_COSTS) {
+      cache.recordHit();
+      return entry.getCosts();
+    }
+    cache.recordMiss();
+
+    long costs = delegate.getCosts(srcPointRef, destPointRef);
+    cache.put(key,
+              entry == null
+                  ? new RoutingCache.Entry(version, costs, null)
+                  : entry.withCosts(costs));
+    return costs;
+  }
+
+  /**
+   * Returns the point router actually computing routes.
+   *
+   * @return The point router actually computing routes.
+   */
+  public PointRouter getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Returns the routing group this point router is used for.
+   *
+   * @return The routing group this point router is used for.
+   */
+  public String getRoutingGroup() {
+    return routingGroup;
+  }
+
+  /**
+   * Returns the topology version of the delegate.
+   *
+   * @return The topology version of the delegate.
+   */
+  public long getVersion() {
+    return version;
+  }
+}
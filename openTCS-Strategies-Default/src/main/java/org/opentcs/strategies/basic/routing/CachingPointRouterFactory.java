@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opentcs.components.kernel.routing.GroupMapper;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps the point routers created by another {@link PointRouterFactory} in
+ * {@link CachingPointRouter}s sharing a single {@link RoutingCache}.
+ * <p>
+ * Every point router created or updated is assigned a new topology version, which implicitly
+ * invalidates all entries cached for its routing group.
+ * If a point router is updated only because paths have been locked, though, the cached routes
+ * that do not use any of these paths are still the cheapest ones and are kept.
+ * </p>
+ */
+public class CachingPointRouterFactory
+    implements PointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CachingPointRouterFactory.class);
+  /**
+   * The factory creating the actual point routers.
+   */
+  private final PointRouterFactory delegate;
+  /**
+   * Used to map vehicles to their routing groups.
+   */
+  private final GroupMapper routingGroupMapper;
+  /**
+   * The cache.
+   */
+  private final RoutingCache cache;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The factory creating the actual point routers.
+   * @param routingGroupMapper Used to map vehicles to their routing groups.
+   * @param cache The cache.
+   */
+  public CachingPointRouterFactory(@Nonnull PointRouterFactory delegate,
+                                   @Nonnull GroupMapper routingGroupMapper,
+                                   @Nonnull RoutingCache cache) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
+    this.cache = requireNonNull(cache, "cache");
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return new CachingPointRouter(delegate.createPointRouter(vehicle),
+                                  cache,
+                                  routingGroupMapper.apply(vehicle),
+                                  cache.nextVersion());
+  }
+
+  @Override
+  public PointRouter updatePointRouter(PointRouter pointRouter, Set<Path> paths, Vehicle vehicle) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+
+    if (!(pointRouter instanceof CachingPointRouter)) {
+      return createPointRouter(vehicle);
+    }
+
+    CachingPointRouter oldRouter = (CachingPointRouter) pointRouter;
+    CachingPointRouter newRouter = new CachingPointRouter(
+        delegate.updatePointRouter(oldRouter.getDelegate(), paths, vehicle),
+        cache,
+        oldRouter.getRoutingGroup(),
+        cache.nextVersion()
+    );
+
+    // Locking paths can only remove edges from the routing graph, which does not affect routes
+    // not using them. Unlocked paths may provide cheaper routes for any pair of points, though.
+    if (paths.stream().allMatch(Path::isLocked)) {
+      Set<String> lockedPathNames = paths.stream()
+          .map(Path::getName)
+          .collect(Collectors.toSet());
+      cache.transfer(oldRouter.getRoutingGroup(),
+                     oldRouter.getVersion(),
+                     newRouter.getVersion(),
+                     entry -> entry.isUnroutable()
+                     || (entry.getSteps() != null && !usesAnyPath(entry.getSteps(),
+                                                                  lockedPathNames)));
+    }
+
+    LOG.debug("Routing cache state after updating point router for routing group '{}': {}",
+              newRouter.getRoutingGroup(),
+              cache);
+
+    return newRouter;
+  }
+
+  private boolean usesAnyPath(List<Route.Step> steps, Set<String> pathNames) {
+    return steps.stream()
+        .anyMatch(step -> step.getPath() != null && pathNames.contains(step.getPath().getName()));
+  }
+}
@@ -8,7 +8,6 @@
 package org.opentcs.strategies.basic.routing;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,7 +16,7 @@ import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -25,6 +24,7 @@ import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
@@ -37,6 +37,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
+ * <p>
+ * The point routers and the selected routes are kept in immutable maps that are replaced as a
+ * whole whenever they change.
+ * Modifications are synchronized, but queries for costs and routes only read the current maps
+ * and thus do not block each other or modifications.
+ * A query that overlaps with a topology change may still use the point routers that were current
+ * when it started.
+ * </p>
  */
 public class DefaultRouter
     implements Router {
@@ -63,16 +71,22 @@ public class DefaultRouter
   private final GroupMapper routingGroupMapper;
   /**
    * The routes selected for each vehicle.
+   * (An immutable map that is replaced on modifications.)
    */
-  private final Map<Vehicle, List<DriveOrder>> routesByVehicle = new ConcurrentHashMap<>();
+  private volatile Map<Vehicle, List<DriveOrder>> routesByVehicle = Map.of();
   /**
    * The point routers by vehicle routing group.
+   * (An immutable map that is replaced on modifications.)
    */
-  private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  private volatile Map<String, PointRouter> pointRoutersByVehicleGroup = Map.of();
+  /**
+   * The cache for routing results, or <code>null</code>, if caching is disabled.
+   */
+  private final RoutingCache routingCache;
   /**
    * Indicates whether this component is enabled.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
 
   /**
    * Creates a new instance.
@@ -88,9 +102,20 @@ public class DefaultRouter
                        GroupMapper routingGroupMapper,
                        DefaultRouterConfiguration configuration) {
     this.objectService = requireNonNull(objectService, "objectService");
-    this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.configuration = requireNonNull(configuration, "configuration");
+    requireNonNull(pointRouterFactory, "pointRouterFactory");
+
+    if (configuration.routeCacheSize() > 0) {
+      this.routingCache = new RoutingCache(configuration.routeCacheSize());
+      this.pointRouterFactory = new CachingPointRouterFactory(pointRouterFactory,
+                                                              routingGroupMapper,
+                                                              routingCache);
+    }
+    else {
+      this.routingCache = null;
+      this.pointRouterFactory = pointRouterFactory;
+    }
   }
 
   @Override
@@ -100,7 +125,7 @@ public class DefaultRouter
     }
 
     synchronized (this) {
-      routesByVehicle.clear();
+      routesByVehicle = Map.of();
       topologyChanged();
       initialized = true;
     }
@@ -118,8 +143,12 @@ public class DefaultRouter
     }
 
     synchronized (this) {
-      routesByVehicle.clear();
-      pointRoutersByVehicleGroup.clear();
+      routesByVehicle = Map.of();
+      pointRoutersByVehicleGroup = Map.of();
+      if (routingCache != null) {
+        LOG.info("Routing cache statistics: {}", routingCache);
+        routingCache.clear();
+      }
       initialized = false;
     }
   }
@@ -127,7 +156,43 @@ public class DefaultRouter
   @Override
   public void topologyChanged() {
     synchronized (this) {
-      pointRoutersByVehicleGroup.clear();
+      pointRoutersByVehicleGroup = Map.of();
+      // Entries cached for the discarded point routers will not be requested any more.
+      if (routingCache != null) {
+        LOG.debug("Clearing routing cache: {}", routingCache);
+        routingCache.clear();
+      }
+    }
+  }
+
+  @Override
+  public void topologyChanged(Set<TCSObjectReference<Path>> paths) {
+    requireNonNull(paths, "paths");
+
+    synchronized (this) {
+      if (paths.isEmpty() || pointRoutersByVehicleGroup.isEmpty()) {
+        return;
+      }
+
+      Set<Path> changedPaths = paths.stream()
+          .map(pathRef -> objectService.fetchObject(Path.class, pathRef))
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet());
+      Map<String, Vehicle> vehiclesByRoutingGroup = getDistinctRoutingGroups();
+
+      // Drop point routers for routing groups that are no longer in use and update the others.
+      // The current point routers remain in use for queries until the updated ones are published.
+      Map<String, PointRouter> updatedPointRouters = new HashMap<>();
+      for (Map.Entry<String, PointRouter> entry : pointRoutersByVehicleGroup.entrySet()) {
+        Vehicle vehicle = vehiclesByRoutingGroup.get(entry.getKey());
+        if (vehicle != null) {
+          updatedPointRouters.put(
+              entry.getKey(),
+              pointRouterFactory.updatePointRouter(entry.getValue(), changedPaths, vehicle)
+          );
+        }
+      }
+      pointRoutersByVehicleGroup = Map.copyOf(updatedPointRouters);
     }
   }
 
@@ -135,29 +200,27 @@ public class DefaultRouter
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-
-      // Since point routers get reset on topology changes, make sure there are point routers for
-      // all routing groups.
-      createMissingPointRouters();
-
-      for (Map.Entry<String, PointRouter> curEntry : pointRoutersByVehicleGroup.entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
-          }
+    Set<Vehicle> result = new HashSet<>();
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+
+    // Since point routers get reset on topology changes, make sure there are point routers for
+    // all routing groups.
+    Map<String, PointRouter> pointRouters = getPointRoutersForAllRoutingGroups();
+
+    for (Map.Entry<String, PointRouter> curEntry : pointRouters.entrySet()) {
+      // Get all points at the first location at which a vehicle of the current
+      // type can execute the desired operation and check if an acceptable route
+      // originating in one of them exists.
+      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+        if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+          result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
+          break;
         }
       }
-      return result;
     }
+    return result;
   }
 
   @Override
@@ -168,17 +231,16 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(transportOrder, "transportOrder");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = getPointRouterForVehicle(vehicle);
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
+    List<DriveOrder> driveOrders = transportOrder.getFutureDriveOrders();
+    List<Set<Point>> destinationPoints = new ArrayList<>(driveOrders.size());
+    for (DriveOrder driveOrder : driveOrders) {
+      destinationPoints.add(getDestinationPoints(driveOrder));
     }
+    return new OrderRouteComputer(configuration.routeToCurrentPosition())
+        .computeCheapestOrderRoute(sourcePoint,
+                                   driveOrders,
+                                   destinationPoints,
+                                   getPointRouterForVehicle(vehicle));
   }
 
   @Override
@@ -189,20 +251,18 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(destinationPoint, "destinationPoint");
 
-    synchronized (this) {
-      PointRouter pointRouter = getPointRouterForVehicle(vehicle);
-      long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
-      if (costs == INFINITE_COSTS) {
-        return Optional.empty();
-      }
-      List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
-      if (steps.isEmpty()) {
-        // If the list of steps is empty, we're already at the destination point
-        // Create a single step without a path.
-        steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
-      }
-      return Optional.of(new Route(steps, costs));
+    PointRouter pointRouter = getPointRouterForVehicle(vehicle);
+    long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
+    if (costs == INFINITE_COSTS) {
+      return Optional.empty();
     }
+    List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point
+      // Create a single step without a path.
+      steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
+    }
+    return Optional.of(new Route(steps, costs));
   }
 
   @Override
@@ -213,9 +273,7 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(destinationPoint, "destinationPoint");
 
-    synchronized (this) {
-      return getPointRouterForVehicle(vehicle).getCosts(sourcePoint, destinationPoint);
-    }
+    return getPointRouterForVehicle(vehicle).getCosts(sourcePoint, destinationPoint);
   }
 
   @Override
@@ -226,9 +284,7 @@ public class DefaultRouter
     requireNonNull(srcPointRef, "srcPointRef");
     requireNonNull(dstPointRef, "dstPointRef");
 
-    synchronized (this) {
-      return getPointRouterForVehicle(vehicle).getCosts(srcPointRef, dstPointRef);
-    }
+    return getPointRouterForVehicle(vehicle).getCosts(srcPointRef, dstPointRef);
   }
 
   @Override
@@ -236,43 +292,71 @@ public class DefaultRouter
     requireNonNull(vehicle, "vehicle");
 
     synchronized (this) {
+      Map<Vehicle, List<DriveOrder>> updatedRoutes = new HashMap<>(routesByVehicle);
       if (driveOrders == null) {
         // XXX Should we remember the vehicle's current position, maybe?
-        routesByVehicle.remove(vehicle);
+        updatedRoutes.remove(vehicle);
       }
       else {
-        routesByVehicle.put(vehicle, driveOrders);
+        updatedRoutes.put(vehicle, driveOrders);
       }
+      routesByVehicle = Map.copyOf(updatedRoutes);
     }
   }
 
   @Override
   public Map<Vehicle, List<DriveOrder>> getSelectedRoutes() {
-    synchronized (this) {
-      return new HashMap<>(routesByVehicle);
-    }
+    return new HashMap<>(routesByVehicle);
   }
 
   @Override
   public Set<Point> getTargetedPoints() {
+    Set<Point> result = new HashSet<>();
+    for (List<DriveOrder> curOrderList : routesByVehicle.values()) {
+      DriveOrder finalOrder = curOrderList.get(curOrderList.size() - 1);
+      result.add(finalOrder.getRoute().getFinalDestinationPoint());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the point routers for all routing groups currently in use, lazily creating those that
+   * don't exist, yet.
+   *
+   * @return The point routers, mapped by the routing groups.
+   */
+  private Map<String, PointRouter> getPointRoutersForAllRoutingGroups() {
+    Map<String, Vehicle> vehiclesByRoutingGroup = getDistinctRoutingGroups();
+    Map<String, PointRouter> pointRouters = pointRoutersByVehicleGroup;
+    if (pointRouters.keySet().containsAll(vehiclesByRoutingGroup.keySet())) {
+      return pointRouters;
+    }
+
     synchronized (this) {
-      Set<Point> result = new HashSet<>();
-      for (List<DriveOrder> curOrderList : routesByVehicle.values()) {
-        DriveOrder finalOrder = curOrderList.get(curOrderList.size() - 1);
-        result.add(finalOrder.getRoute().getFinalDestinationPoint());
-      }
-      return result;
+      Map<String, PointRouter> updatedPointRouters = new HashMap<>(pointRoutersByVehicleGroup);
+      vehiclesByRoutingGroup.forEach(
+          (routingGroup, vehicle) -> updatedPointRouters.computeIfAbsent(
+              routingGroup,
+              group -> pointRouterFactory.createPointRouter(vehicle)
+          )
+      );
+      pointRoutersByVehicleGroup = Map.copyOf(updatedPointRouters);
+      return pointRoutersByVehicleGroup;
     }
   }
 
-  private void createMissingPointRouters() {
+  /**
+   * Returns one representative vehicle for every routing group currently in use.
+   *
+   * @return One representative vehicle for every routing group currently in use, mapped by the
+   * routing groups.
+   */
+  private Map<String, Vehicle> getDistinctRoutingGroups() {
     Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
     for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
       distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
     }
-
-    // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach((routingGroup, vehicle) -> getPointRouterForVehicle(vehicle));
+    return distinctRoutingGroups;
   }
 
   /**
@@ -283,12 +367,22 @@ public class DefaultRouter
    */
   private PointRouter getPointRouterForVehicle(Vehicle vehicle) {
     String routingGroup = routingGroupMapper.apply(vehicle);
-    if (!pointRoutersByVehicleGroup.containsKey(routingGroup)) {
-      pointRoutersByVehicleGroup.put(routingGroup,
-                                     pointRouterFactory.createPointRouter(vehicle));
+    PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+    if (pointRouter != null) {
+      return pointRouter;
     }
 
-    return pointRoutersByVehicleGroup.get(routingGroup);
+    synchronized (this) {
+      // Another thread may have created the point router in the meantime.
+      pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+      if (pointRouter == null) {
+        pointRouter = pointRouterFactory.createPointRouter(vehicle);
+        Map<String, PointRouter> updatedPointRouters = new HashMap<>(pointRoutersByVehicleGroup);
+        updatedPointRouters.put(routingGroup, pointRouter);
+        pointRoutersByVehicleGroup = Map.copyOf(updatedPointRouters);
+      }
+      return pointRouter;
+    }
   }
 
   /**
@@ -332,80 +426,6 @@ public class DefaultRouter
     }
   }
 
-  /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
-   *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
-   */
-  private void computeCheapestOrderRoute(Point startPoint,
-                                         OrderRouteParameterStruct params,
-                                         int hopIndex,
-                                         OrderRouteResultStruct result) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
-        }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null,
-                                   null,
-                                   startPoint,
-                                   Vehicle.Orientation.UNDEFINED,
-                                   0));
-        }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps, hopCosts);
-        // Copy the current drive order, add the computed route to it and
-        // place it in the result struct.
-        DriveOrder hopOrder = params.driveOrders[hopIndex].withRoute(hopRoute);
-        result.currentRoute[hopIndex] = hopOrder;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
-      }
-    }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-    // replace the latter.
-    if (result.currentCosts < result.bestCosts) {
-      System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-      result.bestCosts = result.currentCosts;
-    }
-  }
-
   /**
    * Returns all points at which a vehicle could process the given drive order.
    *
@@ -480,69 +500,4 @@ public class DefaultRouter
     }
     return result;
   }
-
-  /**
-   * Contains parameters for a route to be computed.
-   */
-  private static final class OrderRouteParameterStruct {
-
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
-    /**
-     * The point router for the vehicle type.
-     */
-    private final PointRouter pointRouter;
-
-    /**
-     * Creates a new OrderRouteParameterStruct.
-     *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
-     * @param pointRouter The point router for the vehicle type.
-     */
-    OrderRouteParameterStruct(DriveOrder[] driveOrders,
-                              PointRouter pointRouter) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
-      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
-    }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
-
-    /**
-     * The (possibly partial) route currently being examined.
-     */
-    private DriveOrder[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private DriveOrder[] bestRoute;
-    /**
-     * The costs of the best route found so far.
-     */
-    private long bestCosts;
-
-    /**
-     * Creates a new OrderRouteResultStruct.
-     *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
-     */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new DriveOrder[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new DriveOrder[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
-    }
-  }
 }
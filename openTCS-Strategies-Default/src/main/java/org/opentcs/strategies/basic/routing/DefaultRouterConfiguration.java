@@ -26,4 +26,12 @@ public interface DefaultRouterConfiguration {
       description = "Whether to compute a route even if the vehicle is already at the destination.")
   boolean routeToCurrentPosition();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of routing results (costs and routes between pairs of points) to be "
+        + "cached.",
+        "If this value is 0 or less, no routing results are cached."})
+  int routeCacheSize();
+
 }
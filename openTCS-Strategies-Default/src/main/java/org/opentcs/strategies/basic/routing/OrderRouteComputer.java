@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the cheapest route along a list of drive orders, each of which may have multiple
+ * acceptable destination points.
+ * <p>
+ * The computation is done layer by layer, with one layer per drive order:
+ * For every destination point of a drive order, only the cheapest way to reach it from the
+ * destination points of the previous drive order is remembered.
+ * This requires only cost lookups, and its effort grows linearly with the number of drive orders
+ * instead of exponentially.
+ * Route steps are retrieved only for the destination points of the cheapest route found.
+ * </p>
+ */
+class OrderRouteComputer {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderRouteComputer.class);
+  /**
+   * Marks the absence of a predecessor point.
+   */
+  private static final int NO_PREDECESSOR = -1;
+  /**
+   * Whether to route to the current position even if it is a destination point.
+   */
+  private final boolean routeToCurrentPosition;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param routeToCurrentPosition Whether to route to the current position even if it is one of a
+   * drive order's destination points. If <code>false</code>, the current position is the only
+   * destination point considered in such cases.
+   */
+  OrderRouteComputer(boolean routeToCurrentPosition) {
+    this.routeToCurrentPosition = routeToCurrentPosition;
+  }
+
+  /**
+   * Computes the cheapest route along the given drive orders.
+   *
+   * @param sourcePoint The point at which the route is supposed to start.
+   * @param driveOrders The drive orders, in the order they are to be processed.
+   * @param destinationPoints The acceptable destination points for each of the drive orders, in
+   * the same order.
+   * @param pointRouter The point router to use.
+   * @return Copies of the given drive orders with their routes set, or an empty optional, if there
+   * is no route along all of the drive orders.
+   */
+  @Nonnull
+  Optional<List<DriveOrder>> computeCheapestOrderRoute(
+      @Nonnull Point sourcePoint,
+      @Nonnull List<DriveOrder> driveOrders,
+      @Nonnull List<Set<Point>> destinationPoints,
+      @Nonnull PointRouter pointRouter
+  ) {
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(driveOrders, "driveOrders");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(pointRouter, "pointRouter");
+    checkArgument(driveOrders.size() == destinationPoints.size(),
+                  "Got %s drive orders, but %s sets of destination points.",
+                  driveOrders.size(),
+                  destinationPoints.size());
+
+    int layerCount = driveOrders.size();
+    Layer[] layers = new Layer[layerCount];
+    Layer previousLayer = Layer.of(sourcePoint);
+    for (int i = 0; i < layerCount; i++) {
+      layers[i] = computeLayer(previousLayer, destinationPoints.get(i), pointRouter);
+      previousLayer = layers[i];
+    }
+
+    int bestIndex = previousLayer.indexOfCheapest();
+    if (bestIndex == NO_PREDECESSOR) {
+      return Optional.empty();
+    }
+
+    // Walk back through the layers to find the destination points of the cheapest route.
+    Point[] selectedPoints = new Point[layerCount];
+    long[] selectedHopCosts = new long[layerCount];
+    for (int i = layerCount - 1; i >= 0; i--) {
+      selectedPoints[i] = layers[i].points[bestIndex];
+      selectedHopCosts[i] = layers[i].hopCosts[bestIndex];
+      bestIndex = layers[i].predecessors[bestIndex];
+    }
+
+    List<DriveOrder> result = new ArrayList<>(layerCount);
+    Point hopSource = sourcePoint;
+    for (int i = 0; i < layerCount; i++) {
+      result.add(driveOrders.get(i).withRoute(createRoute(hopSource,
+                                                          selectedPoints[i],
+                                                          selectedHopCosts[i],
+                                                          pointRouter)));
+      hopSource = selectedPoints[i];
+    }
+    return Optional.of(result);
+  }
+
+  private Layer computeLayer(Layer previousLayer, Set<Point> destPoints, PointRouter pointRouter) {
+    Layer layer = Layer.of(destPoints);
+    Map<Point, Integer> indicesByPoint = new HashMap<>();
+    for (int i = 0; i < layer.points.length; i++) {
+      indicesByPoint.put(layer.points[i], i);
+    }
+
+    for (int prev = 0; prev < previousLayer.points.length; prev++) {
+      if (previousLayer.costs[prev] == INFINITE_COSTS) {
+        continue;
+      }
+
+      Point startPoint = previousLayer.points[prev];
+      // If the set of destination points contains the starting point, consider only that one.
+      // This is just a shortcut - it is the cheapest way to go.
+      Integer startPointIndex = routeToCurrentPosition ? null : indicesByPoint.get(startPoint);
+      if (startPointIndex != null) {
+        LOG.debug("Shortcutting route to {}", startPoint);
+        relax(previousLayer, prev, layer, startPointIndex, pointRouter);
+      }
+      else {
+        for (int cur = 0; cur < layer.points.length; cur++) {
+          relax(previousLayer, prev, layer, cur, pointRouter);
+        }
+      }
+    }
+
+    return layer;
+  }
+
+  private void relax(Layer previousLayer,
+                     int prev,
+                     Layer layer,
+                     int cur,
+                     PointRouter pointRouter) {
+    long hopCosts = pointRouter.getCosts(previousLayer.points[prev], layer.points[cur]);
+    if (hopCosts == INFINITE_COSTS) {
+      return;
+    }
+
+    long costs = previousLayer.costs[prev] + hopCosts;
+    if (costs < layer.costs[cur]) {
+      layer.costs[cur] = costs;
+      layer.hopCosts[cur] = hopCosts;
+      layer.predecessors[cur] = prev;
+    }
+  }
+
+  private Route createRoute(Point startPoint,
+                            Point destPoint,
+                            long hopCosts,
+                            PointRouter pointRouter) {
+    List<Route.Step> steps = pointRouter.getRouteSteps(startPoint, destPoint);
+    if (steps.isEmpty()) {
+      // If the list of steps returned is empty, we're already at the destination point of the
+      // drive order - create a single step without a path.
+      steps = new ArrayList<>(1);
+      steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0));
+    }
+    return new Route(steps, hopCosts);
+  }
+
+  /**
+   * The candidate destination points for a single drive order, along with the costs of the
+   * cheapest routes to reach them.
+   */
+  private static final class Layer {
+
+    /**
+     * The candidate destination points.
+     */
+    private final Point[] points;
+    /**
+     * The costs of the cheapest route to each point, including all previous drive orders.
+     */
+    private final long[] costs;
+    /**
+     * The costs of the last hop of the cheapest route to each point.
+     */
+    private final long[] hopCosts;
+    /**
+     * The index of the previous layer's point on the cheapest route to each point.
+     */
+    private final int[] predecessors;
+
+    private Layer(Point[] points) {
+      this.points = points;
+      this.costs = new long[points.length];
+      this.hopCosts = new long[points.length];
+      this.predecessors = new int[points.length];
+      Arrays.fill(costs, INFINITE_COSTS);
+      Arrays.fill(predecessors, NO_PREDECESSOR);
+    }
+
+    static Layer of(Point sourcePoint) {
+      Layer layer = new Layer(new Point[]{sourcePoint});
+      layer.costs[0] = 0;
+      return layer;
+    }
+
+    static Layer of(Set<Point> points) {
+      return new Layer(points.toArray(new Point[points.size()]));
+    }
+
+    int indexOfCheapest() {
+      int result = NO_PREDECESSOR;
+      for (int i = 0; i < points.length; i++) {
+        if (costs[i] != INFINITE_COSTS && (result == NO_PREDECESSOR || costs[i] < costs[result])) {
+          result = i;
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -7,6 +7,8 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.Set;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Vehicle;
 
 /**
@@ -21,4 +23,21 @@ public interface PointRouterFactory {
    * @return The point router.
    */
   PointRouter createPointRouter(Vehicle vehicle);
+
+  /**
+   * Updates the given point router with respect to the given paths, e.g. after they have been
+   * locked or unlocked.
+   * <p>
+   * The default implementation ignores the given point router and creates a new one.
+   * </p>
+   *
+   * @param pointRouter A point router previously created by this factory for the given vehicle.
+   * @param paths The paths that have changed.
+   * @param vehicle The vehicle.
+   * @return A point router reflecting the current state of the given paths. This may be a new
+   * instance or the given one.
+   */
+  default PointRouter updatePointRouter(PointRouter pointRouter, Set<Path> paths, Vehicle vehicle) {
+    return createPointRouter(vehicle);
+  }
 }
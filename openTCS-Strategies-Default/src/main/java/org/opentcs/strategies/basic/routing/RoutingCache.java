@@ -0,0 +1,449 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * A bounded cache for routing results, i.e. costs and route steps between pairs of points.
+ * <p>
+ * Entries are stored per routing group and stamped with the topology version of the point router
+ * that computed them.
+ * Entries with a version other than the one requested are treated as missing, so all entries of
+ * a routing group become invalid as soon as a point router with a new version is used for it.
+ * </p>
+ * <p>
+ * Lookups do not acquire any lock, so concurrent routing queries do not block each other.
+ * Eviction is an approximation of LRU: Each entry remembers the time it was last accessed, and
+ * whenever the cache's capacity is exceeded, the least recently used entries are evicted in a batch
+ * of about a tenth of the capacity.
+ * As entries may be added concurrently to an eviction, the cache may exceed its capacity briefly.
+ * </p>
+ */
+public class RoutingCache {
+
+  /**
+   * Marks costs that have not been retrieved, yet.
+   */
+  static final long UNKNOWN_COSTS = -1;
+  /**
+   * The maximum number of entries.
+   */
+  private final int capacity;
+  /**
+   * The number of entries an eviction reduces the cache to.
+   */
+  private final int evictionTarget;
+  /**
+   * Provides the times entries are accessed at.
+   */
+  private final LongSupplier clock;
+  /**
+   * The cached entries.
+   */
+  private final ConcurrentMap<Key, Node> entries = new ConcurrentHashMap<>();
+  /**
+   * Indicates whether an eviction is currently being performed.
+   */
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  /**
+   * Provides new, unique topology versions.
+   */
+  private final AtomicLong versionCounter = new AtomicLong();
+  /**
+   * The number of lookups that could be answered from the cache.
+   */
+  private final LongAdder hits = new LongAdder();
+  /**
+   * The number of lookups that could not be answered from the cache.
+   */
+  private final LongAdder misses = new LongAdder();
+  /**
+   * The number of entries removed because the cache's capacity was exceeded.
+   */
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of entries.
+   */
+  public RoutingCache(int capacity) {
+    this(capacity, System::nanoTime);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of entries.
+   * @param clock Provides the times entries are accessed at.
+   */
+  RoutingCache(int capacity, @Nonnull LongSupplier clock) {
+    checkArgument(capacity > 0, "capacity must be positive, but is %s", capacity);
+    this.capacity = capacity;
+    this.evictionTarget = capacity - capacity / 10;
+    this.clock = requireNonNull(clock, "clock");
+  }
+
+  /**
+   * Returns the maximum number of entries in this cache.
+   *
+   * @return The maximum number of entries in this cache.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the current number of entries in this cache, including outdated ones.
+   *
+   * @return The current number of entries in this cache.
+   */
+  public int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the number of lookups that could be answered from this cache.
+   *
+   * @return The number of lookups that could be answered from this cache.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that could not be answered from this cache.
+   *
+   * @return The number of lookups that could not be answered from this cache.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of entries removed because this cache's capacity was exceeded.
+   *
+   * @return The number of entries removed because this cache's capacity was exceeded.
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Removes all entries from this cache.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "RoutingCache{"
+        + "capacity=" + capacity
+        + ", size=" + getSize()
+        + ", hits=" + getHits()
+        + ", misses=" + getMisses()
+        + ", evictions=" + getEvictions()
+        + '}';
+  }
+
+  /**
+   * Returns a new topology version that has not been used with this cache before.
+   *
+   * @return A new topology version.
+   */
+  long nextVersion() {
+    return versionCounter.incrementAndGet();
+  }
+
+  /**
+   * Returns the entry for the given key and topology version.
+   *
+   * @param key The key.
+   * @param version The topology version.
+   * @return The entry, or <code>null</code>, if there is no entry for the given key and version.
+   */
+  @Nullable
+  Entry get(@Nonnull Key key, long version) {
+    Node node = entries.get(key);
+    if (node == null || node.getEntry().getVersion() != version) {
+      return null;
+    }
+    node.touch(clock.getAsLong());
+    return node.getEntry();
+  }
+
+  /**
+   * Stores the given entry, unless there already is an entry for the key with a newer version.
+   *
+   * @param key The key.
+   * @param entry The entry.
+   */
+  void put(@Nonnull Key key, @Nonnull Entry entry) {
+    requireNonNull(key, "key");
+    requireNonNull(entry, "entry");
+
+    entries.compute(key, (k, existing) -> {
+      if (existing != null && existing.getEntry().getVersion() > entry.getVersion()) {
+        return existing;
+      }
+      return new Node(entry, clock.getAsLong());
+    });
+    if (entries.size() > capacity) {
+      evict();
+    }
+  }
+
+  /**
+   * Transfers the entries of a routing group from one topology version to another.
+   * Entries of the old version that are accepted by the given filter are stamped with the new
+   * version, while all other entries of the old version are removed.
+   *
+   * @param routingGroup The routing group.
+   * @param oldVersion The old topology version.
+   * @param newVersion The new topology version.
+   * @param stillValid Accepts entries that are valid for the new topology version, too.
+   */
+  void transfer(@Nonnull String routingGroup,
+                long oldVersion,
+                long newVersion,
+                @Nonnull Predicate<Entry> stillValid) {
+    requireNonNull(routingGroup, "routingGroup");
+    requireNonNull(stillValid, "stillValid");
+
+    for (Map.Entry<Key, Node> mapEntry : entries.entrySet()) {
+      Node node = mapEntry.getValue();
+      if (!mapEntry.getKey().getRoutingGroup().equals(routingGroup)
+          || node.getEntry().getVersion() != oldVersion) {
+        continue;
+      }
+
+      // Only replace/remove the node we have looked at, in case it was updated concurrently.
+      if (stillValid.test(node.getEntry())) {
+        entries.replace(mapEntry.getKey(),
+                        node,
+                        new Node(node.getEntry().withVersion(newVersion), node.getLastAccess()));
+      }
+      else {
+        entries.remove(mapEntry.getKey(), node);
+      }
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries, unless another thread is already doing it.
+   */
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      int excess = entries.size() - evictionTarget;
+      if (excess <= 0) {
+        return;
+      }
+
+      // Take a snapshot of the access times, as they may change while sorting.
+      List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+      for (Map.Entry<Key, Node> mapEntry : entries.entrySet()) {
+        candidates.add(new EvictionCandidate(mapEntry.getKey(), mapEntry.getValue()));
+      }
+      candidates.sort(Comparator.comparingLong(EvictionCandidate::getLastAccess));
+
+      for (int i = 0; i < excess && i < candidates.size(); i++) {
+        EvictionCandidate candidate = candidates.get(i);
+        if (entries.remove(candidate.getKey(), candidate.getNode())) {
+          evictions.increment();
+        }
+      }
+    }
+    finally {
+      evicting.set(false);
+    }
+  }
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * Holds a cached entry along with the time it was last accessed.
+   */
+  private static class Node {
+
+    private final Entry entry;
+    private volatile long lastAccess;
+
+    Node(Entry entry, long lastAccess) {
+      this.entry = entry;
+      this.lastAccess = lastAccess;
+    }
+
+    Entry getEntry() {
+      return entry;
+    }
+
+    long getLastAccess() {
+      return lastAccess;
+    }
+
+    void touch(long time) {
+      lastAccess = time;
+    }
+  }
+
+  /**
+   * A node considered for eviction, with the time it was last accessed when it was considered.
+   */
+  private static class EvictionCandidate {
+
+    private final Key key;
+    private final Node node;
+    private final long lastAccess;
+
+    EvictionCandidate(Key key, Node node) {
+      this.key = key;
+      this.node = node;
+      this.lastAccess = node.getLastAccess();
+    }
+
+    Key getKey() {
+      return key;
+    }
+
+    Node getNode() {
+      return node;
+    }
+
+    long getLastAccess() {
+      return lastAccess;
+    }
+  }
+
+  /**
+   * Identifies a pair of points within a routing group.
+   */
+  static class Key {
+
+    private final String routingGroup;
+    private final String sourcePoint;
+    private final String destinationPoint;
+
+    Key(@Nonnull String routingGroup,
+        @Nonnull String sourcePoint,
+        @Nonnull String destinationPoint) {
+      this.routingGroup = requireNonNull(routingGroup, "routingGroup");
+      this.sourcePoint = requireNonNull(sourcePoint, "sourcePoint");
+      this.destinationPoint = requireNonNull(destinationPoint, "destinationPoint");
+    }
+
+    String getRoutingGroup() {
+      return routingGroup;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return sourcePoint.equals(other.sourcePoint)
+          && destinationPoint.equals(other.destinationPoint)
+          && routingGroup.equals(other.routingGroup);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(routingGroup, sourcePoint, destinationPoint);
+    }
+  }
+
+  /**
+   * The routing results known for a pair of points.
+   */
+  static class Entry {
+
+    private final long version;
+    private final long costs;
+    private final List<Route.Step> steps;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param version The topology version the results are valid for.
+     * @param costs The costs, or {@link #UNKNOWN_COSTS}, if they have not been retrieved, yet.
+     * @param steps The route steps, or <code>null</code>, if they have not been retrieved, yet, or
+     * if no route exists.
+     */
+    Entry(long version, long costs, @Nullable List<Route.Step> steps) {
+      this.version = version;
+      this.costs = costs;
+      this.steps = steps == null ? null : List.copyOf(steps);
+    }
+
+    long getVersion() {
+      return version;
+    }
+
+    long getCosts() {
+      return costs;
+    }
+
+    @Nullable
+    List<Route.Step> getSteps() {
+      return steps;
+    }
+
+    /**
+     * Indicates whether it is known that no route exists.
+     *
+     * @return <code>true</code> if, and only if, it is known that no route exists.
+     */
+    boolean isUnroutable() {
+      return costs == INFINITE_COSTS;
+    }
+
+    Entry withVersion(long version) {
+      return new Entry(version, costs, steps);
+    }
+
+    Entry withCosts(long costs) {
+      return new Entry(version, costs, steps);
+    }
+
+    Entry withSteps(List<Route.Step> steps) {
+      return new Entry(version, costs, steps);
+    }
+  }
+}
@@ -7,6 +7,7 @@
  */
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import java.util.Collection;
 import java.util.Iterator;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -65,13 +66,10 @@ public abstract class AbstractPointRouterFactory
                                                            objectService.fetchObjects(Path.class),
                                                            vehicle);
 
-    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph), points);
-    // Make a single request for a route from one point to a different one to make sure the
-    // point router is primed. (Some implementations are initialized lazily.)
-    if (points.size() >= 2) {
-      Iterator<Point> pointIter = points.iterator();
-      router.getRouteSteps(pointIter.next(), pointIter.next());
-    }
+    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph),
+                                                     graph,
+                                                     points);
+    prime(router, points);
 
     LOG.debug("Created point router for {} in {} milliseconds.",
               vehicle.getName(),
@@ -80,6 +78,52 @@ public abstract class AbstractPointRouterFactory
     return router;
   }
 
+  @Override
+  public PointRouter updatePointRouter(PointRouter pointRouter, Set<Path> paths, Vehicle vehicle) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+
+    if (!(pointRouter instanceof ShortestPathPointRouter)) {
+      return createPointRouter(vehicle);
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    ShortestPathPointRouter oldRouter = (ShortestPathPointRouter) pointRouter;
+    // Work on a copy of the graph so the old point router stays usable until it is replaced.
+    Graph<String, Edge> graph = WeightedGraphs.copyOf(oldRouter.getGraph());
+    mapper.updateGraph(paths, vehicle, graph);
+
+    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph),
+                                                     graph,
+                                                     oldRouter.getPoints());
+    prime(router, oldRouter.getPoints());
+
+    LOG.debug("Updated point router for {} with {} changed paths in {} milliseconds.",
+              vehicle.getName(),
+              paths.size(),
+              System.currentTimeMillis() - timeStampBefore);
+
+    return router;
+  }
+
+  /**
+   * Makes a single request for a route from one point to a different one to make sure the given
+   * point router is primed.
+   * (Some implementations are initialized lazily, which is not safe when the point router is used
+   * by multiple threads concurrently.)
+   *
+   * @param router The point router.
+   * @param points The points known to the point router.
+   */
+  private void prime(PointRouter router, Collection<Point> points) {
+    if (points.size() >= 2) {
+      Iterator<Point> pointIter = points.iterator();
+      router.getRouteSteps(pointIter.next(), pointIter.next());
+    }
+  }
+
   /**
    * Returns a shortest path algorithm implementation working on the given graph.
    *
@@ -8,7 +8,10 @@
 package org.opentcs.strategies.basic.routing.jgrapht;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.jgrapht.Graph;
@@ -69,50 +72,28 @@ public class DefaultModelGraphMapper
       graph.addVertex(point.getName());
     }
 
-    boolean allowNegativeEdgeWeights = configuration.algorithm().isHandlingNegativeCosts();
+    for (Path path : paths) {
+      addEdges(path, vehicle, graph);
+    }
+
+    edgeEvaluator.onGraphComputationEnd(vehicle);
+
+    return graph;
+  }
+
+  @Override
+  public Graph<String, Edge> updateGraph(Collection<Path> paths,
+                                         Vehicle vehicle,
+                                         Graph<String, Edge> graph) {
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(graph, "graph");
+
+    edgeEvaluator.onGraphComputationStart(vehicle);
 
     for (Path path : paths) {
-      if (shouldAddForwardEdge(path, vehicle)) {
-        Edge edge = new Edge(path, false);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-                   edge,
-                   weight,
-                   configuration.algorithm().name());
-        }
-        else if (weight == Double.POSITIVE_INFINITY) {
-          LOG.debug("Edge {} with infinite weight ignored.", edge);
-        }
-        else {
-          graph.addEdge(path.getSourcePoint().getName(),
-                        path.getDestinationPoint().getName(),
-                        edge);
-          graph.setEdgeWeight(edge, weight);
-        }
-      }
-
-      if (shouldAddReverseEdge(path, vehicle)) {
-        Edge edge = new Edge(path, true);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-                   edge,
-                   weight,
-                   configuration.algorithm().name());
-        }
-        else if (weight == Double.POSITIVE_INFINITY) {
-          LOG.debug("Edge {} with infinite weight ignored.", edge);
-        }
-        else {
-          graph.addEdge(path.getDestinationPoint().getName(),
-                        path.getSourcePoint().getName(),
-                        edge);
-          graph.setEdgeWeight(edge, weight);
-        }
-      }
+      removeEdges(path, graph);
+      addEdges(path, vehicle, graph);
     }
 
     edgeEvaluator.onGraphComputationEnd(vehicle);
@@ -120,6 +101,60 @@ public class DefaultModelGraphMapper
     return graph;
   }
 
+  private void addEdges(Path path, Vehicle vehicle, Graph<String, Edge> graph) {
+    if (shouldAddForwardEdge(path, vehicle)) {
+      addEdge(new Edge(path, false),
+              path.getSourcePoint().getName(),
+              path.getDestinationPoint().getName(),
+              vehicle,
+              graph);
+    }
+
+    if (shouldAddReverseEdge(path, vehicle)) {
+      addEdge(new Edge(path, true),
+              path.getDestinationPoint().getName(),
+              path.getSourcePoint().getName(),
+              vehicle,
+              graph);
+    }
+  }
+
+  private void addEdge(Edge edge,
+                       String sourceVertex,
+                       String targetVertex,
+                       Vehicle vehicle,
+                       Graph<String, Edge> graph) {
+    double weight = edgeEvaluator.computeWeight(edge, vehicle);
+
+    if (weight < 0 && !configuration.algorithm().isHandlingNegativeCosts()) {
+      LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
+               edge,
+               weight,
+               configuration.algorithm().name());
+    }
+    else if (weight == Double.POSITIVE_INFINITY) {
+      LOG.debug("Edge {} with infinite weight ignored.", edge);
+    }
+    else {
+      graph.addEdge(sourceVertex, targetVertex, edge);
+      graph.setEdgeWeight(edge, weight);
+    }
+  }
+
+  private void removeEdges(Path path, Graph<String, Edge> graph) {
+    String sourceVertex = path.getSourcePoint().getName();
+    String destinationVertex = path.getDestinationPoint().getName();
+    if (!graph.containsVertex(sourceVertex) || !graph.containsVertex(destinationVertex)) {
+      return;
+    }
+
+    Set<Edge> edgesToRemove = new HashSet<>();
+    edgesToRemove.addAll(graph.getAllEdges(sourceVertex, destinationVertex));
+    edgesToRemove.addAll(graph.getAllEdges(destinationVertex, sourceVertex));
+    edgesToRemove.removeIf(edge -> !Objects.equals(edge.getPath().getName(), path.getName()));
+    graph.removeAllEdges(edgesToRemove);
+  }
+
   /**
    * Returns <code>true</code> if and only if the graph should contain an edge from the source
    * of the path to its destination for the given vehicle.
@@ -30,4 +30,21 @@ public interface ModelGraphMapper {
   Graph<String, Edge> translateModel(Collection<Point> points,
                                           Collection<Path> paths,
                                           Vehicle vehicle);
+
+  /**
+   * Updates the given weighted graph with respect to the given paths.
+   * <p>
+   * All edges of the given paths are removed from the graph and are then added again according to
+   * the paths' current state, e.g. considering whether they are locked or not.
+   * All other edges in the graph are left untouched.
+   * </p>
+   *
+   * @param paths The paths to be updated.
+   * @param vehicle The vehicle for which the graph was built.
+   * @param graph The graph to be updated. It is modified in place.
+   * @return The modified graph.
+   */
+  Graph<String, Edge> updateGraph(Collection<Path> paths,
+                                  Vehicle vehicle,
+                                  Graph<String, Edge> graph);
 }
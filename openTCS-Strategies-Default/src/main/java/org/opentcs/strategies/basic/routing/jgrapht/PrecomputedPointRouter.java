@@ -0,0 +1,493 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points by looking them up in tables that are precomputed for all pairs
+ * of points when an instance is created.
+ * <p>
+ * Points are mapped to consecutive indices, and the costs and the predecessor edges of the
+ * shortest routes between all pairs of points are kept in dense primitive arrays.
+ * As a result, looking up costs is a constant-time operation that does not allocate any objects.
+ * The tables require memory quadratic in the number of points, though.
+ * </p>
+ * <p>
+ * When only a few edges of the graph change, e.g. due to paths being locked or unlocked, an
+ * updated instance can be derived from an existing one, with only the affected rows of the tables
+ * being computed again.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class PrecomputedPointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PrecomputedPointRouter.class);
+  /**
+   * Marks the absence of a predecessor edge in the predecessor table.
+   */
+  private static final int NO_EDGE = -1;
+  /**
+   * The graph the routing tables were computed for.
+   */
+  private final Graph<String, Edge> graph;
+  /**
+   * Maps point names to point indices.
+   */
+  private final Map<String, Integer> indicesByName;
+  /**
+   * The points, by index.
+   */
+  private final Point[] points;
+  /**
+   * The edges of the graph, by index.
+   */
+  private final Edge[] edges;
+  /**
+   * The indices of the edges' source points, by edge index.
+   */
+  private final int[] edgeSources;
+  /**
+   * The indices of the edges' target points, by edge index.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weights of the edges, by edge index.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The outgoing edges of every point.
+   */
+  private final AdjacencyLists adjacency;
+  /**
+   * The costs of the shortest routes, indexed by <code>source * pointCount + destination</code>.
+   */
+  private final long[] costs;
+  /**
+   * The index of the last edge on the shortest routes, indexed by
+   * <code>source * pointCount + destination</code>.
+   */
+  private final int[] predecessorEdges;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to compute the routing tables for.
+   * @param points The points of the model.
+   */
+  public PrecomputedPointRouter(@Nonnull Graph<String, Edge> graph,
+                                @Nonnull Collection<Point> points) {
+    this.graph = requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+    checkArgument((long) points.size() * points.size() <= Integer.MAX_VALUE,
+                  "Too many points for precomputed routing tables: %s",
+                  points.size());
+
+    this.points = points.toArray(new Point[points.size()]);
+    this.indicesByName = new HashMap<>();
+    for (int i = 0; i < this.points.length; i++) {
+      indicesByName.put(this.points[i].getName(), i);
+    }
+
+    edges = graph.edgeSet().toArray(new Edge[graph.edgeSet().size()]);
+    edgeSources = new int[edges.length];
+    edgeTargets = new int[edges.length];
+    edgeWeights = new double[edges.length];
+    initEdges();
+    adjacency = new AdjacencyLists(this.points.length, edgeSources);
+
+    int pointCount = this.points.length;
+    costs = new long[pointCount * pointCount];
+    predecessorEdges = new int[pointCount * pointCount];
+
+    RowComputation computation = new RowComputation();
+    for (int source = 0; source < pointCount; source++) {
+      computation.computeRow(source);
+    }
+  }
+
+  /**
+   * Creates a new instance with routing tables derived from the given point router's tables.
+   * <p>
+   * The given graph is expected to contain the same points as the given point router's graph,
+   * with only some of its edges removed or added.
+   * Edges contained in both graphs are identified by identity.
+   * Only those rows of the routing tables that may be affected by the removed or added edges are
+   * computed again; all other rows are taken from the given point router.
+   * </p>
+   *
+   * @param previous The point router to derive the routing tables from.
+   * @param graph The updated graph.
+   */
+  public PrecomputedPointRouter(@Nonnull PrecomputedPointRouter previous,
+                                @Nonnull Graph<String, Edge> graph) {
+    requireNonNull(previous, "previous");
+    this.graph = requireNonNull(graph, "graph");
+
+    this.points = previous.points;
+    this.indicesByName = previous.indicesByName;
+
+    edges = graph.edgeSet().toArray(new Edge[graph.edgeSet().size()]);
+    edgeSources = new int[edges.length];
+    edgeTargets = new int[edges.length];
+    edgeWeights = new double[edges.length];
+    initEdges();
+    adjacency = new AdjacencyLists(points.length, edgeSources);
+
+    int pointCount = points.length;
+    costs = Arrays.copyOf(previous.costs, previous.costs.length);
+    predecessorEdges = new int[pointCount * pointCount];
+
+    // Map the previous router's edge indices to ours.
+    Map<Edge, Integer> newEdgeIndices = new IdentityHashMap<>();
+    for (int i = 0; i < edges.length; i++) {
+      newEdgeIndices.put(edges[i], i);
+    }
+    int[] oldToNewEdgeIndices = new int[previous.edges.length];
+    boolean[] retainedEdges = new boolean[edges.length];
+    for (int i = 0; i < previous.edges.length; i++) {
+      Integer newIndex = newEdgeIndices.get(previous.edges[i]);
+      oldToNewEdgeIndices[i] = newIndex == null ? NO_EDGE : newIndex;
+      if (newIndex != null) {
+        retainedEdges[newIndex] = true;
+      }
+    }
+
+    boolean[] affectedRows = new boolean[pointCount];
+    // A removed edge affects every row in which it is the last edge of the route to its target.
+    for (int i = 0; i < previous.edges.length; i++) {
+      if (oldToNewEdgeIndices[i] == NO_EDGE) {
+        for (int source = 0; source < pointCount; source++) {
+          if (previous.predecessorEdges[source * pointCount + previous.edgeTargets[i]] == i) {
+            affectedRows[source] = true;
+          }
+        }
+      }
+    }
+    // An added edge affects every row in which it might shorten the route to its target. (The
+    // costs in the tables are truncated, so be conservative here.)
+    for (int i = 0; i < edges.length; i++) {
+      if (!retainedEdges[i]) {
+        for (int source = 0; source < pointCount; source++) {
+          long costsToEdge = costs[source * pointCount + edgeSources[i]];
+          long costsToTarget = costs[source * pointCount + edgeTargets[i]];
+          if (costsToEdge != INFINITE_COSTS
+              && (costsToTarget == INFINITE_COSTS
+                  || costsToEdge + edgeWeights[i] < costsToTarget + 1.0)) {
+            affectedRows[source] = true;
+          }
+        }
+      }
+    }
+
+    RowComputation computation = new RowComputation();
+    int affectedRowCount = 0;
+    for (int source = 0; source < pointCount; source++) {
+      if (affectedRows[source]) {
+        computation.computeRow(source);
+        affectedRowCount++;
+      }
+      else {
+        int rowOffset = source * pointCount;
+        for (int dest = 0; dest < pointCount; dest++) {
+          int oldEdge = previous.predecessorEdges[rowOffset + dest];
+          predecessorEdges[rowOffset + dest]
+              = oldEdge == NO_EDGE ? NO_EDGE : oldToNewEdgeIndices[oldEdge];
+        }
+      }
+    }
+
+    LOG.debug("Recomputed {} of {} rows of the routing tables.", affectedRowCount, pointCount);
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int srcIndex = indexOf(srcPoint.getName());
+    int destIndex = indexOf(destPoint.getName());
+    int rowOffset = srcIndex * points.length;
+    if (costs[rowOffset + destIndex] == INFINITE_COSTS) {
+      return null;
+    }
+
+    List<Integer> routeEdges = new ArrayList<>();
+    for (int curIndex = destIndex; curIndex != srcIndex;) {
+      int edgeIndex = predecessorEdges[rowOffset + curIndex];
+      routeEdges.add(edgeIndex);
+      curIndex = edgeSources[edgeIndex];
+    }
+    Collections.reverse(routeEdges);
+
+    return translateToSteps(routeEdges);
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    return costs[indexOf(srcPointRef.getName()) * points.length
+        + indexOf(destPointRef.getName())];
+  }
+
+  private int indexOf(String pointName) {
+    Integer index = indicesByName.get(pointName);
+    checkArgument(index != null, "Unknown point: %s", pointName);
+    return index;
+  }
+
+  /**
+   * Returns the graph the routing tables were computed for.
+   *
+   * @return The graph the routing tables were computed for.
+   */
+  Graph<String, Edge> getGraph() {
+    return graph;
+  }
+
+  private void initEdges() {
+    for (int i = 0; i < edges.length; i++) {
+      edgeSources[i] = indexOf(graph.getEdgeSource(edges[i]));
+      edgeTargets[i] = indexOf(graph.getEdgeTarget(edges[i]));
+      edgeWeights[i] = graph.getEdgeWeight(edges[i]);
+    }
+  }
+
+  private List<Route.Step> translateToSteps(List<Integer> routeEdges) {
+    List<Route.Step> result = new ArrayList<>(routeEdges.size());
+
+    int routeIndex = 0;
+    for (int edgeIndex : routeEdges) {
+      Edge edge = edges[edgeIndex];
+      Point sourcePoint = points[edgeSources[edgeIndex]];
+      Point destPoint = points[edgeTargets[edgeIndex]];
+
+      result.add(new Route.Step(edge.getPath(),
+                                sourcePoint,
+                                destPoint,
+                                orientation(edge, sourcePoint),
+                                routeIndex));
+      routeIndex++;
+    }
+
+    return result;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+
+  /**
+   * Fills single rows of the cost and predecessor tables using Dijkstra's algorithm.
+   */
+  private class RowComputation {
+
+    /**
+     * The distances of all points from the current source point.
+     */
+    private final double[] distances = new double[points.length];
+    /**
+     * The queue of points to be visited.
+     */
+    private final PointQueue queue = new PointQueue(points.length, distances);
+
+    RowComputation() {
+    }
+
+    void computeRow(int source) {
+      int pointCount = points.length;
+      int rowOffset = source * pointCount;
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(predecessorEdges, rowOffset, rowOffset + pointCount, NO_EDGE);
+
+      distances[source] = 0.0;
+      queue.insertOrDecrease(source);
+      while (!queue.isEmpty()) {
+        int point = queue.removeMin();
+        for (int i = adjacency.offsets[point]; i < adjacency.offsets[point + 1]; i++) {
+          int edge = adjacency.edges[i];
+          int target = edgeTargets[edge];
+          double distance = distances[point] + edgeWeights[edge];
+          if (distance < distances[target]) {
+            distances[target] = distance;
+            predecessorEdges[rowOffset + target] = edge;
+            queue.insertOrDecrease(target);
+          }
+        }
+      }
+
+      for (int dest = 0; dest < pointCount; dest++) {
+        costs[rowOffset + dest] = distances[dest] == Double.POSITIVE_INFINITY
+            ? INFINITE_COSTS
+            : (long) distances[dest];
+      }
+    }
+  }
+
+  /**
+   * The outgoing edges of all points in compressed form.
+   */
+  private static class AdjacencyLists {
+
+    /**
+     * The offset of every point's first outgoing edge in {@link #edges}, with an additional
+     * trailing element marking the end of the last point's edges.
+     */
+    private final int[] offsets;
+    /**
+     * The indices of all edges, grouped by their source points.
+     */
+    private final int[] edges;
+
+    AdjacencyLists(int pointCount, int[] edgeSources) {
+      offsets = new int[pointCount + 1];
+      edges = new int[edgeSources.length];
+
+      for (int source : edgeSources) {
+        offsets[source + 1]++;
+      }
+      for (int i = 0; i < pointCount; i++) {
+        offsets[i + 1] += offsets[i];
+      }
+      int[] nextSlots = Arrays.copyOf(offsets, pointCount);
+      for (int edge = 0; edge < edgeSources.length; edge++) {
+        edges[nextSlots[edgeSources[edge]]++] = edge;
+      }
+    }
+  }
+
+  /**
+   * A binary min-heap of point indices, ordered by their current distances.
+   */
+  private static class PointQueue {
+
+    /**
+     * The heap of point indices.
+     */
+    private final int[] heap;
+    /**
+     * The position of every point in the heap, or -1 if it is not contained.
+     */
+    private final int[] positions;
+    /**
+     * The distances the heap is ordered by.
+     */
+    private final double[] distances;
+    /**
+     * The number of points in the heap.
+     */
+    private int size;
+
+    PointQueue(int pointCount, double[] distances) {
+      this.heap = new int[pointCount];
+      this.positions = new int[pointCount];
+      this.distances = distances;
+      Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void insertOrDecrease(int point) {
+      int position = positions[point];
+      if (position == -1) {
+        position = size;
+        size++;
+      }
+      siftUp(position, point);
+    }
+
+    int removeMin() {
+      int result = heap[0];
+      positions[result] = -1;
+      size--;
+      if (size > 0) {
+        siftDown(0, heap[size]);
+      }
+      return result;
+    }
+
+    private void siftUp(int position, int point) {
+      while (position > 0) {
+        int parentPosition = (position - 1) / 2;
+        int parent = heap[parentPosition];
+        if (distances[parent] <= distances[point]) {
+          break;
+        }
+        place(position, parent);
+        position = parentPosition;
+      }
+      place(position, point);
+    }
+
+    private void siftDown(int position, int point) {
+      while (true) {
+        int childPosition = 2 * position + 1;
+        if (childPosition >= size) {
+          break;
+        }
+        if (childPosition + 1 < size
+            && distances[heap[childPosition + 1]] < distances[heap[childPosition]]) {
+          childPosition++;
+        }
+        int child = heap[childPosition];
+        if (distances[point] <= distances[child]) {
+          break;
+        }
+        place(position, child);
+        position = childPosition;
+      }
+      place(position, point);
+    }
+
+    private void place(int position, int point) {
+      heap[position] = point;
+      positions[point] = position;
+    }
+  }
+}
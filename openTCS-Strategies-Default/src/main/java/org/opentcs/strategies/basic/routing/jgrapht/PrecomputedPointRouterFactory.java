@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link PrecomputedPointRouter} instances.
+ */
+public class PrecomputedPointRouterFactory
+    implements PointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PrecomputedPointRouterFactory.class);
+  /**
+   * The object service providing the model data.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Maps the plant model to a graph.
+   */
+  private final ModelGraphMapper mapper;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   */
+  @Inject
+  public PrecomputedPointRouterFactory(@Nonnull TCSObjectService objectService,
+                                       @Nonnull ModelGraphMapper mapper) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.mapper = requireNonNull(mapper, "mapper");
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    Set<Point> points = objectService.fetchObjects(Point.class);
+    Graph<String, Edge> graph = mapper.translateModel(points,
+                                                      objectService.fetchObjects(Path.class),
+                                                      vehicle);
+
+    PointRouter router = new PrecomputedPointRouter(graph, points);
+
+    LOG.debug("Created point router with precomputed tables for {} in {} milliseconds.",
+              vehicle.getName(),
+              System.currentTimeMillis() - timeStampBefore);
+
+    return router;
+  }
+
+  @Override
+  public PointRouter updatePointRouter(PointRouter pointRouter, Set<Path> paths, Vehicle vehicle) {
+    requireNonNull(pointRouter, "pointRouter");
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+
+    if (!(pointRouter instanceof PrecomputedPointRouter)) {
+      return createPointRouter(vehicle);
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    PrecomputedPointRouter oldRouter = (PrecomputedPointRouter) pointRouter;
+    // Work on a copy of the graph so the old point router stays usable until it is replaced.
+    Graph<String, Edge> graph = WeightedGraphs.copyOf(oldRouter.getGraph());
+    mapper.updateGraph(paths, vehicle, graph);
+
+    PointRouter router = new PrecomputedPointRouter(oldRouter, graph);
+
+    LOG.debug("Updated point router for {} with {} changed paths in {} milliseconds.",
+              vehicle.getName(),
+              paths.size(),
+              System.currentTimeMillis() - timeStampBefore);
+
+    return router;
+  }
+}
@@ -28,7 +28,11 @@ public interface ShortestPathConfiguration {
         "The routing algorithm to be used. Valid values:",
         "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
         "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."})
+        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+        "'DIJKSTRA_PRECOMPUTED': Routes between all pairs of points are computed using Dijkstra's "
+        + "algorithm when the routing topology is set up and looked up from tables afterwards. "
+        + "(Lookups are fast, but the tables' memory usage grows quadratically with the number "
+        + "of points.)"})
   Algorithm algorithm();
 
   @ConfigurationEntry(
@@ -59,7 +63,11 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * The Dijkstra algorithm, run for all pairs of points in advance.
+     */
+    DIJKSTRA_PRECOMPUTED(false);
 
     private final boolean handlingNegativeCosts;
 
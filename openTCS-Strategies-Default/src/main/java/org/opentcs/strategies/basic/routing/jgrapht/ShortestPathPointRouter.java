@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.opentcs.components.kernel.routing.Edge;
@@ -41,11 +42,15 @@ public class ShortestPathPointRouter
 
   private final ShortestPathAlgorithm<String, Edge> algo;
 
+  private final Graph<String, Edge> graph;
+
   private final Map<String, Point> points = new HashMap<>();
 
   public ShortestPathPointRouter(ShortestPathAlgorithm<String, Edge> algo,
+                                 Graph<String, Edge> graph,
                                  Collection<Point> points) {
     this.algo = requireNonNull(algo, "algo");
+    this.graph = requireNonNull(graph, "graph");
     requireNonNull(points, "points");
 
     for (Point point : points) {
@@ -98,6 +103,24 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  /**
+   * Returns the graph the shortest path algorithm works on.
+   *
+   * @return The graph the shortest path algorithm works on.
+   */
+  Graph<String, Edge> getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the points known to this router.
+   *
+   * @return The points known to this router.
+   */
+  Collection<Point> getPoints() {
+    return points.values();
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * Utility methods for weighted routing graphs.
+ */
+final class WeightedGraphs {
+
+  /**
+   * Prevents instantiation.
+   */
+  private WeightedGraphs() {
+  }
+
+  /**
+   * Returns a copy of the given graph containing the same vertices and edges with the same weights.
+   * <p>
+   * The vertex and edge instances themselves are shared, not copied.
+   * </p>
+   *
+   * @param graph The graph to be copied.
+   * @return The copy.
+   */
+  static Graph<String, Edge> copyOf(Graph<String, Edge> graph) {
+    requireNonNull(graph, "graph");
+
+    Graph<String, Edge> copy = new DirectedWeightedMultigraph<>(Edge.class);
+    for (String vertex : graph.vertexSet()) {
+      copy.addVertex(vertex);
+    }
+    for (Edge edge : graph.edgeSet()) {
+      copy.addEdge(graph.getEdgeSource(edge), graph.getEdgeTarget(edge), edge);
+      copy.setEdgeWeight(edge, graph.getEdgeWeight(edge));
+    }
+    return copy;
+  }
+}
@@ -112,6 +112,46 @@ abstract class AllocatorCommand
     }
   }
 
+  /**
+   * Indicates resources allocated for a client being rejected by the client.
+   */
+  public static class AllocationRejected
+      extends AllocatorCommand {
+
+    /**
+     * The resources being rejected.
+     */
+    private final Set<TCSResource<?>> resources;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param resources The resources being rejected.
+     */
+    AllocationRejected(Client client, Set<TCSResource<?>> resources) {
+      super(2, client);
+      this.resources = requireNonNull(resources, "resources");
+    }
+
+    /**
+     * Returns the resources being rejected.
+     *
+     * @return The resources being rejected.
+     */
+    public Set<TCSResource<?>> getResources() {
+      return resources;
+    }
+
+    @Override
+    public String toString() {
+      return "AllocationRejected{"
+          + "client=" + getClient()
+          + ", resources=" + resources
+          + '}';
+    }
+  }
+
   /**
    * Indicates the receiving task should retry to grant deferred allocations.
    */
@@ -7,21 +7,31 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.List;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Handles regular resource allocations.
+ * <p>
+ * Tasks are expected to be executed by the scheduler's single executor thread, which is the only
+ * thread granting allocations.
+ * Each task is processed while holding the reservation pool's lock, which is the lock guarding the
+ * scheduler's state, including the state of the allocation advisor's modules.
+ * Checking, preparing and granting an allocation is therefore a single atomic step with regard to
+ * immediate allocations and releases requested by other threads.
+ * As other threads may hold the kernel's global lock when requesting the reservation pool's lock,
+ * modules must not acquire the global lock.
+ * </p>
  */
 class AllocatorTask
     implements Runnable {
@@ -45,15 +55,15 @@ class AllocatorTask
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
   /**
-   * Executes tasks.
+   * Executes scheduling tasks.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ExecutorService schedulerExecutor;
   /**
-   * A global object to be used for synchronization within the kernel.
+   * Executes callbacks to scheduler clients.
    */
-  private final Object globalSyncObject;
+  private final Executor callbackExecutor;
   /**
    * Describes the actual task.
    */
@@ -64,17 +74,17 @@ class AllocatorTask
    */
   AllocatorTask(@Nonnull InternalPlantModelService plantModelService,
                 @Nonnull ReservationPool reservationPool,
-                @Nonnull Queue<AllocatorCommand.Allocate> deferredAllocations,
+                @Nonnull DeferredAllocations deferredAllocations,
                 @Nonnull Scheduler.Module allocationAdvisor,
-                @Nonnull ScheduledExecutorService kernelExecutor,
-                @Nonnull @GlobalSyncObject Object globalSyncObject,
+                @Nonnull ExecutorService schedulerExecutor,
+                @Nonnull Executor callbackExecutor,
                 @Nonnull AllocatorCommand command) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.deferredAllocations = requireNonNull(deferredAllocations, "deferredAllocations");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.schedulerExecutor = requireNonNull(schedulerExecutor, "schedulerExecutor");
+    this.callbackExecutor = requireNonNull(callbackExecutor, "callbackExecutor");
     this.command = requireNonNull(command, "command");
   }
 
@@ -82,27 +92,37 @@ class AllocatorTask
   public void run() {
     LOG.debug("Processing AllocatorCommand: {}", command);
 
-    if (command instanceof AllocatorCommand.Allocate) {
-      processAllocate((AllocatorCommand.Allocate) command);
-    }
-    else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
-    }
-    else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
-      checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
-    }
-    else if (command instanceof AllocatorCommand.AllocationsReleased) {
-      allocationsReleased((AllocatorCommand.AllocationsReleased) command);
-    }
-    else {
-      LOG.warn("Unhandled AllocatorCommand implementation {}, ignored.", command.getClass());
+    synchronized (reservationPool) {
+      if (command instanceof AllocatorCommand.Allocate) {
+        processAllocate((AllocatorCommand.Allocate) command);
+      }
+      else if (command instanceof AllocatorCommand.RetryAllocates) {
+        scheduleRetryWaitingAllocations(deferredAllocations.wakeUpAll());
+      }
+      else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
+        checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
+      }
+      else if (command instanceof AllocatorCommand.AllocationsReleased) {
+        allocationsReleased((AllocatorCommand.AllocationsReleased) command);
+      }
+      else if (command instanceof AllocatorCommand.AllocationRejected) {
+        allocationRejected((AllocatorCommand.AllocationRejected) command);
+      }
+      else {
+        LOG.warn("Unhandled AllocatorCommand implementation {}, ignored.", command.getClass());
+      }
     }
   }
 
   private void processAllocate(AllocatorCommand.Allocate command) {
+    // Resources freed after the allocation attempt result in a task that is executed after this
+    // one, so the deferred allocation will be woken up by it.
     if (!tryAllocate(command)) {
       LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
+      deferredAllocations.add(
+          command,
+          reservationPool.unavailableResources(command.getResources(), command.getClient())
+      );
       return;
     }
 
@@ -124,22 +144,39 @@ class AllocatorTask
     LOG.debug("Preparation of resources '{}' successful, calling back client '{}'...",
               resources,
               client.getId());
+    // Call back the client asynchronously, so that the client cannot delay other allocations.
+    callbackExecutor.execute(() -> notifyClient(client, resources));
+
+    // Notify modules about the changes in claimed/allocated resources for this client.
+    allocationAdvisor.setAllocationState(client,
+                                         reservationPool.allocatedResources(client),
+                                         reservationPool.getClaim(client));
+  }
+
+  private void notifyClient(Client client, Set<TCSResource<?>> resources) {
     if (!client.allocationSuccessful(resources)) {
       LOG.warn("{}: Client didn't want allocated resources ({}), unallocating them...",
                client.getId(),
                resources);
-      undoAllocate(client, resources);
-      // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      schedulerExecutor.submit(
+          new AllocatorTask(plantModelService,
+                            reservationPool,
+                            deferredAllocations,
+                            allocationAdvisor,
+                            schedulerExecutor,
+                            callbackExecutor,
+                            new AllocatorCommand.AllocationRejected(client, resources))
+      );
     }
-    // Notify modules about the changes in claimed/allocated resources for this client.
-    allocationAdvisor.setAllocationState(client,
-                                         reservationPool.allocatedResources(client),
-                                         reservationPool.getClaim(client));
   }
 
   /**
    * Allocates the given set of resources, if possible.
+   * <p>
+   * Must be called while holding the reservation pool's lock, so that no other thread can allocate
+   * any of the resources (or other members of their blocks) between the modules' checks and the
+   * actual allocation.
+   * </p>
    *
    * @param command Describes the requested allocation.
    * @return <code>true</code> if, and only if, the given resources were allocated.
@@ -148,44 +185,68 @@ class AllocatorTask
     Scheduler.Client client = command.getClient();
     Set<TCSResource<?>> resources = command.getResources();
 
-    synchronized (globalSyncObject) {
-      if (!reservationPool.isNextInClaim(client, resources)) {
-        LOG.error("{}: Not allocating resources that are not next claimed resources: {}",
-                  client.getId(),
-                  resources);
-        return false;
-      }
+    if (!resourcesAvailable(command)) {
+      return false;
+    }
 
-      LOG.debug("{}: Checking resource availability: {}...", client.getId(), resources);
-      if (!reservationPool.resourcesAvailableForUser(resources, client)) {
-        LOG.debug("{}: Resources unavailable.", client.getId());
-        return false;
-      }
+    LOG.debug("{}: Checking if resources may be allocated...", client.getId());
+    if (!allocationAdvisor.mayAllocate(client, resources)) {
+      LOG.debug("{}: Resources may not be allocated.", client.getId());
+      return false;
+    }
 
-      LOG.debug("{}: Checking if resources may be allocated...", client.getId());
-      if (!allocationAdvisor.mayAllocate(client, resources)) {
-        LOG.debug("{}: Resources may not be allocated.", client.getId());
-        return false;
-      }
+    LOG.debug("{}: Preparing resources for allocation...", client.getId());
+    allocationAdvisor.prepareAllocation(client, resources);
 
-      LOG.debug("{}: Preparing resources for allocation...", client.getId());
-      allocationAdvisor.prepareAllocation(client, resources);
+    LOG.debug("{}: All resources available, allocating...", client.getId());
+    // Allocate resources.
+    for (TCSResource<?> curRes : resources) {
+      reservationPool.getReservationEntry(curRes).allocate(client);
+    }
 
-      LOG.debug("{}: All resources available, allocating...", client.getId());
-      // Allocate resources.
-      for (TCSResource<?> curRes : command.getResources()) {
-        reservationPool.getReservationEntry(curRes).allocate(client);
-      }
+    LOG.debug("{}: Removing resources claim: {}...", client.getId(), resources);
+    reservationPool.unclaim(client, resources);
 
-      LOG.debug("{}: Removing resources claim: {}...", client.getId(), resources);
-      reservationPool.unclaim(client, resources);
+    return true;
+  }
+
+  private boolean resourcesAvailable(AllocatorCommand.Allocate command) {
+    Scheduler.Client client = command.getClient();
+    Set<TCSResource<?>> resources = command.getResources();
+
+    if (!reservationPool.isNextInClaim(client, resources)) {
+      LOG.error("{}: Not allocating resources that are not next claimed resources: {}",
+                client.getId(),
+                resources);
+      return false;
+    }
 
-      return true;
+    LOG.debug("{}: Checking resource availability: {}...", client.getId(), resources);
+    if (!reservationPool.resourcesAvailableForUser(resources, client)) {
+      LOG.debug("{}: Resources unavailable.", client.getId());
+      return false;
     }
+
+    return true;
   }
 
   private void allocationsReleased(AllocatorCommand.AllocationsReleased command) {
     allocationAdvisor.allocationReleased(command.getClient(), command.getResources());
+    // See if others were waiting for the released resources.
+    scheduleRetryWaitingAllocations(deferredAllocations.wakeUp(command.getResources()));
+  }
+
+  private void allocationRejected(AllocatorCommand.AllocationRejected command) {
+    Client client = command.getClient();
+
+    undoAllocate(client, command.getResources());
+    // See if others want the resources this one didn't, then.
+    scheduleRetryWaitingAllocations(deferredAllocations.wakeUp(command.getResources()));
+
+    // Notify modules about the changes in claimed/allocated resources for this client.
+    allocationAdvisor.setAllocationState(client,
+                                         reservationPool.allocatedResources(client),
+                                         reservationPool.getClaim(client));
   }
 
   /**
@@ -197,24 +258,24 @@ class AllocatorTask
    * @param command Describes the allocated resources.
    */
   private void undoAllocate(Client client, Set<TCSResource<?>> resources) {
-    synchronized (globalSyncObject) {
-      reservationPool.free(client, resources);
-    }
+    reservationPool.free(client, resources);
   }
 
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the given waiting allocations back into the incoming queue so they can be rechecked.
+   *
+   * @param allocates The waiting allocations.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              allocate));
+  private void scheduleRetryWaitingAllocations(List<AllocatorCommand.Allocate> allocates) {
+    LOG.debug("Retrying {} deferred allocations, {}", allocates.size(), deferredAllocations);
+    for (AllocatorCommand.Allocate allocate : allocates) {
+      schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                                 reservationPool,
+                                                 deferredAllocations,
+                                                 allocationAdvisor,
+                                                 schedulerExecutor,
+                                                 callbackExecutor,
+                                                 allocate));
     }
-    deferredAllocations.clear();
   }
 }
@@ -14,19 +14,18 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.ApplicationEventBus;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.TCSResource;
@@ -38,12 +37,20 @@ import org.opentcs.strategies.basic.scheduling.AllocatorCommand.RetryAllocates;
 import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implements a basic simple scheduler strategy for resources used by vehicles, preventing
  * collisions.
+ * <p>
+ * Allocations are granted by a dedicated scheduler thread, and the scheduler's state is guarded by
+ * the reservation pool's lock instead of the kernel's global lock, so allocations are not delayed
+ * by other tasks executed by the kernel executor (like dispatching).
+ * The allocation advisor's modules are only called while holding the reservation pool's lock, too.
+ * Clients are notified about successful allocations via the kernel executor.
+ * </p>
  */
 public class DefaultScheduler
     implements Scheduler,
@@ -68,23 +75,23 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
   /**
-   * Executes scheduling tasks.
+   * Executes callbacks to scheduler clients.
    */
   private final ScheduledExecutorService kernelExecutor;
   /**
    * The kernel's event bus.
    */
   private final EventBus eventBus;
-  /**
-   * A global object to be used for synchronization within the kernel.
-   */
-  private final Object globalSyncObject;
   /**
    * Allocations that are scheduled for execution on the kernel executor.
    */
   private final Map<Client, List<Future<?>>> allocateFutures = new HashMap<>();
+  /**
+   * Executes scheduling tasks.
+   */
+  private ScheduledExecutorService schedulerExecutor;
   /**
    * Indicates whether this component is enabled.
    */
@@ -96,23 +103,20 @@ public class DefaultScheduler
    * @param plantModelService The plant model service.
    * @param allocationAdvisor Takes care of modules.
    * @param reservationPool The reservation pool to be used.
-   * @param kernelExecutor Executes scheduling tasks.
+   * @param kernelExecutor Executes callbacks to scheduler clients.
    * @param eventBus The kernel's event bus.
-   * @param globalSyncObject The kernel threads' global synchronization object.
    */
   @Inject
   public DefaultScheduler(InternalPlantModelService plantModelService,
                           AllocationAdvisor allocationAdvisor,
                           ReservationPool reservationPool,
                           @KernelExecutor ScheduledExecutorService kernelExecutor,
-                          @ApplicationEventBus EventBus eventBus,
-                          @GlobalSyncObject Object globalSyncObject) {
+                          @ApplicationEventBus EventBus eventBus) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -124,6 +128,17 @@ public class DefaultScheduler
     reservationPool.clear();
     allocationAdvisor.initialize();
 
+    schedulerExecutor = new LoggingScheduledThreadPoolExecutor(
+        1,
+        runnable -> {
+          Thread thread = new Thread(runnable, "schedulerExecutor");
+          // Never keep the JVM from exiting, e.g. if the scheduler is not terminated properly.
+          thread.setDaemon(true);
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
+
     eventBus.subscribe(this);
 
     initialized = true;
@@ -142,6 +157,18 @@ public class DefaultScheduler
 
     eventBus.unsubscribe(this);
 
+    schedulerExecutor.shutdown();
+    try {
+      if (!schedulerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        LOG.warn("Scheduler executor did not terminate in time.");
+        schedulerExecutor.shutdownNow();
+      }
+    }
+    catch (InterruptedException exc) {
+      schedulerExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+
     allocationAdvisor.terminate();
 
     initialized = false;
@@ -152,7 +179,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       reservationPool.setClaim(client, resources);
 
       allocationAdvisor.setAllocationState(client,
@@ -166,7 +193,7 @@ public class DefaultScheduler
   public void unclaim(Client client) {
     requireNonNull(client, "client");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       reservationPool.setClaim(client, new LinkedList<>());
 
       allocationAdvisor.setAllocationState(client,
@@ -180,20 +207,12 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       checkArgument(reservationPool.isNextInClaim(client, resources),
                     "Not the next claimed resources: %s",
                     resources);
 
-      Future<?> allocateFuture = kernelExecutor.submit(
-          new AllocatorTask(plantModelService,
-                            reservationPool,
-                            deferredAllocations,
-                            allocationAdvisor,
-                            kernelExecutor,
-                            globalSyncObject,
-                            new Allocate(client, resources))
-      );
+      Future<?> allocateFuture = submit(new Allocate(client, resources));
 
       // Remember the allocate future in case we need to cancel it.
       addAllocateFuture(client, allocateFuture);
@@ -211,7 +230,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       for (TCSResource<?> curResource : resources) {
         ReservationEntry entry = reservationPool.getReservationEntry(curResource);
         if (!entry.isFree() && !entry.isAllocatedBy(client)) {
@@ -233,7 +252,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       // Check if all resources are available.
       final Set<TCSResource<?>> availableResources = new HashSet<>();
       for (TCSResource<?> curResource : resources) {
@@ -262,7 +281,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
       reservationPool.free(client, resources);
 
@@ -270,57 +289,31 @@ public class DefaultScheduler
       Set<TCSResource<?>> completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              new AllocationsReleased(client,
-                                                                      completelyFreeResources)));
+      // Processing the release also retries the deferred allocations waiting for the resources.
+      submit(new AllocationsReleased(client, completelyFreeResources));
     }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(client)));
   }
 
   @Override
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
       clearPendingAllocations(client);
 
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              globalSyncObject,
-                                              new AllocationsReleased(client,
-                                                                      freedResources)));
+      // Processing the release also retries the deferred allocations waiting for the resources.
+      submit(new AllocationsReleased(client, freedResources));
     }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(client)));
   }
 
   @Override
   public void clearPendingAllocations(Client client) {
     requireNonNull(client, "client");
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       LOG.debug("{}: Clearing pending allocation requests...", client.getId());
       deferredAllocations.removeIf(allocate -> client.equals(allocate.getClient()));
       cancelPendingAllocateFutures(client);
@@ -329,20 +322,34 @@ public class DefaultScheduler
 
   @Override
   public void reschedule() {
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new RetryAllocates(new DummyClient())));
+    submit(new RetryAllocates(new DummyClient()));
   }
 
   @Override
   public Map<String, Set<TCSResource<?>>> getAllocations() {
-    synchronized (globalSyncObject) {
-      return reservationPool.getAllocations();
-    }
+    return reservationPool.getAllocations();
+  }
+
+  /**
+   * Returns the lengths of the wait queues of deferred allocations, mapped by the names of the
+   * resources the allocations are waiting for.
+   *
+   * @return The lengths of the wait queues.
+   */
+  @Nonnull
+  public Map<String, Integer> getDeferredAllocationQueueLengths() {
+    return deferredAllocations.getQueueLengths();
+  }
+
+  /**
+   * Returns the time (in ms) the longest waiting deferred allocation has been waiting for each
+   * resource, mapped by the names of the respective resources.
+   *
+   * @return The longest wait times.
+   */
+  @Nonnull
+  public Map<String, Long> getDeferredAllocationWaitTimes() {
+    return deferredAllocations.getWaitTimes();
   }
 
   @Override
@@ -353,13 +360,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            globalSyncObject,
-                                            new CheckAllocationsPrepared(client, resources)));
+    submit(new CheckAllocationsPrepared(client, resources));
   }
 
   @Override
@@ -382,6 +383,16 @@ public class DefaultScheduler
     }
   }
 
+  private Future<?> submit(AllocatorCommand command) {
+    return schedulerExecutor.submit(new AllocatorTask(plantModelService,
+                                                      reservationPool,
+                                                      deferredAllocations,
+                                                      allocationAdvisor,
+                                                      schedulerExecutor,
+                                                      kernelExecutor,
+                                                      command));
+  }
+
   private void addAllocateFuture(Client client, Future<?> allocateFuture) {
     if (!allocateFutures.containsKey(client)) {
       allocateFutures.put(client, new ArrayList<>());
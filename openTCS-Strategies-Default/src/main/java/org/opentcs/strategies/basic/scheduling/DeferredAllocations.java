@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Keeps allocations that were deferred because they couldn't be granted, yet, in wait queues per
+ * resource.
+ * <p>
+ * An allocation is queued for each of the resources that prevented it from being granted, so
+ * freeing a resource only requires the allocations waiting for that resource to be retried.
+ * Allocations that were not prevented by any specific resource (e.g. because an allocation
+ * advisor's module denied them) are kept in a separate queue and are retried whenever any resource
+ * is freed.
+ * </p>
+ */
+class DeferredAllocations {
+
+  /**
+   * All deferred allocations, in the order they were deferred.
+   */
+  private final Map<AllocatorCommand.Allocate, Waiter> waiters = new LinkedHashMap<>();
+  /**
+   * The deferred allocations waiting for each resource, in the order they were deferred.
+   */
+  private final Map<TCSResource<?>, Set<Waiter>> waitQueues = new HashMap<>();
+  /**
+   * The deferred allocations not waiting for any specific resource.
+   */
+  private final Set<Waiter> unspecificWaitQueue = new LinkedHashSet<>();
+  /**
+   * The number of deferred allocations that were woken up.
+   */
+  private long wokenUp;
+  /**
+   * The sequence number of the next deferred allocation.
+   */
+  private long nextSequenceNumber;
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+  }
+
+  /**
+   * Adds a deferred allocation.
+   *
+   * @param command The allocation.
+   * @param blockingResources The resources that prevented the allocation from being granted.
+   * If empty, the allocation is woken up whenever any resource is freed.
+   */
+  synchronized void add(@Nonnull AllocatorCommand.Allocate command,
+                        @Nonnull Set<TCSResource<?>> blockingResources) {
+    requireNonNull(command, "command");
+    requireNonNull(blockingResources, "blockingResources");
+
+    Waiter waiter = new Waiter(command, blockingResources, nextSequenceNumber++);
+    waiters.put(command, waiter);
+    if (blockingResources.isEmpty()) {
+      unspecificWaitQueue.add(waiter);
+    }
+    else {
+      for (TCSResource<?> resource : blockingResources) {
+        waitQueues.computeIfAbsent(resource, r -> new LinkedHashSet<>()).add(waiter);
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the deferred allocations that may be granted now that the given resources
+   * were freed, i.e. the ones waiting for any of the given resources and the ones not waiting for
+   * any specific resource.
+   *
+   * @param freedResources The freed resources.
+   * @return The allocations, in their natural order (and in the order they were deferred, for
+   * allocations that are equal in this respect).
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUp(
+      @Nonnull Set<TCSResource<?>> freedResources) {
+    requireNonNull(freedResources, "freedResources");
+
+    Set<Waiter> woken = new LinkedHashSet<>(unspecificWaitQueue);
+    for (TCSResource<?> resource : freedResources) {
+      woken.addAll(waitQueues.getOrDefault(resource, Set.of()));
+    }
+    wokenUp += woken.size();
+    return remove(woken);
+  }
+
+  /**
+   * Removes and returns all deferred allocations.
+   *
+   * @return The allocations, in their natural order (and in the order they were deferred, for
+   * allocations that are equal in this respect).
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUpAll() {
+    wokenUp += waiters.size();
+    return remove(new ArrayList<>(waiters.values()));
+  }
+
+  /**
+   * Removes the deferred allocations that satisfy the given predicate.
+   *
+   * @param predicate The predicate.
+   */
+  synchronized void removeIf(@Nonnull Predicate<AllocatorCommand.Allocate> predicate) {
+    requireNonNull(predicate, "predicate");
+
+    List<Waiter> matching = new ArrayList<>();
+    for (Waiter waiter : waiters.values()) {
+      if (predicate.test(waiter.command)) {
+        matching.add(waiter);
+      }
+    }
+    remove(matching);
+  }
+
+  /**
+   * Returns the number of deferred allocations.
+   *
+   * @return The number of deferred allocations.
+   */
+  synchronized int size() {
+    return waiters.size();
+  }
+
+  /**
+   * Returns the number of deferred allocations that were woken up so far.
+   *
+   * @return The number of deferred allocations that were woken up.
+   */
+  synchronized long getWokenUpCount() {
+    return wokenUp;
+  }
+
+  /**
+   * Returns the lengths of the wait queues, mapped by the names of the respective resources.
+   *
+   * @return The lengths of the wait queues.
+   */
+  @Nonnull
+  synchronized Map<String, Integer> getQueueLengths() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (Map.Entry<TCSResource<?>, Set<Waiter>> entry : waitQueues.entrySet()) {
+      result.put(entry.getKey().getName(), entry.getValue().size());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the time (in ms) the longest waiting allocation has been waiting for each resource,
+   * mapped by the names of the respective resources.
+   *
+   * @return The longest wait times.
+   */
+  @Nonnull
+  synchronized Map<String, Long> getWaitTimes() {
+    long now = System.currentTimeMillis();
+    Map<String, Long> result = new TreeMap<>();
+    for (Map.Entry<TCSResource<?>, Set<Waiter>> entry : waitQueues.entrySet()) {
+      // The wait queues are ordered, so the first waiter is the one waiting longest.
+      result.put(entry.getKey().getName(),
+                 now - entry.getValue().iterator().next().deferredSince);
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "DeferredAllocations{"
+        + "size=" + waiters.size()
+        + ", unspecific=" + unspecificWaitQueue.size()
+        + ", queueLengths=" + getQueueLengths()
+        + ", wokenUp=" + wokenUp
+        + '}';
+  }
+
+  private List<AllocatorCommand.Allocate> remove(Collection<Waiter> toRemove) {
+    List<Waiter> sortedWaiters = new ArrayList<>(toRemove);
+    sortedWaiters.sort(Comparator.comparing((Waiter waiter) -> waiter.command)
+        .thenComparingLong(waiter -> waiter.sequenceNumber));
+
+    List<AllocatorCommand.Allocate> result = new ArrayList<>();
+    for (Waiter waiter : sortedWaiters) {
+      waiters.remove(waiter.command);
+      unspecificWaitQueue.remove(waiter);
+      for (TCSResource<?> resource : waiter.blockingResources) {
+        Set<Waiter> queue = waitQueues.get(resource);
+        queue.remove(waiter);
+        if (queue.isEmpty()) {
+          waitQueues.remove(resource);
+        }
+      }
+      result.add(waiter.command);
+    }
+    return result;
+  }
+
+  /**
+   * A deferred allocation waiting for resources.
+   */
+  private static class Waiter {
+
+    /**
+     * The allocation.
+     */
+    private final AllocatorCommand.Allocate command;
+    /**
+     * The resources the allocation is waiting for.
+     */
+    private final Set<TCSResource<?>> blockingResources;
+    /**
+     * The point of time at which the allocation was deferred.
+     */
+    private final long deferredSince = System.currentTimeMillis();
+    /**
+     * The sequence number of the deferred allocation.
+     */
+    private final long sequenceNumber;
+
+    Waiter(AllocatorCommand.Allocate command,
+           Set<TCSResource<?>> blockingResources,
+           long sequenceNumber) {
+      this.command = command;
+      this.blockingResources = Set.copyOf(blockingResources);
+      this.sequenceNumber = sequenceNumber;
+    }
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.strategies.basic.scheduling;
 
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
+import javax.annotation.Nullable;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
@@ -29,6 +30,10 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * Notified when the client holding the resource changes, or <code>null</code>.
+   */
+  private final AllocationListener allocationListener;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -46,7 +51,19 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param allocationListener Notified when the client holding the resource changes.
+   */
+  ReservationEntry(final TCSResource<?> reqResource,
+                   @Nullable AllocationListener allocationListener) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.allocationListener = allocationListener;
   }
 
   /**
@@ -79,6 +96,9 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      if (allocationListener != null) {
+        allocationListener.allocated(this, client);
+      }
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -102,7 +122,7 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
-      client = null;
+      release();
     }
   }
 
@@ -112,7 +132,7 @@ public class ReservationEntry {
    */
   void freeCompletely() {
     counter = 0;
-    client = null;
+    release();
   }
 
   /**
@@ -136,6 +156,14 @@ public class ReservationEntry {
     return this.client == client;
   }
 
+  private void release() {
+    Client formerClient = client;
+    client = null;
+    if (formerClient != null && allocationListener != null) {
+      allocationListener.freed(this, formerClient);
+    }
+  }
+
   @Override
   public String toString() {
     return "ReservationEntry{"
@@ -144,4 +172,26 @@ public class ReservationEntry {
         + ", counter=" + counter
         + '}';
   }
+
+  /**
+   * Gets notified when the client holding a resource changes.
+   */
+  interface AllocationListener {
+
+    /**
+     * Called when a resource has been allocated by a client that did not hold it before.
+     *
+     * @param entry The reservation entry of the resource.
+     * @param client The client now holding the resource.
+     */
+    void allocated(ReservationEntry entry, Client client);
+
+    /**
+     * Called when a resource has been freed completely.
+     *
+     * @param entry The reservation entry of the resource.
+     * @param client The client that held the resource.
+     */
+    void freed(ReservationEntry entry, Client client);
+  }
 }
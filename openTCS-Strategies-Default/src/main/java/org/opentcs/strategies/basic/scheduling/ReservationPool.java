@@ -25,6 +25,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Keeps track of the resources claimed and allocated by scheduler clients.
+ * <p>
+ * All methods of this class synchronize on the instance, which also serves as the lock for the
+ * scheduler's state. Compound operations that need to be atomic are to be synchronized on the
+ * instance, too.
+ * </p>
  */
 public class ReservationPool {
 
@@ -41,6 +47,31 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The reservation entries of the resources allocated by each client.
+   */
+  private final Map<Scheduler.Client, Set<ReservationEntry>> entriesByClient = new HashMap<>();
+  /**
+   * Keeps <code>entriesByClient</code> up to date.
+   */
+  private final ReservationEntry.AllocationListener allocationListener
+      = new ReservationEntry.AllocationListener() {
+    @Override
+    public void allocated(ReservationEntry entry, Scheduler.Client client) {
+      entriesByClient.computeIfAbsent(client, c -> new HashSet<>()).add(entry);
+    }
+
+    @Override
+    public void freed(ReservationEntry entry, Scheduler.Client client) {
+      Set<ReservationEntry> entries = entriesByClient.get(client);
+      if (entries != null) {
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+          entriesByClient.remove(client);
+        }
+      }
+    }
+  };
 
   /**
    * Creates a new instance.
@@ -56,12 +87,12 @@ public class ReservationPool {
    * @return The reservation entry for the given resource.
    */
   @Nonnull
-  public ReservationEntry getReservationEntry(TCSResource<?> resource) {
+  public synchronized ReservationEntry getReservationEntry(TCSResource<?> resource) {
     requireNonNull(resource, "resource");
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, allocationListener);
       reservations.put(resource, entry);
     }
     return entry;
@@ -74,7 +105,7 @@ public class ReservationPool {
    * @return The sequence of resource sets claimed by the given client.
    */
   @Nonnull
-  public List<Set<TCSResource<?>>> getClaim(@Nonnull Scheduler.Client client) {
+  public synchronized List<Set<TCSResource<?>>> getClaim(@Nonnull Scheduler.Client client) {
     requireNonNull(client, "client");
 
     return claimsByClient.getOrDefault(client, new LinkedList<>()).stream()
@@ -88,8 +119,8 @@ public class ReservationPool {
    * @param client The client.
    * @param resources The sequence of claimed resources.
    */
-  public void setClaim(@Nonnull Scheduler.Client client,
-                       @Nonnull List<Set<TCSResource<?>>> resources) {
+  public synchronized void setClaim(@Nonnull Scheduler.Client client,
+                                    @Nonnull List<Set<TCSResource<?>>> resources) {
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
@@ -105,7 +136,8 @@ public class ReservationPool {
    * @throws IllegalArgumentException If the given resource set is not the head of the client's
    * claim sequence.
    */
-  public void unclaim(@Nonnull Scheduler.Client client, @Nonnull Set<TCSResource<?>> resources)
+  public synchronized void unclaim(@Nonnull Scheduler.Client client,
+                                   @Nonnull Set<TCSResource<?>> resources)
       throws IllegalArgumentException {
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
@@ -133,8 +165,8 @@ public class ReservationPool {
    * @return <code>true</code> if, and only if, the given resource set is at the head of the given
    * client's claim sequence.
    */
-  public boolean isNextInClaim(@Nonnull Scheduler.Client client,
-                               @Nonnull Set<TCSResource<?>> resources) {
+  public synchronized boolean isNextInClaim(@Nonnull Scheduler.Client client,
+                                            @Nonnull Set<TCSResource<?>> resources) {
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
@@ -156,12 +188,11 @@ public class ReservationPool {
    * @return All resources allocated by the given client.
    */
   @Nonnull
-  public Set<TCSResource<?>> allocatedResources(@Nonnull Scheduler.Client client) {
+  public synchronized Set<TCSResource<?>> allocatedResources(@Nonnull Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
+    return entriesByClient.getOrDefault(client, Set.of()).stream()
+        .map(ReservationEntry::getResource)
         .collect(Collectors.toSet());
   }
 
@@ -173,8 +204,8 @@ public class ReservationPool {
    * @return <code>true</code> if, and only if, all resources in the given set
    * are available for the given client.
    */
-  public boolean resourcesAvailableForUser(@Nonnull Set<TCSResource<?>> resources,
-                                           @Nonnull Scheduler.Client client) {
+  public synchronized boolean resourcesAvailableForUser(@Nonnull Set<TCSResource<?>> resources,
+                                                        @Nonnull Scheduler.Client client) {
     requireNonNull(resources, "resources");
     requireNonNull(client, "client");
 
@@ -189,7 +220,32 @@ public class ReservationPool {
     return true;
   }
 
-  public void free(@Nonnull Scheduler.Client client, @Nonnull Set<TCSResource<?>> resources) {
+  /**
+   * Returns the resources in the given set of resources that are not available for the given
+   * client.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return The resources in the given set that are not available for the given client.
+   */
+  @Nonnull
+  public synchronized Set<TCSResource<?>> unavailableResources(
+      @Nonnull Set<TCSResource<?>> resources,
+      @Nonnull Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    return resources.stream()
+        .filter(resource -> {
+          ReservationEntry entry = getReservationEntry(resource);
+          return !entry.isFree() && !entry.isAllocatedBy(client);
+        })
+        .collect(Collectors.toSet());
+  }
+
+  public synchronized void free(@Nonnull Scheduler.Client client,
+                                @Nonnull Set<TCSResource<?>> resources) {
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
@@ -199,35 +255,33 @@ public class ReservationPool {
     }
   }
 
-  public void freeAll(@Nonnull Scheduler.Client client) {
+  public synchronized void freeAll(@Nonnull Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    // Freeing entries removes them from the index, so work on a copy.
+    for (ReservationEntry entry : List.copyOf(entriesByClient.getOrDefault(client, Set.of()))) {
+      entry.freeCompletely();
+    }
   }
 
   @Nonnull
-  public Map<String, Set<TCSResource<?>>> getAllocations() {
+  public synchronized Map<String, Set<TCSResource<?>>> getAllocations() {
     final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    for (Map.Entry<Scheduler.Client, Set<ReservationEntry>> curEntry
+             : entriesByClient.entrySet()) {
+      Set<TCSResource<?>> userResources
+          = result.computeIfAbsent(curEntry.getKey().getId(), id -> new HashSet<>());
+      for (ReservationEntry reservationEntry : curEntry.getValue()) {
+        userResources.add(reservationEntry.getResource());
       }
     }
     return result;
   }
 
-  public void clear() {
+  public synchronized void clear() {
     claimsByClient.clear();
     reservations.clear();
+    entriesByClient.clear();
   }
 
   /**
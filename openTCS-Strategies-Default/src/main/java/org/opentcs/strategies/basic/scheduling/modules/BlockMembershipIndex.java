@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling.modules;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.TCSResourceReference;
+
+/**
+ * Maps resources to the blocks they are members of, so the blocks containing a set of resources
+ * can be determined without checking every block.
+ */
+class BlockMembershipIndex {
+
+  /**
+   * The blocks each resource is a member of.
+   */
+  private final Map<TCSResourceReference<?>, Set<Block>> blocksByMember = new HashMap<>();
+  /**
+   * The number of indexed blocks.
+   */
+  private final int blockCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param blocks The blocks to be indexed.
+   */
+  BlockMembershipIndex(@Nonnull Collection<Block> blocks) {
+    requireNonNull(blocks, "blocks");
+
+    for (Block block : blocks) {
+      for (TCSResourceReference<?> member : block.getMembers()) {
+        blocksByMember.computeIfAbsent(member, ref -> new HashSet<>()).add(block);
+      }
+    }
+    this.blockCount = blocks.size();
+  }
+
+  /**
+   * Returns the blocks containing any of the given resources.
+   *
+   * @param resources The resources.
+   * @return The blocks containing any of the given resources.
+   */
+  @Nonnull
+  Set<Block> getBlocksContaining(@Nonnull Collection<? extends TCSResource<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    Set<Block> result = new HashSet<>();
+    for (TCSResource<?> resource : resources) {
+      result.addAll(blocksByMember.getOrDefault(resource.getReference(), Set.of()));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of indexed blocks.
+   *
+   * @return The number of indexed blocks.
+   */
+  int getBlockCount() {
+    return blockCount;
+  }
+}
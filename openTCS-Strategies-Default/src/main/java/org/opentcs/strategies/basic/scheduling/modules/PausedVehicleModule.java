@@ -14,7 +14,6 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.TCSObjectService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
 import org.slf4j.Logger;
@@ -38,20 +37,14 @@ public class PausedVehicleModule
    * The object service.
    */
   private final TCSObjectService objectService;
-  /**
-   * A global object to be used for synchronization within the kernel.
-   */
-  private final Object globalSyncObject;
   /**
    * Whether this module is initialized.
    */
   private boolean initialized;
 
   @Inject
-  public PausedVehicleModule(@Nonnull TCSObjectService objectService,
-                             @Nonnull @GlobalSyncObject Object globalSyncObject) {
+  public PausedVehicleModule(@Nonnull TCSObjectService objectService) {
     this.objectService = requireNonNull(objectService, "objectService");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -89,20 +82,19 @@ public class PausedVehicleModule
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
-      Vehicle vehicle = objectService.fetchObject(Vehicle.class, client.getId());
-
-      if (vehicle == null) {
-        LOG.debug("Client '{}' is not a vehicle; not interfering with allocation.", client.getId());
-        return true;
-      }
-      if (!vehicle.isPaused()) {
-        return true;
-      }
+    // Fetching a single object from the kernel doesn't require the global lock.
+    Vehicle vehicle = objectService.fetchObject(Vehicle.class, client.getId());
 
-      LOG.debug("Not allowing allocation for paused vehicle '{}'.", client.getId());
-      return false;
+    if (vehicle == null) {
+      LOG.debug("Client '{}' is not a vehicle; not interfering with allocation.", client.getId());
+      return true;
     }
+    if (!vehicle.isPaused()) {
+      return true;
+    }
+
+    LOG.debug("Not allowing allocation for paused vehicle '{}'.", client.getId());
+    return false;
   }
 
   @Override
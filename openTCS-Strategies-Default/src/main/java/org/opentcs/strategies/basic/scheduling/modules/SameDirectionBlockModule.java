@@ -22,7 +22,6 @@ import javax.inject.Inject;
 import org.opentcs.components.kernel.Scheduler;
 import static org.opentcs.components.kernel.Scheduler.PROPKEY_BLOCK_ENTRY_DIRECTION;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResource;
@@ -34,6 +33,10 @@ import org.slf4j.LoggerFactory;
  * Checks if the resources a client may allocate are part of a
  * {@link Block.Type#SAME_DIRECTION_ONLY} block and whether the client is allowed to drive along
  * the block in the requested direction.
+ * <p>
+ * The module's state is guarded by the reservation pool's lock, which is the lock the scheduler
+ * holds while checking, preparing and granting allocations.
+ * </p>
  */
 public class SameDirectionBlockModule
     implements Scheduler.Module {
@@ -44,6 +47,7 @@ public class SameDirectionBlockModule
   private static final Logger LOG = LoggerFactory.getLogger(SameDirectionBlockModule.class);
   /**
    * The reservation pool.
+   * Also guards this module's state.
    */
   private final ReservationPool reservationPool;
   /**
@@ -52,12 +56,19 @@ public class SameDirectionBlockModule
   private final InternalPlantModelService plantModelService;
   /**
    * The permissions for all {@link Block.Type#SAME_DIRECTION_ONLY} blocks in a plant model.
+   * Guarded by the reservation pool.
    */
   private final Map<Block, BlockPermission> permissions = new HashMap<>();
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The blocks each client has been granted permission for.
+   * Guarded by the reservation pool.
    */
-  private final Object globalSyncObject;
+  private final Map<Scheduler.Client, Set<Block>> permittedBlocksByClient = new HashMap<>();
+  /**
+   * The index of the members of the relevant blocks.
+   * Created lazily and discarded on termination, i.e. whenever the plant model may have changed.
+   */
+  private BlockMembershipIndex blockIndex;
   /**
    * Whether this module is initialized.
    */
@@ -65,11 +76,9 @@ public class SameDirectionBlockModule
 
   @Inject
   public SameDirectionBlockModule(@Nonnull ReservationPool reservationPool,
-                                  @Nonnull InternalPlantModelService plantModelService,
-                                  @GlobalSyncObject Object globalSyncObject) {
+                                  @Nonnull InternalPlantModelService plantModelService) {
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -78,11 +87,15 @@ public class SameDirectionBlockModule
       return;
     }
 
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class);
-    for (Block block : blocks) {
-      if (block.getType() == Block.Type.SAME_DIRECTION_ONLY) {
-        permissions.put(block, new BlockPermission(block));
+    synchronized (reservationPool) {
+      blockIndex = null;
+      Set<Block> blocks = plantModelService.fetchObjects(Block.class);
+      for (Block block : blocks) {
+        if (block.getType() == Block.Type.SAME_DIRECTION_ONLY) {
+          permissions.put(block, new BlockPermission(block));
+        }
       }
+      getBlockIndex();
     }
 
     initialized = true;
@@ -99,7 +112,11 @@ public class SameDirectionBlockModule
       return;
     }
 
-    permissions.clear();
+    synchronized (reservationPool) {
+      permissions.clear();
+      permittedBlocksByClient.clear();
+      blockIndex = null;
+    }
 
     initialized = false;
   }
@@ -115,12 +132,11 @@ public class SameDirectionBlockModule
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
+    synchronized (reservationPool) {
       // Other modules may prevented the last allocation, discard any previous requests.
       discardPreviousRequests();
 
-      Set<Block> blocks = filterBlocksContainingResources(resources,
-                                                          Block.Type.SAME_DIRECTION_ONLY);
+      Set<Block> blocks = getBlockIndex().getBlocksContaining(resources);
       if (blocks.isEmpty()) {
         LOG.debug("{}: No blocks to be checked, allocation allowed.", client.getId());
         return true;
@@ -141,6 +157,8 @@ public class SameDirectionBlockModule
           path.getProperties().getOrDefault(PROPKEY_BLOCK_ENTRY_DIRECTION, path.getName())
       )) {
         LOG.debug("{}: Resources unavailable.", client.getId());
+        // The allocation won't be prepared, so don't keep requests for any of the blocks.
+        discardPreviousRequests();
         return false;
       }
 
@@ -151,15 +169,19 @@ public class SameDirectionBlockModule
 
   @Override
   public void prepareAllocation(Scheduler.Client client, Set<TCSResource<?>> resources) {
-    permissions.values().forEach(permission -> permission.permitPendingRequests());
+    synchronized (reservationPool) {
+      permissions.values().forEach(permission -> permission.permitPendingRequests());
+    }
   }
 
   @Override
   public boolean hasPreparedAllocation(Scheduler.Client client, Set<TCSResource<?>> resources) {
-    return !permissions.values().stream()
-        .filter(permission -> permission.hasPendingRequests())
-        .findAny()
-        .isPresent();
+    synchronized (reservationPool) {
+      return !permissions.values().stream()
+          .filter(permission -> permission.hasPendingRequests())
+          .findAny()
+          .isPresent();
+    }
   }
 
   @Override
@@ -167,22 +189,22 @@ public class SameDirectionBlockModule
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
-      for (Map.Entry<Block, BlockPermission> entry : permissions.entrySet()) {
-        Block block = entry.getKey();
-        BlockPermission permission = entry.getValue();
-
-        if (!permission.isPermissionGranted(client)) {
-          continue;
-        }
+    synchronized (reservationPool) {
+      Set<Block> permittedBlocks = permittedBlocksByClient.getOrDefault(client, Set.of());
+      if (permittedBlocks.isEmpty()) {
+        return;
+      }
 
-        if (blockResourcesAllocatedByClient(block, client)) {
+      Set<Block> clientBlocks
+          = getBlockIndex().getBlocksContaining(reservationPool.allocatedResources(client));
+      for (Block block : List.copyOf(permittedBlocks)) {
+        if (clientBlocks.contains(block)) {
           continue;
         }
 
         // The client released resources and does no longer hold any resources of this block.
         // We don't need permissions any more.
-        permission.removePermissionFor(client);
+        permissions.get(block).removePermissionFor(client);
       }
     }
   }
@@ -192,19 +214,21 @@ public class SameDirectionBlockModule
     permissions.values().forEach(permission -> permission.clearPendingRequests());
   }
 
-  private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources,
-                                                     Block.Type type) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class,
-                                                       block -> block.getType() == type);
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
+  /**
+   * Returns the index of the members of {@link Block.Type#SAME_DIRECTION_ONLY} blocks, creating it
+   * if necessary.
+   *
+   * @return The index.
+   */
+  private BlockMembershipIndex getBlockIndex() {
+    if (blockIndex == null) {
+      blockIndex = new BlockMembershipIndex(
+          plantModelService.fetchObjects(Block.class,
+                                         block -> block.getType() == Block.Type.SAME_DIRECTION_ONLY)
+      );
+      LOG.debug("Indexed members of {} blocks.", blockIndex.getBlockCount());
     }
-    return result;
+    return blockIndex;
   }
 
   @Nullable
@@ -232,13 +256,6 @@ public class SameDirectionBlockModule
     return entryPermissible;
   }
 
-  private boolean blockResourcesAllocatedByClient(Block block, Scheduler.Client client) {
-    Set<Block> clientBlocks
-        = filterBlocksContainingResources(reservationPool.allocatedResources(client),
-                                          Block.Type.SAME_DIRECTION_ONLY);
-    return clientBlocks.contains(block);
-  }
-
   /**
    * Manages the clients that are permitted to drive along a block by considering the direction
    * clients request to enter the block.
@@ -278,6 +295,8 @@ public class SameDirectionBlockModule
         }
         else if (entryPermissible(request.getEntryDirection())) {
           clients.add(request.getClient());
+          permittedBlocksByClient.computeIfAbsent(request.getClient(), c -> new HashSet<>())
+              .add(block);
           this.entryDirection = request.getEntryDirection();
           LOG.debug("Permission for block {} granted to {} (entryDirection={}).",
                     block.getName(),
@@ -312,6 +331,13 @@ public class SameDirectionBlockModule
 
     public void removePermissionFor(Scheduler.Client client) {
       clients.remove(client);
+      Set<Block> permittedBlocks = permittedBlocksByClient.get(client);
+      if (permittedBlocks != null) {
+        permittedBlocks.remove(block);
+        if (permittedBlocks.isEmpty()) {
+          permittedBlocksByClient.remove(client);
+        }
+      }
 
       if (clients.isEmpty()) {
         entryDirection = null;
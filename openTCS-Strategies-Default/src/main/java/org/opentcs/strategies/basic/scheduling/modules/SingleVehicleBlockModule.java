@@ -7,7 +7,6 @@
  */
 package org.opentcs.strategies.basic.scheduling.modules;
 
-import java.util.HashSet;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
@@ -16,7 +15,6 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
-import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
@@ -38,6 +36,7 @@ public class SingleVehicleBlockModule
   private static final Logger LOG = LoggerFactory.getLogger(SingleVehicleBlockModule.class);
   /**
    * The reservation pool.
+   * Also guards this module's state.
    */
   private final ReservationPool reservationPool;
   /**
@@ -45,9 +44,10 @@ public class SingleVehicleBlockModule
    */
   private final InternalPlantModelService plantModelService;
   /**
-   * A global object to be used for synchronization within the kernel.
+   * The index of the members of the relevant blocks.
+   * Created lazily and discarded on termination, i.e. whenever the plant model may have changed.
    */
-  private final Object globalSyncObject;
+  private BlockMembershipIndex blockIndex;
   /**
    * Whether this module is initialized.
    */
@@ -55,11 +55,9 @@ public class SingleVehicleBlockModule
 
   @Inject
   public SingleVehicleBlockModule(@Nonnull ReservationPool reservationPool,
-                                  @Nonnull InternalPlantModelService plantModelService,
-                                  @Nonnull @GlobalSyncObject Object globalSyncObject) {
+                                  @Nonnull InternalPlantModelService plantModelService) {
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
-    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
   }
 
   @Override
@@ -68,6 +66,11 @@ public class SingleVehicleBlockModule
       return;
     }
 
+    synchronized (reservationPool) {
+      blockIndex = null;
+      getBlockIndex();
+    }
+
     initialized = true;
   }
 
@@ -82,6 +85,10 @@ public class SingleVehicleBlockModule
       return;
     }
 
+    synchronized (reservationPool) {
+      blockIndex = null;
+    }
+
     initialized = false;
   }
 
@@ -97,9 +104,8 @@ public class SingleVehicleBlockModule
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (globalSyncObject) {
-      Set<Block> blocks = filterBlocksContainingResources(resources,
-                                                          Block.Type.SINGLE_VEHICLE_ONLY);
+    synchronized (reservationPool) {
+      Set<Block> blocks = getBlockIndex().getBlocksContaining(resources);
 
       if (blocks.isEmpty()) {
         LOG.debug("{}: No blocks to be checked, allocation allowed.", client.getId());
@@ -136,19 +142,21 @@ public class SingleVehicleBlockModule
                                  Set<TCSResource<?>> resources) {
   }
 
-  private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources,
-                                                     Block.Type type) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class,
-                                                       block -> block.getType() == type);
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
+  /**
+   * Returns the index of the members of {@link Block.Type#SINGLE_VEHICLE_ONLY} blocks, creating it
+   * if necessary.
+   *
+   * @return The index.
+   */
+  private BlockMembershipIndex getBlockIndex() {
+    if (blockIndex == null) {
+      blockIndex = new BlockMembershipIndex(
+          plantModelService.fetchObjects(Block.class,
+                                         block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY)
+      );
+      LOG.debug("Indexed members of {} blocks.", blockIndex.getBlockCount());
     }
-    return result;
+    return blockIndex;
   }
 
   private Set<TCSResource<?>> filterRelevantResources(Set<TCSResource<?>> resources,
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Test cases for the {@link DispatchRequestCoalescer}.
+ */
+public class DispatchRequestCoalescerTest {
+
+  private ScheduledExecutorService executor;
+  /**
+   * The runs scheduled with the executor, in the order they were scheduled.
+   */
+  private List<Runnable> scheduledRuns;
+  /**
+   * The number of times the dispatch task was executed.
+   */
+  private int taskExecutions;
+  /**
+   * Executed as part of the dispatch task.
+   */
+  private Runnable duringTask;
+
+  @BeforeEach
+  public void setUp() {
+    scheduledRuns = new ArrayList<>();
+    taskExecutions = 0;
+    duringTask = () -> {
+    };
+    executor = mock(ScheduledExecutorService.class);
+    when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> {
+          scheduledRuns.add(invocation.getArgument(0));
+          return null;
+        });
+  }
+
+  @Test
+  public void collapseRequestsWhileRunIsPending() {
+    DispatchRequestCoalescer coalescer = createCoalescer(0);
+
+    coalescer.request();
+    coalescer.request();
+    coalescer.request();
+
+    assertThat(scheduledRuns.size(), is(1));
+    assertThat(coalescer.getPendingRuns(), is(1));
+    assertThat(coalescer.getRequestedRuns(), is(3L));
+    assertThat(coalescer.getSkippedRuns(), is(2L));
+
+    executeScheduledRuns();
+
+    assertThat(taskExecutions, is(1));
+    assertThat(coalescer.getPendingRuns(), is(0));
+    assertThat(coalescer.getExecutedRuns(), is(1L));
+  }
+
+  @Test
+  public void executeOneFollowUpRunForRequestsWhileRunIsInProgress() {
+    DispatchRequestCoalescer coalescer = createCoalescer(0);
+    duringTask = () -> {
+      if (taskExecutions == 1) {
+        coalescer.request();
+        coalescer.request();
+        coalescer.request();
+      }
+    };
+
+    coalescer.request();
+    executeScheduledRuns();
+
+    assertThat(taskExecutions, is(2));
+    assertThat(coalescer.getRequestedRuns(), is(4L));
+    assertThat(coalescer.getExecutedRuns(), is(2L));
+    assertThat(coalescer.getSkippedRuns(), is(2L));
+    assertThat(coalescer.getPendingRuns(), is(0));
+  }
+
+  @Test
+  public void delayRunToKeepMinimumInterval() {
+    DispatchRequestCoalescer coalescer = createCoalescer(60000);
+
+    coalescer.request();
+    executeScheduledRuns();
+    coalescer.request();
+
+    ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(executor, times(2))
+        .schedule(any(Runnable.class), delayCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+    assertThat(delayCaptor.getAllValues().get(0), is(0L));
+    assertThat(delayCaptor.getAllValues().get(1), is(greaterThan(0L)));
+  }
+
+  @Test
+  public void forgetPendingRunOnCancel() {
+    DispatchRequestCoalescer coalescer = createCoalescer(0);
+
+    coalescer.request();
+    coalescer.cancel();
+    coalescer.request();
+
+    assertThat(scheduledRuns.size(), is(2));
+    assertThat(coalescer.getSkippedRuns(), is(0L));
+  }
+
+  private DispatchRequestCoalescer createCoalescer(long minInterval) {
+    return new DispatchRequestCoalescer(executor,
+                                        () -> {
+                                          taskExecutions++;
+                                          duringTask.run();
+                                        },
+                                        minInterval);
+  }
+
+  private void executeScheduledRuns() {
+    while (!scheduledRuns.isEmpty()) {
+      scheduledRuns.remove(0).run();
+    }
+  }
+}
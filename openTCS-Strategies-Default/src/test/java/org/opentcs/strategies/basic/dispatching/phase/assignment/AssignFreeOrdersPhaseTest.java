@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.AssignmentStrategy.MIN_COST_MATCHING;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.IsFreelyDispatchableToAnyVehicle;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeVehicleSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.IsAvailableForAnyOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Test cases for the {@link AssignFreeOrdersPhase}.
+ */
+public class AssignFreeOrdersPhaseTest {
+
+  private Point position;
+  private Vehicle vehicleNear;
+  private Vehicle vehicleFar;
+  private TransportOrder order;
+  /**
+   * The routing costs for every pair of vehicle and transport order, by vehicle and order name.
+   */
+  private Map<String, Long> routingCosts;
+
+  private TCSObjectService objectService;
+  private Router router;
+  private TransportOrderUtil transportOrderUtil;
+  private DefaultDispatcherConfiguration configuration;
+  private IsAvailableForAnyOrder isAvailableForAnyOrder;
+  private IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle;
+
+  private AssignFreeOrdersPhase phase;
+
+  @BeforeEach
+  public void setUp() {
+    position = new Point("some point");
+    vehicleNear = createVehicle("vehicle near");
+    vehicleFar = createVehicle("vehicle far");
+    order = createOrder("some order");
+    routingCosts = new HashMap<>();
+    routingCosts.put(costsKey(vehicleNear, order), 10L);
+    routingCosts.put(costsKey(vehicleFar, order), 1000L);
+
+    isAvailableForAnyOrder = mock(IsAvailableForAnyOrder.class);
+    isFreelyDispatchableToAnyVehicle = mock(IsFreelyDispatchableToAnyVehicle.class);
+
+    objectService = mock(TCSObjectService.class);
+    when(objectService.fetchObjects(eq(Vehicle.class), eq(isAvailableForAnyOrder)))
+        .thenReturn(Set.of(vehicleNear, vehicleFar));
+    when(objectService.fetchObjects(eq(TransportOrder.class), eq(isFreelyDispatchableToAnyVehicle)))
+        .thenReturn(Set.of(order));
+    when(objectService.fetchObject(Point.class, position.getReference())).thenReturn(position);
+
+    router = mock(Router.class);
+    when(router.getRoute(any(Vehicle.class), any(Point.class), any(TransportOrder.class)))
+        .thenAnswer(invocation -> routeFor(invocation.getArgument(0),
+                                           invocation.getArgument(2)));
+
+    transportOrderUtil = mock(TransportOrderUtil.class);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (phase != null) {
+      phase.terminate();
+    }
+  }
+
+  @Test
+  public void assignCheapestVehicleWithSequentialComputation() {
+    when(configuration.candidateComputationThreads()).thenReturn(1);
+    phase = createPhase();
+    phase.initialize();
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicleNear), eq(order), any());
+    verify(transportOrderUtil, never()).assignTransportOrder(eq(vehicleFar), any(), any());
+  }
+
+  @Test
+  public void assignCheapestVehicleWithParallelComputation() {
+    when(configuration.candidateComputationThreads()).thenReturn(4);
+    phase = createPhase();
+    phase.initialize();
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicleNear), eq(order), any());
+    verify(transportOrderUtil, never()).assignTransportOrder(eq(vehicleFar), any(), any());
+  }
+
+  @Test
+  public void assignOrdersWithMinimalTotalCostsWithMinCostMatching() {
+    TransportOrder orderA = createOrder("order A");
+    TransportOrder orderB = createOrder("order B");
+    when(objectService.fetchObjects(eq(TransportOrder.class), eq(isFreelyDispatchableToAnyVehicle)))
+        .thenReturn(Set.of(orderA, orderB));
+    // Assigning order A to the near vehicle would be cheapest for that vehicle, but would leave
+    // only the expensive order B for the far vehicle.
+    routingCosts.put(costsKey(vehicleNear, orderA), 1L);
+    routingCosts.put(costsKey(vehicleNear, orderB), 2L);
+    routingCosts.put(costsKey(vehicleFar, orderA), 3L);
+    routingCosts.put(costsKey(vehicleFar, orderB), 100L);
+    when(configuration.candidateComputationThreads()).thenReturn(1);
+    when(configuration.assignmentStrategy()).thenReturn(MIN_COST_MATCHING);
+    phase = createPhase();
+    phase.initialize();
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicleNear), eq(orderB), any());
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicleFar), eq(orderA), any());
+  }
+
+  @Test
+  public void assignCheapestVehicleWithIncrementalDispatching() {
+    when(objectService.fetchObjects(eq(Vehicle.class), any()))
+        .thenReturn(Set.of(vehicleNear, vehicleFar));
+    when(objectService.fetchObjects(eq(TransportOrder.class), any())).thenReturn(Set.of(order));
+    when(objectService.fetchObject(Vehicle.class, vehicleNear.getName())).thenReturn(vehicleNear);
+    when(objectService.fetchObject(Vehicle.class, vehicleFar.getName())).thenReturn(vehicleFar);
+    when(objectService.fetchObject(TransportOrder.class, order.getName())).thenReturn(order);
+    when(isAvailableForAnyOrder.test(any())).thenReturn(true);
+    when(isFreelyDispatchableToAnyVehicle.test(any())).thenReturn(true);
+    when(configuration.candidateComputationThreads()).thenReturn(1);
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    phase = createPhase();
+    phase.initialize();
+
+    phase.run();
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicleNear), eq(order), any());
+    verify(transportOrderUtil, never()).assignTransportOrder(eq(vehicleFar), any(), any());
+  }
+
+  private AssignFreeOrdersPhase createPhase() {
+    CompositeVehicleCandidateComparator vehicleCandidateComparator
+        = mock(CompositeVehicleCandidateComparator.class);
+    Comparator<AssignmentCandidate> byCosts
+        = Comparator.comparingLong(AssignmentCandidate::getCompleteRoutingCosts);
+    when(vehicleCandidateComparator.compare(any(), any()))
+        .thenAnswer(invocation -> byCosts.compare(invocation.getArgument(0),
+                                                  invocation.getArgument(1)));
+
+    return new AssignFreeOrdersPhase(
+        objectService,
+        router,
+        new OrderReservationPool(),
+        mock(CompositeVehicleComparator.class),
+        mock(CompositeOrderComparator.class),
+        mock(CompositeOrderCandidateComparator.class),
+        vehicleCandidateComparator,
+        new CompositeVehicleSelectionFilter(Set.of()),
+        isAvailableForAnyOrder,
+        isFreelyDispatchableToAnyVehicle,
+        new CompositeTransportOrderSelectionFilter(Set.of()),
+        new CompositeAssignmentCandidateSelectionFilter(Set.of()),
+        transportOrderUtil,
+        configuration,
+        mock(EventSource.class)
+    );
+  }
+
+  private Vehicle createVehicle(String name) {
+    return new Vehicle(name)
+        .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED)
+        .withCurrentPosition(position.getReference());
+  }
+
+  private TransportOrder createOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(position.getReference())))
+    )
+        .withState(TransportOrder.State.DISPATCHABLE);
+  }
+
+  private String costsKey(Vehicle vehicle, TransportOrder transportOrder) {
+    return vehicle.getName() + "/" + transportOrder.getName();
+  }
+
+  private Optional<List<DriveOrder>> routeFor(Vehicle vehicle, TransportOrder transportOrder) {
+    List<Route.Step> steps = new ArrayList<>();
+    steps.add(new Route.Step(null, null, position, Vehicle.Orientation.UNDEFINED, 0));
+    Route route = new Route(steps, routingCosts.get(costsKey(vehicle, transportOrder)));
+    return Optional.of(List.of(transportOrder.getAllDriveOrders().get(0).withRoute(route)));
+  }
+}
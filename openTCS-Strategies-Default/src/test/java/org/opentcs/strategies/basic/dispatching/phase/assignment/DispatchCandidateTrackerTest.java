@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.List;
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Test cases for the {@link DispatchCandidateTracker}.
+ */
+public class DispatchCandidateTrackerTest {
+
+  private TransportOrder order;
+  private Vehicle vehicle;
+  private TCSObjectService objectService;
+  private DispatchCandidateTracker tracker;
+
+  @BeforeEach
+  public void setUp() {
+    order = new TransportOrder(
+        "some order",
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("some point").getReference())))
+    );
+    vehicle = new Vehicle("some vehicle");
+
+    objectService = mock(TCSObjectService.class);
+    when(objectService.fetchObjects(eq(Vehicle.class), any())).thenReturn(Set.of());
+    when(objectService.fetchObjects(eq(TransportOrder.class), any())).thenReturn(Set.of());
+
+    tracker = new DispatchCandidateTracker(objectService);
+    tracker.rescan();
+  }
+
+  @Test
+  public void trackOrderThatBecameDispatchable() {
+    TransportOrder dispatchableOrder = order.withState(TransportOrder.State.DISPATCHABLE);
+    when(objectService.fetchObject(TransportOrder.class, order.getName()))
+        .thenReturn(dispatchableOrder);
+
+    tracker.onEvent(modified(dispatchableOrder, order));
+
+    assertThat(tracker.getOrderCount(), is(1));
+    assertThat(tracker.fetchOrders(o -> true), contains(dispatchableOrder));
+  }
+
+  @Test
+  public void forgetOrderThatIsNoLongerDispatchable() {
+    TransportOrder dispatchableOrder = order.withState(TransportOrder.State.DISPATCHABLE);
+    TransportOrder processedOrder = order.withState(TransportOrder.State.BEING_PROCESSED);
+    when(objectService.fetchObject(TransportOrder.class, order.getName()))
+        .thenReturn(dispatchableOrder);
+    tracker.onEvent(modified(dispatchableOrder, order));
+
+    when(objectService.fetchObject(TransportOrder.class, order.getName()))
+        .thenReturn(processedOrder);
+    tracker.onEvent(modified(processedOrder, dispatchableOrder));
+
+    assertThat(tracker.getOrderCount(), is(0));
+    assertThat(tracker.fetchOrders(o -> true), is(empty()));
+  }
+
+  @Test
+  public void useCurrentStateInsteadOfStateInEvent() {
+    // The event announces the order to be dispatchable, but it has been processed since.
+    TransportOrder dispatchableOrder = order.withState(TransportOrder.State.DISPATCHABLE);
+    when(objectService.fetchObject(TransportOrder.class, order.getName()))
+        .thenReturn(order.withState(TransportOrder.State.BEING_PROCESSED));
+
+    tracker.onEvent(modified(dispatchableOrder, order));
+
+    assertThat(tracker.getOrderCount(), is(0));
+  }
+
+  @Test
+  public void trackVehiclesToBeUtilized() {
+    Vehicle utilizedVehicle = vehicle.withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED);
+    when(objectService.fetchObject(Vehicle.class, vehicle.getName())).thenReturn(utilizedVehicle);
+
+    tracker.onEvent(modified(utilizedVehicle, vehicle));
+
+    assertThat(tracker.fetchVehicles(v -> true), contains(utilizedVehicle));
+    assertThat(tracker.fetchVehicles(v -> false), is(empty()));
+  }
+
+  @Test
+  public void forgetRemovedObjects() {
+    TransportOrder dispatchableOrder = order.withState(TransportOrder.State.DISPATCHABLE);
+    when(objectService.fetchObject(TransportOrder.class, order.getName()))
+        .thenReturn(dispatchableOrder);
+    tracker.onEvent(modified(dispatchableOrder, order));
+
+    when(objectService.fetchObject(TransportOrder.class, order.getName())).thenReturn(null);
+    tracker.onEvent(new TCSObjectEvent(null,
+                                       dispatchableOrder,
+                                       TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertThat(tracker.getOrderCount(), is(0));
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> current, TCSObject<?> previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignment.FORBIDDEN;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignment.UNASSIGNED;
+
+/**
+ * Test cases for the {@link MinCostAssignment}.
+ */
+public class MinCostAssignmentTest {
+
+  @Test
+  public void returnEmptyResultForEmptyMatrix() {
+    assertArrayEquals(new int[0], MinCostAssignment.solve(new long[0][0]));
+    assertArrayEquals(new int[]{UNASSIGNED, UNASSIGNED},
+                      MinCostAssignment.solve(new long[2][0]));
+  }
+
+  @Test
+  public void preferGlobalOptimumOverGreedyChoice() {
+    // Greedily assigning column 0 to row 0 results in total costs of 1 + 100.
+    long[][] costs = {
+      {1, 2},
+      {3, 100}
+    };
+
+    assertArrayEquals(new int[]{1, 0}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void leaveRowsUnassignedIfThereAreMoreRowsThanColumns() {
+    long[][] costs = {
+      {10},
+      {5},
+      {20}
+    };
+
+    assertArrayEquals(new int[]{UNASSIGNED, 0, UNASSIGNED}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void neverAssignForbiddenPairs() {
+    long[][] costs = {
+      {FORBIDDEN, FORBIDDEN},
+      {FORBIDDEN, 7}
+    };
+
+    assertArrayEquals(new int[]{UNASSIGNED, 1}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void preferMoreAssignmentsOverLowerCosts() {
+    // Assigning row 0 to column 0 would be cheapest, but would leave row 1 unassigned.
+    long[][] costs = {
+      {1, 1000},
+      {2, FORBIDDEN}
+    };
+
+    assertArrayEquals(new int[]{1, 0}, MinCostAssignment.solve(costs));
+  }
+
+  @Test
+  public void findSameTotalCostsAsExhaustiveSearch() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 200; run++) {
+      int rowCount = 1 + random.nextInt(5);
+      int columnCount = 1 + random.nextInt(5);
+      long[][] costs = new long[rowCount][columnCount];
+      for (int row = 0; row < rowCount; row++) {
+        for (int column = 0; column < columnCount; column++) {
+          costs[row][column] = random.nextInt(10) == 0 ? FORBIDDEN : random.nextInt(1000);
+        }
+      }
+
+      int[] result = MinCostAssignment.solve(costs);
+
+      long[] expected = bestAssignment(costs, 0, new boolean[columnCount]);
+      assertEquals(assignedCount(result),
+                   Arrays.stream(result).filter(column -> column != UNASSIGNED).distinct().count());
+      assertEquals(expected[0], assignedCount(result));
+      assertEquals(expected[1], totalCosts(costs, result));
+    }
+  }
+
+  /**
+   * Returns the maximum number of assigned pairs and the minimum total costs for such an
+   * assignment, by trying all assignments of the given row and the ones after it.
+   */
+  private long[] bestAssignment(long[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return new long[]{0, 0};
+    }
+
+    long[] best = bestAssignment(costs, row + 1, usedColumns);
+    for (int column = 0; column < usedColumns.length; column++) {
+      if (usedColumns[column] || costs[row][column] == FORBIDDEN) {
+        continue;
+      }
+      usedColumns[column] = true;
+      long[] rest = bestAssignment(costs, row + 1, usedColumns);
+      usedColumns[column] = false;
+
+      long count = rest[0] + 1;
+      long total = rest[1] + costs[row][column];
+      if (count > best[0] || (count == best[0] && total < best[1])) {
+        best = new long[]{count, total};
+      }
+    }
+    return best;
+  }
+
+  private long assignedCount(int[] result) {
+    long count = 0;
+    for (int column : result) {
+      if (column != UNASSIGNED) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long totalCosts(long[][] costs, int[] result) {
+    long total = 0;
+    for (int row = 0; row < result.length; row++) {
+      if (result[row] != UNASSIGNED) {
+        total += costs[row][result[row]];
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Test cases for the {@link CachingPointRouterFactory} and the {@link CachingPointRouter}.
+ */
+public class CachingPointRouterFactoryTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Path pathAC;
+  private Vehicle vehicle;
+
+  private PointRouter delegateRouter;
+  private PointRouterFactory delegateFactory;
+  private RoutingCache cache;
+  private CachingPointRouterFactory factory;
+
+  @BeforeEach
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    vehicle = new Vehicle("some vehicle");
+
+    delegateRouter = mock(PointRouter.class);
+    when(delegateRouter.getCosts(pointA.getReference(), pointB.getReference())).thenReturn(10L);
+    when(delegateRouter.getCosts(pointA.getReference(), pointC.getReference())).thenReturn(20L);
+    when(delegateRouter.getCosts(pointB.getReference(), pointC.getReference()))
+        .thenReturn(PointRouter.INFINITE_COSTS);
+    when(delegateRouter.getRouteSteps(pointA, pointB))
+        .thenAnswer(invocation -> steps(pathAB, pointA, pointB));
+    when(delegateRouter.getRouteSteps(pointA, pointC))
+        .thenAnswer(invocation -> steps(pathAC, pointA, pointC));
+
+    delegateFactory = mock(PointRouterFactory.class);
+    when(delegateFactory.createPointRouter(any())).thenReturn(delegateRouter);
+    when(delegateFactory.updatePointRouter(any(), any(), any())).thenReturn(delegateRouter);
+
+    cache = new RoutingCache(100);
+    factory = new CachingPointRouterFactory(delegateFactory,
+                                            new DefaultRoutingGroupMapper(),
+                                            cache);
+  }
+
+  @Test
+  public void answerRepeatedRequestsFromCache() {
+    PointRouter router = factory.createPointRouter(vehicle);
+
+    assertEquals(10, router.getCosts(pointA, pointB));
+    assertEquals(10, router.getCosts(pointA, pointB));
+    assertEquals(1, router.getRouteSteps(pointA, pointB).size());
+    assertEquals(1, router.getRouteSteps(pointA, pointB).size());
+
+    verify(delegateRouter, times(1)).getCosts(pointA.getReference(), pointB.getReference());
+    verify(delegateRouter, times(1)).getRouteSteps(pointA, pointB);
+    assertEquals(2, cache.getHits());
+    assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void answerRouteRequestsForUnroutablePairsFromCache() {
+    PointRouter router = factory.createPointRouter(vehicle);
+
+    assertEquals(PointRouter.INFINITE_COSTS, router.getCosts(pointB, pointC));
+    assertNull(router.getRouteSteps(pointB, pointC));
+
+    verify(delegateRouter, times(0)).getRouteSteps(pointB, pointC);
+  }
+
+  @Test
+  public void returnModifiableCopiesOfCachedSteps() {
+    PointRouter router = factory.createPointRouter(vehicle);
+
+    List<Route.Step> steps = router.getRouteSteps(pointA, pointB);
+    List<Route.Step> cachedSteps = router.getRouteSteps(pointA, pointB);
+    cachedSteps.clear();
+
+    assertNotSame(steps, cachedSteps);
+    assertEquals(1, router.getRouteSteps(pointA, pointB).size());
+  }
+
+  @Test
+  public void keepRoutesNotAffectedByLockedPaths() {
+    PointRouter router = factory.createPointRouter(vehicle);
+    router.getRouteSteps(pointA, pointB);
+    router.getRouteSteps(pointA, pointC);
+
+    PointRouter updatedRouter
+        = factory.updatePointRouter(router, Set.of(pathAC.withLocked(true)), vehicle);
+    updatedRouter.getRouteSteps(pointA, pointB);
+    updatedRouter.getRouteSteps(pointA, pointC);
+
+    verify(delegateRouter, times(1)).getRouteSteps(pointA, pointB);
+    verify(delegateRouter, times(2)).getRouteSteps(pointA, pointC);
+  }
+
+  @Test
+  public void discardAllRoutesOnUnlockedPaths() {
+    PointRouter router = factory.createPointRouter(vehicle);
+    router.getRouteSteps(pointA, pointB);
+    router.getRouteSteps(pointA, pointC);
+
+    PointRouter updatedRouter
+        = factory.updatePointRouter(router, Set.of(pathAC.withLocked(false)), vehicle);
+    updatedRouter.getRouteSteps(pointA, pointB);
+    updatedRouter.getRouteSteps(pointA, pointC);
+
+    verify(delegateRouter, times(2)).getRouteSteps(pointA, pointB);
+    verify(delegateRouter, times(2)).getRouteSteps(pointA, pointC);
+  }
+
+  @Test
+  public void discardAllRoutesForNewPointRouter() {
+    factory.createPointRouter(vehicle).getCosts(pointA, pointB);
+    factory.createPointRouter(vehicle).getCosts(pointA, pointB);
+
+    verify(delegateRouter, times(2)).getCosts(pointA.getReference(), pointB.getReference());
+  }
+
+  private List<Route.Step> steps(Path path, Point source, Point destination) {
+    List<Route.Step> result = new ArrayList<>();
+    result.add(new Route.Step(path, source, destination, Vehicle.Orientation.FORWARD, 0));
+    return result;
+  }
+}
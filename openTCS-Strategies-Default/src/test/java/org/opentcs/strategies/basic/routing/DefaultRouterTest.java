@@ -7,8 +7,13 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +29,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 
@@ -129,6 +135,48 @@ public class DefaultRouterTest {
     verify(builder, times(15)).createPointRouter(any());
   }
 
+  @Test
+  public void shouldUpdateExistingPointRoutersOnPathChanges() {
+    Point sourcePoint = new Point("Some source point");
+    Point destinationPoint = new Point("Some destination point");
+    Path path = new Path("Some path", sourcePoint.getReference(), destinationPoint.getReference());
+    when(objectService.fetchObject(Path.class, path.getReference())).thenReturn(path);
+
+    router.initialize();
+    router.getCosts(createVehicle("Vehicle-000", 1), sourcePoint, destinationPoint);
+    router.getCosts(createVehicle("Vehicle-001", 2), sourcePoint, destinationPoint);
+    router.topologyChanged(Set.of(path.getReference()));
+    router.getCosts(createVehicle("Vehicle-002", 1), sourcePoint, destinationPoint);
+
+    verify(builder, times(2)).createPointRouter(any());
+    verify(builder, times(2)).updatePointRouter(any(), eq(Set.of(path)), any());
+  }
+
+  @Test
+  public void shouldCreatePointRouterOnceForConcurrentQueries()
+      throws Exception {
+    Point sourcePoint = new Point("Some source point");
+    Point destinationPoint = new Point("Some destination point");
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+
+    router.initialize();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executor.submit(() -> router.getCosts(vehicle, sourcePoint, destinationPoint)));
+      }
+      for (Future<Long> result : results) {
+        result.get();
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    verify(builder, times(1)).createPointRouter(any());
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
@@ -156,6 +204,7 @@ public class DefaultRouterTest {
    */
   private Router createRouter() {
     when(builder.createPointRouter(any())).thenReturn(mock(PointRouter.class));
+    when(builder.updatePointRouter(any(), any(), any())).thenReturn(mock(PointRouter.class));
 
     return new DefaultRouter(objectService, builder, routingGroupMapper, configuration);
   }
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+
+/**
+ * Test cases for the {@link OrderRouteComputer}.
+ */
+public class OrderRouteComputerTest {
+
+  /**
+   * The costs between pairs of points, keyed by "source-destination".
+   */
+  private final Map<String, Long> costs = new HashMap<>();
+
+  private Point pointA;
+  private Point pointB1;
+  private Point pointB2;
+  private Point pointC1;
+  private Point pointC2;
+
+  private DriveOrder driveOrderB;
+  private DriveOrder driveOrderC;
+
+  private PointRouter pointRouter;
+
+  @BeforeEach
+  public void setUp() {
+    pointA = new Point("A");
+    pointB1 = new Point("B1");
+    pointB2 = new Point("B2");
+    pointC1 = new Point("C1");
+    pointC2 = new Point("C2");
+
+    LocationType locType = new LocationType("some location type");
+    driveOrderB = new DriveOrder(
+        new DriveOrder.Destination(new Location("B", locType.getReference()).getReference())
+    );
+    driveOrderC = new DriveOrder(
+        new DriveOrder.Destination(new Location("C", locType.getReference()).getReference())
+    );
+
+    pointRouter = mock(PointRouter.class);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(invocation -> costsBetween(invocation.getArgument(0),
+                                               invocation.getArgument(1)));
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+        .thenAnswer(invocation -> stepsBetween(invocation.getArgument(0),
+                                               invocation.getArgument(1)));
+  }
+
+  @Test
+  public void selectCheapestCombinationOfDestinationPoints() {
+    // The greedy choice for the first drive order (B1) results in a more expensive route.
+    costs.put("A-B1", 10L);
+    costs.put("A-B2", 20L);
+    costs.put("B1-C1", 100L);
+    costs.put("B1-C2", 100L);
+    costs.put("B2-C1", 50L);
+    costs.put("B2-C2", 5L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointB1, pointB2), Set.of(pointC1, pointC2)),
+            pointRouter
+        );
+
+    assertTrue(result.isPresent());
+    assertEquals(2, result.get().size());
+    assertEquals(20, result.get().get(0).getRoute().getCosts());
+    assertEquals(pointB2, result.get().get(0).getRoute().getFinalDestinationPoint());
+    assertEquals(5, result.get().get(1).getRoute().getCosts());
+    assertEquals(pointC2, result.get().get(1).getRoute().getFinalDestinationPoint());
+    // Route steps should only be retrieved for the selected route.
+    verify(pointRouter, times(2)).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  public void skipUnroutableDestinationPoints() {
+    costs.put("A-B1", 10L);
+    costs.put("A-B2", 20L);
+    costs.put("B2-C1", 50L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointB1, pointB2), Set.of(pointC1, pointC2)),
+            pointRouter
+        );
+
+    assertTrue(result.isPresent());
+    assertEquals(pointB2, result.get().get(0).getRoute().getFinalDestinationPoint());
+    assertEquals(pointC1, result.get().get(1).getRoute().getFinalDestinationPoint());
+  }
+
+  @Test
+  public void returnEmptyResultIfNoRouteExists() {
+    costs.put("A-B1", 10L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointB1), Set.of(pointC1)),
+            pointRouter
+        );
+
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  public void returnEmptyResultIfDriveOrderHasNoDestinationPoints() {
+    costs.put("A-B1", 10L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointB1), Set.of()),
+            pointRouter
+        );
+
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  public void shortcutToCurrentPositionIfNotRoutingToCurrentPosition() {
+    costs.put("A-A", 0L);
+    costs.put("A-B1", 1L);
+    costs.put("A-C1", 100L);
+    costs.put("B1-C1", 1L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointA, pointB1), Set.of(pointC1)),
+            pointRouter
+        );
+
+    assertTrue(result.isPresent());
+    Route firstRoute = result.get().get(0).getRoute();
+    assertEquals(0, firstRoute.getCosts());
+    assertEquals(1, firstRoute.getSteps().size());
+    assertNull(firstRoute.getSteps().get(0).getPath());
+    assertEquals(pointA, firstRoute.getFinalDestinationPoint());
+    assertEquals(100, result.get().get(1).getRoute().getCosts());
+  }
+
+  @Test
+  public void considerAllDestinationPointsIfRoutingToCurrentPosition() {
+    costs.put("A-A", 0L);
+    costs.put("A-B1", 1L);
+    costs.put("A-C1", 100L);
+    costs.put("B1-C1", 1L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(true).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointA, pointB1), Set.of(pointC1)),
+            pointRouter
+        );
+
+    assertTrue(result.isPresent());
+    assertEquals(pointB1, result.get().get(0).getRoute().getFinalDestinationPoint());
+    assertEquals(1, result.get().get(1).getRoute().getCosts());
+  }
+
+  @Test
+  public void keepDriveOrderDestinations() {
+    costs.put("A-B1", 10L);
+    costs.put("B1-C1", 10L);
+
+    Optional<List<DriveOrder>> result
+        = new OrderRouteComputer(false).computeCheapestOrderRoute(
+            pointA,
+            Arrays.asList(driveOrderB, driveOrderC),
+            Arrays.asList(Set.of(pointB1), Set.of(pointC1)),
+            pointRouter
+        );
+
+    assertTrue(result.isPresent());
+    assertThat(
+        Arrays.asList(result.get().get(0).getDestination(), result.get().get(1).getDestination()),
+        contains(driveOrderB.getDestination(), driveOrderC.getDestination())
+    );
+  }
+
+  private long costsBetween(Point source, Point dest) {
+    return costs.getOrDefault(source.getName() + "-" + dest.getName(), INFINITE_COSTS);
+  }
+
+  private List<Route.Step> stepsBetween(Point source, Point dest) {
+    List<Route.Step> result = new ArrayList<>();
+    if (!source.equals(dest)) {
+      Path path = new Path(source.getName() + "-" + dest.getName(),
+                           source.getReference(),
+                           dest.getReference());
+      result.add(new Route.Step(path, source, dest, Vehicle.Orientation.FORWARD, 0));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link RoutingCache}.
+ */
+public class RoutingCacheTest {
+
+  private RoutingCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    cache = new RoutingCache(2, new AtomicLong()::incrementAndGet);
+  }
+
+  @Test
+  public void rejectNonPositiveCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RoutingCache(0));
+  }
+
+  @Test
+  public void returnEntryOnlyForMatchingVersion() {
+    RoutingCache.Key key = new RoutingCache.Key("group", "A", "B");
+    cache.put(key, new RoutingCache.Entry(1, 10, null));
+
+    assertNotNull(cache.get(key, 1));
+    assertNull(cache.get(key, 2));
+  }
+
+  @Test
+  public void separateEntriesByRoutingGroup() {
+    cache.put(new RoutingCache.Key("group1", "A", "B"), new RoutingCache.Entry(1, 10, null));
+
+    assertNull(cache.get(new RoutingCache.Key("group2", "A", "B"), 1));
+  }
+
+  @Test
+  public void keepEntryWithNewerVersion() {
+    RoutingCache.Key key = new RoutingCache.Key("group", "A", "B");
+    cache.put(key, new RoutingCache.Entry(2, 10, null));
+    cache.put(key, new RoutingCache.Entry(1, 20, null));
+
+    assertEquals(10, cache.get(key, 2).getCosts());
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedEntries() {
+    RoutingCache.Key keyAB = new RoutingCache.Key("group", "A", "B");
+    RoutingCache.Key keyAC = new RoutingCache.Key("group", "A", "C");
+    RoutingCache.Key keyAD = new RoutingCache.Key("group", "A", "D");
+    cache.put(keyAB, new RoutingCache.Entry(1, 10, null));
+    cache.put(keyAC, new RoutingCache.Entry(1, 20, null));
+    cache.get(keyAB, 1);
+    cache.put(keyAD, new RoutingCache.Entry(1, 30, null));
+
+    assertEquals(2, cache.getSize());
+    assertEquals(1, cache.getEvictions());
+    assertNotNull(cache.get(keyAB, 1));
+    assertNull(cache.get(keyAC, 1));
+    assertNotNull(cache.get(keyAD, 1));
+  }
+
+  @Test
+  public void evictBatchOfLeastRecentlyUsedEntries() {
+    cache = new RoutingCache(10, new AtomicLong()::incrementAndGet);
+    for (int i = 0; i < 10; i++) {
+      cache.put(new RoutingCache.Key("group", "A", "P" + i), new RoutingCache.Entry(1, i, null));
+    }
+    cache.get(new RoutingCache.Key("group", "A", "P0"), 1);
+    cache.put(new RoutingCache.Key("group", "A", "P10"), new RoutingCache.Entry(1, 10, null));
+
+    assertEquals(9, cache.getSize());
+    assertEquals(2, cache.getEvictions());
+    assertNotNull(cache.get(new RoutingCache.Key("group", "A", "P0"), 1));
+    assertNull(cache.get(new RoutingCache.Key("group", "A", "P1"), 1));
+    assertNull(cache.get(new RoutingCache.Key("group", "A", "P2"), 1));
+    assertNotNull(cache.get(new RoutingCache.Key("group", "A", "P10"), 1));
+  }
+
+  @Test
+  public void transferOnlyValidEntriesOfRoutingGroupAndVersion() {
+    cache = new RoutingCache(10);
+    RoutingCache.Key keyAB = new RoutingCache.Key("group", "A", "B");
+    RoutingCache.Key keyAC = new RoutingCache.Key("group", "A", "C");
+    RoutingCache.Key otherGroupKey = new RoutingCache.Key("other group", "A", "B");
+    cache.put(keyAB, new RoutingCache.Entry(1, 10, null));
+    cache.put(keyAC, new RoutingCache.Entry(1, 20, null));
+    cache.put(otherGroupKey, new RoutingCache.Entry(1, 30, null));
+
+    cache.transfer("group", 1, 2, entry -> entry.getCosts() == 10);
+
+    assertEquals(10, cache.get(keyAB, 2).getCosts());
+    assertNull(cache.get(keyAC, 1));
+    assertNull(cache.get(keyAC, 2));
+    assertNotNull(cache.get(otherGroupKey, 1));
+  }
+}
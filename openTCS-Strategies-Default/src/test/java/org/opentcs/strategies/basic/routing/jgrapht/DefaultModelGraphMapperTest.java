@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.opentcs.components.kernel.routing.Edge;
@@ -199,4 +200,48 @@ public class DefaultModelGraphMapperTest {
     verify(evaluator).onGraphComputationEnd(vehicle);
   }
 
+  @Test
+  public void removeEdgesOfLockedPathOnUpdate() {
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+
+    Graph<String, Edge> graph
+        = mapper.translateModel(new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD)),
+                                new HashSet<>(Arrays.asList(pathAB, pathBC, pathCD, pathAD)),
+                                vehicle);
+    assertEquals(5, graph.edgeSet().size());
+
+    mapper.updateGraph(Arrays.asList(pathAD.withLocked(true)), vehicle, graph);
+
+    assertEquals(4, graph.vertexSet().size());
+    assertEquals(3, graph.edgeSet().size());
+    assertEquals(0,
+                 graph.edgeSet().stream()
+                     .filter(edge -> edge.getPath().getName().equals(pathAD.getName()))
+                     .count());
+    verify(evaluator, times(2)).onGraphComputationStart(vehicle);
+    verify(evaluator, times(2)).onGraphComputationEnd(vehicle);
+  }
+
+  @Test
+  public void addEdgesOfUnlockedPathOnUpdate() {
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+
+    Graph<String, Edge> graph
+        = mapper.translateModel(new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD)),
+                                new HashSet<>(Arrays.asList(pathAB, pathAD.withLocked(true))),
+                                vehicle);
+    assertEquals(1, graph.edgeSet().size());
+
+    mapper.updateGraph(Arrays.asList(pathAD), vehicle, graph);
+
+    assertEquals(3, graph.edgeSet().size());
+    assertEquals(1,
+                 graph.edgeSet().stream()
+                     .filter(edge -> edge.getPath().getName().equals(pathAB.getName()))
+                     .count());
+    assertEquals(2,
+                 graph.edgeSet().stream()
+                     .filter(edge -> edge.getPath().getName().equals(pathAD.getName()))
+                     .count());
+  }
 }
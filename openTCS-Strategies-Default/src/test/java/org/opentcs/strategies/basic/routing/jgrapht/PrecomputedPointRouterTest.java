@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Test cases for the {@link PrecomputedPointRouter}.
+ */
+public class PrecomputedPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Point pointE;
+
+  private Path pathAC;
+  private Path pathCD;
+  private Path pathAD;
+  private Path pathED;
+
+  private Graph<String, Edge> graph;
+
+  private PrecomputedPointRouter pointRouter;
+
+  @BeforeEach
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+    pointE = new Point("E");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathCD = new Path("C-->D", pointC.getReference(), pointD.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathED = new Path("E-->D", pointE.getReference(), pointD.getReference());
+
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    graph.addVertex(pointD.getName());
+    graph.addVertex(pointE.getName());
+
+    addEdge(new Edge(pathAC, false), pointA, pointC, 1234);
+    addEdge(new Edge(pathCD, false), pointC, pointD, 1000);
+    addEdge(new Edge(pathAD, false), pointA, pointD, 5000);
+    addEdge(new Edge(pathED, true), pointD, pointE, 10);
+
+    pointRouter = new PrecomputedPointRouter(
+        graph,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD, pointE))
+    );
+  }
+
+  @Test
+  public void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnEmptyRouteIfDestinationIsSource() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  public void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 pointRouter.getCosts(pointA.getReference(), pointB.getReference()));
+  }
+
+  @Test
+  public void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  public void returnCostsOfCheapestRoute() {
+    assertEquals(1234, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(2234, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+    assertEquals(2244, pointRouter.getCosts(pointA.getReference(), pointE.getReference()));
+  }
+
+  @Test
+  public void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointE);
+    assertNotNull(steps);
+    assertEquals(3, steps.size());
+
+    assertEquals(pathAC, steps.get(0).getPath());
+    assertEquals(pointA, steps.get(0).getSourcePoint());
+    assertEquals(pointC, steps.get(0).getDestinationPoint());
+    assertEquals(Vehicle.Orientation.FORWARD, steps.get(0).getVehicleOrientation());
+    assertEquals(0, steps.get(0).getRouteIndex());
+
+    assertEquals(pathCD, steps.get(1).getPath());
+    assertEquals(1, steps.get(1).getRouteIndex());
+
+    assertEquals(pathED, steps.get(2).getPath());
+    assertEquals(pointD, steps.get(2).getSourcePoint());
+    assertEquals(pointE, steps.get(2).getDestinationPoint());
+    assertEquals(Vehicle.Orientation.BACKWARD, steps.get(2).getVehicleOrientation());
+    assertEquals(2, steps.get(2).getRouteIndex());
+  }
+
+  @Test
+  public void returnSameCostsAsDijkstraShortestPath() {
+    ShortestPathPointRouter referenceRouter = new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        graph,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD, pointE))
+    );
+
+    for (Point src : Arrays.asList(pointA, pointB, pointC, pointD, pointE)) {
+      for (Point dest : Arrays.asList(pointA, pointB, pointC, pointD, pointE)) {
+        assertEquals(referenceRouter.getCosts(src.getReference(), dest.getReference()),
+                     pointRouter.getCosts(src.getReference(), dest.getReference()));
+      }
+    }
+  }
+
+  @Test
+  public void throwIfPointIsUnknown() {
+    Point unknownPoint = new Point("unknown");
+
+    assertThrows(IllegalArgumentException.class,
+                 () -> pointRouter.getCosts(pointA.getReference(), unknownPoint.getReference()));
+  }
+
+  @Test
+  public void updateTablesForRemovedEdges() {
+    Graph<String, Edge> updatedGraph = WeightedGraphs.copyOf(graph);
+    updatedGraph.removeAllEdges(updatedGraph.getAllEdges(pointC.getName(), pointD.getName()));
+
+    PrecomputedPointRouter updatedRouter = new PrecomputedPointRouter(pointRouter, updatedGraph);
+
+    assertEquals(1234, updatedRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(5000, updatedRouter.getCosts(pointA.getReference(), pointD.getReference()));
+    assertEquals(5010, updatedRouter.getCosts(pointA.getReference(), pointE.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 updatedRouter.getCosts(pointC.getReference(), pointE.getReference()));
+    assertEquals(pathAD, updatedRouter.getRouteSteps(pointA, pointE).get(0).getPath());
+    assertSameCostsAsFreshRouter(updatedRouter, updatedGraph);
+    // The original router must not be affected by the update.
+    assertEquals(2234, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+  }
+
+  @Test
+  public void updateTablesForAddedEdges() {
+    Path pathBA = new Path("B-->A", pointB.getReference(), pointA.getReference());
+    Graph<String, Edge> updatedGraph = WeightedGraphs.copyOf(graph);
+    Edge edgeBA = new Edge(pathBA, false);
+    updatedGraph.addEdge(pointB.getName(), pointA.getName(), edgeBA);
+    updatedGraph.setEdgeWeight(edgeBA, 100);
+
+    PrecomputedPointRouter updatedRouter = new PrecomputedPointRouter(pointRouter, updatedGraph);
+
+    assertEquals(2344, updatedRouter.getCosts(pointB.getReference(), pointE.getReference()));
+    assertEquals(4, updatedRouter.getRouteSteps(pointB, pointE).size());
+    assertSameCostsAsFreshRouter(updatedRouter, updatedGraph);
+  }
+
+  private void assertSameCostsAsFreshRouter(PrecomputedPointRouter updatedRouter,
+                                            Graph<String, Edge> updatedGraph) {
+    PrecomputedPointRouter freshRouter = new PrecomputedPointRouter(
+        updatedGraph,
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD, pointE))
+    );
+
+    for (Point src : Arrays.asList(pointA, pointB, pointC, pointD, pointE)) {
+      for (Point dest : Arrays.asList(pointA, pointB, pointC, pointD, pointE)) {
+        assertEquals(freshRouter.getCosts(src.getReference(), dest.getReference()),
+                     updatedRouter.getCosts(src.getReference(), dest.getReference()));
+      }
+    }
+  }
+
+  private void addEdge(Edge edge, Point source, Point target, double weight) {
+    graph.addEdge(source.getName(), target.getName(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -62,6 +62,7 @@ public class ShortestPathPointRouterTest {
     graph.setEdgeWeight(edgeAC, 1234);
 
     pointRouter = new ShortestPathPointRouter(new DijkstraShortestPath<>(graph),
+                                              graph,
                                               new HashSet<>(Arrays.asList(pointA, pointB, pointC)));
   }
 
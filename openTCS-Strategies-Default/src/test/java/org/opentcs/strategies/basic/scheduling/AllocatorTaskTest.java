@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.components.kernel.services.InternalPlantModelService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Unit tests for {@link AllocatorTask}.
+ */
+public class AllocatorTaskTest {
+
+  private Scheduler.Client client;
+  private Set<TCSResource<?>> resources;
+  private ReservationPool reservationPool;
+  private DeferredAllocations deferredAllocations;
+  private Scheduler.Module allocationAdvisor;
+  private ExecutorService schedulerExecutor;
+  /**
+   * The callbacks to clients, in the order they were submitted.
+   */
+  private List<Runnable> callbacks;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(Scheduler.Client.class);
+    when(client.getId()).thenReturn("some client");
+    resources = Set.of(new Point("point1"));
+    reservationPool = new ReservationPool();
+    reservationPool.setClaim(client, List.of(resources));
+    deferredAllocations = new DeferredAllocations();
+    allocationAdvisor = mock(Scheduler.Module.class);
+    when(allocationAdvisor.mayAllocate(any(), any())).thenReturn(true);
+    when(allocationAdvisor.hasPreparedAllocation(any(), any())).thenReturn(true);
+    schedulerExecutor = mock(ExecutorService.class);
+    callbacks = new ArrayList<>();
+  }
+
+  @Test
+  public void notifyClientAsynchronously() {
+    createTask(new AllocatorCommand.Allocate(client, resources)).run();
+
+    assertThat(reservationPool.allocatedResources(client), is(resources));
+    verify(client, never()).allocationSuccessful(any());
+    assertThat(callbacks, hasSize(1));
+
+    when(client.allocationSuccessful(resources)).thenReturn(true);
+    callbacks.get(0).run();
+
+    verify(client).allocationSuccessful(resources);
+    verify(schedulerExecutor, never()).submit(any(Runnable.class));
+  }
+
+  @Test
+  public void freeResourcesRejectedByClient() {
+    createTask(new AllocatorCommand.Allocate(client, resources)).run();
+
+    when(client.allocationSuccessful(resources)).thenReturn(false);
+    callbacks.get(0).run();
+    verify(schedulerExecutor).submit(any(AllocatorTask.class));
+
+    createTask(new AllocatorCommand.AllocationRejected(client, resources)).run();
+
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+  }
+
+  @Test
+  public void deferAllocationOfUnavailableResources() {
+    Scheduler.Client otherClient = mock(Scheduler.Client.class);
+    reservationPool.getReservationEntry(new Point("point1")).allocate(otherClient);
+
+    createTask(new AllocatorCommand.Allocate(client, resources)).run();
+
+    assertThat(deferredAllocations.size(), is(1));
+    assertThat(callbacks, is(empty()));
+  }
+
+  @Test
+  public void checkPrepareAndAllocateWhileHoldingPoolLock() {
+    when(allocationAdvisor.mayAllocate(any(), any()))
+        .thenAnswer(invocation -> Thread.holdsLock(reservationPool));
+    doAnswer(invocation -> {
+      assertTrue(Thread.holdsLock(reservationPool));
+      return null;
+    }).when(allocationAdvisor).prepareAllocation(any(), any());
+
+    createTask(new AllocatorCommand.Allocate(client, resources)).run();
+
+    verify(allocationAdvisor).prepareAllocation(client, resources);
+    assertThat(reservationPool.allocatedResources(client), is(resources));
+  }
+
+  @Test
+  public void doNotPrepareAllocationRejectedByModules() {
+    when(allocationAdvisor.mayAllocate(any(), any())).thenReturn(false);
+
+    createTask(new AllocatorCommand.Allocate(client, resources)).run();
+
+    verify(allocationAdvisor, never()).prepareAllocation(any(), any());
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(deferredAllocations.size(), is(1));
+  }
+
+  private AllocatorTask createTask(AllocatorCommand command) {
+    return new AllocatorTask(mock(InternalPlantModelService.class),
+                             reservationPool,
+                             deferredAllocations,
+                             allocationAdvisor,
+                             schedulerExecutor,
+                             callbacks::add,
+                             command);
+  }
+}
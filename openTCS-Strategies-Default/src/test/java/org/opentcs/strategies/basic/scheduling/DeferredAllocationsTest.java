@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Unit tests for {@link DeferredAllocations}.
+ */
+public class DeferredAllocationsTest {
+
+  private Scheduler.Client client;
+  private Point point1;
+  private Point point2;
+  private Point point3;
+  private DeferredAllocations deferredAllocations;
+
+  @BeforeEach
+  public void setUp() {
+    client = new TestClient();
+    point1 = new Point("point1");
+    point2 = new Point("point2");
+    point3 = new Point("point3");
+    deferredAllocations = new DeferredAllocations();
+  }
+
+  @Test
+  public void wakeUpOnlyAllocationsWaitingForFreedResources() {
+    AllocatorCommand.Allocate allocate1 = createAllocate(point1);
+    AllocatorCommand.Allocate allocate2 = createAllocate(point2);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), contains(allocate2));
+    assertThat(deferredAllocations.size(), is(1));
+    assertThat(deferredAllocations.getQueueLengths(), hasEntry("point1", 1));
+  }
+
+  @Test
+  public void wakeUpAllocationsInTheOrderTheyWereDeferred() {
+    AllocatorCommand.Allocate allocate1 = createAllocate(point1);
+    AllocatorCommand.Allocate allocate2 = createAllocate(point1, point2);
+    AllocatorCommand.Allocate allocate3 = createAllocate(point1);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of(point1, point2));
+    deferredAllocations.add(allocate3, Set.of(point1));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1, point2)),
+               contains(allocate1, allocate2, allocate3));
+    assertThat(deferredAllocations.getQueueLengths(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void wakeUpAllocationsWaitingForMultipleResourcesOnlyOnce() {
+    AllocatorCommand.Allocate allocate = createAllocate(point1, point2);
+    deferredAllocations.add(allocate, Set.of(point1, point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), contains(allocate));
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), is(empty()));
+    assertThat(deferredAllocations.getWokenUpCount(), is(1L));
+  }
+
+  @Test
+  public void wakeUpAllocationsNotWaitingForSpecificResourcesOnAnyRelease() {
+    AllocatorCommand.Allocate allocate1 = createAllocate(point1);
+    AllocatorCommand.Allocate allocate2 = createAllocate(point2);
+    deferredAllocations.add(allocate1, Set.of());
+    deferredAllocations.add(allocate2, Set.of(point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point3)), contains(allocate1));
+    assertThat(deferredAllocations.size(), is(1));
+  }
+
+  @Test
+  public void wakeUpAllAllocations() {
+    AllocatorCommand.Allocate allocate1 = createAllocate(point1);
+    AllocatorCommand.Allocate allocate2 = createAllocate(point2);
+    deferredAllocations.add(allocate1, Set.of(point1));
+    deferredAllocations.add(allocate2, Set.of());
+
+    assertThat(deferredAllocations.wakeUpAll(), contains(allocate1, allocate2));
+    assertThat(deferredAllocations.size(), is(0));
+  }
+
+  @Test
+  public void removeAllocationsOfClient() {
+    deferredAllocations.add(createAllocate(point1), Set.of(point1));
+    deferredAllocations.add(createAllocate(point2), Set.of());
+
+    deferredAllocations.removeIf(allocate -> client.equals(allocate.getClient()));
+
+    assertThat(deferredAllocations.size(), is(0));
+    assertThat(deferredAllocations.wakeUpAll(), is(empty()));
+    assertThat(deferredAllocations.getWokenUpCount(), is(0L));
+  }
+
+  @Test
+  public void provideWaitTimesPerResource() {
+    deferredAllocations.add(createAllocate(point1), Set.of(point1));
+
+    assertThat(deferredAllocations.getWaitTimes(), hasKey("point1"));
+    assertThat(deferredAllocations.getWaitTimes().size(), is(1));
+  }
+
+  private AllocatorCommand.Allocate createAllocate(TCSResource<?>... resources) {
+    return new AllocatorCommand.Allocate(client, Set.of(resources));
+  }
+
+  private static class TestClient
+      implements Scheduler.Client {
+
+    @Override
+    public String getId() {
+      return getClass().getName();
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return false;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
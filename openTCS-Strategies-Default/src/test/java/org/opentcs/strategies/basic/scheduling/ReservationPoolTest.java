@@ -12,6 +12,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
@@ -124,6 +125,38 @@ public class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  public void keepResourceAllocatedUntilFreedAsOftenAsAllocated() {
+    Point point = new Point("point1");
+    reservationPool.getReservationEntry(point).allocate(client);
+    reservationPool.getReservationEntry(point).allocate(client);
+
+    reservationPool.free(client, Set.of(point));
+    assertThat(reservationPool.allocatedResources(client), contains(point));
+
+    reservationPool.free(client, Set.of(point));
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void freeAllKeepsResourcesAllocatedByOtherClients() {
+    Scheduler.Client otherClient = new TestClient();
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    Point point3 = new Point("point3");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(client);
+    reservationPool.getReservationEntry(point3).allocate(otherClient);
+
+    reservationPool.freeAll(client);
+
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.allocatedResources(otherClient), contains(point3));
+    assertThat(reservationPool.getReservationEntry(point1).isFree(), is(true));
+    assertThat(reservationPool.getReservationEntry(point3).isAllocatedBy(otherClient), is(true));
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling.modules;
+
+import java.util.List;
+import java.util.Set;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link BlockMembershipIndex}.
+ */
+public class BlockMembershipIndexTest {
+
+  @Test
+  public void findBlocksContainingResources() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    Path pathAB = new Path("A-B", pointA.getReference(), pointB.getReference());
+    Block block1 = new Block("Block1").withMembers(Set.of(pointA.getReference(),
+                                                           pathAB.getReference()));
+    Block block2 = new Block("Block2").withMembers(Set.of(pathAB.getReference(),
+                                                           pointB.getReference()));
+
+    BlockMembershipIndex index = new BlockMembershipIndex(List.of(block1, block2));
+
+    assertThat(index.getBlockCount(), is(2));
+    assertThat(index.getBlocksContaining(Set.of(pointA)), containsInAnyOrder(block1));
+    assertThat(index.getBlocksContaining(Set.of(pathAB)), containsInAnyOrder(block1, block2));
+    assertThat(index.getBlocksContaining(Set.of(pointA, pointB)),
+               containsInAnyOrder(block1, block2));
+    assertThat(index.getBlocksContaining(Set.of(pointC)), is(empty()));
+  }
+}
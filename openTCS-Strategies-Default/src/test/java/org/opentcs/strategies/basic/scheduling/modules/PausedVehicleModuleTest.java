@@ -36,7 +36,7 @@ public class PausedVehicleModuleTest {
   @BeforeEach
   public void setUp() {
     objectService = mock(TCSObjectService.class);
-    module = new PausedVehicleModule(objectService, new Object());
+    module = new PausedVehicleModule(objectService);
   }
 
   @Test
@@ -17,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
@@ -45,7 +47,7 @@ public class SingleVehicleBlockModuleTest {
   public void setUp() {
     reservationPool = mock(ReservationPool.class);
     plantModelService = mock(InternalPlantModelService.class);
-    module = new SingleVehicleBlockModule(reservationPool, plantModelService, new Object());
+    module = new SingleVehicleBlockModule(reservationPool, plantModelService);
   }
 
   @Test
@@ -83,6 +85,23 @@ public class SingleVehicleBlockModuleTest {
     assertFalse(module.mayAllocate(client, model.getResourcesToAllocate()));
   }
 
+  @Test
+  public void fetchBlocksOnlyOnce() {
+    Scheduler.Client client = new SampleClient();
+    ModelData model = new ModelData();
+
+    when(plantModelService.fetchObjects(eq(Block.class), any()))
+        .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
+    when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
+    when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
+        .thenReturn(true);
+    module.initialize();
+    assertTrue(module.mayAllocate(client, model.getResourcesToAllocate()));
+    assertTrue(module.mayAllocate(client, model.getResourcesToAllocate()));
+
+    verify(plantModelService, times(1)).fetchObjects(eq(Block.class), any());
+  }
+
   private class ModelData {
 
     private final Set<TCSResource<?>> blockResources = new HashSet<>();